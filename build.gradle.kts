@@ -2,6 +2,7 @@ plugins {
     id("flamingock.java-library")
     id("flamingock.license")
     id("org.graalvm.buildtools.native") version "0.10.6"
+    id("me.champeau.jmh") version "0.7.2"
     `maven-publish`
 }
 
@@ -59,6 +60,11 @@ val uberJar by tasks.registering(Jar::class) {
     }
 }
 
+// Microbenchmarks (src/jmh/java), run with: ./gradlew jmh
+jmh {
+    jmhVersion.set("1.37")
+}
+
 // Test configuration
 tasks.test {
     useJUnitPlatform()
@@ -88,6 +94,46 @@ graalvmNative {
     }
 }
 
+// Fails when the native binary starts slower than the budget, best of five runs per command so a noisy CI
+// neighbour does not fail the build. Override the budget with -PstartupBudgetMs=<ms>.
+val nativeStartupCheck by tasks.registering {
+    group = "verification"
+    description = "Check that the native binary answers --version and --help within the startup budget"
+    dependsOn("nativeCompile")
+
+    val binary = layout.buildDirectory.file("native/nativeCompile/flamingock")
+    val budgetMs = providers.gradleProperty("startupBudgetMs").map { it.toLong() }.orElse(50L)
+    doLast {
+        val executable = binary.get().asFile.absolutePath
+        val budget = budgetMs.get()
+        val failures = mutableListOf<String>()
+        for (args in listOf(listOf("--version"), listOf("--help"), listOf("audit", "list", "--help"))) {
+            var bestMs = Long.MAX_VALUE
+            repeat(5) {
+                val start = System.nanoTime()
+                val process = ProcessBuilder(listOf(executable) + args)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start()
+                val exitCode = process.waitFor()
+                val elapsedMs = (System.nanoTime() - start) / 1_000_000
+                if (exitCode != 0) {
+                    throw GradleException("flamingock ${args.joinToString(" ")} exited with $exitCode")
+                }
+                bestMs = minOf(bestMs, elapsedMs)
+            }
+            val command = "flamingock ${args.joinToString(" ")}"
+            logger.lifecycle("$command: $bestMs ms (budget $budget ms)")
+            if (bestMs > budget) {
+                failures.add("$command took $bestMs ms")
+            }
+        }
+        if (failures.isNotEmpty()) {
+            throw GradleException("Native startup over the $budget ms budget: ${failures.joinToString("; ")}")
+        }
+    }
+}
+
 // Generate version properties file for native image (no MANIFEST.MF available)
 val generateVersionProperties by tasks.registering {
     val outputDir = layout.buildDirectory.dir("generated/resources/version")
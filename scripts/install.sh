@@ -1,9 +1,118 @@
 #!/usr/bin/env bash
 set -euo pipefail
 
+sha256_of() {
+  if command -v sha256sum &>/dev/null; then
+    sha256sum "$1" | awk '{print $1}'
+  else
+    shasum -a 256 "$1" | awk '{print $1}'
+  fi
+}
+
+verify_checksum() {
+  local FILE="$1" ASSET="$2"
+  local EXPECTED_HASH ACTUAL_HASH
+  EXPECTED_HASH=$(grep "$ASSET" "${TMP_DIR}/SHA256SUMS.txt" | awk '{print $1}')
+  ACTUAL_HASH=$(sha256_of "$FILE")
+
+  if [ "$EXPECTED_HASH" != "$ACTUAL_HASH" ]; then
+    echo "Error: SHA256 checksum mismatch!"
+    echo "  Expected: $EXPECTED_HASH"
+    echo "  Actual:   $ACTUAL_HASH"
+    exit 1
+  fi
+
+  echo "SHA256 checksum verified."
+}
+
+# Moves a file into place, using sudo when the target directory is not writable
+install_file() {
+  local SRC="$1" DEST_DIR="$2" NAME="$3"
+  if [ -w "$DEST_DIR" ] || { [ ! -e "$DEST_DIR" ] && mkdir -p "$DEST_DIR" 2>/dev/null; }; then
+    mv "$SRC" "${DEST_DIR}/${NAME}"
+  else
+    echo "Installing to ${DEST_DIR} (requires sudo)..."
+    sudo mkdir -p "$DEST_DIR"
+    sudo mv "$SRC" "${DEST_DIR}/${NAME}"
+  fi
+}
+
+java_feature_version() {
+  local JAVA="$1"
+  "$JAVA" -version 2>&1 | head -n 1 | sed -E 's/.*version "([0-9]+)(\.[0-9]+)*.*".*/\1/; s/^1$/8/'
+}
+
+install_native() {
+  local VERSION="$1" OS="$2" ARCH="$3" INSTALL_DIR="$4" BASE_URL="$5"
+  local BINARY="flamingock-${VERSION}-${OS}-${ARCH}"
+
+  curl -fsSL -o "${TMP_DIR}/flamingock" "${BASE_URL}/${BINARY}"
+  verify_checksum "${TMP_DIR}/flamingock" "$BINARY"
+
+  # Remove macOS quarantine attribute (required for unsigned binaries downloaded via curl)
+  if [ "$OS" = "macos" ]; then
+    xattr -d com.apple.quarantine "${TMP_DIR}/flamingock" 2>/dev/null || true
+  fi
+
+  chmod +x "${TMP_DIR}/flamingock"
+  install_file "${TMP_DIR}/flamingock" "$INSTALL_DIR" flamingock
+}
+
+# Installs the uber JAR with a launcher script that starts it from a class-data-sharing archive.
+# The archive sits next to the JAR and is named after the version, like 'flamingock self warmup' names it.
+install_jar() {
+  local VERSION="$1" INSTALL_DIR="$2" LIB_DIR="$3" BASE_URL="$4"
+  local JAR="flamingock-cli-${VERSION}.jar"
+  local ARCHIVE="flamingock-cli-${VERSION}.jsa"
+  local JAVA="${JAVA_HOME:+${JAVA_HOME}/bin/}java"
+
+  if ! command -v "$JAVA" &>/dev/null; then
+    echo "Error: Java 21+ is required to run the Flamingock CLI JAR, but '${JAVA}' was not found."
+    exit 1
+  fi
+  local JAVA_VERSION
+  JAVA_VERSION=$(java_feature_version "$JAVA")
+  if ! [ "$JAVA_VERSION" -ge 21 ] 2>/dev/null; then
+    echo "Error: Java 21+ is required to run the Flamingock CLI JAR (found: ${JAVA_VERSION})."
+    exit 1
+  fi
+
+  curl -fsSL -o "${TMP_DIR}/${JAR}" "${BASE_URL}/${JAR}"
+  verify_checksum "${TMP_DIR}/${JAR}" "$JAR"
+
+  cat > "${TMP_DIR}/flamingock" <<EOF
+#!/bin/sh
+# Flamingock CLI v${VERSION} launcher, generated by install.sh.
+# AutoCreateSharedArchive re-creates the archive by itself after a JDK change. 'self' commands run
+# without it, so a JVM recording the archive at exit cannot overwrite the one 'self warmup' just wrote.
+JAVA="\${JAVA_HOME:+\${JAVA_HOME}/bin/}java"
+if [ "\${1:-}" = "self" ]; then
+  exec "\$JAVA" -jar "${LIB_DIR}/${JAR}" "\$@"
+fi
+exec "\$JAVA" -XX:+AutoCreateSharedArchive -XX:SharedArchiveFile="${LIB_DIR}/${ARCHIVE}" -Xlog:cds*=off \\
+  -jar "${LIB_DIR}/${JAR}" "\$@"
+EOF
+  chmod +x "${TMP_DIR}/flamingock"
+
+  install_file "${TMP_DIR}/${JAR}" "$LIB_DIR" "$JAR"
+  install_file "${TMP_DIR}/flamingock" "$INSTALL_DIR" flamingock
+
+  # Record the archive now, from a representative workload, so the first real command already starts fast
+  echo "Recording class-data-sharing archive..."
+  local WARMUP=("${INSTALL_DIR}/flamingock" self warmup)
+  if [ ! -w "$LIB_DIR" ]; then
+    WARMUP=(sudo "${WARMUP[@]}")
+  fi
+  if ! "${WARMUP[@]}"; then
+    echo "Warning: could not record the archive; the first runs will create it instead."
+  fi
+}
+
 install_flamingock() {
   local VERSION="${FLAMINGOCK_VERSION:-latest}"
   local INSTALL_DIR="${FLAMINGOCK_INSTALL_DIR:-/usr/local/bin}"
+  local LIB_DIR="${FLAMINGOCK_LIB_DIR:-$(dirname "$INSTALL_DIR")/lib/flamingock}"
+  local DISTRIBUTION="${FLAMINGOCK_DISTRIBUTION:-auto}"
 
   # Detect platform
   local OS ARCH
@@ -22,23 +131,33 @@ install_flamingock() {
     *)             echo "Error: Unsupported architecture: $ARCH"; exit 1 ;;
   esac
 
-  # Linux ARM64 has no native binary — redirect to the JVM JAR
-  if [ "$OS" = "linux" ] && [ "$ARCH" = "arm64" ]; then
-    echo "Error: No native binary available for Linux ARM64."
-    echo ""
-    echo "Use the platform-independent JAR instead (requires JRE 21+):"
-    echo "  https://github.com/flamingock/flamingock-cli/releases/latest"
-    exit 1
+  # Linux ARM64 and macOS x86_64 have no native binary — fall back to the JVM JAR
+  local NATIVE_AVAILABLE=true
+  if { [ "$OS" = "linux" ] && [ "$ARCH" = "arm64" ]; } || { [ "$OS" = "macos" ] && [ "$ARCH" = "x86_64" ]; }; then
+    NATIVE_AVAILABLE=false
   fi
 
-  # macOS x86_64 has no native binary — redirect to the JVM JAR
-  if [ "$OS" = "macos" ] && [ "$ARCH" = "x86_64" ]; then
-    echo "Error: No native binary available for macOS x86_64."
-    echo ""
-    echo "Use the platform-independent JAR instead (requires JRE 21+):"
-    echo "  https://github.com/flamingock/flamingock-cli/releases/latest"
-    exit 1
-  fi
+  case "$DISTRIBUTION" in
+    auto)
+      if [ "$NATIVE_AVAILABLE" = true ]; then
+        DISTRIBUTION="native"
+      else
+        echo "No native binary available for ${OS}/${ARCH}; installing the platform-independent JAR (requires JRE 21+)."
+        DISTRIBUTION="jar"
+      fi
+      ;;
+    native)
+      if [ "$NATIVE_AVAILABLE" != true ]; then
+        echo "Error: No native binary available for ${OS}/${ARCH}."
+        echo ""
+        echo "Use the platform-independent JAR instead (requires JRE 21+):"
+        echo "  FLAMINGOCK_DISTRIBUTION=jar"
+        exit 1
+      fi
+      ;;
+    jar) ;;
+    *) echo "Error: Unsupported FLAMINGOCK_DISTRIBUTION: $DISTRIBUTION (use auto, native or jar)"; exit 1 ;;
+  esac
 
   # Resolve latest version
   if [ "$VERSION" = "latest" ]; then
@@ -46,46 +165,16 @@ install_flamingock() {
       | grep '"tag_name"' | sed -E 's/.*"v([^"]+)".*/\1/')
   fi
 
-  local BINARY="flamingock-${VERSION}-${OS}-${ARCH}"
-  local URL="https://github.com/flamingock/flamingock-cli/releases/download/v${VERSION}/${BINARY}"
-  local CHECKSUMS_URL="https://github.com/flamingock/flamingock-cli/releases/download/v${VERSION}/SHA256SUMS.txt"
-
-  echo "Installing Flamingock CLI v${VERSION} (${OS}/${ARCH})..."
-
-  # Download to temp directory
-  curl -fsSL -o "${TMP_DIR}/flamingock" "$URL"
-  curl -fsSL -o "${TMP_DIR}/SHA256SUMS.txt" "$CHECKSUMS_URL"
-
-  # Verify SHA256
-  local EXPECTED_HASH ACTUAL_HASH
-  EXPECTED_HASH=$(grep "$BINARY" "${TMP_DIR}/SHA256SUMS.txt" | awk '{print $1}')
-  if command -v sha256sum &>/dev/null; then
-    ACTUAL_HASH=$(sha256sum "${TMP_DIR}/flamingock" | awk '{print $1}')
-  else
-    ACTUAL_HASH=$(shasum -a 256 "${TMP_DIR}/flamingock" | awk '{print $1}')
-  fi
-
-  if [ "$EXPECTED_HASH" != "$ACTUAL_HASH" ]; then
-    echo "Error: SHA256 checksum mismatch!"
-    echo "  Expected: $EXPECTED_HASH"
-    echo "  Actual:   $ACTUAL_HASH"
-    exit 1
-  fi
+  local BASE_URL="https://github.com/flamingock/flamingock-cli/releases/download/v${VERSION}"
 
-  echo "SHA256 checksum verified."
+  echo "Installing Flamingock CLI v${VERSION} (${OS}/${ARCH}, ${DISTRIBUTION})..."
 
-  # Remove macOS quarantine attribute (required for unsigned binaries downloaded via curl)
-  if [ "$OS" = "macos" ]; then
-    xattr -d com.apple.quarantine "${TMP_DIR}/flamingock" 2>/dev/null || true
-  fi
+  curl -fsSL -o "${TMP_DIR}/SHA256SUMS.txt" "${BASE_URL}/SHA256SUMS.txt"
 
-  # Install
-  chmod +x "${TMP_DIR}/flamingock"
-  if [ -w "$INSTALL_DIR" ]; then
-    mv "${TMP_DIR}/flamingock" "${INSTALL_DIR}/flamingock"
+  if [ "$DISTRIBUTION" = "native" ]; then
+    install_native "$VERSION" "$OS" "$ARCH" "$INSTALL_DIR" "$BASE_URL"
   else
-    echo "Installing to ${INSTALL_DIR} (requires sudo)..."
-    sudo mv "${TMP_DIR}/flamingock" "${INSTALL_DIR}/flamingock"
+    install_jar "$VERSION" "$INSTALL_DIR" "$LIB_DIR" "$BASE_URL"
   fi
 
   echo "Flamingock CLI v${VERSION} installed to ${INSTALL_DIR}/flamingock"
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.output;
+
+import io.flamingock.internal.common.core.response.data.AuditListResponseData;
+import io.flamingock.internal.common.core.response.data.AuditListResponseData.AuditEntryDto;
+import io.flamingock.internal.util.JsonObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders a 100k-row audit table to a stream set up like the JVM's own {@code System.out} (a 128-byte
+ * buffer with autoflush) over the null device, once through {@link TableFormatter} and once by printing
+ * every cell and line separately, as the formatters did before they rendered through {@link RenderBuffer}.
+ *
+ * <p>Run with {@code ./gradlew jmh}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TableFormatterBenchmark {
+
+    static final int ROWS = 100_000;
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final List<TableColumn> COLUMNS = List.of(
+            new TableColumn("Change ID", 30),
+            new TableColumn("State", 13, TableColumn.Alignment.CENTER),
+            new TableColumn("Author", 18),
+            new TableColumn("Time", 21));
+
+    private List<AuditEntryDto> entries;
+    private PrintStream originalOut;
+    private PrintStream stdout;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        StringBuilder json = new StringBuilder("{\"entries\": [");
+        for (int i = 0; i < ROWS; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"changeId\": \"change-").append(i)
+                    .append("\", \"author\": \"developer\", \"state\": \"").append(i % 50 == 0 ? "FAILED" : "APPLIED")
+                    .append("\", \"createdAt\": \"2026-02-09T10:").append(String.format("%02d", i % 60))
+                    .append(":00\"}");
+        }
+        entries = JsonObjectMapper.DEFAULT_INSTANCE
+                .readValue(json.append("]}").toString(), AuditListResponseData.class)
+                .getEntries();
+
+        String nullDevice = System.getProperty("os.name", "").startsWith("Windows") ? "NUL" : "/dev/null";
+        stdout = new PrintStream(new BufferedOutputStream(new FileOutputStream(nullDevice), 128), true,
+                StandardCharsets.UTF_8);
+        originalOut = System.out;
+        System.setOut(stdout);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalOut);
+        stdout.close();
+    }
+
+    @Benchmark
+    public void buffered() {
+        new TableFormatter().printBasicTable(entries);
+    }
+
+    @Benchmark
+    public void printPerCell() {
+        PrintStream out = System.out;
+        for (AuditEntryDto entry : entries) {
+            out.print("│");
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                String value = switch (i) {
+                    case 0 -> entry.getChangeId();
+                    case 1 -> "\u001B[32m" + entry.getState() + "\u001B[0m";
+                    case 2 -> entry.getAuthor();
+                    default -> entry.getCreatedAt() != null ? entry.getCreatedAt().format(TIME_FORMATTER) : "-";
+                };
+                out.print(i == 1 ? "   " + value + "   " : COLUMNS.get(i).format(value));
+                out.print("│");
+            }
+            out.println();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Forwards a 1 GB stderr-style log flood through the line-based copy the launcher used to do and through
+ * {@link StreamPump}, both teeing into a capture.
+ *
+ * <p>Each operation moves {@link #FLOOD_BYTES}; throughput in MB/s is {@code 1024 / score-in-seconds}.
+ * Run with {@code ./gradlew jmh}.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamPumpBenchmark {
+
+    static final long FLOOD_BYTES = 1L << 30;
+
+    private static final byte[] LOG_LINE = ("2026-01-01 12:00:00.000  INFO 4242 --- [           main] "
+            + "o.s.b.a.l.ConditionEvaluationReportLogger : Evaluated auto-configuration condition\n")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Benchmark
+    public long lineBasedCopy() throws IOException {
+        CountingOutputStream forwarded = new CountingOutputStream();
+        PrintStream console = new PrintStream(forwarded, false, StandardCharsets.UTF_8);
+        StringBuilder capture = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new LogFlood(FLOOD_BYTES)))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                console.println(line);
+                synchronized (capture) {
+                    capture.append(line).append("\n");
+                    // Keep the capture from dominating the measurement with heap growth
+                    if (capture.length() > (1 << 20)) {
+                        capture.setLength(0);
+                    }
+                }
+            }
+        }
+        console.flush();
+        return forwarded.count;
+    }
+
+    @Benchmark
+    public long bytePump() {
+        CountingOutputStream forwarded = new CountingOutputStream();
+        StreamPump.pump(new LogFlood(FLOOD_BYTES), forwarded, OutputStream.nullOutputStream());
+        return forwarded.count;
+    }
+
+    @Benchmark
+    public long bytePumpOnVirtualThread() throws InterruptedException {
+        CountingOutputStream forwarded = new CountingOutputStream();
+        StreamPump.start("bench", new LogFlood(FLOOD_BYTES), forwarded, OutputStream.nullOutputStream()).join();
+        return forwarded.count;
+    }
+
+    /**
+     * Endless repetition of a typical Spring Boot log line, cut off after a fixed number of bytes.
+     */
+    static final class LogFlood extends InputStream {
+
+        private final long limit;
+        private long position;
+
+        LogFlood(long limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() {
+            if (position >= limit) {
+                return -1;
+            }
+            return LOG_LINE[(int) (position++ % LOG_LINE.length)];
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position >= limit) {
+                return -1;
+            }
+            int count = (int) Math.min(length, limit - position);
+            for (int i = 0; i < count; ) {
+                int lineOffset = (int) ((position + i) % LOG_LINE.length);
+                int chunk = Math.min(count - i, LOG_LINE.length - lineOffset);
+                System.arraycopy(LOG_LINE, lineOffset, buffer, offset + i, chunk);
+                i += chunk;
+            }
+            position += count;
+            return count;
+        }
+    }
+
+    static final class CountingOutputStream extends OutputStream {
+
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            count += length;
+        }
+    }
+}
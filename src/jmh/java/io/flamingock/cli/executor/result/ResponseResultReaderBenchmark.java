@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.result;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.flamingock.internal.common.core.response.data.AuditListResponseData;
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+import io.flamingock.internal.common.core.response.data.ChangeStatus;
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
+import io.flamingock.internal.common.core.response.data.ExecutionStatus;
+import io.flamingock.internal.common.core.response.data.StageResult;
+import io.flamingock.internal.common.core.response.data.StageStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a large {@code audit_list} or {@code execute} response through the generic envelope followed by
+ * {@link ResponseResultReader#toTyped}, and through the single-pass {@link ResponseResultReader#readTyped}.
+ *
+ * <p>Run with {@code ./gradlew jmh}; add {@code -prof gc} to the JMH arguments to compare allocation per
+ * read.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseResultReaderBenchmark {
+
+    static final int AUDIT_ENTRIES = 50_000;
+    static final int STAGES = 50;
+    static final int CHANGES_PER_STAGE = 400;
+
+    @Param({"audit_list", "execute"})
+    public String payload;
+
+    private final ResponseResultReader reader = new ResponseResultReader();
+    private Path file;
+    private Class<?> dataType;
+
+    @Setup(Level.Trial)
+    public void writeResponse() throws IOException {
+        String data = "audit_list".equals(payload) ? auditListData() : executeData();
+        dataType = "audit_list".equals(payload) ? AuditListResponseData.class : ExecuteResponseData.class;
+        file = Files.createTempFile("flamingock-response-bench-", ".json");
+        String operation = "audit_list".equals(payload) ? "AUDIT_LIST" : "EXECUTE_APPLY";
+        Files.writeString(file, "{\"success\": true, \"operation\": \"" + operation + "\", "
+                + "\"timestamp\": \"2026-02-09T10:00:00Z\", \"durationMs\": 250, \"data\": " + data + "}");
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteResponse() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Object envelopeThenConvert() {
+        return reader.toTyped(reader.read(file), dataType, file.toString()).getData();
+    }
+
+    @Benchmark
+    public Object singlePass() {
+        return reader.readTyped(file, dataType).getData();
+    }
+
+    private static String auditListData() {
+        StringBuilder json = new StringBuilder("{\"@type\": \"audit_list\", \"entries\": [");
+        for (int i = 0; i < AUDIT_ENTRIES; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"changeId\": \"change-").append(i)
+                    .append("\", \"author\": \"developer\", \"state\": \"APPLIED\", \"stageId\": \"stage-")
+                    .append(i % STAGES)
+                    .append("\", \"executionId\": \"exec-").append(i / 100)
+                    .append("\", \"className\": \"io.example.changes._").append(i).append("_CreateIndex\", ")
+                    .append("\"methodName\": \"apply\", \"executionHostname\": \"runner-7\", ")
+                    .append("\"executionMillis\": ").append(i % 1000).append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String executeData() throws IOException {
+        ExecuteResponseData data = new ExecuteResponseData();
+        List<StageResult> stages = new ArrayList<>();
+        for (int s = 0; s < STAGES; s++) {
+            StageResult stage = new StageResult();
+            stage.setStageId("stage-" + s);
+            stage.setStageName("Stage " + s);
+            stage.setStatus(StageStatus.COMPLETED);
+            stage.setDurationMs(s * 10L);
+            List<ChangeResult> changes = new ArrayList<>();
+            for (int c = 0; c < CHANGES_PER_STAGE; c++) {
+                ChangeResult change = new ChangeResult();
+                change.setChangeId("change-" + s + "-" + c);
+                change.setAuthor("developer");
+                change.setStatus(ChangeStatus.APPLIED);
+                change.setDurationMs(c);
+                changes.add(change);
+            }
+            stage.setChanges(changes);
+            stages.add(stage);
+        }
+        data.setStatus(ExecutionStatus.SUCCESS);
+        data.setTotalStages(STAGES);
+        data.setCompletedStages(STAGES);
+        data.setTotalChanges(STAGES * CHANGES_PER_STAGE);
+        data.setAppliedChanges(STAGES * CHANGES_PER_STAGE);
+        data.setStages(stages);
+        String json = new ObjectMapper().writeValueAsString(data);
+        // The application writes the type id inside data; add it unless the class already declares one
+        return json.startsWith("{\"@type\"") ? json : json.replaceFirst("\\{", "{\"@type\": \"execute\", ");
+    }
+}
@@ -16,15 +16,32 @@
 package io.flamingock.cli.executor;
 
 import io.flamingock.cli.executor.command.AuditCommand;
+import io.flamingock.cli.executor.command.DaemonCommand;
 import io.flamingock.cli.executor.command.ExecuteCommand;
 import io.flamingock.cli.executor.command.InstallSkillsCommand;
 import io.flamingock.cli.executor.command.IssueCommand;
+import io.flamingock.cli.executor.command.SelfCommand;
+import io.flamingock.cli.executor.command.StatusCommand;
+import io.flamingock.cli.executor.daemon.DaemonClient;
 import io.flamingock.cli.executor.handler.ExecutorExceptionHandler;
+import io.flamingock.cli.executor.metrics.OpenMetricsWriter;
+import io.flamingock.cli.executor.metrics.RunMetrics;
+import io.flamingock.cli.executor.output.ConsoleFormatter;
+import io.flamingock.cli.executor.output.TimingsFormatter;
+import io.flamingock.cli.executor.timing.OtlpTraceWriter;
+import io.flamingock.cli.executor.timing.RecordedSpan;
+import io.flamingock.cli.executor.timing.Timings;
 import io.flamingock.cli.executor.util.VersionProvider;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.ParseResult;
 
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -51,7 +68,19 @@ import java.util.Optional;
                 "  flamingock audit fix --jar ./app.jar -c my-change-id -r APPLIED",
                 "  flamingock issue list --jar ./app.jar",
                 "  flamingock issue get --jar ./app.jar -c my-change-id --guidance",
+                "  flamingock status --jar ./app.jar",
                 "  flamingock --log-level=debug execute apply --jar ./my-app.jar",
+                "  flamingock --timings --trace-file trace.json execute apply --jar ./app.jar",
+                "  flamingock --metrics-file ./flamingock.prom execute apply --jar ./app.jar",
+                "",
+                "@|bold Running against several JARs:|@",
+                "  flamingock execute apply --jar ./billing.jar --jar ./orders.jar --parallelism 4",
+                "  flamingock audit list --targets ./targets.txt --target-output GROUPED",
+                "",
+                "@|bold Skipping CLI startup for repeated calls:|@",
+                "  flamingock daemon start &",
+                "  flamingock audit list --jar ./app.jar    (served by the running daemon)",
+                "  flamingock self warmup                   (record a CDS archive for the CLI JAR)",
                 "",
                 "@|bold Passing arguments to the spawned application:|@",
                 "  flamingock execute apply --jar app.jar -- --spring.profiles.active=prod",
@@ -61,7 +90,8 @@ import java.util.Optional;
                 "",
                 "For detailed help on any command, use: flamingock <command> --help"
         },
-        subcommands = {ExecuteCommand.class, AuditCommand.class, IssueCommand.class, InstallSkillsCommand.class},
+        subcommands = {ExecuteCommand.class, AuditCommand.class, IssueCommand.class, StatusCommand.class,
+                InstallSkillsCommand.class, DaemonCommand.class, SelfCommand.class},
         mixinStandardHelpOptions = true,
         versionProvider = VersionProvider.class
 )
@@ -82,15 +112,115 @@ public class FlamingockExecutorCli implements Runnable {
             scope = CommandLine.ScopeType.INHERIT)
     private boolean noColor;
 
+    @Option(names = {"--timings"},
+            description = "Print where the time went (argument parsing, JAR analysis, application boot, "
+                    + "operation, response parsing, rendering) to stderr",
+            scope = CommandLine.ScopeType.INHERIT)
+    private boolean timings;
+
+    @Option(names = {"--trace-file"},
+            paramLabel = "<file>",
+            description = "Write the same phases as an OpenTelemetry trace (OTLP/JSON) to this file",
+            scope = CommandLine.ScopeType.INHERIT)
+    private Path traceFile;
+
+    @Option(names = {"--metrics-file"},
+            paramLabel = "<file>",
+            description = "Atomically write OpenMetrics text (durations, change, audit and issue counts, exit code) "
+                    + "to this file when the command ends, e.g. for node_exporter's textfile collector",
+            scope = CommandLine.ScopeType.INHERIT)
+    private Path metricsFile;
+
     public static void main(String[] args) {
+        // Forward to a running daemon before paying for picocli and Jackson setup
+        Integer daemonExitCode = DaemonClient.tryDelegate(args);
+        if (daemonExitCode != null) {
+            System.exit(daemonExitCode);
+        }
+
+        int exitCode = execute(args, System.out, System.err);
+        System.exit(exitCode);
+    }
+
+    /**
+     * Parses and runs a single CLI invocation in the current process.
+     *
+     * <p>Used by {@link #main(String[])} and by the daemon to serve forwarded invocations.</p>
+     *
+     * @param args the command-line arguments
+     * @param out  stream for picocli usage and version output
+     * @param err  stream for picocli error output
+     * @return the exit code
+     */
+    public static int execute(String[] args, PrintStream out, PrintStream err) {
+        long startNanos = System.nanoTime();
         FlamingockExecutorCli cli = new FlamingockExecutorCli();
         CommandLine cmd = new CommandLine(cli);
+        cmd.setOut(new PrintWriter(out, true));
+        cmd.setErr(new PrintWriter(err, true));
 
         // Use custom exception handler for better error messages
         cmd.setExecutionExceptionHandler(new ExecutorExceptionHandler());
+        cmd.setExecutionStrategy(parseResult -> cli.executeParsed(parseResult, startNanos));
 
         int exitCode = cmd.execute(args);
-        System.exit(exitCode);
+        // Written once the exception handler has settled the exit code
+        RunMetrics.Run run = RunMetrics.finish(exitCode);
+        if (run != null) {
+            cli.writeMetrics(run);
+        }
+        return exitCode;
+    }
+
+    /**
+     * Runs the parsed command, recording its phases when {@code --timings} or {@code --trace-file} is set
+     * and collecting metrics when {@code --metrics-file} is set. Parsing has already happened by now, so it
+     * is recorded from the invocation's start.
+     */
+    private int executeParsed(ParseResult parseResult, long startNanos) {
+        if (metricsFile != null) {
+            RunMetrics.begin(commandName(parseResult.subcommand() != null ? parseResult.subcommand() : parseResult),
+                    startNanos);
+        }
+        if (!timings && traceFile == null) {
+            return new CommandLine.RunLast().execute(parseResult);
+        }
+        Timings.begin(commandName(parseResult), startNanos);
+        Timings.record("cli.parse", startNanos, System.nanoTime());
+        try {
+            return new CommandLine.RunLast().execute(parseResult);
+        } finally {
+            report(Timings.finish());
+        }
+    }
+
+    private void report(List<RecordedSpan> spans) {
+        if (timings) {
+            TimingsFormatter.print(spans);
+        }
+        if (traceFile != null) {
+            try {
+                OtlpTraceWriter.write(spans, VersionProvider.getVersionString(), traceFile);
+            } catch (IOException e) {
+                ConsoleFormatter.printError("Could not write trace file " + traceFile + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void writeMetrics(RunMetrics.Run run) {
+        try {
+            OpenMetricsWriter.write(run, metricsFile);
+        } catch (IOException e) {
+            ConsoleFormatter.printError("Could not write metrics file " + metricsFile + ": " + e.getMessage());
+        }
+    }
+
+    private static String commandName(ParseResult parseResult) {
+        StringBuilder name = new StringBuilder(parseResult.commandSpec().name());
+        for (ParseResult sub = parseResult.subcommand(); sub != null; sub = sub.subcommand()) {
+            name.append(' ').append(sub.commandSpec().name());
+        }
+        return name.toString();
     }
 
     @Override
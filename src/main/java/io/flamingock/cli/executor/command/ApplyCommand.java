@@ -19,10 +19,19 @@ import io.flamingock.cli.executor.FlamingockExecutorCli;
 import io.flamingock.cli.executor.orchestration.CommandExecutor;
 import io.flamingock.cli.executor.orchestration.CommandResult;
 import io.flamingock.cli.executor.orchestration.ExecutionOptions;
+import io.flamingock.cli.executor.orchestration.FanOutRunner;
+import io.flamingock.cli.executor.orchestration.Target;
 import io.flamingock.cli.executor.output.ConsoleFormatter;
 import io.flamingock.cli.executor.output.ExecutionResultFormatter;
+import io.flamingock.cli.executor.output.FanOutSummaryFormatter;
 import io.flamingock.cli.executor.output.PendingChangesFormatter;
 import io.flamingock.cli.executor.output.PipelineAbortedFormatter;
+import io.flamingock.cli.executor.output.ProfileFormatter;
+import io.flamingock.cli.executor.output.ProgressFormatter;
+import io.flamingock.cli.executor.output.ResourceUsageFormatter;
+import io.flamingock.cli.executor.process.LaunchStatus;
+import io.flamingock.cli.executor.timing.Span;
+import io.flamingock.cli.executor.timing.Timings;
 import io.flamingock.cli.executor.util.VersionProvider;
 import io.flamingock.internal.common.core.operation.OperationType;
 import io.flamingock.internal.common.core.response.ResponseError;
@@ -33,6 +42,7 @@ import picocli.CommandLine.Option;
 import picocli.CommandLine.ParentCommand;
 
 import java.io.File;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 
@@ -43,6 +53,10 @@ import java.util.concurrent.Callable;
  * that enable CLI mode in Flamingock, executes all pending changes,
  * and returns the result via exit code.</p>
  *
+ * <p>With several targets ({@code --jar} repeated or {@code --targets}), the applications run in parallel
+ * up to {@code --parallelism} at a time and the exit code combines theirs (see
+ * {@link FanOutRunner#combinedExitCode(List)}).</p>
+ *
  * <p>Exit codes:</p>
  * <ul>
  *   <li>0 - Success (all changes applied)</li>
@@ -66,14 +80,20 @@ public class ApplyCommand implements Callable<Integer> {
     @ParentCommand
     private ExecuteCommand parent;
 
-    @Option(names = {"--jar", "-j"},
-            description = "Path to the application JAR",
-            required = true)
-    private File jarFile;
+    @Mixin
+    private TargetsMixin targets;
 
     @Mixin
     private PassthroughArgsMixin passthroughArgs;
 
+    @Mixin
+    private LaunchOptionsMixin launchOptions;
+
+    @Option(names = {"--progress"},
+            description = "Show each stage and change as it runs. Needs a Flamingock runtime newer than 1.4.0 "
+                    + "in the application; older runtimes reject the argument")
+    private boolean progress;
+
     private final CommandExecutor commandExecutor;
 
     /**
@@ -100,8 +120,18 @@ public class ApplyCommand implements Callable<Integer> {
 
         // Print header unless quiet mode
         if (!quiet) {
-            ConsoleFormatter.printHeader(VersionProvider.getVersionString());
+            ConsoleFormatter.printHeader(VersionProvider.getVersionString(),
+                    launchOptions.jvmProfileFor(OperationType.EXECUTE_APPLY).getId());
+        }
+
+        // Validate passthrough args and resolve the JAR(s) to run against
+        passthroughArgs.validate();
+        List<Target> resolvedTargets = targets.resolveTargets();
+        if (resolvedTargets.size() > 1) {
+            return applyAll(resolvedTargets, logLevel.orElse(null));
         }
+        Target target = resolvedTargets.get(0);
+        File jarFile = target.jar();
 
         // Validate JAR exists
         if (!jarFile.exists()) {
@@ -114,15 +144,15 @@ public class ApplyCommand implements Callable<Integer> {
             return EXIT_JAR_NOT_FOUND;
         }
 
-        // Validate passthrough args
-        passthroughArgs.validate();
-
         // Execution ops: always stream output by default
         ExecutionOptions options = ExecutionOptions.builder()
                 .logLevel(logLevel.orElse(null))
                 .streamOutput(true)
                 .jvmArgs(passthroughArgs.getJvmArgs())
-                .appArgs(passthroughArgs.getAppArgs())
+                .appArgs(passthroughArgs.getAppArgs(target))
+                .launchOptions(launchOptions.toLaunchOptions())
+                .target(target.name())
+                .progressListener(progress && !quiet ? new ProgressFormatter() : null)
                 .build();
 
         CommandResult<ExecuteResponseData> result = commandExecutor.execute(
@@ -132,32 +162,73 @@ public class ApplyCommand implements Callable<Integer> {
                 options
         );
 
-        if (result.isSuccess()) {
-            if (!quiet) {
-                ExecuteResponseData data = result.getData();
-                if (data != null) {
-                    ExecutionResultFormatter.print(data);
-                } else {
-                    ConsoleFormatter.printSuccess(result.getDurationMs());
+        try (Span ignored = Timings.start("render")) {
+            if (result.isSuccess()) {
+                if (!quiet) {
+                    ExecuteResponseData data = result.getData();
+                    if (data != null) {
+                        ExecutionResultFormatter.print(data);
+                    } else {
+                        ConsoleFormatter.printSuccess(result.getDurationMs());
+                    }
+                    ResourceUsageFormatter.print(result.getResourceUsage(), result.getDurationMs());
                 }
-            }
-            return 0;
-        } else {
-            if (!quiet) {
-                if (result.getData() != null) {
-                    ExecutionResultFormatter.print(result.getData());
+                ProfileFormatter.print(result.getRecording(), result.getDurationMs());
+                return 0;
+            } else {
+                if (!quiet) {
+                    if (result.getData() != null) {
+                        if (result.getLaunchStatus() != LaunchStatus.SUCCESS
+                                || "READ_ERROR".equals(result.getErrorCode())) {
+                            ConsoleFormatter.printInfo("The application exited without a result; "
+                                    + "showing progress reported before it stopped");
+                        }
+                        ExecutionResultFormatter.print(result.getData());
+                    }
+                    ResourceUsageFormatter.print(result.getResourceUsage(), result.getDurationMs());
+                    ResponseError error = new ResponseError(
+                            result.getErrorCode(),
+                            result.getErrorMessage(),
+                            false
+                    );
+                    printEnvelopeError(error);
                 }
-                ResponseError error = new ResponseError(
-                        result.getErrorCode(),
-                        result.getErrorMessage(),
-                        false
-                );
-                printEnvelopeError(error);
+                ProfileFormatter.print(result.getRecording(), result.getDurationMs());
+                return result.getExitCode();
             }
-            return result.getExitCode();
         }
     }
 
+    /**
+     * Applies the changes of several targets through a bounded pool of application JVMs, then prints a
+     * summary table. Output of each application is prefixed or grouped per target.
+     */
+    private int applyAll(List<Target> resolvedTargets, String logLevel) {
+        int concurrentLaunches = targets.concurrentLaunches(resolvedTargets.size());
+        List<FanOutRunner.TargetOutcome<ExecuteResponseData>> outcomes = targets.newRunner().run(resolvedTargets,
+                (target, out, err) -> {
+                    if (!target.jar().isFile()) {
+                        return CommandResult.jarNotFound(target.jar().getAbsolutePath(), EXIT_JAR_NOT_FOUND);
+                    }
+                    ExecutionOptions options = ExecutionOptions.builder()
+                            .logLevel(logLevel)
+                            .streamOutput(true)
+                            .jvmArgs(passthroughArgs.getJvmArgs())
+                            .appArgs(passthroughArgs.getAppArgs(target))
+                            .launchOptions(launchOptions.toLaunchOptions().withOutput(out, err)
+                                    .withConcurrentLaunches(concurrentLaunches))
+                            .target(target.name())
+                            .build();
+                    return commandExecutor.execute(target.jar().getAbsolutePath(), OperationType.EXECUTE_APPLY,
+                            ExecuteResponseData.class, options);
+                });
+
+        FanOutSummaryFormatter.print(outcomes, data -> String.format("%d applied, %d skipped, %d failed",
+                data.getAppliedChanges(), data.getAlreadyAppliedChanges() + data.getNotReachedChanges(),
+                data.getFailedChanges()));
+        return FanOutRunner.combinedExitCode(outcomes);
+    }
+
     private static void printEnvelopeError(ResponseError error) {
         String code = error.getCode();
         if ("LOCK_ERROR".equals(code)) {
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.command;
+
+import io.flamingock.cli.executor.FlamingockExecutorCli;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+
+/**
+ * Parent command for managing the CLI daemon.
+ *
+ * <p>Groups subcommands related to the long-lived daemon process:</p>
+ * <ul>
+ *   <li>{@code start} - Run the daemon in the foreground</li>
+ *   <li>{@code stop} - Ask a running daemon to shut down</li>
+ *   <li>{@code status} - Check whether a daemon is listening</li>
+ * </ul>
+ *
+ * <p>While a daemon is listening, other {@code flamingock} invocations forward their arguments
+ * to it instead of starting a new CLI process.</p>
+ */
+@Command(
+        name = "daemon",
+        description = "Manage the CLI daemon that serves repeated invocations without CLI startup cost",
+        subcommands = {DaemonStartCommand.class, DaemonStopCommand.class, DaemonStatusCommand.class},
+        mixinStandardHelpOptions = true
+)
+public class DaemonCommand implements Runnable {
+
+    @CommandLine.ParentCommand
+    private FlamingockExecutorCli parent;
+
+    /**
+     * Returns the root CLI command.
+     *
+     * @return the parent FlamingockExecutorCli instance, or null if not set
+     */
+    public FlamingockExecutorCli getParent() {
+        return parent;
+    }
+
+    @Override
+    public void run() {
+        // Show help when no subcommand is specified
+        new CommandLine(this).usage(System.out);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.command;
+
+import io.flamingock.cli.executor.FlamingockExecutorCli;
+import io.flamingock.cli.executor.daemon.DaemonProtocol;
+import io.flamingock.cli.executor.daemon.DaemonServer;
+import io.flamingock.cli.executor.output.ConsoleFormatter;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Runs the CLI daemon in the foreground until it is stopped or stays idle for too long.
+ */
+@Command(
+        name = "start",
+        description = {"Start the CLI daemon in the foreground",
+                "Invocations are served one at a time: while one runs (e.g. a long 'execute apply'), others wait "
+                        + "for it to finish. A command whose invocation is interrupted (Ctrl-C) is stopped, "
+                        + "together with the application it launched."},
+        mixinStandardHelpOptions = true
+)
+public class DaemonStartCommand implements Callable<Integer> {
+
+    @Option(names = {"--socket"},
+            description = "Unix domain socket to listen on (default: $" + DaemonProtocol.SOCKET_ENV_VAR
+                    + " or a per-user socket in the temp directory). Other invocations only use a daemon on a "
+                    + "custom socket when $" + DaemonProtocol.SOCKET_ENV_VAR + " is set to the same path")
+    private Path socket;
+
+    @Option(names = {"--idle-timeout"},
+            description = "Shut down after this many seconds without requests, 0 to never time out (default: ${DEFAULT-VALUE})",
+            defaultValue = "1800")
+    private long idleTimeoutSeconds;
+
+    @Override
+    public Integer call() {
+        Path socketPath = socket != null ? socket : DaemonProtocol.resolveSocketPath();
+        DaemonServer server = new DaemonServer(
+                socketPath,
+                Duration.ofSeconds(Math.max(0, idleTimeoutSeconds)),
+                FlamingockExecutorCli::execute
+        );
+
+        ConsoleFormatter.printInfo("Flamingock daemon listening on " + socketPath);
+        try {
+            server.serve();
+        } catch (IOException e) {
+            ConsoleFormatter.printError("Failed to start daemon on " + socketPath + ": " + e.getMessage());
+            return 1;
+        } catch (IllegalStateException e) {
+            ConsoleFormatter.printError(e.getMessage());
+            return 1;
+        }
+        ConsoleFormatter.printInfo("Flamingock daemon stopped");
+        return 0;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.command;
+
+import io.flamingock.cli.executor.daemon.DaemonClient;
+import io.flamingock.cli.executor.daemon.DaemonProtocol;
+import io.flamingock.cli.executor.output.ConsoleFormatter;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+/**
+ * Reports whether a CLI daemon is listening.
+ *
+ * <p>Exit codes:</p>
+ * <ul>
+ *   <li>0 - A daemon answered on the socket</li>
+ *   <li>1 - No daemon is listening</li>
+ * </ul>
+ */
+@Command(
+        name = "status",
+        description = "Check whether a CLI daemon is running",
+        mixinStandardHelpOptions = true
+)
+public class DaemonStatusCommand implements Callable<Integer> {
+
+    @Option(names = {"--socket"},
+            description = "Unix domain socket of the daemon (default: $" + DaemonProtocol.SOCKET_ENV_VAR
+                    + " or a per-user socket in the temp directory)")
+    private Path socket;
+
+    @Override
+    public Integer call() {
+        Path socketPath = socket != null ? socket : DaemonProtocol.resolveSocketPath();
+        if (new DaemonClient(socketPath).ping()) {
+            ConsoleFormatter.printInfo("Flamingock daemon is running on " + socketPath);
+            return 0;
+        }
+        ConsoleFormatter.printInfo("No Flamingock daemon is running on " + socketPath);
+        return 1;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.command;
+
+import io.flamingock.cli.executor.daemon.DaemonClient;
+import io.flamingock.cli.executor.daemon.DaemonProtocol;
+import io.flamingock.cli.executor.output.ConsoleFormatter;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+/**
+ * Asks a running CLI daemon to shut down.
+ */
+@Command(
+        name = "stop",
+        description = "Stop a running CLI daemon",
+        mixinStandardHelpOptions = true
+)
+public class DaemonStopCommand implements Callable<Integer> {
+
+    @Option(names = {"--socket"},
+            description = "Unix domain socket of the daemon (default: $" + DaemonProtocol.SOCKET_ENV_VAR
+                    + " or a per-user socket in the temp directory)")
+    private Path socket;
+
+    @Override
+    public Integer call() {
+        Path socketPath = socket != null ? socket : DaemonProtocol.resolveSocketPath();
+        try {
+            new DaemonClient(socketPath).stop();
+        } catch (IOException e) {
+            ConsoleFormatter.printError("No Flamingock daemon is listening on " + socketPath);
+            return 1;
+        }
+        ConsoleFormatter.printInfo("Flamingock daemon on " + socketPath + " is shutting down");
+        return 0;
+    }
+}
@@ -20,6 +20,9 @@ import io.flamingock.cli.executor.orchestration.CommandExecutor;
 import io.flamingock.cli.executor.orchestration.CommandResult;
 import io.flamingock.cli.executor.orchestration.ExecutionOptions;
 import io.flamingock.cli.executor.output.ConsoleFormatter;
+import io.flamingock.cli.executor.output.ProfileFormatter;
+import io.flamingock.cli.executor.timing.Span;
+import io.flamingock.cli.executor.timing.Timings;
 import io.flamingock.cli.executor.util.VersionProvider;
 import io.flamingock.internal.common.core.operation.OperationType;
 import io.flamingock.internal.common.core.recovery.Resolution;
@@ -71,6 +74,9 @@ public class FixCommand implements Callable<Integer> {
     @Mixin
     private PassthroughArgsMixin passthroughArgs;
 
+    @Mixin
+    private LaunchOptionsMixin launchOptions;
+
     private final CommandExecutor commandExecutor;
 
     public FixCommand() {
@@ -88,7 +94,8 @@ public class FixCommand implements Callable<Integer> {
         Optional<String> logLevel = root != null ? root.getLogLevel() : Optional.empty();
 
         if (!quiet) {
-            ConsoleFormatter.printHeader(VersionProvider.getVersionString());
+            ConsoleFormatter.printHeader(VersionProvider.getVersionString(),
+                    launchOptions.jvmProfileFor(OperationType.AUDIT_FIX).getId());
         }
 
         if (!jarFile.exists()) {
@@ -114,6 +121,7 @@ public class FixCommand implements Callable<Integer> {
                 .operationArgs(operationArgs)
                 .jvmArgs(passthroughArgs.getJvmArgs())
                 .appArgs(passthroughArgs.getAppArgs())
+                .launchOptions(launchOptions.toLaunchOptions())
                 .build();
 
         CommandResult<AuditFixResponseData> result = commandExecutor.execute(
@@ -123,20 +131,24 @@ public class FixCommand implements Callable<Integer> {
                 options
         );
 
-        if (result.isSuccess()) {
-            AuditFixResponseData data = result.getData();
-            if (data != null) {
-                if ("APPLIED".equals(data.getResult())) {
-                    ConsoleFormatter.printSuccess(0);
-                    System.out.println(data.getMessage());
-                } else {
-                    ConsoleFormatter.printInfo(data.getMessage());
+        try (Span ignored = Timings.start("render")) {
+            if (result.isSuccess()) {
+                AuditFixResponseData data = result.getData();
+                if (data != null) {
+                    if ("APPLIED".equals(data.getResult())) {
+                        ConsoleFormatter.printSuccess(0);
+                        System.out.println(data.getMessage());
+                    } else {
+                        ConsoleFormatter.printInfo(data.getMessage());
+                    }
                 }
+                ProfileFormatter.print(result.getRecording(), result.getDurationMs());
+                return 0;
+            } else {
+                ConsoleFormatter.printFailure(result.getErrorCode(), result.getErrorMessage());
+                ProfileFormatter.print(result.getRecording(), result.getDurationMs());
+                return result.getExitCode();
             }
-            return 0;
-        } else {
-            ConsoleFormatter.printFailure(result.getErrorCode(), result.getErrorMessage());
-            return result.getExitCode();
         }
     }
 
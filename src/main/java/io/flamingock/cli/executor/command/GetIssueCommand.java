@@ -22,6 +22,9 @@ import io.flamingock.cli.executor.orchestration.ExecutionOptions;
 import io.flamingock.cli.executor.output.ConsoleFormatter;
 import io.flamingock.cli.executor.output.IssueFormatter;
 import io.flamingock.cli.executor.output.JsonFormatter;
+import io.flamingock.cli.executor.output.ProfileFormatter;
+import io.flamingock.cli.executor.timing.Span;
+import io.flamingock.cli.executor.timing.Timings;
 import io.flamingock.cli.executor.util.VersionProvider;
 import io.flamingock.internal.common.core.operation.OperationType;
 import io.flamingock.internal.common.core.response.data.IssueGetResponseData;
@@ -72,6 +75,9 @@ public class GetIssueCommand implements Callable<Integer> {
     @Mixin
     private PassthroughArgsMixin passthroughArgs;
 
+    @Mixin
+    private LaunchOptionsMixin launchOptions;
+
     private final CommandExecutor commandExecutor;
 
     public GetIssueCommand() {
@@ -89,7 +95,8 @@ public class GetIssueCommand implements Callable<Integer> {
         Optional<String> logLevel = root != null ? root.getLogLevel() : Optional.empty();
 
         if (!quiet && !json) {
-            ConsoleFormatter.printHeader(VersionProvider.getVersionString());
+            ConsoleFormatter.printHeader(VersionProvider.getVersionString(),
+                    launchOptions.jvmProfileFor(OperationType.ISSUE_GET).getId());
         }
 
         if (!jarFile.exists()) {
@@ -119,6 +126,7 @@ public class GetIssueCommand implements Callable<Integer> {
                 .operationArgs(operationArgs)
                 .jvmArgs(passthroughArgs.getJvmArgs())
                 .appArgs(passthroughArgs.getAppArgs())
+                .launchOptions(launchOptions.toLaunchOptions())
                 .build();
 
         CommandResult<IssueGetResponseData> result = commandExecutor.execute(
@@ -128,17 +136,21 @@ public class GetIssueCommand implements Callable<Integer> {
                 options
         );
 
-        if (result.isSuccess()) {
-            IssueGetResponseData data = result.getData();
-            if (json) {
-                JsonFormatter.print(data);
+        try (Span ignored = Timings.start("render")) {
+            if (result.isSuccess()) {
+                IssueGetResponseData data = result.getData();
+                if (json) {
+                    JsonFormatter.print(data);
+                } else {
+                    displayIssue(data, quiet);
+                }
+                ProfileFormatter.print(result.getRecording(), result.getDurationMs());
+                return 0;
             } else {
-                displayIssue(data, quiet);
+                ConsoleFormatter.printFailure(result.getErrorCode(), result.getErrorMessage());
+                ProfileFormatter.print(result.getRecording(), result.getDurationMs());
+                return result.getExitCode();
             }
-            return 0;
-        } else {
-            ConsoleFormatter.printFailure(result.getErrorCode(), result.getErrorMessage());
-            return result.getExitCode();
         }
     }
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.command;
+
+import io.flamingock.cli.executor.process.JvmProfile;
+import io.flamingock.cli.executor.process.LaunchOptions;
+import io.flamingock.internal.common.core.operation.OperationType;
+import picocli.CommandLine.Option;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Picocli mixin with options that control how the application JVM is started.
+ *
+ * <p>Unlike {@link PassthroughArgsMixin}, these options are interpreted by the CLI itself.</p>
+ */
+public class LaunchOptionsMixin {
+
+    @Option(names = {"--no-cds"},
+            description = "Start the application without a cached class-data-sharing archive. "
+                    + "By default the CLI creates one per JAR and JDK on the first run and reuses it afterwards.")
+    private boolean noCds;
+
+    @Option(names = {"--stderr-spill-dir"},
+            paramLabel = "<dir>",
+            description = "Keep the application's complete stderr, gzip-compressed, in this directory when it "
+                    + "outgrows the in-memory capture. The file is reported on failure and removed on success.")
+    private Path stderrSpillDir;
+
+    @Option(names = {"--no-response-pipe"},
+            description = "Receive the application's response through a temporary file read after it exits, "
+                    + "instead of a named pipe read while it runs.")
+    private boolean noResponsePipe;
+
+    @Option(names = {"--jvm-profile"},
+            paramLabel = "<profile>",
+            description = "JVM flag set for the application: default, fast-start, throughput or low-memory. "
+                    + "Placed before -J arguments, which win on conflict. "
+                    + "Default: fast-start for audit and issue commands, JVM defaults for executions.")
+    private String jvmProfile;
+
+    @Option(names = {"--timeout"},
+            paramLabel = "<seconds>",
+            description = "Stop the application if it runs longer than this. A thread dump is captured first, "
+                    + "then the application and every process it started are stopped (exit code 124).")
+    private Long timeoutSeconds;
+
+    @Option(names = {"--idle-timeout"},
+            paramLabel = "<seconds>",
+            description = "Stop the application, as for --timeout, if it writes no output for this long.")
+    private Long idleTimeoutSeconds;
+
+    @Option(names = {"--dump-dir"},
+            paramLabel = "<dir>",
+            description = "Where to write diagnostics of a timed out application and --profile recordings "
+                    + "(default: the system temp directory).")
+    private Path dumpDir;
+
+    @Option(names = {"--heap-histogram"},
+            description = "Also capture a heap histogram when the application times out. Forces a full GC.")
+    private boolean heapHistogram;
+
+    @Option(names = {"--profile"},
+            description = "Record the application with Flight Recorder and print where the operation spent its "
+                    + "time: CPU, allocations, GC pauses, socket reads and lock contention. The .jfr file is "
+                    + "kept in --dump-dir.")
+    private boolean profile;
+
+    @Option(names = {"--exploded"},
+            description = "Start Spring Boot JARs from an extracted copy on a plain classpath instead of through "
+                    + "the nested-JAR launcher, which loads classes faster. The copy is made on the first run and "
+                    + "kept in the cache directory.")
+    private boolean exploded;
+
+    @Option(names = {"--fast-boot"},
+            negatable = true,
+            description = "Start Spring Boot applications with lazy beans, without web, actuator, scheduling, "
+                    + "messaging and devtools auto-configuration, and from Spring AOT initializers when the JAR "
+                    + "has them. Default: on for read-only audit and issue commands, off for executions.")
+    private Boolean fastBoot;
+
+    @Option(names = {"--fast-boot-exclude"},
+            paramLabel = "<class>",
+            split = ",",
+            description = "Auto-configuration class to exclude in fast-boot mode, replacing the built-in list. "
+                    + "Repeat or separate with commas.")
+    private List<String> fastBootExcludes;
+
+    @Option(names = {"--sample-interval"},
+            paramLabel = "<millis>",
+            description = "How often to sample the application's CPU, memory, thread and GC usage for the "
+                    + "resource summary (default: 200). 0 disables sampling.")
+    private Long sampleIntervalMillis;
+
+    /**
+     * Returns the JVM profile an operation will be launched with, e.g. to report it.
+     *
+     * @param operation the operation
+     * @return the profile
+     * @throws IllegalArgumentException if {@code --jvm-profile} names no known profile
+     */
+    public JvmProfile jvmProfileFor(OperationType operation) {
+        return jvmProfile != null ? JvmProfile.fromId(jvmProfile) : JvmProfile.forOperation(operation);
+    }
+
+    /**
+     * Builds the launch options selected on the command line.
+     *
+     * @return the launch options
+     */
+    public LaunchOptions toLaunchOptions() {
+        return LaunchOptions.builder()
+                .classDataSharing(!noCds)
+                .stderrSpillDirectory(stderrSpillDir)
+                .responsePipe(!noResponsePipe)
+                .jvmProfile(jvmProfile != null ? JvmProfile.fromId(jvmProfile) : null)
+                .timeout(seconds("--timeout", timeoutSeconds))
+                .idleTimeout(seconds("--idle-timeout", idleTimeoutSeconds))
+                .dumpDirectory(dumpDir)
+                .heapHistogram(heapHistogram)
+                .sampleInterval(sampleInterval())
+                .profile(profile)
+                .exploded(exploded)
+                .fastBoot(fastBoot)
+                .fastBootExcludes(fastBootExcludes)
+                .build();
+    }
+
+    private static Duration seconds(String option, Long seconds) {
+        if (seconds == null) {
+            return null;
+        }
+        if (seconds <= 0) {
+            throw new IllegalArgumentException(option + " must be a positive number of seconds, got " + seconds + "\n\n"
+                    + "  For help: flamingock <command> --help");
+        }
+        return Duration.ofSeconds(seconds);
+    }
+
+    private Duration sampleInterval() {
+        if (sampleIntervalMillis == null) {
+            return LaunchOptions.DEFAULT_SAMPLE_INTERVAL;
+        }
+        if (sampleIntervalMillis < 0) {
+            throw new IllegalArgumentException("--sample-interval must not be negative, got " + sampleIntervalMillis
+                    + "\n\n  For help: flamingock <command> --help");
+        }
+        return Duration.ofMillis(sampleIntervalMillis);
+    }
+}
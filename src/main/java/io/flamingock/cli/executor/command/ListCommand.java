@@ -19,8 +19,15 @@ import io.flamingock.cli.executor.FlamingockExecutorCli;
 import io.flamingock.cli.executor.orchestration.CommandExecutor;
 import io.flamingock.cli.executor.orchestration.CommandResult;
 import io.flamingock.cli.executor.orchestration.ExecutionOptions;
+import io.flamingock.cli.executor.orchestration.FanOutRunner;
+import io.flamingock.cli.executor.orchestration.Target;
+import io.flamingock.cli.executor.output.AuditTableSubscriber;
 import io.flamingock.cli.executor.output.ConsoleFormatter;
+import io.flamingock.cli.executor.output.FanOutSummaryFormatter;
+import io.flamingock.cli.executor.output.ProfileFormatter;
 import io.flamingock.cli.executor.output.TableFormatter;
+import io.flamingock.cli.executor.timing.Span;
+import io.flamingock.cli.executor.timing.Timings;
 import io.flamingock.cli.executor.util.VersionProvider;
 import io.flamingock.internal.common.core.operation.OperationType;
 import io.flamingock.internal.common.core.response.data.AuditListResponseData;
@@ -44,6 +51,10 @@ import java.util.concurrent.Callable;
  * that enable CLI mode in Flamingock and executes the LIST operation,
  * which retrieves the audit history.</p>
  *
+ * <p>With a single target the entries are streamed from the response file and printed as they are parsed.
+ * With several targets ({@code --jar} repeated or {@code --targets}), the applications are queried
+ * in parallel up to {@code --parallelism} at a time.</p>
+ *
  * <p>Exit codes:</p>
  * <ul>
  *   <li>0 - Success</li>
@@ -67,10 +78,8 @@ public class ListCommand implements Callable<Integer> {
     @ParentCommand
     private AuditCommand parent;
 
-    @Option(names = {"--jar", "-j"},
-            description = "Path to the application JAR",
-            required = true)
-    private File jarFile;
+    @Mixin
+    private TargetsMixin targets;
 
     @Option(names = {"--history"},
             description = "Show full chronological history instead of snapshot")
@@ -87,6 +96,9 @@ public class ListCommand implements Callable<Integer> {
     @Mixin
     private PassthroughArgsMixin passthroughArgs;
 
+    @Mixin
+    private LaunchOptionsMixin launchOptions;
+
     private final CommandExecutor commandExecutor;
 
     /**
@@ -113,9 +125,19 @@ public class ListCommand implements Callable<Integer> {
 
         // Print header unless quiet mode
         if (!quiet) {
-            ConsoleFormatter.printHeader(VersionProvider.getVersionString());
+            ConsoleFormatter.printHeader(VersionProvider.getVersionString(),
+                    launchOptions.jvmProfileFor(OperationType.AUDIT_LIST).getId());
         }
 
+        // Validate passthrough args and resolve the JAR(s) to list
+        passthroughArgs.validate();
+        List<Target> resolvedTargets = targets.resolveTargets();
+        if (resolvedTargets.size() > 1) {
+            return listAll(resolvedTargets, logLevel, quiet);
+        }
+        Target target = resolvedTargets.get(0);
+        File jarFile = target.jar();
+
         // Validate JAR exists
         if (!jarFile.exists()) {
             ConsoleFormatter.printError("JAR file not found: " + jarFile.getAbsolutePath());
@@ -127,48 +149,100 @@ public class ListCommand implements Callable<Integer> {
             return EXIT_JAR_NOT_FOUND;
         }
 
-        // Build operation-specific arguments
-        Map<String, String> operationArgs = new HashMap<>();
-        if (history) {
-            operationArgs.put("flamingock.audit.history", "true");
-        }
-        if (since != null && !since.isEmpty()) {
-            operationArgs.put("flamingock.audit.since", since);
-        }
-        if (extended) {
-            operationArgs.put("flamingock.audit.extended", "true");
-        }
-
-        // Validate passthrough args
-        passthroughArgs.validate();
-
         // Non-execution ops: only stream output if log level is explicitly set
         ExecutionOptions options = ExecutionOptions.builder()
                 .logLevel(logLevel.orElse(null))
                 .streamOutput(logLevel.isPresent())
-                .operationArgs(operationArgs)
+                .operationArgs(buildOperationArgs())
                 .jvmArgs(passthroughArgs.getJvmArgs())
-                .appArgs(passthroughArgs.getAppArgs())
+                .appArgs(passthroughArgs.getAppArgs(target))
+                .launchOptions(launchOptions.toLaunchOptions())
+                .target(target.name())
                 .build();
 
-        CommandResult<AuditListResponseData> result = commandExecutor.execute(
+        // Rows are printed as the entries are parsed, so the table starts before the whole response is read
+        CommandResult<AuditTableSubscriber> result = commandExecutor.streamAuditList(
                 jarFile.getAbsolutePath(),
-                OperationType.AUDIT_LIST,
-                AuditListResponseData.class,
-                options
+                options,
+                publisher -> {
+                    AuditTableSubscriber subscriber = new AuditTableSubscriber(extended, quiet);
+                    try (Span ignored = Timings.start("render")) {
+                        publisher.subscribe(subscriber);
+                    }
+                    return subscriber;
+                }
         );
 
+        if (result.isSuccess() && result.getData().getError() != null) {
+            ConsoleFormatter.printFailure("RESPONSE_READ_ERROR",
+                    "Failed to read audit entries: " + result.getData().getError().getMessage());
+            ProfileFormatter.print(result.getRecording(), result.getDurationMs());
+            return 1;
+        }
         if (result.isSuccess()) {
-            if (result.getData() != null) {
-                displayAuditEntries(result.getData().getEntries(), quiet);
-            }
+            ProfileFormatter.print(result.getRecording(), result.getDurationMs());
             return 0;
         } else {
             ConsoleFormatter.printFailure(result.getErrorCode(), result.getErrorMessage());
+            ProfileFormatter.print(result.getRecording(), result.getDurationMs());
             return result.getExitCode();
         }
     }
 
+    /**
+     * Lists the audit entries of several targets through a bounded pool of application JVMs, then prints
+     * each target's entries in order followed by a summary table.
+     */
+    private int listAll(List<Target> resolvedTargets, Optional<String> logLevel, boolean quiet) {
+        Map<String, String> operationArgs = buildOperationArgs();
+        int concurrentLaunches = targets.concurrentLaunches(resolvedTargets.size());
+        List<FanOutRunner.TargetOutcome<AuditListResponseData>> outcomes = targets.newRunner().run(resolvedTargets,
+                (target, out, err) -> {
+                    if (!target.jar().isFile()) {
+                        return CommandResult.jarNotFound(target.jar().getAbsolutePath(), EXIT_JAR_NOT_FOUND);
+                    }
+                    ExecutionOptions options = ExecutionOptions.builder()
+                            .logLevel(logLevel.orElse(null))
+                            .streamOutput(logLevel.isPresent())
+                            .operationArgs(operationArgs)
+                            .jvmArgs(passthroughArgs.getJvmArgs())
+                            .appArgs(passthroughArgs.getAppArgs(target))
+                            .launchOptions(launchOptions.toLaunchOptions().withOutput(out, err)
+                                    .withConcurrentLaunches(concurrentLaunches))
+                            .target(target.name())
+                            .build();
+                    return commandExecutor.execute(target.jar().getAbsolutePath(), OperationType.AUDIT_LIST,
+                            AuditListResponseData.class, options);
+                });
+
+        for (FanOutRunner.TargetOutcome<AuditListResponseData> outcome : outcomes) {
+            CommandResult<AuditListResponseData> result = outcome.result();
+            if (result.isSuccess() && result.getData() != null) {
+                System.out.println();
+                System.out.println("==> " + outcome.target().name() + " <==");
+                displayAuditEntries(result.getData().getEntries(), quiet);
+            }
+        }
+
+        FanOutSummaryFormatter.print(outcomes, data -> (data.getEntries() != null ? data.getEntries().size() : 0)
+                + " entries");
+        return FanOutRunner.combinedExitCode(outcomes);
+    }
+
+    private Map<String, String> buildOperationArgs() {
+        Map<String, String> operationArgs = new HashMap<>();
+        if (history) {
+            operationArgs.put("flamingock.audit.history", "true");
+        }
+        if (since != null && !since.isEmpty()) {
+            operationArgs.put("flamingock.audit.since", since);
+        }
+        if (extended) {
+            operationArgs.put("flamingock.audit.extended", "true");
+        }
+        return operationArgs;
+    }
+
     private void displayAuditEntries(List<AuditEntryDto> entries, boolean quiet) {
         if (entries == null || entries.isEmpty()) {
             if (!quiet) {
@@ -22,6 +22,9 @@ import io.flamingock.cli.executor.orchestration.ExecutionOptions;
 import io.flamingock.cli.executor.output.ConsoleFormatter;
 import io.flamingock.cli.executor.output.IssueFormatter;
 import io.flamingock.cli.executor.output.JsonFormatter;
+import io.flamingock.cli.executor.output.ProfileFormatter;
+import io.flamingock.cli.executor.timing.Span;
+import io.flamingock.cli.executor.timing.Timings;
 import io.flamingock.cli.executor.util.VersionProvider;
 import io.flamingock.internal.common.core.operation.OperationType;
 import io.flamingock.internal.common.core.response.data.IssueListResponseData;
@@ -62,6 +65,9 @@ public class ListIssueCommand implements Callable<Integer> {
     @Mixin
     private PassthroughArgsMixin passthroughArgs;
 
+    @Mixin
+    private LaunchOptionsMixin launchOptions;
+
     private final CommandExecutor commandExecutor;
 
     public ListIssueCommand() {
@@ -79,7 +85,8 @@ public class ListIssueCommand implements Callable<Integer> {
         Optional<String> logLevel = root != null ? root.getLogLevel() : Optional.empty();
 
         if (!quiet && !json) {
-            ConsoleFormatter.printHeader(VersionProvider.getVersionString());
+            ConsoleFormatter.printHeader(VersionProvider.getVersionString(),
+                    launchOptions.jvmProfileFor(OperationType.ISSUE_LIST).getId());
         }
 
         if (!jarFile.exists()) {
@@ -100,6 +107,7 @@ public class ListIssueCommand implements Callable<Integer> {
                 .streamOutput(logLevel.isPresent())
                 .jvmArgs(passthroughArgs.getJvmArgs())
                 .appArgs(passthroughArgs.getAppArgs())
+                .launchOptions(launchOptions.toLaunchOptions())
                 .build();
 
         CommandResult<IssueListResponseData> result = commandExecutor.execute(
@@ -109,17 +117,21 @@ public class ListIssueCommand implements Callable<Integer> {
                 options
         );
 
-        if (result.isSuccess()) {
-            IssueListResponseData data = result.getData();
-            if (json) {
-                JsonFormatter.print(data);
+        try (Span ignored = Timings.start("render")) {
+            if (result.isSuccess()) {
+                IssueListResponseData data = result.getData();
+                if (json) {
+                    JsonFormatter.print(data);
+                } else {
+                    displayIssues(data, quiet);
+                }
+                ProfileFormatter.print(result.getRecording(), result.getDurationMs());
+                return 0;
             } else {
-                displayIssues(data, quiet);
+                ConsoleFormatter.printFailure(result.getErrorCode(), result.getErrorMessage());
+                ProfileFormatter.print(result.getRecording(), result.getDurationMs());
+                return result.getExitCode();
             }
-            return 0;
-        } else {
-            ConsoleFormatter.printFailure(result.getErrorCode(), result.getErrorMessage());
-            return result.getExitCode();
         }
     }
 
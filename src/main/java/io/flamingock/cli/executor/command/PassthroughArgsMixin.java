@@ -15,6 +15,7 @@
  */
 package io.flamingock.cli.executor.command;
 
+import io.flamingock.cli.executor.orchestration.Target;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
@@ -82,6 +83,21 @@ public class PassthroughArgsMixin {
         return appArgs != null ? Collections.unmodifiableList(appArgs) : Collections.emptyList();
     }
 
+    /**
+     * Returns the application arguments for one target: the command's own, then the target's.
+     *
+     * @param target the target
+     * @return unmodifiable list of application arguments (never null)
+     */
+    public List<String> getAppArgs(Target target) {
+        if (target.appArgs().isEmpty()) {
+            return getAppArgs();
+        }
+        List<String> combined = new ArrayList<>(getAppArgs());
+        combined.addAll(target.appArgs());
+        return Collections.unmodifiableList(combined);
+    }
+
     /**
      * Validates that application arguments do not contain reserved prefixes.
      *
@@ -95,6 +111,17 @@ public class PassthroughArgsMixin {
      * @throws IllegalArgumentException if a reserved argument is found, with an actionable error message
      */
     public void validate() {
+        validateAppArgs(appArgs);
+    }
+
+    /**
+     * Validates application arguments from any source, e.g. a {@code --targets} file, against the
+     * reserved prefixes.
+     *
+     * @param appArgs the application arguments, may be null
+     * @throws IllegalArgumentException if a reserved argument is found
+     */
+    static void validateAppArgs(List<String> appArgs) {
         if (appArgs == null || appArgs.isEmpty()) {
             return;
         }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.command;
+
+import io.flamingock.cli.executor.FlamingockExecutorCli;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+
+/**
+ * Parent command for maintaining the CLI installation itself.
+ *
+ * <p>Groups subcommands that act on the CLI rather than on an application JAR:</p>
+ * <ul>
+ *   <li>{@code warmup} - Record a class-data-sharing archive for the CLI's own JAR</li>
+ * </ul>
+ */
+@Command(
+        name = "self",
+        description = "Maintain the Flamingock CLI installation",
+        subcommands = {SelfWarmupCommand.class, SelfTrainCommand.class},
+        mixinStandardHelpOptions = true
+)
+public class SelfCommand implements Runnable {
+
+    @CommandLine.ParentCommand
+    private FlamingockExecutorCli parent;
+
+    /**
+     * Returns the root CLI command.
+     *
+     * @return the parent FlamingockExecutorCli instance, or null if not set
+     */
+    public FlamingockExecutorCli getParent() {
+        return parent;
+    }
+
+    @Override
+    public void run() {
+        // Show help when no subcommand is specified
+        new CommandLine(this).usage(System.out);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.command;
+
+import io.flamingock.cli.executor.FlamingockExecutorCli;
+import io.flamingock.cli.executor.output.AuditTableSubscriber;
+import io.flamingock.cli.executor.output.ConsoleFormatter;
+import io.flamingock.cli.executor.output.ExecutionResultFormatter;
+import io.flamingock.cli.executor.output.JsonFormatter;
+import io.flamingock.cli.executor.result.AuditEntryPublisher;
+import io.flamingock.cli.executor.result.ResponseResultReader;
+import io.flamingock.cli.executor.result.ResponseResultReader.ResponseResult;
+import io.flamingock.cli.executor.util.StandardStreams;
+import io.flamingock.cli.executor.util.filesystem.FileSystemUtils;
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+/**
+ * Runs a representative CLI workload without an application JAR, for {@link SelfWarmupCommand} to record
+ * the classes it loads.
+ *
+ * <p>Renders the help of every command, parses typical command lines, and reads and renders bundled
+ * {@code execute} and {@code audit_list} responses as text and JSON, all with the output discarded.</p>
+ *
+ * <p>Exit codes:</p>
+ * <ul>
+ *   <li>0 - The workload completed</li>
+ *   <li>1 - Part of the workload failed, so the recorded archive should not be kept</li>
+ * </ul>
+ */
+@Command(
+        name = "train",
+        description = "Run the workload recorded by 'self warmup'",
+        hidden = true
+)
+public class SelfTrainCommand implements Callable<Integer> {
+
+    private static final String[][] SAMPLE_COMMAND_LINES = {
+            {"execute", "apply", "--jar", "app.jar", "-J", "-Xmx512m", "--", "--spring.profiles.active=prod"},
+            {"audit", "list", "--jar", "app.jar", "--extended", "--history"},
+            {"audit", "fix", "--jar", "app.jar", "-c", "change-001", "-r", "APPLIED"},
+            {"issue", "list", "--jar", "app.jar", "--json"},
+            {"issue", "get", "--jar", "app.jar", "-c", "change-001", "--guidance"},
+            {"status", "--jar", "app.jar"}
+    };
+
+    @Override
+    public Integer call() {
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream(), true);
+        Path directory = null;
+        try (StandardStreams.Redirection ignored = StandardStreams.redirect(discard, discard)) {
+            renderHelp(new CommandLine(new FlamingockExecutorCli()), discard);
+            for (String[] args : SAMPLE_COMMAND_LINES) {
+                new CommandLine(new FlamingockExecutorCli()).parseArgs(args);
+            }
+
+            directory = Files.createTempDirectory("flamingock-cli-train");
+            ResponseResultReader reader = new ResponseResultReader();
+            renderExecute(reader, copyResource("execute.json", directory));
+            renderAuditList(reader, copyResource("audit-list.json", directory));
+            return 0;
+        } catch (IOException | RuntimeException e) {
+            // The streams are restored by now, so the reason reaches 'self warmup'
+            ConsoleFormatter.printError("Training workload failed: " + e);
+            return 1;
+        } finally {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    private static void renderHelp(CommandLine commandLine, PrintStream out) {
+        commandLine.usage(out);
+        for (CommandLine subcommand : commandLine.getSubcommands().values()) {
+            renderHelp(subcommand, out);
+        }
+    }
+
+    private static void renderExecute(ResponseResultReader reader, Path file) {
+        ResponseResult<ExecuteResponseData> result = reader.readTyped(file, ExecuteResponseData.class);
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("Bundled execute response could not be read: " + result.getErrorMessage());
+        }
+        ExecutionResultFormatter.print(result.getData());
+        JsonFormatter.print(result.getData());
+    }
+
+    private static void renderAuditList(ResponseResultReader reader, Path file) {
+        for (boolean extended : new boolean[]{false, true}) {
+            ResponseResult<AuditEntryPublisher> result = reader.streamAuditEntries(file);
+            if (!result.isSuccess()) {
+                throw new IllegalStateException("Bundled audit response could not be read: "
+                        + result.getErrorMessage());
+            }
+            AuditTableSubscriber subscriber = new AuditTableSubscriber(extended, false);
+            result.getData().subscribe(subscriber);
+            if (subscriber.getError() != null) {
+                throw new IllegalStateException("Bundled audit response could not be rendered",
+                        subscriber.getError());
+            }
+        }
+    }
+
+    private static Path copyResource(String name, Path directory) throws IOException {
+        Path target = directory.resolve(name);
+        try (InputStream in = SelfTrainCommand.class.getClassLoader().getResourceAsStream("self-training/" + name)) {
+            if (in == null) {
+                throw new IOException("Missing training resource self-training/" + name);
+            }
+            Files.copy(in, target);
+        }
+        return target;
+    }
+}
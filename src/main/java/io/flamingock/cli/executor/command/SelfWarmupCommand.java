@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.command;
+
+import io.flamingock.cli.executor.output.ConsoleFormatter;
+import io.flamingock.cli.executor.process.CliClassDataArchive;
+import io.flamingock.cli.executor.util.VersionProvider;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Records a class-data-sharing archive for the CLI's own JAR, so later {@code java -jar} runs of short
+ * commands start faster.
+ *
+ * <p>The archive is written next to the JAR as {@code flamingock-cli-<version>.jsa}. It is used by
+ * starting the CLI with {@code -XX:SharedArchiveFile=<archive>}, as the launcher installed by
+ * {@code scripts/install.sh} does. Running from the native binary needs no archive and is a no-op.</p>
+ *
+ * <p>Exit codes:</p>
+ * <ul>
+ *   <li>0 - The archive was written, or none is needed</li>
+ *   <li>1 - The archive could not be recorded</li>
+ * </ul>
+ */
+@Command(
+        name = "warmup",
+        description = "Record a class-data-sharing archive next to the CLI JAR to speed up its startup",
+        mixinStandardHelpOptions = true
+)
+public class SelfWarmupCommand implements Callable<Integer> {
+
+    @Option(names = {"--archive"},
+            paramLabel = "<file>",
+            description = "Where to write the archive (default: flamingock-cli-<version>.jsa next to the CLI JAR)")
+    private Path archive;
+
+    @Override
+    public Integer call() {
+        Optional<Path> jar = CliClassDataArchive.locateJar();
+        if (jar.isEmpty()) {
+            ConsoleFormatter.printInfo("Not running from the CLI JAR; no class-data-sharing archive is needed.");
+            return 0;
+        }
+
+        Path target = archive != null
+                ? archive.toAbsolutePath()
+                : CliClassDataArchive.archivePath(jar.get(), VersionProvider.getVersionString());
+        ConsoleFormatter.printInfo("Recording class-data-sharing archive " + target + "...");
+        try {
+            new CliClassDataArchive(jar.get(), CliClassDataArchive.currentJavaExecutable()).create(target);
+        } catch (IOException e) {
+            ConsoleFormatter.printError("Could not record the class-data-sharing archive: " + e.getMessage());
+            return 1;
+        }
+        ConsoleFormatter.printInfo("Archive written. Start the CLI with -XX:SharedArchiveFile=" + target
+                + " to use it.");
+        return 0;
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.command;
+
+import io.flamingock.cli.executor.FlamingockExecutorCli;
+import io.flamingock.cli.executor.orchestration.CommandExecutor;
+import io.flamingock.cli.executor.orchestration.CommandResult;
+import io.flamingock.cli.executor.orchestration.CompositeResponse;
+import io.flamingock.cli.executor.orchestration.ExecutionOptions;
+import io.flamingock.cli.executor.output.ConsoleFormatter;
+import io.flamingock.cli.executor.output.IssueFormatter;
+import io.flamingock.cli.executor.output.JsonFormatter;
+import io.flamingock.cli.executor.output.ProfileFormatter;
+import io.flamingock.cli.executor.output.ResourceUsageFormatter;
+import io.flamingock.cli.executor.output.TableFormatter;
+import io.flamingock.cli.executor.result.ResponseResultReader.ResponseResult;
+import io.flamingock.cli.executor.timing.Span;
+import io.flamingock.cli.executor.timing.Timings;
+import io.flamingock.cli.executor.util.VersionProvider;
+import io.flamingock.internal.common.core.operation.OperationType;
+import io.flamingock.internal.common.core.response.data.AuditListResponseData;
+import io.flamingock.internal.common.core.response.data.IssueGetResponseData;
+import io.flamingock.internal.common.core.response.data.IssueListResponseData;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParentCommand;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Command reporting the audit snapshot, the changes with issues and the details of each issue together.
+ *
+ * <p>Instead of one application boot per {@code audit list}, {@code issue list} and {@code issue get}, the
+ * operations run as one composite run in a single application JVM (see
+ * {@link CommandExecutor#executeComposite}). If the application's Flamingock runtime only answers the
+ * first operation, the issue list is fetched by one more run; the issue details are then left out, as such a
+ * runtime can only report them one issue per application boot.</p>
+ *
+ * <p>Exit codes:</p>
+ * <ul>
+ *   <li>0 - Success (issues found are reported, not treated as a failure)</li>
+ *   <li>1 - Failure (execution error)</li>
+ *   <li>2 - Usage error (invalid CLI arguments)</li>
+ *   <li>126 - JAR not found</li>
+ * </ul>
+ */
+@Command(
+        name = "status",
+        description = "Show audit entries, issues and issue details from a single application run",
+        mixinStandardHelpOptions = true
+)
+public class StatusCommand implements Callable<Integer> {
+
+    /**
+     * Exit code when JAR file is not found.
+     */
+    public static final int EXIT_JAR_NOT_FOUND = 126;
+
+    static final List<OperationType> OPERATIONS = Arrays.asList(
+            OperationType.AUDIT_LIST, OperationType.ISSUE_LIST, OperationType.ISSUE_GET);
+
+    @ParentCommand
+    private FlamingockExecutorCli parent;
+
+    @Option(names = {"--jar", "-j"},
+            description = "Path to the application JAR",
+            required = true)
+    private File jarFile;
+
+    @Option(names = {"--json"},
+            description = "Output in JSON format")
+    private boolean json;
+
+    @Option(names = {"-g", "--guidance"},
+            description = "Show resolution guidance for each issue")
+    private boolean guidance;
+
+    @Mixin
+    private PassthroughArgsMixin passthroughArgs;
+
+    @Mixin
+    private LaunchOptionsMixin launchOptions;
+
+    private final CommandExecutor commandExecutor;
+
+    /**
+     * Creates a new StatusCommand with default dependencies.
+     */
+    public StatusCommand() {
+        this(new CommandExecutor());
+    }
+
+    /**
+     * Creates a new StatusCommand with the specified CommandExecutor.
+     *
+     * @param commandExecutor the command executor to use
+     */
+    public StatusCommand(CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
+    @Override
+    public Integer call() {
+        boolean quiet = parent != null && parent.isQuiet();
+        Optional<String> logLevel = parent != null ? parent.getLogLevel() : Optional.empty();
+
+        if (!quiet && !json) {
+            ConsoleFormatter.printHeader(VersionProvider.getVersionString(),
+                    launchOptions.jvmProfileFor(OperationType.AUDIT_LIST).getId());
+        }
+
+        if (!jarFile.exists()) {
+            ConsoleFormatter.printError("JAR file not found: " + jarFile.getAbsolutePath());
+            return EXIT_JAR_NOT_FOUND;
+        }
+
+        if (!jarFile.isFile()) {
+            ConsoleFormatter.printError("Path is not a file: " + jarFile.getAbsolutePath());
+            return EXIT_JAR_NOT_FOUND;
+        }
+
+        // Validate passthrough args
+        passthroughArgs.validate();
+
+        CommandResult<CompositeResponse> result = commandExecutor.executeComposite(
+                jarFile.getAbsolutePath(),
+                OPERATIONS,
+                options(logLevel, guidanceArgs())
+        );
+        if (!result.isSuccess()) {
+            ConsoleFormatter.printFailure(result.getErrorCode(), result.getErrorMessage());
+            return result.getExitCode();
+        }
+        CompositeResponse response = result.getData();
+
+        ResponseResult<AuditListResponseData> audit =
+                response.get(OperationType.AUDIT_LIST, AuditListResponseData.class);
+        if (!audit.isSuccess()) {
+            ConsoleFormatter.printFailure(audit.getErrorCode(), audit.getErrorMessage());
+            return 1;
+        }
+
+        CommandResult<IssueListResponseData> issues = issues(response, logLevel);
+        if (!issues.isSuccess()) {
+            ConsoleFormatter.printFailure(issues.getErrorCode(), issues.getErrorMessage());
+            return issues.getExitCode();
+        }
+
+        List<IssueGetResponseData> details = issueDetails(response);
+        boolean detailsOmitted = !response.contains(OperationType.ISSUE_LIST) && hasIssues(issues.getData());
+
+        try (Span ignored = Timings.start("render")) {
+            if (json) {
+                Map<String, Object> report = new LinkedHashMap<>();
+                report.put("audit", audit.getData());
+                report.put("issues", issues.getData());
+                report.put("issueDetails", details);
+                if (result.getResourceUsage() != null) {
+                    report.put("resources",
+                            ResourceUsageFormatter.toMap(result.getResourceUsage(), result.getDurationMs()));
+                }
+                JsonFormatter.print(report);
+            } else {
+                display(audit.getData(), issues.getData(), details, quiet);
+                if (detailsOmitted && !quiet) {
+                    System.out.println();
+                    ConsoleFormatter.printInfo("Issue details need a newer Flamingock runtime in the application. "
+                            + "Run 'flamingock issue get --jar " + jarFile.getPath() + " -c <change-id>' for each.");
+                }
+                if (!quiet && result.getResourceUsage() != null) {
+                    System.out.println();
+                    ResourceUsageFormatter.print(result.getResourceUsage(), result.getDurationMs());
+                }
+            }
+        }
+        ProfileFormatter.print(result.getRecording(), result.getDurationMs());
+        return 0;
+    }
+
+    private CommandResult<IssueListResponseData> issues(CompositeResponse response, Optional<String> logLevel) {
+        if (response.contains(OperationType.ISSUE_LIST)) {
+            return CommandResult.fromResponse(response.get(OperationType.ISSUE_LIST, IssueListResponseData.class));
+        }
+        // The application's runtime answered only the first operation; one more run lists the issues
+        return commandExecutor.execute(jarFile.getAbsolutePath(), OperationType.ISSUE_LIST,
+                IssueListResponseData.class, options(logLevel, new HashMap<>()));
+    }
+
+    private static List<IssueGetResponseData> issueDetails(CompositeResponse response) {
+        List<IssueGetResponseData> details = new ArrayList<>();
+        for (ResponseResult<IssueGetResponseData> detail
+                : response.getAll(OperationType.ISSUE_GET, IssueGetResponseData.class)) {
+            if (detail.isSuccess() && detail.getData() != null && detail.getData().isFound()) {
+                details.add(detail.getData());
+            }
+        }
+        return details;
+    }
+
+    private static boolean hasIssues(IssueListResponseData issues) {
+        return issues != null && issues.getIssues() != null && !issues.getIssues().isEmpty();
+    }
+
+    private Map<String, String> guidanceArgs() {
+        Map<String, String> operationArgs = new HashMap<>();
+        if (guidance) {
+            operationArgs.put("flamingock.guidance", "true");
+        }
+        return operationArgs;
+    }
+
+    private ExecutionOptions options(Optional<String> logLevel, Map<String, String> operationArgs) {
+        // Non-execution ops: only stream output if log level is explicitly set
+        return ExecutionOptions.builder()
+                .logLevel(logLevel.orElse(null))
+                .streamOutput(logLevel.isPresent())
+                .operationArgs(operationArgs)
+                .jvmArgs(passthroughArgs.getJvmArgs())
+                .appArgs(passthroughArgs.getAppArgs())
+                .launchOptions(launchOptions.toLaunchOptions())
+                .build();
+    }
+
+    private void display(AuditListResponseData audit, IssueListResponseData issues,
+                         List<IssueGetResponseData> details, boolean quiet) {
+        if (audit == null || audit.getEntries() == null || audit.getEntries().isEmpty()) {
+            if (!quiet) {
+                ConsoleFormatter.printInfo("No audit entries found.");
+            }
+        } else {
+            System.out.println();
+            new TableFormatter().printBasicTable(audit.getEntries());
+            TableFormatter.printStateLegend();
+            System.out.println();
+            System.out.println("Total: " + audit.getEntries().size() + " entries");
+        }
+
+        if (issues == null || issues.getIssues() == null || issues.getIssues().isEmpty()) {
+            if (!quiet) {
+                ConsoleFormatter.printInfo("No issues found. All changes are healthy.");
+            }
+            return;
+        }
+        System.out.println();
+        IssueFormatter.printList(issues);
+        System.out.println();
+        System.out.println("Total: " + issues.getIssues().size() + " issues");
+
+        for (IssueGetResponseData detail : details) {
+            System.out.println();
+            IssueFormatter.printDetail(detail, guidance);
+        }
+    }
+}
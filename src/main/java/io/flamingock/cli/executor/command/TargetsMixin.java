@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.command;
+
+import io.flamingock.cli.executor.orchestration.FanOutRunner;
+import io.flamingock.cli.executor.orchestration.Target;
+import io.flamingock.cli.executor.orchestration.TargetsFile;
+import picocli.CommandLine.Option;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Picocli mixin selecting the application JAR(s) a command runs against.
+ *
+ * <p>A single {@code --jar} keeps the classic one-application behavior. Repeating {@code --jar}, or listing
+ * targets in a {@code --targets} file, fans the operation out over a bounded pool of application JVMs.</p>
+ */
+public class TargetsMixin {
+
+    @Option(names = {"--jar", "-j"},
+            paramLabel = "<jar>",
+            description = "Path to the application JAR. Repeat to run the operation against several JARs.")
+    private List<File> jarFiles;
+
+    @Option(names = {"--targets"},
+            paramLabel = "<file>",
+            description = "File listing targets, one per line: '[name:] jar [application args...]'. "
+                    + "Relative paths are resolved against the file's directory.")
+    private Path targetsFile;
+
+    @Option(names = {"--parallelism"},
+            paramLabel = "<n>",
+            description = "Maximum number of targets run at once (default: number of CPU cores).")
+    private Integer parallelism;
+
+    @Option(names = {"--target-output"},
+            paramLabel = "<mode>",
+            description = "How application output is shown when running several targets: "
+                    + "${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE}).",
+            defaultValue = "PREFIXED")
+    private FanOutRunner.OutputMode targetOutput;
+
+    /**
+     * Resolves the selected targets: each {@code --jar} in order, then the {@code --targets} file entries.
+     * Names are made unique by suffixing repeats with {@code #2}, {@code #3}, ...
+     *
+     * @return the targets (never empty)
+     * @throws IllegalArgumentException if no target was given, the targets file is invalid, or a target
+     *                                  passes a reserved application argument
+     */
+    public List<Target> resolveTargets() {
+        List<Target> targets = new ArrayList<>();
+        if (jarFiles != null) {
+            for (File jar : jarFiles) {
+                targets.add(new Target(TargetsFile.defaultName(jar), jar, Collections.emptyList()));
+            }
+        }
+        if (targetsFile != null) {
+            try {
+                targets.addAll(TargetsFile.read(targetsFile));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Cannot read targets file: " + targetsFile + " (" + e.getMessage() + ")");
+            }
+        }
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("No application JAR given.\n\n"
+                    + "  Use --jar <jar> (repeatable) or --targets <file>.\n\n"
+                    + "  For help: flamingock <command> --help");
+        }
+        for (Target target : targets) {
+            PassthroughArgsMixin.validateAppArgs(target.appArgs());
+        }
+        return uniqueNames(targets);
+    }
+
+    /**
+     * Returns the worker pool size for a fan-out.
+     *
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return parallelism != null ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns how many application JVMs a fan-out over the given number of targets runs at once.
+     *
+     * @param targetCount the number of targets
+     * @return the smaller of the parallelism and the target count, at least 1
+     */
+    public int concurrentLaunches(int targetCount) {
+        return Math.max(1, Math.min(getParallelism(), targetCount));
+    }
+
+    /**
+     * Returns how application output of concurrent targets is shown.
+     *
+     * @return the output mode
+     */
+    public FanOutRunner.OutputMode getTargetOutput() {
+        return targetOutput != null ? targetOutput : FanOutRunner.OutputMode.PREFIXED;
+    }
+
+    /**
+     * Creates the runner for a fan-out over the selected targets.
+     *
+     * @return the runner
+     */
+    public FanOutRunner newRunner() {
+        return new FanOutRunner(getParallelism(), getTargetOutput());
+    }
+
+    private static List<Target> uniqueNames(List<Target> targets) {
+        Map<String, Integer> seen = new HashMap<>();
+        List<Target> unique = new ArrayList<>(targets.size());
+        for (Target target : targets) {
+            int count = seen.merge(target.name(), 1, Integer::sum);
+            unique.add(count == 1
+                    ? target
+                    : new Target(target.name() + "#" + count, target.jar(), target.appArgs()));
+        }
+        return unique;
+    }
+}
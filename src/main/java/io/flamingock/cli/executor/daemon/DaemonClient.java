@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Thin front end that forwards a CLI invocation to a running {@link DaemonServer}.
+ *
+ * <p>This class is loaded before picocli and Jackson, so it must only depend on the JDK.
+ * The invocation carries the caller's working directory and environment variables: the daemon resolves
+ * relative paths against the former and starts the application with the latter. An environment too
+ * large for the protocol runs locally instead.</p>
+ */
+public class DaemonClient {
+
+    /**
+     * Commands that depend on the caller's working directory, manage the daemon itself or act on the
+     * local CLI installation, and therefore always run in the local process.
+     */
+    static final Set<String> LOCAL_ONLY_COMMANDS = Set.of("daemon", "install-skills", "self");
+
+    /**
+     * Top-level options that take a value, so the subcommand is found after it. Keep in sync with the options
+     * of {@code FlamingockExecutorCli}.
+     */
+    static final Set<String> TOP_LEVEL_VALUE_OPTIONS = Set.of("--log-level", "-l", "--trace-file", "--metrics-file");
+
+    private final Path socketPath;
+
+    /**
+     * Creates a client for the given socket.
+     *
+     * @param socketPath the daemon socket
+     */
+    public DaemonClient(Path socketPath) {
+        this.socketPath = socketPath;
+    }
+
+    /**
+     * Forwards the invocation to the daemon on the default socket, if one is listening.
+     *
+     * @param args the raw command-line arguments
+     * @return the exit code reported by the daemon, or null if the command must run locally
+     */
+    public static Integer tryDelegate(String[] args) {
+        Map<String, String> environment = System.getenv();
+        if (isLocalOnly(args) || !DaemonProtocol.canForward(environment, args)) {
+            return null;
+        }
+        Path socketPath = DaemonProtocol.resolveSocketPath();
+        if (!Files.exists(socketPath)) {
+            return null;
+        }
+
+        SocketChannel channel;
+        try {
+            channel = connect(socketPath);
+        } catch (IOException e) {
+            // Stale socket file; fall back to running in this process
+            return null;
+        }
+        try (channel) {
+            return exchange(channel, runRequest(workingDirectory(), environment, args), System.out, System.err);
+        } catch (IOException e) {
+            System.err.println("Error: lost connection to Flamingock daemon at " + socketPath + ": " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Runs a CLI invocation on the daemon, from this process's working directory and environment, copying
+     * its output to the given streams.
+     *
+     * @param args the command-line arguments
+     * @param out  destination for the command's stdout
+     * @param err  destination for the command's stderr
+     * @return the command's exit code
+     * @throws IOException if the daemon cannot be reached or the connection drops
+     */
+    public int run(String[] args, OutputStream out, OutputStream err) throws IOException {
+        return run(workingDirectory(), System.getenv(), args, out, err);
+    }
+
+    int run(Path workingDirectory, Map<String, String> environment, String[] args, OutputStream out,
+            OutputStream err) throws IOException {
+        try (SocketChannel channel = connect(socketPath)) {
+            return exchange(channel, runRequest(workingDirectory, environment, args), out, err);
+        }
+    }
+
+    /**
+     * Asks the daemon to shut down after the current request.
+     *
+     * @throws IOException if the daemon cannot be reached
+     */
+    public void stop() throws IOException {
+        try (SocketChannel channel = connect(socketPath)) {
+            send(channel, DaemonProtocol.Request.of(DaemonProtocol.REQUEST_STOP));
+            awaitExit(channel);
+        }
+    }
+
+    /**
+     * Checks whether a daemon is listening on the socket.
+     *
+     * @return true if the daemon answered
+     */
+    public boolean ping() {
+        try (SocketChannel channel = connect(socketPath)) {
+            send(channel, DaemonProtocol.Request.of(DaemonProtocol.REQUEST_PING));
+            awaitExit(channel);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static int exchange(SocketChannel channel, DaemonProtocol.Request request, OutputStream out,
+                                OutputStream err) throws IOException {
+        send(channel, request);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        while (true) {
+            DaemonProtocol.Frame frame = DaemonProtocol.readFrame(in);
+            switch (frame.channel()) {
+                case DaemonProtocol.FRAME_STDOUT:
+                    out.write(frame.payload());
+                    out.flush();
+                    break;
+                case DaemonProtocol.FRAME_STDERR:
+                    err.write(frame.payload());
+                    err.flush();
+                    break;
+                case DaemonProtocol.FRAME_EXIT:
+                    return frame.exitCode();
+                default:
+                    throw new IOException("Unknown frame type from daemon: " + frame.channel());
+            }
+        }
+    }
+
+    private static int awaitExit(SocketChannel channel) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        DaemonProtocol.Frame frame = DaemonProtocol.readFrame(in);
+        while (frame.channel() != DaemonProtocol.FRAME_EXIT) {
+            frame = DaemonProtocol.readFrame(in);
+        }
+        return frame.exitCode();
+    }
+
+    private static void send(SocketChannel channel, DaemonProtocol.Request request) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+        DaemonProtocol.writeRequest(out, request);
+    }
+
+    private static DaemonProtocol.Request runRequest(Path workingDirectory, Map<String, String> environment,
+                                                     String[] args) {
+        return new DaemonProtocol.Request(DaemonProtocol.REQUEST_RUN, workingDirectory.toString(), environment,
+                args);
+    }
+
+    private static Path workingDirectory() {
+        return Path.of("").toAbsolutePath();
+    }
+
+    private static SocketChannel connect(Path socketPath) throws IOException {
+        SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            channel.connect(UnixDomainSocketAddress.of(socketPath));
+            return channel;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns whether the subcommand, the first positional argument, must run locally. Option values and
+     * arguments of the subcommand itself, such as {@code --jar self}, are not looked at.
+     */
+    static boolean isLocalOnly(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if ("--".equals(arg)) {
+                return false;
+            }
+            if (!arg.startsWith("-")) {
+                return LOCAL_ONLY_COMMANDS.contains(arg);
+            }
+            if (TOP_LEVEL_VALUE_OPTIONS.contains(arg)) {
+                i++;
+            }
+        }
+        return false;
+    }
+}
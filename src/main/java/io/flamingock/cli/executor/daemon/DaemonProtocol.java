@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Wire format shared by the daemon server and its thin client.
+ *
+ * <p>A request is a single kind byte followed, for {@link #REQUEST_RUN}, by the client's working
+ * directory, its environment variables as a count and name/value pairs, and the argument count and
+ * each argument. Every string is a length-prefixed UTF-8 byte sequence. The server answers with a
+ * sequence of frames, each made of a channel byte and a length-prefixed payload. Output frames carry
+ * raw stdout/stderr bytes; the final {@link #FRAME_EXIT} frame carries the exit code as a 4-byte
+ * integer.</p>
+ */
+public final class DaemonProtocol {
+
+    /**
+     * Environment variable that overrides the default socket location.
+     */
+    public static final String SOCKET_ENV_VAR = "FLAMINGOCK_DAEMON_SOCKET";
+
+    static final byte REQUEST_RUN = 1;
+    static final byte REQUEST_STOP = 2;
+    static final byte REQUEST_PING = 3;
+
+    static final byte FRAME_STDOUT = 1;
+    static final byte FRAME_STDERR = 2;
+    static final byte FRAME_EXIT = 3;
+
+    private static final int MAX_ARGS = 4096;
+    private static final int MAX_ENVIRONMENT = 4096;
+    private static final int MAX_STRING_BYTES = 1024 * 1024;
+
+    private DaemonProtocol() {
+    }
+
+    /**
+     * Resolves the socket path used when none is given explicitly.
+     *
+     * <p>Uses {@value #SOCKET_ENV_VAR} when set, otherwise a per-user socket in the temp directory.</p>
+     *
+     * @return the socket path
+     */
+    public static Path resolveSocketPath() {
+        String fromEnv = System.getenv(SOCKET_ENV_VAR);
+        if (fromEnv != null && !fromEnv.isBlank()) {
+            return Path.of(fromEnv);
+        }
+        String user = System.getProperty("user.name", "default").replaceAll("[^A-Za-z0-9._-]", "_");
+        return Path.of(System.getProperty("java.io.tmpdir"), "flamingock-daemon-" + user + ".sock");
+    }
+
+    /**
+     * Returns whether a run request from this caller fits the limits the server accepts.
+     *
+     * @param environment the caller's environment variables
+     * @param args        the command-line arguments
+     * @return false if the invocation must run locally instead
+     */
+    static boolean canForward(Map<String, String> environment, String[] args) {
+        if (environment.size() > MAX_ENVIRONMENT || args.length > MAX_ARGS) {
+            return false;
+        }
+        for (Map.Entry<String, String> variable : environment.entrySet()) {
+            if (!fits(variable.getKey()) || !fits(variable.getValue())) {
+                return false;
+            }
+        }
+        for (String arg : args) {
+            if (!fits(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static void writeRequest(DataOutputStream out, Request request) throws IOException {
+        out.writeByte(request.kind());
+        if (request.kind() == REQUEST_RUN) {
+            writeString(out, request.workingDirectory());
+            out.writeInt(request.environment().size());
+            for (Map.Entry<String, String> variable : request.environment().entrySet()) {
+                writeString(out, variable.getKey());
+                writeString(out, variable.getValue());
+            }
+            out.writeInt(request.args().length);
+            for (String arg : request.args()) {
+                writeString(out, arg);
+            }
+        }
+        out.flush();
+    }
+
+    static Request readRequest(DataInputStream in) throws IOException {
+        byte kind = in.readByte();
+        if (kind != REQUEST_RUN) {
+            return Request.of(kind);
+        }
+        String workingDirectory = readString(in);
+        int variables = in.readInt();
+        if (variables < 0 || variables > MAX_ENVIRONMENT) {
+            throw new IOException("Invalid environment size in daemon request: " + variables);
+        }
+        Map<String, String> environment = new HashMap<>();
+        for (int i = 0; i < variables; i++) {
+            environment.put(readString(in), readString(in));
+        }
+        int count = in.readInt();
+        if (count < 0 || count > MAX_ARGS) {
+            throw new IOException("Invalid argument count in daemon request: " + count);
+        }
+        String[] args = new String[count];
+        for (int i = 0; i < count; i++) {
+            args[i] = readString(in);
+        }
+        return new Request(kind, workingDirectory, environment, args);
+    }
+
+    private static boolean fits(String value) {
+        // A UTF-8 encoded character takes at most three bytes per UTF-16 unit
+        return value.length() * 3L <= MAX_STRING_BYTES
+                || value.getBytes(StandardCharsets.UTF_8).length <= MAX_STRING_BYTES;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("Invalid string length in daemon request: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeFrame(DataOutputStream out, byte channel, byte[] buffer, int offset, int length) throws IOException {
+        out.writeByte(channel);
+        out.writeInt(length);
+        out.write(buffer, offset, length);
+    }
+
+    static void writeExit(DataOutputStream out, int exitCode) throws IOException {
+        out.writeByte(FRAME_EXIT);
+        out.writeInt(Integer.BYTES);
+        out.writeInt(exitCode);
+        out.flush();
+    }
+
+    static Frame readFrame(DataInputStream in) throws IOException {
+        byte channel = in.readByte();
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid frame length from daemon: " + length);
+        }
+        if (channel == FRAME_EXIT) {
+            if (length != Integer.BYTES) {
+                throw new EOFException("Malformed exit frame from daemon");
+            }
+            return new Frame(channel, null, in.readInt());
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        return new Frame(channel, payload, 0);
+    }
+
+    /**
+     * A request to the daemon.
+     *
+     * @param kind             the request kind
+     * @param workingDirectory the client's working directory, for a run request
+     * @param environment      the client's environment variables, for a run request
+     * @param args             the command-line arguments, for a run request
+     */
+    record Request(byte kind, String workingDirectory, Map<String, String> environment, String[] args) {
+
+        static Request of(byte kind) {
+            return new Request(kind, "", Map.of(), new String[0]);
+        }
+    }
+
+    record Frame(byte channel, byte[] payload, int exitCode) {
+    }
+}
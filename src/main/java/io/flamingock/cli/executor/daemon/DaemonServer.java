@@ -0,0 +1,299 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.daemon;
+
+import io.flamingock.cli.executor.util.CallerEnvironment;
+import io.flamingock.cli.executor.util.StandardStreams;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-lived CLI process that serves command invocations over a Unix domain socket.
+ *
+ * <p>Each connection carries one request. A run request is executed in-process by the
+ * {@link CommandRunner}, with {@code System.out}/{@code System.err} redirected to the client for the
+ * duration of the call, and answered with the command's exit code. The client's environment variables
+ * are installed as the {@link CallerEnvironment} for the same duration, and relative paths in its
+ * arguments are resolved against its working directory. Because the standard streams are process-wide,
+ * requests are served one at a time; concurrent clients wait in the accept backlog until the running
+ * command finishes.</p>
+ *
+ * <p>The client sends nothing after its request, so the connection is watched for end of stream while the
+ * command runs. When the client goes away (Ctrl-C, a killed CI step), the command's thread is interrupted,
+ * which makes the launcher stop the application JVM and everything it spawned.</p>
+ *
+ * <p>The server stops on a stop request or after {@code idleTimeout} without any connection,
+ * and removes its socket file on the way out.</p>
+ */
+public class DaemonServer {
+
+    /**
+     * Options of delegated commands whose value is a path. Those of {@link DaemonClient#LOCAL_ONLY_COMMANDS}
+     * are never sent here.
+     */
+    static final Set<String> PATH_OPTIONS = Set.of("--jar", "-j", "--targets", "--trace-file", "--metrics-file",
+            "--stderr-spill-dir", "--dump-dir");
+
+    private final Path socketPath;
+    private final Duration idleTimeout;
+    private final CommandRunner runner;
+    private volatile boolean running;
+
+    /**
+     * Creates a daemon server.
+     *
+     * @param socketPath  the Unix domain socket to listen on
+     * @param idleTimeout how long to wait for a connection before shutting down; zero disables idle shutdown
+     * @param runner      executes a single CLI invocation
+     */
+    public DaemonServer(Path socketPath, Duration idleTimeout, CommandRunner runner) {
+        this.socketPath = socketPath;
+        this.idleTimeout = idleTimeout;
+        this.runner = runner;
+    }
+
+    /**
+     * Binds the socket and serves requests until stopped or idle.
+     *
+     * @throws IOException if the socket cannot be bound
+     */
+    public void serve() throws IOException {
+        prepareSocketPath();
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+             Selector selector = Selector.open()) {
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            restrictToOwner();
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+            running = true;
+
+            long lastActivity = System.nanoTime();
+            while (running) {
+                if (!awaitConnection(selector, lastActivity)) {
+                    break;
+                }
+                SocketChannel client = server.accept();
+                if (client == null) {
+                    continue;
+                }
+                try (client) {
+                    client.configureBlocking(true);
+                    handle(client);
+                } catch (IOException e) {
+                    // Client went away mid-request; keep serving others
+                }
+                lastActivity = System.nanoTime();
+            }
+        } finally {
+            running = false;
+            Files.deleteIfExists(socketPath);
+        }
+    }
+
+    /**
+     * Returns whether the server is currently accepting requests.
+     *
+     * @return true while serving
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    private boolean awaitConnection(Selector selector, long lastActivity) throws IOException {
+        if (idleTimeout.isZero()) {
+            selector.select();
+        } else {
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastActivity);
+            long remainingMs = idleTimeout.toMillis() - elapsedMs;
+            if (remainingMs <= 0) {
+                return false;
+            }
+            // Returns with no selected keys on timeout; the caller loops and re-checks the deadline
+            selector.select(remainingMs);
+        }
+        selector.selectedKeys().clear();
+        return running;
+    }
+
+    private void handle(SocketChannel client) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(client)));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(client)));
+
+        DaemonProtocol.Request request = DaemonProtocol.readRequest(in);
+        switch (request.kind()) {
+            case DaemonProtocol.REQUEST_RUN:
+                DaemonProtocol.writeExit(out, run(request, client, out));
+                break;
+            case DaemonProtocol.REQUEST_STOP:
+                running = false;
+                DaemonProtocol.writeExit(out, 0);
+                break;
+            case DaemonProtocol.REQUEST_PING:
+            default:
+                DaemonProtocol.writeExit(out, 0);
+                break;
+        }
+    }
+
+    private int run(DaemonProtocol.Request request, SocketChannel client, DataOutputStream connection) {
+        PrintStream clientOut = new PrintStream(new FrameOutputStream(connection, DaemonProtocol.FRAME_STDOUT), true);
+        PrintStream clientErr = new PrintStream(new FrameOutputStream(connection, DaemonProtocol.FRAME_STDERR), true);
+        ClientWatch watch = new ClientWatch(client, Thread.currentThread());
+        try (StandardStreams.Redirection ignored = StandardStreams.redirect(clientOut, clientErr);
+             CallerEnvironment.Scope environment = CallerEnvironment.use(request.environment())) {
+            String[] args = absolutizePaths(request.args(), Path.of(request.workingDirectory()));
+            return runner.run(args, clientOut, clientErr);
+        } catch (RuntimeException e) {
+            clientErr.println("Error: " + e.getMessage());
+            return 1;
+        } finally {
+            watch.stop();
+        }
+    }
+
+    /**
+     * Resolves relative values of path-valued options against the client's working directory, leaving
+     * everything after {@code --} untouched.
+     *
+     * @param args             the client's command-line arguments
+     * @param workingDirectory the client's working directory
+     * @return a copy of the arguments with absolute paths
+     */
+    static String[] absolutizePaths(String[] args, Path workingDirectory) {
+        String[] result = args.clone();
+        for (int i = 0; i < result.length; i++) {
+            String arg = result[i];
+            if ("--".equals(arg)) {
+                break;
+            }
+            if (PATH_OPTIONS.contains(arg) && i + 1 < result.length) {
+                result[i + 1] = toAbsolute(workingDirectory, result[i + 1]);
+                i++;
+                continue;
+            }
+            int equals = arg.indexOf('=');
+            if (equals > 0 && PATH_OPTIONS.contains(arg.substring(0, equals))) {
+                result[i] = arg.substring(0, equals + 1) + toAbsolute(workingDirectory, arg.substring(equals + 1));
+            }
+        }
+        return result;
+    }
+
+    private static String toAbsolute(Path workingDirectory, String path) {
+        return workingDirectory.resolve(path).normalize().toString();
+    }
+
+    private void prepareSocketPath() throws IOException {
+        if (!Files.exists(socketPath)) {
+            Path parent = socketPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            return;
+        }
+        if (new DaemonClient(socketPath).ping()) {
+            throw new IllegalStateException("A Flamingock daemon is already listening on " + socketPath
+                    + ". Stop it with 'flamingock daemon stop' or choose another --socket.");
+        }
+        // Stale socket left behind by a daemon that did not shut down cleanly
+        Files.delete(socketPath);
+    }
+
+    private void restrictToOwner() throws IOException {
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.setPosixFilePermissions(socketPath, PosixFilePermissions.fromString("rw-------"));
+        }
+    }
+
+    /**
+     * Interrupts a running command when its client closes the connection.
+     */
+    private static final class ClientWatch {
+        private final SocketChannel client;
+        private final Thread watcher;
+        private volatile boolean finished;
+
+        ClientWatch(SocketChannel client, Thread command) {
+            this.client = client;
+            // A platform thread, as shutting down the input only wakes a platform thread blocked in read
+            this.watcher = Thread.ofPlatform().daemon().name("flamingock-daemon-client").start(() -> {
+                try {
+                    client.read(ByteBuffer.allocate(1));
+                } catch (IOException e) {
+                    // Reset by the peer: gone as well
+                }
+                if (!finished) {
+                    command.interrupt();
+                }
+            });
+        }
+
+        void stop() {
+            finished = true;
+            try {
+                client.shutdownInput();
+            } catch (IOException e) {
+                // Already closed; the watcher has returned
+            }
+            while (watcher.isAlive()) {
+                try {
+                    watcher.join();
+                } catch (InterruptedException e) {
+                    // Meant for the command, which has already returned
+                }
+            }
+            // Clear an interrupt that arrived as the command returned, so it does not reach the next client
+            Thread.interrupted();
+        }
+    }
+
+    /**
+     * Executes a single CLI invocation inside the daemon.
+     */
+    @FunctionalInterface
+    public interface CommandRunner {
+
+        /**
+         * Runs the CLI with the given arguments.
+         *
+         * @param args the raw command-line arguments
+         * @param out  stream connected to the client's stdout
+         * @param err  stream connected to the client's stderr
+         * @return the exit code to report to the client
+         */
+        int run(String[] args, PrintStream out, PrintStream err);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.daemon;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream that wraps every write into a daemon frame for one channel (stdout or stderr).
+ *
+ * <p>Both channels of a connection share the same underlying stream, so writes are serialized on it.
+ * Closing this stream does not close the connection.</p>
+ */
+class FrameOutputStream extends OutputStream {
+
+    private final DataOutputStream connection;
+    private final byte channel;
+
+    FrameOutputStream(DataOutputStream connection, byte channel) {
+        this.connection = connection;
+        this.channel = channel;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return;
+        }
+        synchronized (connection) {
+            DaemonProtocol.writeFrame(connection, channel, buffer, offset, length);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (connection) {
+            connection.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.metrics;
+
+import io.flamingock.cli.executor.result.AuditEntryPublisher;
+import io.flamingock.internal.common.core.response.data.AuditListResponseData;
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
+import io.flamingock.internal.common.core.response.data.IssueListResponseData;
+
+import java.nio.file.Path;
+
+/**
+ * What one operation against one target produced, for {@code --metrics-file}.
+ *
+ * <p>Counts that do not apply to the operation, or could not be read, are {@link #UNKNOWN}.</p>
+ *
+ * @param target            the target name, which tells apart tenants served by one JAR and JARs sharing a name
+ * @param jar               file name of the application JAR
+ * @param operation         the Flamingock operation, e.g. {@code EXECUTE_APPLY}
+ * @param success           whether the operation succeeded
+ * @param bootMillis        time the application spent before its operations started, or {@link #UNKNOWN}
+ * @param operationMillis   the operation duration the application reported, or {@link #UNKNOWN}
+ * @param changesApplied    changes applied by {@code execute apply}
+ * @param changesSkipped    changes already applied or not reached
+ * @param changesFailed     changes that failed
+ * @param auditEntries      entries returned by {@code audit list}
+ * @param issues            issues returned by {@code issue list}
+ */
+public record LaunchMetrics(String target, String jar, String operation, boolean success, long bootMillis,
+                            long operationMillis, long changesApplied, long changesSkipped, long changesFailed,
+                            long auditEntries, long issues) {
+
+    /**
+     * Marks a value that does not apply or could not be measured.
+     */
+    public static final long UNKNOWN = -1;
+
+    /**
+     * Extracts the metrics of a finished operation.
+     *
+     * @param target          the target name
+     * @param jarPath         path to the application JAR
+     * @param operation       the operation
+     * @param success         whether the operation succeeded
+     * @param data            the operation's response data, or the publisher its entries were streamed from;
+     *                        may be partial or null
+     * @param bootMillis      time the application spent before its operations started, or {@link #UNKNOWN}
+     * @param operationMillis the operation duration the application reported, or 0 if unknown
+     * @return the metrics
+     */
+    public static LaunchMetrics of(String target, String jarPath, String operation, boolean success, Object data,
+                                   long bootMillis, long operationMillis) {
+        long applied = UNKNOWN;
+        long skipped = UNKNOWN;
+        long failed = UNKNOWN;
+        long auditEntries = UNKNOWN;
+        long issues = UNKNOWN;
+        if (data instanceof ExecuteResponseData execution) {
+            applied = execution.getAppliedChanges();
+            skipped = execution.getAlreadyAppliedChanges() + execution.getNotReachedChanges();
+            failed = execution.getFailedChanges();
+        } else if (data instanceof AuditListResponseData audit && audit.getEntries() != null) {
+            auditEntries = audit.getEntries().size();
+        } else if (data instanceof AuditEntryPublisher stream) {
+            auditEntries = stream.getDeliveredCount();
+        } else if (data instanceof IssueListResponseData issueList && issueList.getIssues() != null) {
+            issues = issueList.getIssues().size();
+        }
+        return new LaunchMetrics(target, Path.of(jarPath).getFileName().toString(), operation, success, bootMillis,
+                operationMillis > 0 ? operationMillis : UNKNOWN, applied, skipped, failed, auditEntries, issues);
+    }
+
+    /**
+     * Combines this operation with another launch of the same operation for the same target, e.g. one
+     * {@code issue get} per issue: it succeeded only if both did, and times and counts add up.
+     *
+     * @param other the other launch
+     * @return the combined metrics
+     */
+    public LaunchMetrics plus(LaunchMetrics other) {
+        return new LaunchMetrics(target, jar, operation, success && other.success,
+                sum(bootMillis, other.bootMillis), sum(operationMillis, other.operationMillis),
+                sum(changesApplied, other.changesApplied), sum(changesSkipped, other.changesSkipped),
+                sum(changesFailed, other.changesFailed), sum(auditEntries, other.auditEntries),
+                sum(issues, other.issues));
+    }
+
+    private static long sum(long a, long b) {
+        if (a == UNKNOWN) {
+            return b;
+        }
+        return b == UNKNOWN ? a : a + b;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Writes a run's metrics in the OpenMetrics text format, for node_exporter's textfile collector or any
+ * Prometheus-compatible scraper.
+ *
+ * <p>The file is written next to its destination and moved into place, so a collector never reads a
+ * half-written file. The temporary name is hidden and does not end in {@code .prom}, which keeps the
+ * textfile collector from picking it up.</p>
+ *
+ * <p>Operation samples are labelled by target, JAR and operation. An operation launched more than once
+ * for the same target, such as {@code issue get} per issue, is reported as one series with the launches
+ * added up, since a scraper rejects an exposition that repeats a series.</p>
+ */
+public final class OpenMetricsWriter {
+
+    private static final String PREFIX = "flamingock_cli_";
+
+    private OpenMetricsWriter() {
+    }
+
+    /**
+     * Atomically replaces the file with the run's metrics.
+     *
+     * @param run  the finished run
+     * @param file the destination, e.g. {@code /var/lib/node_exporter/textfile/flamingock.prom}
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(RunMetrics.Run run, Path file) throws IOException {
+        Path target = file.toAbsolutePath();
+        Path parent = target.getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "." + target.getFileName(), ".tmp");
+        try {
+            Files.writeString(temp, format(run), StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Formats the run as an OpenMetrics exposition.
+     *
+     * @param run the finished run
+     * @return the exposition, ending with {@code # EOF}
+     */
+    static String format(RunMetrics.Run run) {
+        StringBuilder sb = new StringBuilder();
+        String command = "command=\"" + escape(run.command()) + "\"";
+
+        family(sb, "command_duration_seconds", "Wall-clock time of the CLI invocation.");
+        sample(sb, "command_duration_seconds", command, seconds(run.durationMillis()));
+        family(sb, "exit_code", "Exit code of the CLI invocation.");
+        sample(sb, "exit_code", command, Integer.toString(run.exitCode()));
+        family(sb, "last_run_timestamp_seconds", "When the CLI invocation finished, in seconds since the epoch.");
+        sample(sb, "last_run_timestamp_seconds", command, seconds(run.finishedAt()));
+
+        List<LaunchMetrics> launches = perSeries(run.launches());
+        if (!launches.isEmpty()) {
+            family(sb, "operation_success", "Whether the operation succeeded (1) or failed (0).");
+            for (LaunchMetrics launch : launches) {
+                sample(sb, "operation_success", labels(launch, null), launch.success() ? "1" : "0");
+            }
+            durations(sb, "application_boot_seconds",
+                    "Time the application spent starting before the operation ran.", launches,
+                    LaunchMetrics::bootMillis);
+            durations(sb, "operation_duration_seconds",
+                    "Duration of the operation as reported by the application.", launches,
+                    LaunchMetrics::operationMillis);
+            changes(sb, launches);
+            counts(sb, "audit_entries", "Audit entries returned by audit list.", launches,
+                    LaunchMetrics::auditEntries);
+            counts(sb, "issues", "Changes with issues returned by issue list.", launches, LaunchMetrics::issues);
+        }
+
+        sb.append("# EOF\n");
+        return sb.toString();
+    }
+
+    private static List<LaunchMetrics> perSeries(List<LaunchMetrics> launches) {
+        Map<String, LaunchMetrics> series = new LinkedHashMap<>();
+        for (LaunchMetrics launch : launches) {
+            series.merge(labels(launch, null), launch, LaunchMetrics::plus);
+        }
+        return new ArrayList<>(series.values());
+    }
+
+    private static void durations(StringBuilder sb, String name, String help, List<LaunchMetrics> launches,
+                                  ToLongFunction<LaunchMetrics> millis) {
+        if (launches.stream().allMatch(launch -> millis.applyAsLong(launch) == LaunchMetrics.UNKNOWN)) {
+            return;
+        }
+        family(sb, name, help);
+        for (LaunchMetrics launch : launches) {
+            long value = millis.applyAsLong(launch);
+            if (value != LaunchMetrics.UNKNOWN) {
+                sample(sb, name, labels(launch, null), seconds(value));
+            }
+        }
+    }
+
+    private static void counts(StringBuilder sb, String name, String help, List<LaunchMetrics> launches,
+                               ToLongFunction<LaunchMetrics> count) {
+        if (launches.stream().allMatch(launch -> count.applyAsLong(launch) == LaunchMetrics.UNKNOWN)) {
+            return;
+        }
+        family(sb, name, help);
+        for (LaunchMetrics launch : launches) {
+            long value = count.applyAsLong(launch);
+            if (value != LaunchMetrics.UNKNOWN) {
+                sample(sb, name, labels(launch, null), Long.toString(value));
+            }
+        }
+    }
+
+    private static void changes(StringBuilder sb, List<LaunchMetrics> launches) {
+        if (launches.stream().allMatch(launch -> launch.changesApplied() == LaunchMetrics.UNKNOWN)) {
+            return;
+        }
+        family(sb, "changes", "Changes by outcome: applied, skipped (already applied or not reached) or failed.");
+        for (LaunchMetrics launch : launches) {
+            if (launch.changesApplied() != LaunchMetrics.UNKNOWN) {
+                sample(sb, "changes", labels(launch, "applied"), Long.toString(launch.changesApplied()));
+                sample(sb, "changes", labels(launch, "skipped"), Long.toString(launch.changesSkipped()));
+                sample(sb, "changes", labels(launch, "failed"), Long.toString(launch.changesFailed()));
+            }
+        }
+    }
+
+    private static void family(StringBuilder sb, String name, String help) {
+        sb.append("# TYPE ").append(PREFIX).append(name).append(" gauge\n");
+        sb.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+    }
+
+    private static void sample(StringBuilder sb, String name, String labels, String value) {
+        sb.append(PREFIX).append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String labels(LaunchMetrics launch, String result) {
+        String labels = "target=\"" + escape(launch.target()) + "\",jar=\"" + escape(launch.jar())
+                + "\",operation=\"" + escape(launch.operation()) + "\"";
+        return result != null ? labels + ",result=\"" + result + "\"" : labels;
+    }
+
+    private static String seconds(long millis) {
+        return String.format(Locale.ROOT, "%.3f", millis / 1000.0);
+    }
+
+    /**
+     * Escapes a label value: backslash, double quote and line feed.
+     */
+    static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Process-wide collector of the metrics written by {@code --metrics-file}.
+ *
+ * <p>Inactive unless a run is being collected, in which case {@link #record(LaunchMetrics)} keeps every
+ * operation launched, including those of fan-out workers. Like the standard streams, a collection
+ * belongs to the one invocation the process (or daemon) is serving.</p>
+ */
+public final class RunMetrics {
+
+    private static volatile Collecting active;
+
+    private RunMetrics() {
+    }
+
+    /**
+     * Starts collecting an invocation.
+     *
+     * @param command    the command, e.g. {@code execute apply}
+     * @param startNanos when the invocation started, on the {@link System#nanoTime()} scale
+     */
+    public static void begin(String command, long startNanos) {
+        active = new Collecting(command, startNanos);
+    }
+
+    /**
+     * Returns whether an invocation is being collected.
+     *
+     * @return true while collecting
+     */
+    public static boolean isEnabled() {
+        return active != null;
+    }
+
+    /**
+     * Records an operation the invocation launched.
+     *
+     * @param launch the operation's metrics
+     */
+    public static void record(LaunchMetrics launch) {
+        Collecting collection = active;
+        if (collection != null) {
+            collection.launches.add(launch);
+        }
+    }
+
+    /**
+     * Ends the collection.
+     *
+     * @param exitCode the invocation's exit code
+     * @return the run, or null if nothing was being collected
+     */
+    public static Run finish(int exitCode) {
+        Collecting collection = active;
+        active = null;
+        if (collection == null) {
+            return null;
+        }
+        long durationNanos = System.nanoTime() - collection.startNanos;
+        return new Run(collection.command, exitCode, durationNanos / 1_000_000, System.currentTimeMillis(),
+                new ArrayList<>(collection.launches));
+    }
+
+    /**
+     * A finished invocation.
+     *
+     * @param command        the command, e.g. {@code execute apply}
+     * @param exitCode       the exit code
+     * @param durationMillis how long the invocation took
+     * @param finishedAt     when it finished, in epoch milliseconds
+     * @param launches       the operations it launched
+     */
+    public record Run(String command, int exitCode, long durationMillis, long finishedAt,
+                      List<LaunchMetrics> launches) {
+    }
+
+    private static final class Collecting {
+
+        private final String command;
+        private final long startNanos;
+        private final ConcurrentLinkedQueue<LaunchMetrics> launches = new ConcurrentLinkedQueue<>();
+
+        private Collecting(String command, long startNanos) {
+            this.command = command;
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -15,41 +15,89 @@
  */
 package io.flamingock.cli.executor.orchestration;
 
+import io.flamingock.cli.executor.metrics.LaunchMetrics;
+import io.flamingock.cli.executor.metrics.RunMetrics;
 import io.flamingock.cli.executor.process.JvmLauncher;
+import io.flamingock.cli.executor.process.LaunchOptions;
 import io.flamingock.cli.executor.process.LaunchResult;
+import io.flamingock.cli.executor.process.LaunchStatus;
+import io.flamingock.cli.executor.process.RuntimeSupport;
+import io.flamingock.cli.executor.progress.ExecutionProgress;
+import io.flamingock.cli.executor.progress.ProgressEventChannel;
+import io.flamingock.cli.executor.result.AuditEntryPublisher;
+import io.flamingock.cli.executor.result.ResponseChannel;
 import io.flamingock.cli.executor.result.ResponseResultReader;
 import io.flamingock.cli.executor.result.ResponseResultReader.ResponseResult;
+import io.flamingock.cli.executor.timing.Span;
+import io.flamingock.cli.executor.timing.Timings;
+import io.flamingock.cli.executor.util.filesystem.CacheDirectory;
 import io.flamingock.internal.common.core.operation.OperationType;
+import io.flamingock.internal.common.core.response.ResponseEnvelope;
+import io.flamingock.internal.common.core.response.data.AuditListResponseData;
+import io.flamingock.internal.common.core.response.data.AuditListResponseData.AuditEntryDto;
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
+import io.flamingock.internal.common.core.response.data.IssueListResponseData;
 
+import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Orchestrates the execution of CLI commands.
  *
  * <p>This class handles the common flow of:
  * <ol>
- *   <li>Creating a temporary output file for response communication</li>
+ *   <li>Opening a response channel (a named pipe read while the process runs, or a temporary file)</li>
+ *   <li>Opening a progress event channel, when live progress was requested</li>
  *   <li>Launching the JVM process with the user's JAR</li>
  *   <li>Handling common launch failures (entry point not found, process errors)</li>
- *   <li>Reading and parsing the response file</li>
- *   <li>Cleaning up temporary files</li>
+ *   <li>Reading and parsing the response</li>
+ *   <li>Cleaning up the channel</li>
  * </ol>
  *
+ * <p>Each step is recorded as a timing span when {@code --timings} or {@code --trace-file} is set; the
+ * application's lifetime is split into boot and operation using the duration it reports.</p>
+ *
  * <p>By centralizing this logic, individual commands only need to handle
  * their specific presentation logic.</p>
  */
 public class CommandExecutor {
 
-    private final JvmLauncher launcher;
-    private final ResponseResultReader reader;
+    /**
+     * Application argument listing the operations of a composite run.
+     */
+    static final String OPERATIONS_ARG = "flamingock.operations";
+
+    /**
+     * Words with which runtimes report a property they do not recognize, matched in lower case on a stderr line
+     * that names {@link #OPERATIONS_ARG}.
+     */
+    private static final List<String> REJECTED_PROPERTY_MARKERS =
+            List.of("unknown", "unrecognized", "unbound", "unsupported", "not supported");
+
+    private final Supplier<JvmLauncher> launcher;
+    private final Supplier<ResponseResultReader> reader;
 
     /**
      * Creates a new CommandExecutor with default dependencies.
+     *
+     * <p>The default launcher and reader are built on first use and shared by every executor in the process
+     * (the launcher by those using the same cache directory), so constructing commands (picocli builds all of
+     * them, even for {@code --version}) stays cheap and a daemon reuses the reader's mapper across
+     * invocations.</p>
      */
     public CommandExecutor() {
-        this(new JvmLauncher(), new ResponseResultReader());
+        this.launcher = DefaultLauncher::get;
+        this.reader = () -> DefaultReader.INSTANCE;
     }
 
     /**
@@ -59,8 +107,8 @@ public class CommandExecutor {
      * @param reader   the response result reader
      */
     public CommandExecutor(JvmLauncher launcher, ResponseResultReader reader) {
-        this.launcher = launcher;
-        this.reader = reader;
+        this.launcher = () -> launcher;
+        this.reader = () -> reader;
     }
 
     /**
@@ -87,45 +135,407 @@ public class CommandExecutor {
             Class<T> responseType,
             ExecutionOptions options
     ) {
-        Path outputFile = null;
-        try {
-            outputFile = Files.createTempFile("flamingock-response-", ".json");
-
-            LaunchResult launchResult = launcher.launch(
-                    jarPath,
-                    operation,
-                    outputFile.toString(),
-                    options.getLogLevel(),
-                    options.isStreamOutput(),
-                    options.getOperationArgs(),
-                    options.getJvmArgs(),
-                    options.getAppArgs()
-            );
-
-            // Handle launch-level failures - don't try to read response file
-            if (launchResult.isFailure()) {
-                return CommandResult.fromLaunchFailure(launchResult);
+        ResponseChannel channel;
+        try (Span ignored = Timings.start("response.channel.open")) {
+            channel = ResponseChannel.open(reader.get(), options.getLaunchOptions().isResponsePipe(),
+                    responseType);
+        } catch (IOException e) {
+            return CommandResult.processStartFailed("Failed to create temporary file: " + e.getMessage());
+        }
+
+        // Only requested on the user's say-so (execute apply --progress): flamingock-core 1.4.0 does not
+        // know the events file argument
+        ProgressEventChannel events = openEvents(options);
+        Map<String, String> operationArgs = options.getOperationArgs();
+        if (events != null) {
+            operationArgs = new HashMap<>(operationArgs);
+            operationArgs.put(ProgressEventChannel.EVENTS_FILE_ARG, events.getAddress());
+        }
+
+        try (channel; events) {
+            long launchStart = System.nanoTime();
+            LaunchResult launchResult;
+            try (Span ignored = Timings.start("launch")) {
+                launchResult = launcher.get().launch(
+                        jarPath,
+                        operation,
+                        channel.getAddress(),
+                        options.getLogLevel(),
+                        options.isStreamOutput(),
+                        operationArgs,
+                        options.getJvmArgs(),
+                        options.getAppArgs(),
+                        options.getLaunchOptions()
+                );
             }
 
-            // Launch succeeded, read the response file
-            ResponseResult<T> responseResult = reader.readTyped(outputFile, responseType);
+            long applicationMillis = applicationMillis(launchResult, launchStart);
 
-            if (responseResult.isSuccess()) {
-                return CommandResult.success(responseResult.getData(), responseResult.getDurationMs());
-            } else {
-                return CommandResult.fromResponse(responseResult);
+            CommandResult<T> result = toCommandResult(launchResult, channel, events, responseType);
+            Timings.split(JvmLauncher.APPLICATION_SPAN, result.getDurationMs(),
+                    "application.boot", "application.operation");
+            if (RunMetrics.isEnabled()) {
+                RunMetrics.record(LaunchMetrics.of(targetName(jarPath, options), jarPath, String.valueOf(operation),
+                        result.isSuccess(), result.getData(), bootMillis(applicationMillis, result.getDurationMs()),
+                        result.getDurationMs()));
             }
+            return result.withResourceUsage(launchResult.getResourceUsage())
+                    .withRecording(launchResult.getRecording());
+        }
+    }
 
+    /**
+     * Lists audit entries and hands them to a consumer as a stream instead of a materialized response.
+     *
+     * <p>The response always goes through a temporary file, which the consumer reads incrementally through
+     * an {@link AuditEntryPublisher} before this method returns and removes the file; a history of millions
+     * of entries is never held in memory at once. The consumer only runs when the operation succeeded.</p>
+     *
+     * @param jarPath  the path to the user's JAR file
+     * @param options  execution options (log level, stream output, operation args, etc.)
+     * @param consumer consumes the entries and returns what the caller needs from them
+     * @param <R>      the consumer's result type
+     * @return the command result holding the consumer's result
+     */
+    public <R> CommandResult<R> streamAuditList(
+            String jarPath,
+            ExecutionOptions options,
+            Function<? super Flow.Publisher<AuditEntryDto>, R> consumer
+    ) {
+        ResponseChannel channel;
+        try (Span ignored = Timings.start("response.channel.open")) {
+            // A pipe is drained into memory as it is read; a file can be re-read lazily
+            channel = ResponseChannel.open(reader.get(), false);
         } catch (IOException e) {
             return CommandResult.processStartFailed("Failed to create temporary file: " + e.getMessage());
-        } finally {
-            if (outputFile != null) {
-                try {
-                    Files.deleteIfExists(outputFile);
-                } catch (IOException ignored) {
-                    // Best effort cleanup
+        }
+
+        try (channel) {
+            long launchStart = System.nanoTime();
+            LaunchResult launchResult;
+            try (Span ignored = Timings.start("launch")) {
+                launchResult = launcher.get().launch(
+                        jarPath,
+                        OperationType.AUDIT_LIST,
+                        channel.getAddress(),
+                        options.getLogLevel(),
+                        options.isStreamOutput(),
+                        options.getOperationArgs(),
+                        options.getJvmArgs(),
+                        options.getAppArgs(),
+                        options.getLaunchOptions()
+                );
+            }
+
+            long applicationMillis = applicationMillis(launchResult, launchStart);
+
+            CommandResult<R> result;
+            AuditEntryPublisher publisher = null;
+            if (launchResult.isFailure()) {
+                result = CommandResult.fromLaunchFailure(launchResult);
+            } else {
+                ResponseResult<AuditEntryPublisher> response;
+                try (Span ignored = Timings.start("response.read")) {
+                    response = reader.get().streamAuditEntries(Path.of(channel.getAddress()));
                 }
+                if (response.isSuccess()) {
+                    publisher = response.getData();
+                    result = CommandResult.success(consumer.apply(publisher), response.getDurationMs());
+                } else {
+                    result = CommandResult.fromResponse(ResponseResult.failureOf(response));
+                }
+            }
+            Timings.split(JvmLauncher.APPLICATION_SPAN, result.getDurationMs(),
+                    "application.boot", "application.operation");
+            if (RunMetrics.isEnabled()) {
+                RunMetrics.record(LaunchMetrics.of(targetName(jarPath, options), jarPath,
+                        OperationType.AUDIT_LIST.name(), result.isSuccess(), publisher,
+                        bootMillis(applicationMillis, result.getDurationMs()), result.getDurationMs()));
+            }
+            return result.withResourceUsage(launchResult.getResourceUsage())
+                    .withRecording(launchResult.getRecording());
+        }
+    }
+
+    /**
+     * Executes several operations in one application JVM, so the application boots and connects to the
+     * audit store once instead of once per operation.
+     *
+     * <p>The first operation is passed as {@code --flamingock.operation} and the full, ordered list as
+     * {@code --flamingock.operations}; the application writes one response envelope per operation to the
+     * output file. A runtime that predates composite runs answers only the first operation, which callers can
+     * detect through {@link CompositeResponse#contains(OperationType)}.</p>
+     *
+     * <p>What the runtime did is remembered per JAR (see {@link #runtimeSupport(String)}). Once a runtime is
+     * known to answer one operation per run, the list is no longer passed. While it is unknown, a run whose
+     * stderr shows the list being rejected as an unknown property, as a runtime with strict property binding
+     * does, is repeated once without it; if that run succeeds, it is the result and the runtime is remembered
+     * as answering one operation per run. Any other failure is returned as it is.</p>
+     *
+     * @param jarPath    the path to the user's JAR file
+     * @param operations the operations to run, in order (at least one)
+     * @param options    execution options (log level, stream output, etc.)
+     * @return the command result holding every response received
+     */
+    public CommandResult<CompositeResponse> executeComposite(
+            String jarPath,
+            List<OperationType> operations,
+            ExecutionOptions options
+    ) {
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("A composite run needs at least one operation");
+        }
+        RuntimeSupport support = runtimeSupport(jarPath);
+        boolean composite = operations.size() > 1 && support != RuntimeSupport.SINGLE_OPERATION;
+
+        boolean probing = composite && support == RuntimeSupport.UNKNOWN;
+        CompositeRun run = launchComposite(jarPath, operations, composite,
+                probing ? options.getLaunchOptions().withStderrTail() : options.getLaunchOptions(), options);
+        if (probing) {
+            if (rejectedOperationList(run.launchResult)) {
+                CompositeRun single = launchComposite(jarPath, operations, false, options.getLaunchOptions(), options);
+                if (single.result.isSuccess()) {
+                    launcher.get().recordRuntimeSupport(jarPath, RuntimeSupport.SINGLE_OPERATION);
+                    run = single;
+                }
+            } else if (run.result.isSuccess()) {
+                boolean answeredMore = operations.stream().skip(1).anyMatch(run.result.getData()::contains);
+                launcher.get().recordRuntimeSupport(jarPath,
+                        answeredMore ? RuntimeSupport.COMPOSITE : RuntimeSupport.SINGLE_OPERATION);
+            }
+        }
+
+        // Only the run whose result is returned is recorded, so a rejected attempt never counts twice
+        if (RunMetrics.isEnabled()) {
+            recordComposite(targetName(jarPath, options), jarPath, operations, run.result,
+                    bootMillis(run.applicationMillis, run.result.getDurationMs()));
+        }
+        return run.result.withResourceUsage(run.launchResult.getResourceUsage())
+                .withRecording(run.launchResult.getRecording());
+    }
+
+    /**
+     * Returns what the JAR's Flamingock runtime was found to support by earlier composite runs.
+     *
+     * @param jarPath the path to the user's JAR file
+     * @return the recorded support, or {@link RuntimeSupport#UNKNOWN} if no composite run completed yet
+     */
+    public RuntimeSupport runtimeSupport(String jarPath) {
+        RuntimeSupport support = launcher.get().runtimeSupport(jarPath);
+        return support != null ? support : RuntimeSupport.UNKNOWN;
+    }
+
+    /**
+     * Returns whether a failed run's stderr shows the application rejecting the operation list, e.g.
+     * Spring Boot's strict binding reporting it unbound or a command-line parser reporting it unknown.
+     *
+     * @param launchResult the result of a run that passed the list
+     * @return true if the list was rejected
+     */
+    private static boolean rejectedOperationList(LaunchResult launchResult) {
+        if (launchResult.getStatus() != LaunchStatus.PROCESS_FAILED || launchResult.getStderrTail() == null) {
+            return false;
+        }
+        return launchResult.getStderrTail().lines()
+                .map(line -> line.toLowerCase(Locale.ROOT))
+                .filter(line -> line.contains(OPERATIONS_ARG))
+                .anyMatch(line -> REJECTED_PROPERTY_MARKERS.stream().anyMatch(line::contains));
+    }
+
+    private CompositeRun launchComposite(String jarPath, List<OperationType> operations, boolean composite,
+                                         LaunchOptions launchOptions, ExecutionOptions options) {
+        ResponseChannel channel;
+        try (Span ignored = Timings.start("response.channel.open")) {
+            channel = ResponseChannel.open(reader.get(), options.getLaunchOptions().isResponsePipe());
+        } catch (IOException e) {
+            return new CompositeRun(LaunchResult.processStartFailed(e.getMessage()),
+                    CommandResult.processStartFailed("Failed to create temporary file: " + e.getMessage()), 0);
+        }
+
+        Map<String, String> operationArgs = options.getOperationArgs();
+        if (composite) {
+            operationArgs = new HashMap<>(operationArgs);
+            operationArgs.put(OPERATIONS_ARG,
+                    operations.stream().map(Enum::name).collect(Collectors.joining(",")));
+        }
+
+        try (channel) {
+            long launchStart = System.nanoTime();
+            LaunchResult launchResult;
+            try (Span ignored = Timings.start("launch")) {
+                launchResult = launcher.get().launch(
+                        jarPath,
+                        operations.get(0),
+                        channel.getAddress(),
+                        options.getLogLevel(),
+                        options.isStreamOutput(),
+                        operationArgs,
+                        options.getJvmArgs(),
+                        options.getAppArgs(),
+                        launchOptions
+                );
+            }
+
+            long applicationMillis = applicationMillis(launchResult, launchStart);
+            return new CompositeRun(launchResult, toCompositeResult(launchResult, channel), applicationMillis);
+        }
+    }
+
+    private CommandResult<CompositeResponse> toCompositeResult(LaunchResult launchResult, ResponseChannel channel) {
+        if (launchResult.isFailure()) {
+            return CommandResult.fromLaunchFailure(launchResult);
+        }
+
+        List<ResponseEnvelope> envelopes;
+        try (Span ignored = Timings.start("response.read")) {
+            envelopes = channel.receiveAll();
+        }
+        if (envelopes.isEmpty()) {
+            return CommandResult.fromResponse(ResponseResult.readError(
+                    "Response file not found or could not be read: " + channel.getAddress()));
+        }
+        long durationMs = envelopes.stream().mapToLong(ResponseEnvelope::getDurationMs).sum();
+        Timings.split(JvmLauncher.APPLICATION_SPAN, durationMs, "application.boot", "application.operations");
+        return CommandResult.success(new CompositeResponse(envelopes, reader.get(), channel.getAddress()),
+                durationMs);
+    }
+
+    /**
+     * Records one metrics entry per operation of a composite run; they share the run's boot time.
+     *
+     * <p>An operation the application did not answer is only recorded as failed when the whole run failed.
+     * Otherwise the runtime predates composite runs and the caller runs the operation separately, which
+     * records it then.</p>
+     */
+    private static void recordComposite(String target, String jarPath, List<OperationType> operations,
+                                        CommandResult<CompositeResponse> result, long bootMillis) {
+        for (OperationType operation : operations) {
+            if (result.getData() == null) {
+                RunMetrics.record(LaunchMetrics.of(target, jarPath, operation.name(), false, null, bootMillis, 0));
+            } else if (result.getData().contains(operation)) {
+                ResponseResult<?> response = result.getData().get(operation, metricsDataType(operation));
+                RunMetrics.record(LaunchMetrics.of(target, jarPath, operation.name(), response.isSuccess(),
+                        response.getData(), bootMillis, response.getDurationMs()));
             }
         }
     }
+
+    private static String targetName(String jarPath, ExecutionOptions options) {
+        return options.getTarget() != null ? options.getTarget() : TargetsFile.defaultName(new File(jarPath));
+    }
+
+    private static Class<?> metricsDataType(OperationType operation) {
+        switch (operation) {
+            case EXECUTE_APPLY:
+                return ExecuteResponseData.class;
+            case AUDIT_LIST:
+                return AuditListResponseData.class;
+            case ISSUE_LIST:
+                return IssueListResponseData.class;
+            default:
+                return Object.class;
+        }
+    }
+
+    /**
+     * Returns how long the application process ran: the sampled wall time when available, otherwise the
+     * time spent in the launcher.
+     */
+    private static long applicationMillis(LaunchResult launchResult, long launchStartNanos) {
+        return launchResult.getResourceUsage() != null
+                ? launchResult.getResourceUsage().getWallMillis()
+                : (System.nanoTime() - launchStartNanos) / 1_000_000;
+    }
+
+    private static long bootMillis(long applicationMillis, long operationMillis) {
+        return operationMillis > 0 && operationMillis <= applicationMillis
+                ? applicationMillis - operationMillis
+                : LaunchMetrics.UNKNOWN;
+    }
+
+    private <T> CommandResult<T> toCommandResult(LaunchResult launchResult, ResponseChannel channel,
+                                                 ProgressEventChannel events, Class<T> responseType) {
+        // Handle launch-level failures - don't try to read the response
+        if (launchResult.isFailure()) {
+            CommandResult<T> failure = CommandResult.fromLaunchFailure(launchResult);
+            return launchResult.getStatus() == LaunchStatus.PROCESS_FAILED
+                    || launchResult.getStatus() == LaunchStatus.TIMED_OUT
+                    ? withPartialResult(failure, events, responseType)
+                    : failure;
+        }
+
+        // Launch succeeded; with a pipe the response has already been parsed while the process ran
+        ResponseResult<T> responseResult;
+        try (Span ignored = Timings.start("response.read")) {
+            responseResult = channel.receive(responseType);
+        }
+
+        if (responseResult.isSuccess()) {
+            return CommandResult.success(responseResult.getData(), responseResult.getDurationMs());
+        } else if (responseResult.getData() == null && "READ_ERROR".equals(responseResult.getErrorCode())) {
+            return withPartialResult(CommandResult.fromResponse(responseResult), events, responseType);
+        } else {
+            return CommandResult.fromResponse(responseResult);
+        }
+    }
+
+    private static ProgressEventChannel openEvents(ExecutionOptions options) {
+        if (options.getProgressListener() == null) {
+            return null;
+        }
+        try {
+            return ProgressEventChannel.open(options.getProgressListener());
+        } catch (IOException e) {
+            // Progress is a nicety; run without it
+            return null;
+        }
+    }
+
+    private static <T> CommandResult<T> withPartialResult(CommandResult<T> result, ProgressEventChannel events,
+                                                          Class<T> responseType) {
+        if (events == null || !responseType.isAssignableFrom(ExecuteResponseData.class)) {
+            return result;
+        }
+        ExecutionProgress progress = events.finish();
+        return progress.hasEvents()
+                ? result.withData(responseType.cast(progress.toPartialResponse()))
+                : result;
+    }
+
+    /**
+     * One application launch of a composite run and its outcome.
+     */
+    private static final class CompositeRun {
+        private final LaunchResult launchResult;
+        private final CommandResult<CompositeResponse> result;
+        private final long applicationMillis;
+
+        private CompositeRun(LaunchResult launchResult, CommandResult<CompositeResponse> result,
+                             long applicationMillis) {
+            this.launchResult = launchResult;
+            this.result = result;
+            this.applicationMillis = applicationMillis;
+        }
+    }
+
+    /**
+     * Holds the default launchers, one per cache root; each is built on first use, at run time, as the cache
+     * location comes from the caller's environment. A daemon serving clients with different
+     * {@code FLAMINGOCK_CACHE_DIR} values thereby gives each its own caches.
+     */
+    private static final class DefaultLauncher {
+        private static final Map<Path, JvmLauncher> BY_CACHE_ROOT = new ConcurrentHashMap<>();
+
+        static JvmLauncher get() {
+            return BY_CACHE_ROOT.computeIfAbsent(CacheDirectory.root(), root -> new JvmLauncher());
+        }
+    }
+
+    /**
+     * Holds the default reader. It is thread-safe and depends on nothing from the environment, so the native
+     * image initializes it at build time.
+     */
+    private static final class DefaultReader {
+        static final ResponseResultReader INSTANCE = new ResponseResultReader();
+    }
 }
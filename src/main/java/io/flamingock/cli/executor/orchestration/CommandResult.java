@@ -17,8 +17,12 @@ package io.flamingock.cli.executor.orchestration;
 
 import io.flamingock.cli.executor.process.LaunchResult;
 import io.flamingock.cli.executor.process.LaunchStatus;
+import io.flamingock.cli.executor.process.ResourceUsage;
 import io.flamingock.cli.executor.result.ResponseResultReader.ResponseResult;
 
+import java.nio.file.Path;
+import java.util.List;
+
 /**
  * Represents the result of a CLI command execution.
  * Encapsulates both launch-level and response-level outcomes.
@@ -27,6 +31,11 @@ import io.flamingock.cli.executor.result.ResponseResultReader.ResponseResult;
  */
 public class CommandResult<T> {
 
+    /**
+     * Number of trailing stderr lines shown for a failed process whose output was not streamed.
+     */
+    static final int STDERR_TAIL_LINES = 20;
+
     private final boolean success;
     private final T data;
     private final String errorCode;
@@ -34,16 +43,19 @@ public class CommandResult<T> {
     private final int exitCode;
     private final long durationMs;
     private final LaunchStatus launchStatus;
+    private final ResourceUsage resourceUsage;
+    private final Path recording;
 
-    private CommandResult(boolean success, T data, String errorCode, String errorMessage,
-                          int exitCode, long durationMs, LaunchStatus launchStatus) {
-        this.success = success;
-        this.data = data;
-        this.errorCode = errorCode;
-        this.errorMessage = errorMessage;
-        this.exitCode = exitCode;
-        this.durationMs = durationMs;
-        this.launchStatus = launchStatus;
+    private CommandResult(Builder<T> builder) {
+        this.success = builder.success;
+        this.data = builder.data;
+        this.errorCode = builder.errorCode;
+        this.errorMessage = builder.errorMessage;
+        this.exitCode = builder.exitCode;
+        this.durationMs = builder.durationMs;
+        this.launchStatus = builder.launchStatus;
+        this.resourceUsage = builder.resourceUsage;
+        this.recording = builder.recording;
     }
 
     /**
@@ -55,7 +67,10 @@ public class CommandResult<T> {
      * @return a success result
      */
     public static <T> CommandResult<T> success(T data, long durationMs) {
-        return new CommandResult<>(true, data, null, null, 0, durationMs, LaunchStatus.SUCCESS);
+        return new Builder<T>(true, LaunchStatus.SUCCESS)
+                .data(data)
+                .durationMs(durationMs)
+                .build();
     }
 
     /**
@@ -66,9 +81,7 @@ public class CommandResult<T> {
      * @return an entry point not found result
      */
     public static <T> CommandResult<T> entryPointNotFound(int exitCode) {
-        return new CommandResult<>(
-                false,
-                null,
+        return failure(
                 "ENTRY_POINT_NOT_FOUND",
                 "Flamingock CLI entry point not found in your JAR.\n\n" +
                         "Your uber/shaded JAR must include 'flamingock-core' classes.\n" +
@@ -90,9 +103,7 @@ public class CommandResult<T> {
      * @return a JAR analysis failed result
      */
     public static <T> CommandResult<T> jarAnalysisFailed(String errorMessage) {
-        return new CommandResult<>(
-                false,
-                null,
+        return failure(
                 "JAR_ANALYSIS_FAILED",
                 "Failed to analyze JAR: " + errorMessage,
                 1,
@@ -101,6 +112,24 @@ public class CommandResult<T> {
         );
     }
 
+    /**
+     * Creates a result for a JAR that does not exist or is not a regular file.
+     *
+     * @param jarPath  the path that was given
+     * @param exitCode the exit code to report
+     * @param <T>      the data type
+     * @return a JAR not found result
+     */
+    public static <T> CommandResult<T> jarNotFound(String jarPath, int exitCode) {
+        return failure(
+                "JAR_NOT_FOUND",
+                "JAR file not found: " + jarPath,
+                exitCode,
+                0,
+                LaunchStatus.JAR_ANALYSIS_FAILED
+        );
+    }
+
     /**
      * Creates a result for process start failure.
      *
@@ -109,9 +138,7 @@ public class CommandResult<T> {
      * @return a process start failed result
      */
     public static <T> CommandResult<T> processStartFailed(String errorMessage) {
-        return new CommandResult<>(
-                false,
-                null,
+        return failure(
                 "PROCESS_START_FAILED",
                 "Failed to start process: " + errorMessage,
                 1,
@@ -127,9 +154,7 @@ public class CommandResult<T> {
      * @return a process interrupted result
      */
     public static <T> CommandResult<T> processInterrupted() {
-        return new CommandResult<>(
-                false,
-                null,
+        return failure(
                 "PROCESS_INTERRUPTED",
                 "Process was interrupted",
                 1,
@@ -152,9 +177,7 @@ public class CommandResult<T> {
      * @return a missing Flamingock runtime result
      */
     public static <T> CommandResult<T> missingFlamingockRuntime() {
-        return new CommandResult<>(
-                false,
-                null,
+        return failure(
                 "MISSING_FLAMINGOCK_RUNTIME",
                 "Your JAR does not include the Flamingock CLI entry point.\n\n" +
                         "This usually means one of the following:\n\n" +
@@ -203,15 +226,22 @@ public class CommandResult<T> {
                 return processStartFailed(launchResult.getErrorDetail());
             case PROCESS_INTERRUPTED:
                 return processInterrupted();
+            case TIMED_OUT:
+                return failure(
+                        "TIMED_OUT",
+                        withStderrLog(withDiagnostics(launchResult.getErrorDetail(), launchResult), launchResult),
+                        launchResult.getExitCode(),
+                        0,
+                        LaunchStatus.TIMED_OUT
+                );
             case PROCESS_FAILED:
             default:
-                return new CommandResult<>(
-                        false,
-                        null,
+                String message = launchResult.getErrorDetail() != null
+                        ? launchResult.getErrorDetail()
+                        : "Process exited with code " + launchResult.getExitCode();
+                return failure(
                         "PROCESS_FAILED",
-                        launchResult.getErrorDetail() != null
-                                ? launchResult.getErrorDetail()
-                                : "Process exited with code " + launchResult.getExitCode(),
+                        withStderrTail(withStderrLog(message, launchResult), launchResult),
                         launchResult.getExitCode(),
                         0,
                         launchResult.getStatus()
@@ -219,6 +249,37 @@ public class CommandResult<T> {
         }
     }
 
+    private static String withDiagnostics(String message, LaunchResult launchResult) {
+        if (launchResult.getDiagnostics().isEmpty()) {
+            return message + ". It was stopped with its child processes; no diagnostics could be captured";
+        }
+        StringBuilder result = new StringBuilder(message)
+                .append(". It was stopped with its child processes. Diagnostics:");
+        for (Path file : launchResult.getDiagnostics()) {
+            result.append("\n  ").append(file);
+        }
+        return result.toString();
+    }
+
+    private static String withStderrLog(String message, LaunchResult launchResult) {
+        return launchResult.getStderrLog() != null
+                ? message + ". Full application stderr (gzip): " + launchResult.getStderrLog()
+                : message;
+    }
+
+    private static String withStderrTail(String message, LaunchResult launchResult) {
+        String tail = launchResult.getStderrTail();
+        if (tail == null || tail.isBlank()) {
+            return message;
+        }
+        List<String> lines = tail.strip().lines().toList();
+        StringBuilder result = new StringBuilder(message).append(". Last lines of application stderr:");
+        for (String line : lines.subList(Math.max(0, lines.size() - STDERR_TAIL_LINES), lines.size())) {
+            result.append("\n  ").append(line);
+        }
+        return result.toString();
+    }
+
     /**
      * Creates a result from a response result.
      *
@@ -230,9 +291,7 @@ public class CommandResult<T> {
         if (responseResult.isSuccess()) {
             return success(responseResult.getData(), responseResult.getDurationMs());
         } else {
-            return new CommandResult<>(
-                    false,
-                    null,
+            return failure(
                     responseResult.getErrorCode(),
                     responseResult.getErrorMessage(),
                     1,
@@ -251,9 +310,7 @@ public class CommandResult<T> {
      * @return a response read error result
      */
     public static <T> CommandResult<T> responseReadError(String errorMessage, int exitCode) {
-        return new CommandResult<>(
-                false,
-                null,
+        return failure(
                 "RESPONSE_READ_ERROR",
                 errorMessage,
                 exitCode != 0 ? exitCode : 1,
@@ -262,6 +319,30 @@ public class CommandResult<T> {
         );
     }
 
+    /**
+     * Returns a copy of this result carrying the given data, e.g. a partial result rebuilt for a failure.
+     *
+     * @param data the data
+     * @return the result with data
+     */
+    public CommandResult<T> withData(T data) {
+        return toBuilder()
+                .data(data)
+                .build();
+    }
+
+    /**
+     * Returns a copy of this result carrying the resources the application process consumed.
+     *
+     * @param resourceUsage the sampled usage, or null
+     * @return the result with usage
+     */
+    public CommandResult<T> withResourceUsage(ResourceUsage resourceUsage) {
+        return toBuilder()
+                .resourceUsage(resourceUsage)
+                .build();
+    }
+
     /**
      * Returns whether the command was successful.
      *
@@ -325,6 +406,37 @@ public class CommandResult<T> {
         return launchStatus;
     }
 
+    /**
+     * Returns a copy of this result carrying the Flight Recorder recording of the application process.
+     *
+     * @param recording the {@code .jfr} file, or null
+     * @return the result with the recording
+     */
+    public CommandResult<T> withRecording(Path recording) {
+        return toBuilder()
+                .recording(recording)
+                .build();
+    }
+
+    /**
+     * Returns the resources the application process consumed. Its wall time less {@link #getDurationMs()}
+     * is the time spent booting before the operation started.
+     *
+     * @return the sampled usage, or null if the process did not run or sampling was disabled
+     */
+    public ResourceUsage getResourceUsage() {
+        return resourceUsage;
+    }
+
+    /**
+     * Returns the Flight Recorder recording of the application process ({@code --profile}).
+     *
+     * @return the {@code .jfr} file, or null if profiling was off or no recording was written
+     */
+    public Path getRecording() {
+        return recording;
+    }
+
     /**
      * Checks if this was a launch-level failure (before response could be read).
      *
@@ -333,4 +445,75 @@ public class CommandResult<T> {
     public boolean isLaunchFailure() {
         return launchStatus != LaunchStatus.SUCCESS;
     }
+
+    private static <T> CommandResult<T> failure(String errorCode, String errorMessage, int exitCode,
+                                                long durationMs, LaunchStatus launchStatus) {
+        return new Builder<T>(false, launchStatus)
+                .error(errorCode, errorMessage)
+                .exitCode(exitCode)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private Builder<T> toBuilder() {
+        return new Builder<T>(success, launchStatus)
+                .data(data)
+                .error(errorCode, errorMessage)
+                .exitCode(exitCode)
+                .durationMs(durationMs)
+                .resourceUsage(resourceUsage)
+                .recording(recording);
+    }
+
+    private static final class Builder<T> {
+        private final boolean success;
+        private final LaunchStatus launchStatus;
+        private T data;
+        private String errorCode;
+        private String errorMessage;
+        private int exitCode;
+        private long durationMs;
+        private ResourceUsage resourceUsage;
+        private Path recording;
+
+        private Builder(boolean success, LaunchStatus launchStatus) {
+            this.success = success;
+            this.launchStatus = launchStatus;
+        }
+
+        private Builder<T> data(T data) {
+            this.data = data;
+            return this;
+        }
+
+        private Builder<T> error(String errorCode, String errorMessage) {
+            this.errorCode = errorCode;
+            this.errorMessage = errorMessage;
+            return this;
+        }
+
+        private Builder<T> exitCode(int exitCode) {
+            this.exitCode = exitCode;
+            return this;
+        }
+
+        private Builder<T> durationMs(long durationMs) {
+            this.durationMs = durationMs;
+            return this;
+        }
+
+        private Builder<T> resourceUsage(ResourceUsage resourceUsage) {
+            this.resourceUsage = resourceUsage;
+            return this;
+        }
+
+        private Builder<T> recording(Path recording) {
+            this.recording = recording;
+            return this;
+        }
+
+        private CommandResult<T> build() {
+            return new CommandResult<>(this);
+        }
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.orchestration;
+
+import io.flamingock.cli.executor.result.ResponseResultReader;
+import io.flamingock.cli.executor.result.ResponseResultReader.ResponseResult;
+import io.flamingock.internal.common.core.operation.OperationType;
+import io.flamingock.internal.common.core.response.ResponseEnvelope;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The responses of a composite run, where one application JVM executed several operations in order and
+ * wrote one response envelope per operation.
+ *
+ * <p>Envelopes are matched to operations by their {@code operation} field. An operation may answer more
+ * than once (e.g. {@code ISSUE_GET} once per issue), and an application whose Flamingock runtime predates
+ * composite runs answers only the first operation; callers use {@link #contains(OperationType)} to find
+ * out what is missing.</p>
+ */
+public class CompositeResponse {
+
+    private final List<ResponseEnvelope> envelopes;
+    private final ResponseResultReader reader;
+    private final String source;
+
+    CompositeResponse(List<ResponseEnvelope> envelopes, ResponseResultReader reader, String source) {
+        this.envelopes = Collections.unmodifiableList(new ArrayList<>(envelopes));
+        this.reader = reader;
+        this.source = source;
+    }
+
+    /**
+     * Returns whether the application answered the given operation.
+     *
+     * @param operation the operation
+     * @return true if at least one envelope is for this operation
+     */
+    public boolean contains(OperationType operation) {
+        return envelopes.stream().anyMatch(envelope -> matches(envelope, operation));
+    }
+
+    /**
+     * Returns the first response to an operation as a typed result.
+     *
+     * @param operation the operation
+     * @param dataType  the expected type of the data field
+     * @param <T>       the data type
+     * @return the typed result, or a read error if the operation was not answered
+     */
+    public <T> ResponseResult<T> get(OperationType operation, Class<T> dataType) {
+        Optional<ResponseEnvelope> envelope = envelopes.stream()
+                .filter(candidate -> matches(candidate, operation))
+                .findFirst();
+        return reader.toTyped(envelope, dataType, source + " (" + operation + ")");
+    }
+
+    /**
+     * Returns every response to an operation as typed results, in the order written.
+     *
+     * @param operation the operation
+     * @param dataType  the expected type of the data field
+     * @param <T>       the data type
+     * @return the typed results (empty if the operation was not answered)
+     */
+    public <T> List<ResponseResult<T>> getAll(OperationType operation, Class<T> dataType) {
+        List<ResponseResult<T>> results = new ArrayList<>();
+        for (ResponseEnvelope envelope : envelopes) {
+            if (matches(envelope, operation)) {
+                results.add(reader.toTyped(Optional.of(envelope), dataType, source));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Returns the raw envelopes, in the order written.
+     *
+     * @return the envelopes
+     */
+    public List<ResponseEnvelope> getEnvelopes() {
+        return envelopes;
+    }
+
+    private static boolean matches(ResponseEnvelope envelope, OperationType operation) {
+        return operation.name().equalsIgnoreCase(envelope.getOperation());
+    }
+}
@@ -15,6 +15,9 @@
  */
 package io.flamingock.cli.executor.orchestration;
 
+import io.flamingock.cli.executor.process.LaunchOptions;
+import io.flamingock.cli.executor.progress.ProgressListener;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,6 +34,9 @@ public class ExecutionOptions {
     private final Map<String, String> operationArgs;
     private final List<String> jvmArgs;
     private final List<String> appArgs;
+    private final LaunchOptions launchOptions;
+    private final ProgressListener progressListener;
+    private final String target;
 
     private ExecutionOptions(Builder builder) {
         this.logLevel = builder.logLevel;
@@ -38,6 +44,9 @@ public class ExecutionOptions {
         this.operationArgs = Collections.unmodifiableMap(new HashMap<>(builder.operationArgs));
         this.jvmArgs = Collections.unmodifiableList(new ArrayList<>(builder.jvmArgs));
         this.appArgs = Collections.unmodifiableList(new ArrayList<>(builder.appArgs));
+        this.launchOptions = builder.launchOptions;
+        this.progressListener = builder.progressListener;
+        this.target = builder.target;
     }
 
     /**
@@ -85,6 +94,33 @@ public class ExecutionOptions {
         return appArgs;
     }
 
+    /**
+     * Returns how the application JVM should be started.
+     *
+     * @return the launch options (never null)
+     */
+    public LaunchOptions getLaunchOptions() {
+        return launchOptions;
+    }
+
+    /**
+     * Returns the listener for live progress events, if the application should report them.
+     *
+     * @return the progress listener, or null to not request progress events
+     */
+    public ProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    /**
+     * Returns the name of the target the operation runs for, as labelled in {@code --metrics-file}.
+     *
+     * @return the target name, or null to name it after the JAR
+     */
+    public String getTarget() {
+        return target;
+    }
+
     /**
      * Creates a new builder.
      *
@@ -103,6 +139,9 @@ public class ExecutionOptions {
         private Map<String, String> operationArgs = new HashMap<>();
         private List<String> jvmArgs = new ArrayList<>();
         private List<String> appArgs = new ArrayList<>();
+        private LaunchOptions launchOptions = LaunchOptions.defaults();
+        private ProgressListener progressListener;
+        private String target;
 
         private Builder() {
         }
@@ -174,6 +213,42 @@ public class ExecutionOptions {
             return this;
         }
 
+        /**
+         * Sets how the application JVM should be started.
+         *
+         * @param launchOptions the launch options
+         * @return this builder
+         */
+        public Builder launchOptions(LaunchOptions launchOptions) {
+            this.launchOptions = launchOptions != null ? launchOptions : LaunchOptions.defaults();
+            return this;
+        }
+
+        /**
+         * Requests progress events from the application and sets who receives them.
+         *
+         * <p>Only set this when the user asked for progress: the application's runtime must know the events
+         * file argument, which flamingock-core 1.4.0 does not, and the CLI cannot tell from the JAR.</p>
+         *
+         * @param progressListener the listener, or null to not request progress events
+         * @return this builder
+         */
+        public Builder progressListener(ProgressListener progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        /**
+         * Sets the name of the target the operation runs for.
+         *
+         * @param target the target name, or null to name it after the JAR
+         * @return this builder
+         */
+        public Builder target(String target) {
+            this.target = target;
+            return this;
+        }
+
         /**
          * Builds the ExecutionOptions.
          *
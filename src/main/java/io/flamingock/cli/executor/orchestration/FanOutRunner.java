@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.orchestration;
+
+import io.flamingock.cli.executor.output.PrefixedOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs one operation against several targets through a bounded worker pool.
+ *
+ * <p>Each target still gets its own application JVM; at most {@code parallelism} run at once, so wall-clock
+ * time for a fleet scales with the pool size rather than the number of targets. The application output of
+ * concurrent targets is either prefixed line by line with the target name, or grouped and printed per
+ * target as each one finishes.</p>
+ */
+public class FanOutRunner {
+
+    /**
+     * How the application output of concurrently running targets is shown.
+     */
+    public enum OutputMode {
+        /**
+         * Print lines as they arrive, each prefixed with {@code [target]}.
+         */
+        PREFIXED,
+        /**
+         * Hold each target's output and print it in one block when the target finishes.
+         */
+        GROUPED
+    }
+
+    private final int parallelism;
+    private final OutputMode outputMode;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a runner that prints to the current standard streams.
+     *
+     * @param parallelism the maximum number of targets run at once
+     * @param outputMode  how application output is shown
+     */
+    public FanOutRunner(int parallelism, OutputMode outputMode) {
+        this(parallelism, outputMode, System.out, System.err);
+    }
+
+    FanOutRunner(int parallelism, OutputMode outputMode, PrintStream out, PrintStream err) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("--parallelism must be at least 1, got " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.outputMode = outputMode;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Runs the task for every target and waits for all of them.
+     *
+     * @param targets the targets
+     * @param task    the operation to run for one target
+     * @param <T>     the response data type
+     * @return one outcome per target, in target order
+     */
+    public <T> List<TargetOutcome<T>> run(List<Target> targets, TargetTask<T> task) {
+        List<Future<TargetOutcome<T>>> futures = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(
+                Math.min(parallelism, Math.max(1, targets.size())),
+                Thread.ofVirtual().name("flamingock-target-", 0).factory())) {
+            for (Target target : targets) {
+                futures.add(pool.submit(() -> runOne(target, task)));
+            }
+        }
+
+        List<TargetOutcome<T>> outcomes = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            outcomes.add(outcome(targets.get(i), futures.get(i)));
+        }
+        return outcomes;
+    }
+
+    /**
+     * Combines per-target exit codes: 0 if every target succeeded, the shared exit code if all failures
+     * agree on one, otherwise 1.
+     *
+     * @param outcomes the outcomes
+     * @return the combined exit code
+     */
+    public static int combinedExitCode(List<? extends TargetOutcome<?>> outcomes) {
+        Integer combined = null;
+        for (TargetOutcome<?> outcome : outcomes) {
+            if (outcome.result().isSuccess()) {
+                continue;
+            }
+            int exitCode = outcome.result().getExitCode();
+            if (combined == null) {
+                combined = exitCode;
+            } else if (combined != exitCode) {
+                return 1;
+            }
+        }
+        return combined != null ? combined : 0;
+    }
+
+    private <T> TargetOutcome<T> runOne(Target target, TargetTask<T> task) {
+        long start = System.nanoTime();
+        CommandResult<T> result;
+        if (outputMode == OutputMode.PREFIXED) {
+            String prefix = "[" + target.name() + "] ";
+            try (PrefixedOutputStream targetOut = new PrefixedOutputStream(prefix, out);
+                 PrefixedOutputStream targetErr = new PrefixedOutputStream(prefix, err)) {
+                result = task.run(target, targetOut, targetErr);
+            }
+        } else {
+            // stdout and stderr share one buffer so the block keeps their relative order
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            result = task.run(target, buffer, buffer);
+            synchronized (out) {
+                out.println("==> " + target.name() + " <==");
+                out.print(buffer.toString(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        }
+        return new TargetOutcome<>(target, result, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static <T> TargetOutcome<T> outcome(Target target, Future<TargetOutcome<T>> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return new TargetOutcome<>(target, CommandResult.processStartFailed(String.valueOf(cause.getMessage())), 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new TargetOutcome<>(target, CommandResult.processStartFailed("Interrupted"), 0);
+        } catch (CancellationException e) {
+            // Closing the pool while interrupted cancels the targets that had not started
+            return new TargetOutcome<>(target, CommandResult.processStartFailed("Interrupted"), 0);
+        }
+    }
+
+    /**
+     * The operation run for one target.
+     *
+     * @param <T> the response data type
+     */
+    @FunctionalInterface
+    public interface TargetTask<T> {
+
+        /**
+         * Runs the operation.
+         *
+         * @param target the target
+         * @param out    where the application's stdout should go
+         * @param err    where the application's stderr should go
+         * @return the result for this target
+         */
+        CommandResult<T> run(Target target, OutputStream out, OutputStream err);
+    }
+
+    /**
+     * The result of one target.
+     *
+     * @param target     the target
+     * @param result     its command result
+     * @param durationMs wall-clock time spent on it
+     * @param <T>        the response data type
+     */
+    public record TargetOutcome<T>(Target target, CommandResult<T> result, long durationMs) {
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.orchestration;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * One application run in a fan-out: a JAR plus the application arguments specific to it, e.g. the
+ * profile or datasource for one tenant.
+ *
+ * @param name    the label shown in prefixed output and the summary
+ * @param jar     the application JAR
+ * @param appArgs application arguments appended after the command's own passthrough arguments
+ */
+public record Target(String name, File jar, List<String> appArgs) {
+
+    public Target {
+        appArgs = List.copyOf(appArgs);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.orchestration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses a {@code --targets} file: one target per line.
+ *
+ * <pre>
+ *   # [name:] jar [application args...]
+ *   billing.jar
+ *   tenant-a: services/orders.jar --spring.profiles.active=tenant-a
+ *   tenant-b: services/orders.jar --spring.profiles.active=tenant-b "--app.greeting=hello world"
+ * </pre>
+ *
+ * <p>Blank lines and lines starting with {@code #} are ignored. Arguments are separated by whitespace and
+ * may be quoted with single or double quotes. Relative JAR paths are resolved against the file's
+ * directory. Without a name, the target is named after its JAR.</p>
+ */
+public final class TargetsFile {
+
+    private TargetsFile() {
+    }
+
+    /**
+     * Reads the targets in a file.
+     *
+     * @param file the targets file
+     * @return the targets, in file order
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public static List<Target> read(Path file) throws IOException {
+        Path baseDirectory = file.toAbsolutePath().getParent();
+        List<Target> targets = new ArrayList<>();
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            targets.add(parseLine(line, baseDirectory, file + ":" + (i + 1)));
+        }
+        return targets;
+    }
+
+    static Target parseLine(String line, Path baseDirectory, String location) {
+        List<String> tokens = tokenize(line, location);
+        String name = null;
+        if (tokens.get(0).endsWith(":")) {
+            name = tokens.remove(0);
+            name = name.substring(0, name.length() - 1);
+        }
+        if (tokens.isEmpty() || (name != null && name.isEmpty())) {
+            throw new IllegalArgumentException("Invalid target at " + location + ": expected '[name:] jar [args...]'");
+        }
+        Path jar = Path.of(tokens.remove(0));
+        if (!jar.isAbsolute() && baseDirectory != null) {
+            jar = baseDirectory.resolve(jar);
+        }
+        File jarFile = jar.normalize().toFile();
+        return new Target(name != null ? name : defaultName(jarFile), jarFile, tokens);
+    }
+
+    /**
+     * Returns the label used for a target without an explicit name.
+     *
+     * @param jar the target's JAR
+     * @return the JAR file name without its extension
+     */
+    public static String defaultName(File jar) {
+        String fileName = jar.getName();
+        return fileName.endsWith(".jar") ? fileName.substring(0, fileName.length() - 4) : fileName;
+    }
+
+    private static List<String> tokenize(String line, String location) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inToken = false;
+        char quote = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+                inToken = true;
+            } else if (Character.isWhitespace(c)) {
+                if (inToken) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                    inToken = false;
+                }
+            } else {
+                current.append(c);
+                inToken = true;
+            }
+        }
+        if (quote != 0) {
+            throw new IllegalArgumentException("Unterminated quote at " + location);
+        }
+        if (inToken) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.output;
+
+import io.flamingock.internal.common.core.response.data.AuditListResponseData.AuditEntryDto;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Prints audit entries as a table while they arrive from a {@link Flow.Publisher}.
+ *
+ * <p>Entries are requested {@value #WINDOW} at a time and each row is rendered as soon as it is received,
+ * so the memory used does not depend on how many entries the audit store returns. Rendered rows are
+ * written to stdout at the end of each window. The output matches {@link TableFormatter} followed by the
+ * state legend and total.</p>
+ */
+public class AuditTableSubscriber implements Flow.Subscriber<AuditEntryDto> {
+
+    /**
+     * How many entries are requested ahead of the one being printed.
+     */
+    static final int WINDOW = 256;
+
+    private final boolean extended;
+    private final boolean quiet;
+    private Flow.Subscription subscription;
+    private TableFormatter.Rows rows;
+    private long count;
+    private int remainingInWindow;
+    private Throwable error;
+
+    /**
+     * Creates a subscriber that prints to stdout.
+     *
+     * @param extended whether to print the extended columns
+     * @param quiet    whether to suppress the "no entries" notice
+     */
+    public AuditTableSubscriber(boolean extended, boolean quiet) {
+        this.extended = extended;
+        this.quiet = quiet;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        remainingInWindow = WINDOW;
+        subscription.request(WINDOW);
+    }
+
+    @Override
+    public void onNext(AuditEntryDto entry) {
+        if (rows == null) {
+            System.out.println();
+            TableFormatter tableFormatter = new TableFormatter();
+            rows = extended ? tableFormatter.startExtendedTable() : tableFormatter.startBasicTable();
+        }
+        rows.add(entry);
+        count++;
+        if (--remainingInWindow == 0) {
+            // Show this window's rows before the next one is read
+            rows.flush();
+            remainingInWindow = WINDOW;
+            subscription.request(WINDOW);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+        if (rows != null) {
+            rows.finish();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (rows == null) {
+            if (!quiet) {
+                ConsoleFormatter.printInfo("No audit entries found.");
+            }
+            return;
+        }
+        rows.finish();
+
+        TableFormatter.printStateLegend();
+
+        System.out.println();
+        System.out.println("Total: " + count + " entries");
+    }
+
+    /**
+     * Returns how many entries were printed.
+     *
+     * @return the entry count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns why the stream ended early, if it did.
+     *
+     * @return the error, or null if every entry was printed
+     */
+    public Throwable getError() {
+        return error;
+    }
+}
@@ -33,6 +33,17 @@ public final class ConsoleFormatter {
         System.out.println("flamingock v" + version);
     }
 
+    /**
+     * Prints the CLI header followed by the JVM profile the application will be started with.
+     *
+     * @param version    the CLI version
+     * @param jvmProfile the JVM profile id
+     */
+    public static void printHeader(String version, String jvmProfile) {
+        printHeader(version);
+        System.out.println("JVM profile: " + jvmProfile);
+    }
+
     /**
      * Prints a success message after successful execution.
      *
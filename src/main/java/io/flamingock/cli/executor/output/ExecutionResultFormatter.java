@@ -29,8 +29,9 @@ import io.flamingock.internal.common.core.response.data.StageResult;
 public final class ExecutionResultFormatter {
 
     private static final String SEPARATOR = "--------------------------------------------------------------------------------";
-    private static final int CHANGE_ID_WIDTH = 30;
-    private static final int AUTHOR_WIDTH = 20;
+    static final int CHANGE_ID_WIDTH = 30;
+    static final int AUTHOR_WIDTH = 20;
+    private static final String NEWLINE = System.lineSeparator();
 
     private ExecutionResultFormatter() {
     }
@@ -45,7 +46,7 @@ public final class ExecutionResultFormatter {
         StringBuilder sb = new StringBuilder("\n");
 
         for (StageResult stage : result.getStages()) {
-            sb.append(formatStage(stage));
+            appendStage(sb, stage);
         }
 
         // Print summary
@@ -53,16 +54,16 @@ public final class ExecutionResultFormatter {
         sb.append(centerText("EXECUTION SUMMARY", SEPARATOR.length())).append("\n");
         sb.append(SEPARATOR).append("\n");
 
-        sb.append(String.format("  Status:     %s%n", formatStatus(result.getStatus())));
-        sb.append(String.format("  Duration:   %s%n", formatDuration(result.getTotalDurationMs())));
-        sb.append(formatStagesSummary(result));
-        sb.append(formatChangesSummary(result));
+        sb.append("  Status:     ").append(formatStatus(result.getStatus())).append(NEWLINE);
+        sb.append("  Duration:   ").append(formatDuration(result.getTotalDurationMs())).append(NEWLINE);
+        appendStagesSummary(sb, result);
+        appendChangesSummary(sb, result);
 
         // Print error details from failed stages
         if (result.isFailed()) {
             for (StageResult stage : result.getStages()) {
                 if (stage.isFailed() && stage.getState().getErrorInfo().isPresent()) {
-                    sb.append(formatErrorDetails(stage.getState().getErrorInfo().get()));
+                    appendErrorDetails(sb, stage.getState().getErrorInfo().get());
                 }
             }
         }
@@ -75,35 +76,30 @@ public final class ExecutionResultFormatter {
     /**
      * Formats a single stage with its changes.
      */
-    private static String formatStage(StageResult stage) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(String.format("%n  Stage: %s%n", stage.getStageName()));
+    private static void appendStage(StringBuilder sb, StageResult stage) {
+        sb.append(NEWLINE).append("  Stage: ").append(stage.getStageName()).append(NEWLINE);
 
         for (ChangeResult change : stage.getChanges()) {
-            sb.append(formatChange(change));
+            appendChange(sb, change);
         }
-
-        return sb.toString();
     }
 
     /**
      * Formats a single change result line.
      */
-    private static String formatChange(ChangeResult change) {
-        String statusLabel = formatChangeStatus(change.getStatus());
-        String changeId = truncateOrPad(change.getChangeId(), CHANGE_ID_WIDTH);
-        String author = change.getAuthor() != null
-                ? truncateOrPad("(author: " + change.getAuthor() + ")", AUTHOR_WIDTH)
-                : truncateOrPad("", AUTHOR_WIDTH);
-        String duration = formatChangeDuration(change);
-
-        return String.format("    [%s]  %s  %s  %s%n", statusLabel, changeId, author, duration);
+    private static void appendChange(StringBuilder sb, ChangeResult change) {
+        sb.append("    [").append(formatChangeStatus(change.getStatus())).append("]  ");
+        appendTruncatedOrPadded(sb, change.getChangeId(), CHANGE_ID_WIDTH);
+        sb.append("  ");
+        appendTruncatedOrPadded(sb, change.getAuthor() != null ? "(author: " + change.getAuthor() + ")" : "",
+                AUTHOR_WIDTH);
+        sb.append("  ").append(formatChangeDuration(change)).append(NEWLINE);
     }
 
     /**
      * Formats the change status for display.
      */
-    private static String formatChangeStatus(ChangeStatus status) {
+    static String formatChangeStatus(ChangeStatus status) {
         switch (status) {
             case APPLIED:
                 return "APPLIED";
@@ -140,43 +136,41 @@ public final class ExecutionResultFormatter {
     /**
      * Formats the stages summary line.
      */
-    private static String formatStagesSummary(ExecuteResponseData result) {
+    private static void appendStagesSummary(StringBuilder sb, ExecuteResponseData result) {
+        sb.append("  Stages:     ").append(result.getCompletedStages()).append(" completed");
         if (result.getFailedStages() > 0) {
-            return String.format("  Stages:     %d completed, %d failed%n",
-                    result.getCompletedStages(), result.getFailedStages());
-        } else {
-            return String.format("  Stages:     %d completed%n", result.getCompletedStages());
+            sb.append(", ").append(result.getFailedStages()).append(" failed");
         }
+        sb.append(NEWLINE);
     }
 
     /**
      * Formats the changes summary line.
      */
-    private static String formatChangesSummary(ExecuteResponseData result) {
+    private static void appendChangesSummary(StringBuilder sb, ExecuteResponseData result) {
         int skipped = result.getAlreadyAppliedChanges() + result.getNotReachedChanges();
-        return String.format("  Changes:    %d applied, %d skipped, %d failed%n",
-                result.getAppliedChanges(), skipped, result.getFailedChanges());
+        sb.append("  Changes:    ").append(result.getAppliedChanges()).append(" applied, ")
+                .append(skipped).append(" skipped, ")
+                .append(result.getFailedChanges()).append(" failed").append(NEWLINE);
     }
 
     /**
      * Formats error details section.
      */
-    private static String formatErrorDetails(ErrorInfo error) {
-        StringBuilder sb = new StringBuilder();
+    private static void appendErrorDetails(StringBuilder sb, ErrorInfo error) {
         sb.append("\n  Error:\n");
         if (error.getChangeIds() != null && !error.getChangeIds().isEmpty()) {
-            sb.append(String.format("    Changes:  %s%n", String.join(", ", error.getChangeIds())));
+            sb.append("    Changes:  ").append(String.join(", ", error.getChangeIds())).append(NEWLINE);
         }
         if (error.getStageId() != null) {
-            sb.append(String.format("    Stage:    %s%n", error.getStageId()));
+            sb.append("    Stage:    ").append(error.getStageId()).append(NEWLINE);
         }
         if (error.getErrorType() != null) {
-            sb.append(String.format("    Type:     %s%n", error.getErrorType()));
+            sb.append("    Type:     ").append(error.getErrorType()).append(NEWLINE);
         }
         if (error.getMessage() != null) {
-            sb.append(String.format("    Message:  %s%n", error.getMessage()));
+            sb.append("    Message:  ").append(error.getMessage()).append(NEWLINE);
         }
-        return sb.toString();
     }
 
     /**
@@ -195,7 +189,7 @@ public final class ExecutionResultFormatter {
     /**
      * Formats duration in human-readable format.
      */
-    private static String formatDuration(long millis) {
+    static String formatDuration(long millis) {
         if (millis < 1000) {
             return millis + "ms";
         } else if (millis < 60000) {
@@ -208,14 +202,22 @@ public final class ExecutionResultFormatter {
     /**
      * Truncates or pads a string to the specified width.
      */
-    private static String truncateOrPad(String s, int width) {
+    static String truncateOrPad(String s, int width) {
+        return appendTruncatedOrPadded(new StringBuilder(width), s, width).toString();
+    }
+
+    private static StringBuilder appendTruncatedOrPadded(StringBuilder sb, String s, int width) {
         if (s == null) {
             s = "";
         }
         if (s.length() > width) {
-            return s.substring(0, width - 3) + "...";
+            return sb.append(s, 0, width - 3).append("...");
         }
-        return String.format("%-" + width + "s", s);
+        sb.append(s);
+        for (int i = s.length(); i < width; i++) {
+            sb.append(' ');
+        }
+        return sb;
     }
 
     /**
@@ -235,6 +237,8 @@ public final class ExecutionResultFormatter {
      * @param result the execution result data
      */
     public static void print(ExecuteResponseData result) {
-        System.out.print(format(result));
+        try (RenderBuffer out = RenderBuffer.stdout()) {
+            out.append(format(result));
+        }
     }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.output;
+
+import io.flamingock.cli.executor.orchestration.CommandResult;
+import io.flamingock.cli.executor.orchestration.FanOutRunner.TargetOutcome;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Formats the per-target summary printed after a fan-out run.
+ */
+public final class FanOutSummaryFormatter {
+
+    private static final List<TableColumn> COLUMNS = List.of(
+            new TableColumn("Target", 24),
+            new TableColumn("Status", 9, TableColumn.Alignment.CENTER),
+            new TableColumn("Result", 34),
+            new TableColumn("Duration", 10, TableColumn.Alignment.RIGHT));
+
+    private FanOutSummaryFormatter() {
+    }
+
+    /**
+     * Formats the summary table followed by the errors of failed targets.
+     *
+     * @param outcomes the outcomes, in target order
+     * @param details  describes a successful target's data for the Result column
+     * @param <T>      the response data type
+     * @return the formatted summary
+     */
+    public static <T> String format(List<TargetOutcome<T>> outcomes, Function<T, String> details) {
+        StringBuilder sb = new StringBuilder("\n");
+        border(sb, "┌", "┬", "┐");
+        sb.append("│");
+        for (TableColumn column : COLUMNS) {
+            sb.append(new TableColumn(column.getTitle(), column.getWidth(), TableColumn.Alignment.CENTER).format(column.getTitle()))
+                    .append("│");
+        }
+        sb.append("\n");
+        border(sb, "├", "┼", "┤");
+
+        int failed = 0;
+        for (TargetOutcome<T> outcome : outcomes) {
+            CommandResult<T> result = outcome.result();
+            if (!result.isSuccess()) {
+                failed++;
+            }
+            String detail = result.isSuccess()
+                    ? (result.getData() != null ? details.apply(result.getData()) : "-")
+                    : result.getErrorCode();
+            row(sb, outcome.target().name(),
+                    result.isSuccess() ? "OK" : "FAILED",
+                    detail,
+                    ExecutionResultFormatter.formatDuration(outcome.durationMs()));
+        }
+        border(sb, "└", "┴", "┘");
+
+        sb.append(String.format("%d targets: %d succeeded, %d failed%n", outcomes.size(), outcomes.size() - failed, failed));
+
+        for (TargetOutcome<T> outcome : outcomes) {
+            CommandResult<T> result = outcome.result();
+            if (!result.isSuccess() && result.getErrorMessage() != null) {
+                sb.append(String.format("%n  [%s] Error (%s): %s%n",
+                        outcome.target().name(), result.getErrorCode(), result.getErrorMessage()));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Prints the summary to standard output.
+     *
+     * @param outcomes the outcomes, in target order
+     * @param details  describes a successful target's data for the Result column
+     * @param <T>      the response data type
+     */
+    public static <T> void print(List<TargetOutcome<T>> outcomes, Function<T, String> details) {
+        System.out.print(format(outcomes, details));
+    }
+
+    private static void row(StringBuilder sb, String... values) {
+        sb.append("│");
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            sb.append(COLUMNS.get(i).format(values[i])).append("│");
+        }
+        sb.append("\n");
+    }
+
+    private static void border(StringBuilder sb, String left, String middle, String right) {
+        sb.append(left);
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            sb.append("─".repeat(COLUMNS.get(i).getWidth()));
+            sb.append(i < COLUMNS.size() - 1 ? middle : right);
+        }
+        sb.append("\n");
+    }
+}
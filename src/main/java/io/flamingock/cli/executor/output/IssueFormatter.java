@@ -47,21 +47,24 @@ public class IssueFormatter {
             return;
         }
 
-        // Simple table format
-        String format = "%-32s %-15s %-21s %s%n";
-        System.out.printf(format, "Change ID", "State", "Time", "Error Summary");
-        System.out.println(repeat("-", 100));
-
-        for (IssueSummaryDto issue : data.getIssues()) {
-            String state = issue.getState() != null ? colorState(issue.getState()) : "UNKNOWN";
-            String time = issue.getCreatedAt() != null ? issue.getCreatedAt().format(TIME_FORMATTER) : "-";
-            String errorSummary = issue.getErrorSummary() != null ? issue.getErrorSummary() : "-";
-
-            System.out.printf("%-32s %s %-21s %s%n",
-                    truncate(issue.getChangeId(), 30),
-                    padState(state, issue.getState(), 15),
-                    time,
-                    errorSummary);
+        // Simple table format: Change ID (32), State (15), Time (21), Error Summary
+        try (RenderBuffer out = RenderBuffer.stdout()) {
+            appendPadded(out, "Change ID", 32).append(' ');
+            appendPadded(out, "State", 15).append(' ');
+            appendPadded(out, "Time", 21).append(' ');
+            out.line("Error Summary");
+            out.repeat("-", 100).newLine();
+
+            for (IssueSummaryDto issue : data.getIssues()) {
+                String state = issue.getState() != null ? colorState(issue.getState()) : "UNKNOWN";
+                String time = issue.getCreatedAt() != null ? issue.getCreatedAt().format(TIME_FORMATTER) : "-";
+                String errorSummary = issue.getErrorSummary() != null ? issue.getErrorSummary() : "-";
+
+                appendPadded(out, truncate(issue.getChangeId(), 30), 32).append(' ');
+                out.append(padState(state, issue.getState(), 15)).append(' ');
+                appendPadded(out, time, 21).append(' ');
+                out.line(errorSummary);
+            }
         }
     }
 
@@ -76,66 +79,72 @@ public class IssueFormatter {
             return;
         }
 
+        try (RenderBuffer out = RenderBuffer.stdout()) {
+            appendDetail(out, data, withGuidance);
+        }
+    }
+
+    private static void appendDetail(RenderBuffer out, IssueGetResponseData data, boolean withGuidance) {
         // Overview section
-        System.out.println(BOLD + "📋 OVERVIEW" + RESET);
-        System.out.println("  Change ID:         " + data.getChangeId());
-        System.out.println("  State:             " + colorState(data.getState()));
-        System.out.println("  Author:            " + (data.getAuthor() != null ? data.getAuthor() : "-"));
-        System.out.println("  Created At:        " + (data.getCreatedAt() != null ? data.getCreatedAt().format(TIME_FORMATTER) : "-"));
-        System.out.println("  Execution ID:      " + (data.getExecutionId() != null ? data.getExecutionId() : "-"));
-        System.out.println("  Duration:          " + formatDuration(data.getExecutionMillis()));
-        System.out.println("  Target System:     " + (data.getTargetSystemId() != null ? data.getTargetSystemId() : "-"));
-        System.out.println("  Recovery Strategy: " + (data.getRecoveryStrategy() != null ? data.getRecoveryStrategy() : "-"));
-        System.out.println();
+        out.line(BOLD + "📋 OVERVIEW" + RESET);
+        out.line("  Change ID:         " + data.getChangeId());
+        out.line("  State:             " + colorState(data.getState()));
+        out.line("  Author:            " + (data.getAuthor() != null ? data.getAuthor() : "-"));
+        out.line("  Created At:        " + (data.getCreatedAt() != null ? data.getCreatedAt().format(TIME_FORMATTER) : "-"));
+        out.line("  Execution ID:      " + (data.getExecutionId() != null ? data.getExecutionId() : "-"));
+        out.line("  Duration:          " + formatDuration(data.getExecutionMillis()));
+        out.line("  Target System:     " + (data.getTargetSystemId() != null ? data.getTargetSystemId() : "-"));
+        out.line("  Recovery Strategy: " + (data.getRecoveryStrategy() != null ? data.getRecoveryStrategy() : "-"));
+        out.newLine();
 
         // Execution details
-        System.out.println(BOLD + "📍 EXECUTION DETAILS" + RESET);
-        System.out.println("  Class:             " + (data.getClassName() != null ? data.getClassName() : "-"));
-        System.out.println("  Method:            " + (data.getMethodName() != null ? data.getMethodName() : "-"));
-        System.out.println("  Hostname:          " + (data.getExecutionHostname() != null ? data.getExecutionHostname() : "-"));
-        System.out.println();
+        out.line(BOLD + "📍 EXECUTION DETAILS" + RESET);
+        out.line("  Class:             " + (data.getClassName() != null ? data.getClassName() : "-"));
+        out.line("  Method:            " + (data.getMethodName() != null ? data.getMethodName() : "-"));
+        out.line("  Hostname:          " + (data.getExecutionHostname() != null ? data.getExecutionHostname() : "-"));
+        out.newLine();
 
         // Error details
-        System.out.println(BOLD + "⚠️  ERROR DETAILS" + RESET);
+        out.line(BOLD + "⚠️  ERROR DETAILS" + RESET);
         if (data.getErrorTrace() != null && !data.getErrorTrace().isEmpty()) {
             // Print error trace with indentation
             String[] lines = data.getErrorTrace().split("\n");
             for (String line : lines) {
-                System.out.println("  " + RED + line + RESET);
+                out.line("  " + RED + line + RESET);
             }
         } else {
-            System.out.println("  No error trace available");
+            out.line("  No error trace available");
         }
-        System.out.println();
+        out.newLine();
 
         // Resolution guidance
         if (withGuidance) {
-            printGuidance(data);
+            appendGuidance(out, data);
         }
     }
 
-    private static void printGuidance(IssueGetResponseData data) {
-        System.out.println(BOLD + "🔧 RESOLUTION GUIDANCE" + RESET);
-        System.out.println();
-        System.out.println("  To resolve this issue, follow these steps:");
-        System.out.println();
-        System.out.println("  1. " + CYAN + "Review the error" + RESET + " - Examine the error trace above to understand what went wrong");
-        System.out.println();
-        System.out.println("  2. " + CYAN + "Verify actual state" + RESET + " - Check your target system to determine if the change was:");
-        System.out.println("     - Successfully applied (despite the error)");
-        System.out.println("     - Partially applied (requires manual cleanup)");
-        System.out.println("     - Not applied at all (can be retried)");
-        System.out.println();
-        System.out.println("  3. " + CYAN + "Fix the audit state" + RESET + " - Once you've verified the actual state, mark it accordingly:");
-        System.out.println();
-        System.out.println("     If the change WAS successfully applied:");
-        System.out.println("     " + YELLOW + "flamingock audit fix --jar app.jar -c " + data.getChangeId() + " -r APPLIED" + RESET);
-        System.out.println();
-        System.out.println("     If the change was NOT applied (or you've rolled it back):");
-        System.out.println("     " + YELLOW + "flamingock audit fix --jar app.jar -c " + data.getChangeId() + " -r ROLLED_BACK" + RESET);
-        System.out.println();
-        System.out.println("  4. " + CYAN + "Retry execution" + RESET + " - After fixing, run the application again to continue");
-        System.out.println();
+    private static void appendGuidance(RenderBuffer out, IssueGetResponseData data) {
+        out.line(BOLD + "🔧 RESOLUTION GUIDANCE" + RESET);
+        out.newLine();
+        out.line("  To resolve this issue, follow these steps:");
+        out.newLine();
+        out.line("  1. " + CYAN + "Review the error" + RESET + " - Examine the error trace above to understand what went wrong");
+        out.newLine();
+        out.line("  2. " + CYAN + "Verify actual state" + RESET + " - Check your target system to determine if the change was:");
+        out.line("     - Successfully applied (despite the error)");
+        out.line("     - Partially applied (requires manual cleanup)");
+        out.line("     - Not applied at all (can be retried)");
+        out.newLine();
+        out.line("  3. " + CYAN + "Fix the audit state" + RESET + " - Once you've verified the actual state, mark it accordingly:");
+        out.newLine();
+        out.line("     If the change WAS successfully applied:");
+        out.line("     " + YELLOW + "flamingock audit fix --jar app.jar -c " + data.getChangeId() + " -r APPLIED" + RESET);
+        out.newLine();
+        out.line("     If the change was NOT applied (or you've rolled it back):");
+        out.line("     " + YELLOW + "flamingock audit fix --jar app.jar -c " + data.getChangeId() + " -r ROLLED_BACK" + RESET);
+        out.newLine();
+        out.line("  4. " + CYAN + "Retry execution" + RESET + " - After fixing, run the application again to continue");
+        out.newLine();
     }
 
     private static String colorState(String state) {
@@ -185,6 +194,10 @@ public class IssueFormatter {
         }
     }
 
+    private static RenderBuffer appendPadded(RenderBuffer out, String value, int width) {
+        return out.append(value).spaces(width - value.length());
+    }
+
     private static String repeat(String str, int count) {
         StringBuilder sb = new StringBuilder(count);
         for (int i = 0; i < count; i++) {
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.output;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes complete lines to a shared stream, each preceded by a prefix such as {@code [billing] }.
+ *
+ * <p>Lines are buffered until their newline and then written while holding the shared stream's lock, so
+ * lines from concurrent writers never interleave mid-line. A trailing partial line is written on close.</p>
+ */
+public class PrefixedOutputStream extends OutputStream {
+
+    private static final int MAX_LINE = 64 * 1024;
+
+    private final byte[] prefix;
+    private final PrintStream target;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+    /**
+     * Creates a prefixing stream.
+     *
+     * @param prefix the text put in front of every line
+     * @param target the shared stream to write to
+     */
+    public PrefixedOutputStream(String prefix, PrintStream target) {
+        this.prefix = prefix.getBytes(StandardCharsets.UTF_8);
+        this.target = target;
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        line.write(b);
+        if (b == '\n' || line.size() >= MAX_LINE) {
+            emit();
+        }
+    }
+
+    @Override
+    public synchronized void write(byte[] buffer, int offset, int length) {
+        int start = offset;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (buffer[i] == '\n') {
+                line.write(buffer, start, i + 1 - start);
+                emit();
+                start = i + 1;
+            }
+        }
+        line.write(buffer, start, end - start);
+        if (line.size() >= MAX_LINE) {
+            emit();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (line.size() > 0) {
+            line.write('\n');
+            emit();
+        }
+    }
+
+    private void emit() {
+        synchronized (target) {
+            target.write(prefix, 0, prefix.length);
+            target.write(line.toByteArray(), 0, line.size());
+            target.flush();
+        }
+        line.reset();
+    }
+}
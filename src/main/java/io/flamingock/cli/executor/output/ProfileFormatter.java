@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.output;
+
+import io.flamingock.cli.executor.process.FlightRecordingSummary;
+import io.flamingock.cli.executor.process.FlightRecordingSummary.Entry;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongFunction;
+
+/**
+ * Prints the summary of a {@code --profile} recording.
+ *
+ * <p>Written to stderr, so it never mixes with JSON on stdout.</p>
+ */
+public final class ProfileFormatter {
+
+    private ProfileFormatter() {
+    }
+
+    /**
+     * Summarizes and prints a recording, if there is one.
+     *
+     * @param recording       the {@code .jfr} file, or null to print nothing
+     * @param operationMillis the operation duration the application reported, or 0 if unknown
+     */
+    public static void print(Path recording, long operationMillis) {
+        if (recording == null) {
+            return;
+        }
+        PrintStream err = System.err;
+        try {
+            err.print(format(FlightRecordingSummary.read(recording, operationMillis)));
+        } catch (IOException | RuntimeException e) {
+            err.println();
+            err.println("Profile: could not summarize " + recording + ": " + e.getMessage());
+        }
+        err.flush();
+    }
+
+    /**
+     * Formats the summary.
+     *
+     * @param summary the recording summary
+     * @return the text
+     */
+    static String format(FlightRecordingSummary summary) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%nProfile (%s)%n", summary.getWindow() != null
+                ? "operation window, last " + ExecutionResultFormatter.formatDuration(summary.getWindow().toMillis())
+                : "whole run"));
+        section(sb, "Top CPU methods", summary.getCpuMethods(), samples -> samples + " samples");
+        section(sb, "Top allocation sites", summary.getAllocationSites(), ProfileFormatter::bytes);
+        sb.append("  GC pauses\n");
+        if (summary.getGcPauses() == 0) {
+            sb.append("    none\n");
+        } else {
+            sb.append(String.format("    %d collections, %s paused, longest %s%n", summary.getGcPauses(),
+                    ExecutionResultFormatter.formatDuration(summary.getGcPauseTotal().toMillis()),
+                    ExecutionResultFormatter.formatDuration(summary.getGcPauseLongest().toMillis())));
+        }
+        section(sb, "Socket reads (JDBC and other drivers)", summary.getSocketReads(), ProfileFormatter::nanos);
+        section(sb, "Lock contention", summary.getLockContention(), ProfileFormatter::nanos);
+        sb.append(String.format("  Recording: %s%n", summary.getRecording()));
+        return sb.toString();
+    }
+
+    private static void section(StringBuilder sb, String title, List<Entry> entries, LongFunction<String> value) {
+        sb.append("  ").append(title).append('\n');
+        if (entries.isEmpty()) {
+            sb.append("    none\n");
+            return;
+        }
+        for (Entry entry : entries) {
+            sb.append(String.format("    %12s  %s (%d)%n", value.apply(entry.value()), entry.name(), entry.count()));
+        }
+    }
+
+    private static String nanos(long nanos) {
+        return ExecutionResultFormatter.formatDuration(nanos / 1_000_000);
+    }
+
+    private static String bytes(long bytes) {
+        if (bytes >= 1L << 30) {
+            return String.format(Locale.ROOT, "%.1f GB", bytes / (double) (1L << 30));
+        }
+        if (bytes >= 1L << 20) {
+            return String.format(Locale.ROOT, "%.1f MB", bytes / (double) (1L << 20));
+        }
+        return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.output;
+
+import io.flamingock.cli.executor.progress.ExecutionProgress;
+import io.flamingock.cli.executor.progress.ProgressEvent;
+import io.flamingock.cli.executor.progress.ProgressListener;
+import io.flamingock.internal.common.core.response.data.ChangeStatus;
+
+import java.io.PrintStream;
+
+/**
+ * Prints live execution progress, one line per stage start and change start/finish, while the
+ * application runs.
+ *
+ * <p>Lines use the same layout as {@link ExecutionResultFormatter}, with a running
+ * {@code [done/total]} counter, so a long migration never looks hung.</p>
+ */
+public class ProgressFormatter implements ProgressListener {
+
+    private final PrintStream out;
+
+    /**
+     * Creates a formatter that prints to standard output.
+     */
+    public ProgressFormatter() {
+        this(null);
+    }
+
+    /**
+     * Creates a formatter that prints to the given stream.
+     *
+     * @param out the stream, or null for the current {@code System.out}
+     */
+    public ProgressFormatter(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void onEvent(ProgressEvent event, ExecutionProgress progress) {
+        String line = format(event, progress);
+        if (line != null) {
+            PrintStream stream = out != null ? out : System.out;
+            stream.print(line);
+            stream.flush();
+        }
+    }
+
+    /**
+     * Formats one event.
+     *
+     * @param event    the event
+     * @param progress the progress including the event
+     * @return the line to print, or null if the event is not shown
+     */
+    static String format(ProgressEvent event, ExecutionProgress progress) {
+        switch (event.type()) {
+            case ProgressEvent.STAGE_STARTED:
+                return String.format("%n  Stage: %s%n", progress.getCurrentStageName());
+            case ProgressEvent.CHANGE_STARTED:
+                return formatChange("RUNNING", event, "", progress);
+            case ProgressEvent.CHANGE_FINISHED:
+                ChangeStatus status = parseStatus(event.status());
+                String duration = event.durationMs() != null
+                        ? ExecutionResultFormatter.formatDuration(event.durationMs())
+                        : "";
+                return formatChange(status != null ? ExecutionResultFormatter.formatChangeStatus(status) : "DONE   ",
+                        event, duration, progress);
+            default:
+                return null;
+        }
+    }
+
+    private static String formatChange(String statusLabel, ProgressEvent event, String duration,
+                                       ExecutionProgress progress) {
+        String changeId = ExecutionResultFormatter.truncateOrPad(event.changeId(), ExecutionResultFormatter.CHANGE_ID_WIDTH);
+        String author = event.author() != null
+                ? ExecutionResultFormatter.truncateOrPad("(author: " + event.author() + ")", ExecutionResultFormatter.AUTHOR_WIDTH)
+                : ExecutionResultFormatter.truncateOrPad("", ExecutionResultFormatter.AUTHOR_WIDTH);
+        return String.format("    [%-7s]  %s  %s  %-8s %s%n",
+                statusLabel, changeId, author, duration, counter(progress));
+    }
+
+    private static String counter(ExecutionProgress progress) {
+        int total = progress.getTotalChanges();
+        return total > 0
+                ? "[" + progress.getFinishedChanges() + "/" + total + "]"
+                : "[" + progress.getFinishedChanges() + "]";
+    }
+
+    private static ChangeStatus parseStatus(String status) {
+        if (status == null) {
+            return ChangeStatus.APPLIED;
+        }
+        try {
+            return ChangeStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.output;
+
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Collects rendered console text and writes it to a stream in large, already encoded chunks.
+ *
+ * <p>Printing a table cell by cell through {@code System.out} takes the stream's lock, encodes and may
+ * flush on every call. Formatters append to this buffer instead; the text is encoded with the stream's
+ * charset and handed over in one {@link PrintStream#write(byte[], int, int)} per chunk, either when a line
+ * ends past {@value #FLUSH_THRESHOLD} characters or on {@link #flush()}. The character and byte buffers are
+ * reused from chunk to chunk.</p>
+ *
+ * <p>Nothing reaches the stream until a flush, so callers flush (or close) before anything else prints.
+ * Not thread-safe.</p>
+ */
+public final class RenderBuffer implements AutoCloseable {
+
+    /**
+     * Characters collected before a line end hands them to the stream.
+     */
+    static final int FLUSH_THRESHOLD = 32 * 1024;
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String SPACES = " ".repeat(64);
+
+    private final PrintStream out;
+    private final CharsetEncoder encoder;
+    private final StringBuilder text = new StringBuilder(FLUSH_THRESHOLD + 1024);
+    private char[] chars = new char[0];
+    private ByteBuffer bytes;
+
+    /**
+     * Creates a buffer that writes to the given stream.
+     *
+     * @param out the destination stream
+     */
+    public RenderBuffer(PrintStream out) {
+        this.out = out;
+        this.encoder = out.charset().newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Creates a buffer that writes to the current {@code System.out}.
+     *
+     * @return a new buffer
+     */
+    public static RenderBuffer stdout() {
+        return new RenderBuffer(System.out);
+    }
+
+    /**
+     * Appends text; null is appended as {@code "null"}, like {@link StringBuilder#append(String)}.
+     *
+     * @param value the text
+     * @return this buffer
+     */
+    public RenderBuffer append(String value) {
+        text.append(value);
+        return this;
+    }
+
+    /**
+     * Appends a range of a character sequence.
+     *
+     * @param value the characters
+     * @param start the first index
+     * @param end   the index after the last
+     * @return this buffer
+     */
+    public RenderBuffer append(CharSequence value, int start, int end) {
+        text.append(value, start, end);
+        return this;
+    }
+
+    /**
+     * Appends a single character.
+     *
+     * @param value the character
+     * @return this buffer
+     */
+    public RenderBuffer append(char value) {
+        text.append(value);
+        return this;
+    }
+
+    /**
+     * Appends a number in decimal.
+     *
+     * @param value the number
+     * @return this buffer
+     */
+    public RenderBuffer append(long value) {
+        text.append(value);
+        return this;
+    }
+
+    /**
+     * Appends a number of spaces.
+     *
+     * @param count how many; nothing is appended when zero or negative
+     * @return this buffer
+     */
+    public RenderBuffer spaces(int count) {
+        for (int remaining = count; remaining > 0; remaining -= SPACES.length()) {
+            text.append(SPACES, 0, Math.min(remaining, SPACES.length()));
+        }
+        return this;
+    }
+
+    /**
+     * Appends a string several times.
+     *
+     * @param value the string to repeat
+     * @param count how many times
+     * @return this buffer
+     */
+    public RenderBuffer repeat(String value, int count) {
+        for (int i = 0; i < count; i++) {
+            text.append(value);
+        }
+        return this;
+    }
+
+    /**
+     * Ends the current line, writing the collected text to the stream once it is large enough.
+     *
+     * @return this buffer
+     */
+    public RenderBuffer newLine() {
+        text.append(LINE_SEPARATOR);
+        if (text.length() >= FLUSH_THRESHOLD) {
+            drain();
+        }
+        return this;
+    }
+
+    /**
+     * Appends text followed by a line end.
+     *
+     * @param line the line
+     * @return this buffer
+     */
+    public RenderBuffer line(String line) {
+        text.append(line);
+        return newLine();
+    }
+
+    /**
+     * Writes everything collected so far and flushes the stream.
+     */
+    public void flush() {
+        drain();
+        out.flush();
+    }
+
+    /**
+     * Flushes the buffer; the stream itself stays open.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void drain() {
+        int length = text.length();
+        if (length == 0) {
+            return;
+        }
+        if (chars.length < length) {
+            chars = new char[Math.max(length, FLUSH_THRESHOLD + 1024)];
+        }
+        text.getChars(0, length, chars, 0);
+        text.setLength(0);
+        if (bytes == null) {
+            bytes = ByteBuffer.allocate((int) Math.ceil(FLUSH_THRESHOLD * (double) encoder.maxBytesPerChar()));
+        }
+
+        CharBuffer input = CharBuffer.wrap(chars, 0, length);
+        encoder.reset();
+        CoderResult result;
+        do {
+            result = encoder.encode(input, bytes, true);
+            writeBytes();
+        } while (result.isOverflow());
+        do {
+            result = encoder.flush(bytes);
+            writeBytes();
+        } while (result.isOverflow());
+    }
+
+    private void writeBytes() {
+        if (bytes.position() > 0) {
+            out.write(bytes.array(), 0, bytes.position());
+            bytes.clear();
+        }
+    }
+}
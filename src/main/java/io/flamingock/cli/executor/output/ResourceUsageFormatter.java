@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.output;
+
+import io.flamingock.cli.executor.process.ResourceUsage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Formats what the application process consumed, to help size {@code -Xmx} and CI runners.
+ */
+public final class ResourceUsageFormatter {
+
+    private ResourceUsageFormatter() {
+    }
+
+    /**
+     * Prints a one-line resource summary.
+     *
+     * @param usage           the sampled usage, or null to print nothing
+     * @param operationMillis the operation duration the application reported, or 0 if unknown
+     */
+    public static void print(ResourceUsage usage, long operationMillis) {
+        if (usage != null) {
+            System.out.println(format(usage, operationMillis));
+        }
+    }
+
+    /**
+     * Formats a one-line resource summary, e.g.
+     * {@code Resources: wall 12.4s (boot 3.1s, operation 9.3s) | CPU 21.0s | GC 350ms | peak RSS 412 MB | threads 41}.
+     *
+     * @param usage           the sampled usage
+     * @param operationMillis the operation duration the application reported, or 0 if unknown
+     * @return the summary
+     */
+    static String format(ResourceUsage usage, long operationMillis) {
+        StringJoiner parts = new StringJoiner(" | ", "Resources: ", "");
+        String wall = "wall " + ExecutionResultFormatter.formatDuration(usage.getWallMillis());
+        long boot = usage.getBootMillis(operationMillis);
+        if (boot != ResourceUsage.UNKNOWN) {
+            wall += " (boot " + ExecutionResultFormatter.formatDuration(boot)
+                    + ", operation " + ExecutionResultFormatter.formatDuration(operationMillis) + ")";
+        }
+        parts.add(wall);
+        if (usage.getCpuMillis() != ResourceUsage.UNKNOWN) {
+            parts.add("CPU " + ExecutionResultFormatter.formatDuration(usage.getCpuMillis()));
+        }
+        if (usage.getGcMillis() != ResourceUsage.UNKNOWN) {
+            parts.add("GC " + ExecutionResultFormatter.formatDuration(usage.getGcMillis()));
+        }
+        if (usage.getPeakRssBytes() != ResourceUsage.UNKNOWN) {
+            parts.add("peak RSS " + (usage.getPeakRssBytes() + (1 << 19)) / (1 << 20) + " MB");
+        }
+        if (usage.getPeakThreads() != ResourceUsage.UNKNOWN) {
+            parts.add("threads " + usage.getPeakThreads());
+        }
+        return parts.toString();
+    }
+
+    /**
+     * Converts the usage to a JSON-ready map, leaving out values that could not be measured.
+     *
+     * @param usage           the sampled usage
+     * @param operationMillis the operation duration the application reported, or 0 if unknown
+     * @return the map
+     */
+    public static Map<String, Object> toMap(ResourceUsage usage, long operationMillis) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("wallMs", usage.getWallMillis());
+        putKnown(map, "bootMs", usage.getBootMillis(operationMillis));
+        if (operationMillis > 0) {
+            map.put("operationMs", operationMillis);
+        }
+        putKnown(map, "cpuMs", usage.getCpuMillis());
+        putKnown(map, "gcMs", usage.getGcMillis());
+        putKnown(map, "peakRssBytes", usage.getPeakRssBytes());
+        putKnown(map, "peakThreads", usage.getPeakThreads());
+        return map;
+    }
+
+    private static void putKnown(Map<String, Object> map, String key, long value) {
+        if (value != ResourceUsage.UNKNOWN) {
+            map.put(key, value);
+        }
+    }
+}
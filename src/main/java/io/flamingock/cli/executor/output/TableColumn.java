@@ -61,6 +61,48 @@ public class TableColumn {
         return align(truncated);
     }
 
+    /**
+     * Append text formatted according to column width and alignment, as {@link #format(String)} would.
+     *
+     * <p>Text made of plain single-width characters that fits the column, the common case for table
+     * cells, is padded in place without building intermediate strings.</p>
+     *
+     * @param out  the buffer to append to
+     * @param text the text to format
+     */
+    public void appendTo(RenderBuffer out, String text) {
+        if (text == null || text.length() > width || !isSingleWidth(text)) {
+            out.append(format(text));
+            return;
+        }
+        int padding = width - text.length();
+        switch (alignment) {
+            case RIGHT:
+                out.spaces(padding).append(text);
+                break;
+            case CENTER:
+                int leftPad = padding / 2;
+                out.spaces(leftPad).append(text).spaces(padding - leftPad);
+                break;
+            case LEFT:
+            default:
+                out.append(text).spaces(padding);
+        }
+    }
+
+    /**
+     * Check whether every character counts as one visual column, so the visual length is the string length.
+     */
+    private static boolean isSingleWidth(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            // Below the first emoji block and outside surrogates and variation selectors
+            if (text.charAt(i) >= 0x2300) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Truncate text if it exceeds column width.
      */
@@ -20,7 +20,9 @@ import io.flamingock.internal.common.core.response.data.AuditListResponseData.Au
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Formats audit entries as professional box-drawing tables with colored state text.
@@ -66,13 +68,22 @@ public class TableFormatter {
      * @param entries the audit entries to display
      */
     public void printBasicTable(List<AuditEntryDto> entries) {
+        printTable(entries, startBasicTable());
+    }
+
+    /**
+     * Start a basic table whose rows are printed as they are added, for entries that arrive as a stream.
+     *
+     * @return the open table; call {@link Rows#finish()} after the last row
+     */
+    public Rows startBasicTable() {
         List<TableColumn> columns = new ArrayList<>();
         columns.add(new TableColumn("Change ID", CHANGE_ID_WIDTH));
         columns.add(new TableColumn("State", STATE_WIDTH, TableColumn.Alignment.CENTER));
         columns.add(new TableColumn("Author", AUTHOR_WIDTH));
         columns.add(new TableColumn("Time", TIME_WIDTH));
 
-        printTable(entries, columns, false);
+        return new Rows(columns, false);
     }
 
     /**
@@ -81,6 +92,15 @@ public class TableFormatter {
      * @param entries the audit entries to display
      */
     public void printExtendedTable(List<AuditEntryDto> entries) {
+        printTable(entries, startExtendedTable());
+    }
+
+    /**
+     * Start an extended table whose rows are printed as they are added, for entries that arrive as a stream.
+     *
+     * @return the open table; call {@link Rows#finish()} after the last row
+     */
+    public Rows startExtendedTable() {
         List<TableColumn> columns = new ArrayList<>();
         columns.add(new TableColumn("Change ID", CHANGE_ID_WIDTH));
         columns.add(new TableColumn("State", STATE_WIDTH, TableColumn.Alignment.CENTER));
@@ -91,93 +111,132 @@ public class TableFormatter {
         columns.add(new TableColumn("Method", METHOD_WIDTH));
         columns.add(new TableColumn("Hostname", HOSTNAME_WIDTH));
 
-        printTable(entries, columns, true);
+        return new Rows(columns, true);
     }
 
-    private void printTable(List<AuditEntryDto> entries, List<TableColumn> columns, boolean extended) {
-        // Print top border
-        printTopBorder(columns);
+    private void printTable(List<AuditEntryDto> entries, Rows rows) {
+        for (AuditEntryDto entry : entries) {
+            rows.add(entry);
+        }
+        rows.finish();
+    }
 
-        // Print header row
-        printHeaderRow(columns);
+    /**
+     * A table being printed row by row. Column widths are fixed, so each row is rendered as soon as it
+     * is added and nothing but the rendered text is retained.
+     *
+     * <p>Rows are collected in a {@link RenderBuffer} and reach stdout in large chunks, on {@link #flush()}
+     * or on {@link #finish()}. The borders, the header and the colored, padded state cells are rendered
+     * once per table rather than once per row.</p>
+     */
+    public final class Rows {
 
-        // Print header separator
-        printMiddleBorder(columns);
+        private final List<TableColumn> columns;
+        private final boolean extended;
+        private final RenderBuffer out = RenderBuffer.stdout();
+        private final Map<String, String> stateCells = new HashMap<>();
+        private boolean started;
 
-        // Print data rows
-        for (AuditEntryDto entry : entries) {
-            printDataRow(entry, columns, extended);
+        private Rows(List<TableColumn> columns, boolean extended) {
+            this.columns = columns;
+            this.extended = extended;
         }
 
-        // Print bottom border
-        printBottomBorder(columns);
-    }
+        /**
+         * Print one row, preceded by the borders and header if it is the first.
+         *
+         * @param entry the audit entry
+         */
+        public void add(AuditEntryDto entry) {
+            if (!started) {
+                printHeader();
+            }
+            appendDataRow(entry);
+        }
+
+        /**
+         * Write the rows added so far to stdout, e.g. before waiting for more entries.
+         */
+        public void flush() {
+            out.flush();
+        }
 
-    private void printTopBorder(List<TableColumn> columns) {
-        System.out.print(TOP_LEFT);
-        for (int i = 0; i < columns.size(); i++) {
-            System.out.print(repeat(HORIZONTAL, columns.get(i).getWidth()));
-            if (i < columns.size() - 1) {
-                System.out.print(T_DOWN);
+        /**
+         * Print the bottom border; an empty table is printed with its header only.
+         */
+        public void finish() {
+            if (!started) {
+                printHeader();
             }
+            // Print bottom border
+            out.line(border(BOTTOM_LEFT, T_UP, BOTTOM_RIGHT));
+            out.flush();
         }
-        System.out.println(TOP_RIGHT);
-    }
 
-    private void printMiddleBorder(List<TableColumn> columns) {
-        System.out.print(T_RIGHT);
-        for (int i = 0; i < columns.size(); i++) {
-            System.out.print(repeat(HORIZONTAL, columns.get(i).getWidth()));
-            if (i < columns.size() - 1) {
-                System.out.print(CROSS);
+        private void printHeader() {
+            started = true;
+            // Print top border
+            out.line(border(TOP_LEFT, T_DOWN, TOP_RIGHT));
+
+            // Print header row
+            out.line(headerRow());
+
+            // Print header separator
+            out.line(border(T_RIGHT, CROSS, T_LEFT));
+        }
+
+        private String border(String left, String junction, String right) {
+            StringBuilder sb = new StringBuilder(left);
+            for (int i = 0; i < columns.size(); i++) {
+                sb.append(repeat(HORIZONTAL, columns.get(i).getWidth()));
+                if (i < columns.size() - 1) {
+                    sb.append(junction);
+                }
             }
+            return sb.append(right).toString();
         }
-        System.out.println(T_LEFT);
-    }
 
-    private void printBottomBorder(List<TableColumn> columns) {
-        System.out.print(BOTTOM_LEFT);
-        for (int i = 0; i < columns.size(); i++) {
-            System.out.print(repeat(HORIZONTAL, columns.get(i).getWidth()));
-            if (i < columns.size() - 1) {
-                System.out.print(T_UP);
+        private String headerRow() {
+            StringBuilder sb = new StringBuilder(VERTICAL);
+            for (TableColumn column : columns) {
+                // Always center headers
+                String title = column.getTitle();
+                int padding = column.getWidth() - title.length();
+                int leftPad = padding / 2;
+                int rightPad = padding - leftPad;
+                sb.append(spaces(leftPad)).append(title).append(spaces(rightPad));
+                sb.append(VERTICAL);
             }
+            return sb.toString();
         }
-        System.out.println(BOTTOM_RIGHT);
-    }
 
-    private void printHeaderRow(List<TableColumn> columns) {
-        System.out.print(VERTICAL);
-        for (TableColumn column : columns) {
-            // Always center headers
-            String title = column.getTitle();
-            int padding = column.getWidth() - title.length();
-            int leftPad = padding / 2;
-            int rightPad = padding - leftPad;
-            System.out.print(spaces(leftPad) + title + spaces(rightPad));
-            System.out.print(VERTICAL);
+        private void appendDataRow(AuditEntryDto entry) {
+            out.append(VERTICAL);
+            for (int i = 0; i < columns.size(); i++) {
+                if (i == 1) {
+                    // State column: colored and centered once per distinct state
+                    out.append(stateCell(entry.getState(), columns.get(i).getWidth()));
+                } else {
+                    String value = extended ? getExtendedColumnValue(entry, i) : getColumnValue(entry, i);
+                    columns.get(i).appendTo(out, value);
+                }
+                out.append(VERTICAL);
+            }
+            out.newLine();
         }
-        System.out.println();
-    }
 
-    private void printDataRow(AuditEntryDto entry, List<TableColumn> columns, boolean extended) {
-        System.out.print(VERTICAL);
-        for (int i = 0; i < columns.size(); i++) {
-            if (i == 1) {
+        private String stateCell(String state, int width) {
+            String cell = stateCells.get(state);
+            if (cell == null) {
                 // State column: handle ANSI codes separately
-                String stateText = getStateText(entry.getState());
-                int displayLen = getStateDisplayLength(entry.getState());
-                int padding = columns.get(i).getWidth() - displayLen;
+                int padding = width - getStateDisplayLength(state);
                 int leftPad = padding / 2;
                 int rightPad = padding - leftPad;
-                System.out.print(spaces(leftPad) + stateText + spaces(rightPad));
-            } else {
-                String value = extended ? getExtendedColumnValue(entry, i) : getColumnValue(entry, i);
-                System.out.print(columns.get(i).format(value));
+                cell = spaces(leftPad) + getStateText(state) + spaces(rightPad);
+                stateCells.put(state, cell);
             }
-            System.out.print(VERTICAL);
+            return cell;
         }
-        System.out.println();
     }
 
     private String getColumnValue(AuditEntryDto entry, int columnIndex) {
@@ -292,7 +351,31 @@ public class TableFormatter {
         if (time == null) {
             return "-";
         }
-        return time.format(TIME_FORMATTER);
+        int year = time.getYear();
+        if (year < 1 || year > 9999) {
+            return time.format(TIME_FORMATTER);
+        }
+        // Same output as TIME_FORMATTER for four-digit years, at a fraction of the cost per row
+        char[] text = new char[19];
+        putDigits(text, 0, year, 4);
+        text[4] = '-';
+        putDigits(text, 5, time.getMonthValue(), 2);
+        text[7] = '-';
+        putDigits(text, 8, time.getDayOfMonth(), 2);
+        text[10] = ' ';
+        putDigits(text, 11, time.getHour(), 2);
+        text[13] = ':';
+        putDigits(text, 14, time.getMinute(), 2);
+        text[16] = ':';
+        putDigits(text, 17, time.getSecond(), 2);
+        return new String(text);
+    }
+
+    private static void putDigits(char[] text, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            text[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
     }
 
     private String repeat(String str, int count) {
@@ -307,11 +390,13 @@ public class TableFormatter {
      * Print the state legend explaining what each state means.
      */
     public static void printStateLegend() {
-        System.out.println();
-        System.out.println("State Legend:");
-        System.out.println(GREEN + "APPLIED" + RESET + "     - Successfully completed");
-        System.out.println(CYAN + "ROLLED_BACK" + RESET + " - Reverted, needs reapplication");
-        System.out.println(RED + "FAILED" + RESET + "      - Execution failed");
-        System.out.println(YELLOW + "STARTED" + RESET + "     - Incomplete state");
+        try (RenderBuffer out = RenderBuffer.stdout()) {
+            out.newLine();
+            out.line("State Legend:");
+            out.line(GREEN + "APPLIED" + RESET + "     - Successfully completed");
+            out.line(CYAN + "ROLLED_BACK" + RESET + " - Reverted, needs reapplication");
+            out.line(RED + "FAILED" + RESET + "      - Execution failed");
+            out.line(YELLOW + "STARTED" + RESET + "     - Incomplete state");
+        }
     }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.output;
+
+import io.flamingock.cli.executor.timing.RecordedSpan;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Formats recorded phase timings ({@code --timings}) as an indented breakdown table.
+ */
+public final class TimingsFormatter {
+
+    private static final int NAME_WIDTH = 36;
+
+    private TimingsFormatter() {
+    }
+
+    /**
+     * Prints the breakdown to stderr, so it never mixes with JSON on stdout.
+     *
+     * @param spans the spans, root first
+     */
+    public static void print(List<RecordedSpan> spans) {
+        PrintStream err = System.err;
+        err.print(format(spans));
+        err.flush();
+    }
+
+    /**
+     * Formats the breakdown: one row per span, children indented below their parent, with the offset
+     * from the start of the invocation, the duration and the share of the total.
+     *
+     * @param spans the spans, root first
+     * @return the table
+     */
+    static String format(List<RecordedSpan> spans) {
+        if (spans.isEmpty()) {
+            return "";
+        }
+        RecordedSpan root = spans.get(0);
+        Map<Long, List<RecordedSpan>> children = new HashMap<>();
+        for (RecordedSpan span : spans.subList(1, spans.size())) {
+            children.computeIfAbsent(span.parentId(), id -> new ArrayList<>()).add(span);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%nTimings%n"));
+        sb.append(String.format("  %-" + NAME_WIDTH + "s %10s %12s %7s%n", "PHASE", "START", "DURATION", "SHARE"));
+        appendRow(sb, root, root, children, 0);
+        return sb.toString();
+    }
+
+    private static void appendRow(StringBuilder sb, RecordedSpan span, RecordedSpan root,
+                                  Map<Long, List<RecordedSpan>> children, int depth) {
+        String name = "  ".repeat(depth) + span.name();
+        if (name.length() > NAME_WIDTH) {
+            name = name.substring(0, NAME_WIDTH - 3) + "...";
+        }
+        long total = Math.max(1, root.durationNanos());
+        sb.append(String.format(Locale.ROOT, "  %-" + NAME_WIDTH + "s %10s %12s %6.1f%%%n",
+                name,
+                "+" + millis(span.startNanos() - root.startNanos()),
+                millis(span.durationNanos()),
+                span.durationNanos() * 100.0 / total));
+        for (RecordedSpan child : children.getOrDefault(span.id(), List.of())) {
+            appendRow(sb, child, root, children, depth + 1);
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1fms", nanos / 1_000_000.0);
+    }
+}
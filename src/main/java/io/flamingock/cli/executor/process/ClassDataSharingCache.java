@@ -0,0 +1,368 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import io.flamingock.cli.executor.util.filesystem.CacheDirectory;
+import io.flamingock.cli.executor.util.filesystem.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a class-data-sharing archive per application JAR so repeated launches skip most class loading.
+ *
+ * <p>Archives live under {@code <cache>/cds/<jdk-version>/} and are named after the JAR's location and
+ * content hash, so rebuilding the JAR or switching JDKs selects a fresh archive; the archive of a
+ * previous build of the same JAR is removed when its replacement is created. The flags depend on the
+ * JDK that runs the application:</p>
+ * <ul>
+ *   <li>JDK 25+: the AOT cache ({@code -XX:AOTCacheOutput} on the first run, {@code -XX:AOTCache} afterwards)</li>
+ *   <li>JDK 19-24: {@code -XX:+AutoCreateSharedArchive}, which creates, uses and refreshes the archive itself</li>
+ *   <li>JDK 13-18: {@code -XX:ArchiveClassesAtExit} on the first run, {@code -XX:SharedArchiveFile} afterwards</li>
+ *   <li>Older JDKs: no archive</li>
+ * </ul>
+ *
+ * <p>Archives written at exit go to a temporary file that is only moved into place after a successful
+ * run. Any problem along the way disables the archive for that launch rather than failing it.</p>
+ */
+public class ClassDataSharingCache {
+
+    /**
+     * JVM options that already control class-data sharing; if the user passes any of them,
+     * the cache stays out of the way.
+     */
+    static final String[] USER_CDS_OPTION_PREFIXES = {
+            "-Xshare",
+            "-XX:SharedArchiveFile",
+            "-XX:ArchiveClassesAtExit",
+            "-XX:+AutoCreateSharedArchive",
+            "-XX:-AutoCreateSharedArchive",
+            "-XX:AOTCache",
+            "-XX:AOTMode",
+            "-XX:AOTConfiguration"
+    };
+
+    private static final String ARCHIVE_EXTENSION = ".jsa";
+    private static final AtomicLong PENDING_SEQUENCE = new AtomicLong();
+
+    private final Path cacheDirectory;
+    private final ContentHasher contentHasher;
+    private final Set<Path> creating = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a cache in the default CLI cache directory.
+     */
+    public ClassDataSharingCache() {
+        this(CacheDirectory.resolve("cds"));
+    }
+
+    /**
+     * Creates a cache rooted at the given directory.
+     *
+     * @param cacheDirectory directory holding the archives
+     */
+    public ClassDataSharingCache(Path cacheDirectory) {
+        this(cacheDirectory, FileSystemUtils::sha256);
+    }
+
+    /**
+     * Creates a cache rooted at the given directory that obtains JAR content hashes from the given source.
+     *
+     * @param cacheDirectory directory holding the archives
+     * @param contentHasher  computes (or looks up) the content hash of a JAR
+     */
+    public ClassDataSharingCache(Path cacheDirectory, ContentHasher contentHasher) {
+        this.cacheDirectory = cacheDirectory;
+        this.contentHasher = contentHasher;
+    }
+
+    /**
+     * Works out the archive flags for one launch of the given JAR.
+     *
+     * @param jarPath        the application JAR
+     * @param javaExecutable the java executable that will run it
+     * @param userJvmArgs    JVM arguments supplied by the user
+     * @return the session for this launch; never null
+     */
+    public Session prepare(Path jarPath, String javaExecutable, List<String> userJvmArgs) {
+        return prepare(jarPath, javaExecutable, userJvmArgs, null);
+    }
+
+    /**
+     * Works out the archive flags for one launch of the given JAR under a named set of JVM flags.
+     *
+     * <p>Each variant keeps its own archive, since an archive recorded under one collector or JIT
+     * configuration may be rejected or only partly usable under another.</p>
+     *
+     * @param jarPath        the application JAR
+     * @param javaExecutable the java executable that will run it
+     * @param userJvmArgs    JVM arguments supplied by the user
+     * @param variant        the flag set the JVM runs with (e.g. a JVM profile id), or null for none
+     * @return the session for this launch; never null
+     */
+    public Session prepare(Path jarPath, String javaExecutable, List<String> userJvmArgs, String variant) {
+        if (overridesClassDataSharing(userJvmArgs)) {
+            return Session.disabled();
+        }
+        String jdkVersion = readJdkVersion(javaExecutable);
+        int feature = featureVersion(jdkVersion);
+        if (feature < 13) {
+            return Session.disabled();
+        }
+
+        try {
+            Path directory = cacheDirectory.resolve(sanitize(jdkVersion));
+            Files.createDirectories(directory);
+            Path jar = jarPath.toAbsolutePath().normalize();
+            String locationKey = shortHash(variant != null ? jar + "|" + variant : jar.toString());
+            Path archive = directory.resolve(locationKey + "-" + contentHasher.hash(jar) + ARCHIVE_EXTENSION);
+            Session session = prepare(feature, archive, locationKey);
+            if (session.isCreating()) {
+                // Several launches of one JAR can run at once (fan-out); only one of them records the archive
+                if (!creating.add(archive)) {
+                    return Session.disabled();
+                }
+                session.release = () -> creating.remove(archive);
+            }
+            return session;
+        } catch (IOException | RuntimeException e) {
+            return Session.disabled();
+        }
+    }
+
+    private Session prepare(int feature, Path archive, String locationKey) {
+        boolean exists = Files.isRegularFile(archive);
+        if (feature >= 25) {
+            if (exists) {
+                return Session.using(List.of("-XX:AOTCache=" + archive, "-Xlog:aot*=off"));
+            }
+            Path pending = pendingPath(archive);
+            return Session.creating(List.of("-XX:AOTCacheOutput=" + pending, "-Xlog:aot*=off"),
+                    pending, archive, locationKey);
+        }
+        if (feature >= 19) {
+            List<String> args = List.of("-XX:+AutoCreateSharedArchive", "-XX:SharedArchiveFile=" + archive,
+                    "-Xlog:cds*=off");
+            return exists ? Session.using(args) : Session.creating(args, null, archive, locationKey);
+        }
+        if (exists) {
+            return Session.using(List.of("-XX:SharedArchiveFile=" + archive, "-Xlog:cds*=off"));
+        }
+        Path pending = pendingPath(archive);
+        return Session.creating(List.of("-XX:ArchiveClassesAtExit=" + pending, "-Xlog:cds*=off"),
+                pending, archive, locationKey);
+    }
+
+    static boolean overridesClassDataSharing(List<String> userJvmArgs) {
+        if (userJvmArgs == null) {
+            return false;
+        }
+        for (String arg : userJvmArgs) {
+            for (String prefix : USER_CDS_OPTION_PREFIXES) {
+                if (arg.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the runtime version from the {@code release} file of the JDK that owns the executable.
+     *
+     * @param javaExecutable path to {@code bin/java}
+     * @return the version, or null if it cannot be determined
+     */
+    String readJdkVersion(String javaExecutable) {
+        Path executable = Path.of(javaExecutable);
+        if (!executable.isAbsolute() || executable.getParent() == null || executable.getParent().getParent() == null) {
+            return null;
+        }
+        Path release = executable.getParent().getParent().resolve("release");
+        if (!Files.isRegularFile(release)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(release)) {
+            properties.load(in);
+        } catch (IOException e) {
+            return null;
+        }
+        String version = properties.getProperty("JAVA_RUNTIME_VERSION", properties.getProperty("JAVA_VERSION"));
+        return version != null ? version.replace("\"", "").trim() : null;
+    }
+
+    static int featureVersion(String jdkVersion) {
+        if (jdkVersion == null || jdkVersion.isEmpty()) {
+            return -1;
+        }
+        String[] parts = jdkVersion.split("[._+\\-]");
+        try {
+            int first = Integer.parseInt(parts[0]);
+            return first == 1 && parts.length > 1 ? Integer.parseInt(parts[1]) : first;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Path pendingPath(Path archive) {
+        return archive.resolveSibling(archive.getFileName() + "." + ProcessHandle.current().pid()
+                + "-" + PENDING_SEQUENCE.incrementAndGet() + ".tmp");
+    }
+
+    private static String sanitize(String value) {
+        return value.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private static String shortHash(String value) {
+        return Integer.toHexString(value.hashCode() & 0x7fffffff);
+    }
+
+    /**
+     * Provides the content hash used to key archives.
+     */
+    @FunctionalInterface
+    public interface ContentHasher {
+
+        /**
+         * Returns a stable hash of the JAR content.
+         *
+         * @param jar the JAR file
+         * @return the hash as a filename-safe string
+         * @throws IOException if the JAR cannot be read
+         */
+        String hash(Path jar) throws IOException;
+    }
+
+    /**
+     * The archive flags for one launch, plus the bookkeeping to run once the process exits.
+     */
+    public static final class Session {
+
+        private static final Session DISABLED = new Session(Collections.emptyList(), null, null, null);
+
+        private final List<String> jvmArgs;
+        private final Path pending;
+        private final Path archive;
+        private final String locationKey;
+        private Runnable release;
+
+        private Session(List<String> jvmArgs, Path pending, Path archive, String locationKey) {
+            this.jvmArgs = jvmArgs;
+            this.pending = pending;
+            this.archive = archive;
+            this.locationKey = locationKey;
+        }
+
+        static Session disabled() {
+            return DISABLED;
+        }
+
+        static Session using(List<String> jvmArgs) {
+            return new Session(jvmArgs, null, null, null);
+        }
+
+        static Session creating(List<String> jvmArgs, Path pending, Path archive, String locationKey) {
+            return new Session(jvmArgs, pending, archive, locationKey);
+        }
+
+        /**
+         * Returns the JVM arguments to add to the launch.
+         *
+         * @return the arguments; empty when no archive is used
+         */
+        public List<String> getJvmArgs() {
+            return jvmArgs;
+        }
+
+        /**
+         * Returns whether this launch will write a new archive.
+         *
+         * @return true on the first run for a JAR/JDK combination
+         */
+        public boolean isCreating() {
+            return archive != null;
+        }
+
+        /**
+         * Finishes the session after the process has exited.
+         *
+         * <p>On success, publishes the newly written archive and removes archives of previous builds
+         * of the same JAR. On failure, discards whatever was written.</p>
+         *
+         * @param success whether the application exited normally
+         */
+        public void complete(boolean success) {
+            if (!isCreating()) {
+                return;
+            }
+            try {
+                if (pending != null) {
+                    if (success && Files.isRegularFile(pending)) {
+                        moveIntoPlace(pending, archive);
+                    } else {
+                        Files.deleteIfExists(pending);
+                    }
+                }
+                if (success && Files.isRegularFile(archive)) {
+                    removeSupersededArchives();
+                }
+            } catch (IOException e) {
+                // Best effort: the next launch simply tries again
+            } finally {
+                if (release != null) {
+                    release.run();
+                    release = null;
+                }
+            }
+        }
+
+        private void moveIntoPlace(Path source, Path target) throws IOException {
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        private void removeSupersededArchives() throws IOException {
+            List<Path> superseded = new ArrayList<>();
+            try (DirectoryStream<Path> siblings = Files.newDirectoryStream(archive.getParent(),
+                    locationKey + "-*" + ARCHIVE_EXTENSION)) {
+                for (Path sibling : siblings) {
+                    if (!sibling.equals(archive)) {
+                        superseded.add(sibling);
+                    }
+                }
+            }
+            for (Path path : superseded) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import io.flamingock.cli.executor.FlamingockExecutorCli;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records a dynamic class-data-sharing archive for the CLI's own JAR.
+ *
+ * <p>Short commands run through {@code java -jar} spend most of their time loading picocli, Jackson and
+ * the CLI's own classes. The archive is written next to the JAR as {@code flamingock-cli-<version>.jsa},
+ * so upgrading the CLI selects a new archive instead of tripping over the old one. It is recorded by a
+ * child JVM that runs a representative workload ({@code self train}) under {@code -XX:ArchiveClassesAtExit},
+ * and only moved into place once that JVM exits cleanly.</p>
+ *
+ * <p>The launcher installed by {@code scripts/install.sh} starts the CLI with
+ * {@code -XX:+AutoCreateSharedArchive -XX:SharedArchiveFile=<archive>}, so the JVM also re-creates the
+ * archive by itself after a JDK change.</p>
+ */
+public class CliClassDataArchive {
+
+    static final String ARCHIVE_PREFIX = "flamingock-cli-";
+    static final String ARCHIVE_EXTENSION = ".jsa";
+    static final String TRAINING_COMMAND = "train";
+
+    private static final long TRAINING_TIMEOUT_SECONDS = 120;
+    private static final int MAX_REPORTED_OUTPUT = 4096;
+
+    private final Path jar;
+    private final String javaExecutable;
+
+    /**
+     * Creates an archive recorder for the given CLI JAR.
+     *
+     * @param jar            the CLI JAR
+     * @param javaExecutable the java executable that runs the CLI, and therefore must record the archive
+     */
+    public CliClassDataArchive(Path jar, String javaExecutable) {
+        this.jar = jar.toAbsolutePath().normalize();
+        this.javaExecutable = javaExecutable;
+    }
+
+    /**
+     * Returns the JAR the CLI is running from.
+     *
+     * @return the JAR, or empty when running as a native image or from a class directory
+     */
+    public static Optional<Path> locateJar() {
+        if (System.getProperty("org.graalvm.nativeimage.imagecode") != null) {
+            return Optional.empty();
+        }
+        try {
+            CodeSource codeSource = FlamingockExecutorCli.class.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return Optional.empty();
+            }
+            Path location = Path.of(codeSource.getLocation().toURI());
+            return Files.isRegularFile(location) && location.getFileName().toString().endsWith(".jar")
+                    ? Optional.of(location)
+                    : Optional.empty();
+        } catch (URISyntaxException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the java executable of the running JVM.
+     *
+     * @return path to {@code bin/java} under {@code java.home}
+     */
+    public static String currentJavaExecutable() {
+        String executable = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        return System.getProperty("os.name", "").toLowerCase().contains("win") ? executable + ".exe" : executable;
+    }
+
+    /**
+     * Returns where the archive for the given CLI version lives.
+     *
+     * @param jar     the CLI JAR
+     * @param version the CLI version
+     * @return the archive path, next to the JAR
+     */
+    public static Path archivePath(Path jar, String version) {
+        return jar.toAbsolutePath().normalize()
+                .resolveSibling(ARCHIVE_PREFIX + version.replaceAll("[^A-Za-z0-9._-]", "_") + ARCHIVE_EXTENSION);
+    }
+
+    /**
+     * Records the archive, replacing any previous one at the same path.
+     *
+     * @param archive where to publish the archive
+     * @throws IOException if the training run fails, times out, or the archive cannot be written
+     */
+    public void create(Path archive) throws IOException {
+        Path pending = archive.resolveSibling(archive.getFileName() + "." + ProcessHandle.current().pid() + ".tmp");
+        Files.deleteIfExists(pending);
+        try {
+            Process process = new ProcessBuilder(trainingCommand(pending))
+                    .redirectErrorStream(true)
+                    .start();
+            process.getOutputStream().close();
+            String output = readOutput(process.getInputStream());
+            if (!process.waitFor(TRAINING_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IOException("Training run did not finish within " + TRAINING_TIMEOUT_SECONDS + " seconds");
+            }
+            if (process.exitValue() != 0 || !Files.isRegularFile(pending)) {
+                throw new IOException("Training run exited with code " + process.exitValue()
+                        + (output.isBlank() ? "" : ":\n" + output.strip()));
+            }
+            moveIntoPlace(pending, archive);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while recording the CDS archive", e);
+        } finally {
+            Files.deleteIfExists(pending);
+        }
+    }
+
+    /**
+     * Builds the command line of the JVM that records the archive.
+     *
+     * @param pending the temporary file the archive is written to
+     * @return the command
+     */
+    List<String> trainingCommand(Path pending) {
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable);
+        command.add("-XX:ArchiveClassesAtExit=" + pending);
+        command.add("-Xlog:cds*=off");
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("self");
+        command.add(TRAINING_COMMAND);
+        return command;
+    }
+
+    private static String readOutput(InputStream in) throws IOException {
+        // Drain everything so the child never blocks on a full pipe, but keep only the start for the report
+        byte[] kept = new byte[MAX_REPORTED_OUTPUT];
+        int length = 0;
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            int copy = Math.min(read, kept.length - length);
+            System.arraycopy(buffer, 0, kept, length, copy);
+            length += copy;
+        }
+        return new String(kept, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Memory and CPU limits of the cgroup this process runs in, and the share of them left for the
+ * application JVM.
+ *
+ * <p>Inside a container both the CLI JVM and the application JVM would otherwise size themselves from
+ * the same cgroup limit and together exceed it. Limits are read from cgroup v2 ({@code memory.max},
+ * {@code cpu.max}) or v1 ({@code memory.limit_in_bytes}, {@code cpu.cfs_quota_us}) at their standard
+ * mount points, walking from this process's cgroup up to the root and keeping the tightest limit.</p>
+ */
+final class ContainerLimits {
+
+    static final ContainerLimits NONE = new ContainerLimits(-1, -1);
+
+    /**
+     * Share of the memory left after the CLI that goes to the application's heap when no
+     * {@code MaxRAMPercentage} is given; the rest covers metaspace, code cache, threads and buffers.
+     */
+    static final double DEFAULT_HEAP_FRACTION = 0.75;
+
+    /**
+     * Below this the derived heap is not worth imposing; the JVM is left to its own sizing.
+     */
+    static final long MIN_HEAP_BYTES = 32L * 1024 * 1024;
+
+    private static final long UNLIMITED_THRESHOLD = 1L << 60;
+    private static final long MIB = 1024 * 1024;
+
+    private final long memoryBytes;
+    private final double cpus;
+
+    ContainerLimits(long memoryBytes, double cpus) {
+        this.memoryBytes = memoryBytes;
+        this.cpus = cpus;
+    }
+
+    /**
+     * Reads the limits of the current process.
+     *
+     * @return the limits, or {@link #NONE} outside a limited cgroup or off Linux
+     */
+    static ContainerLimits detect() {
+        return read(Path.of("/"));
+    }
+
+    /**
+     * Reads the limits relative to a filesystem root, so tests can supply a fake {@code /proc} and
+     * {@code /sys/fs/cgroup}.
+     *
+     * @param root the filesystem root
+     * @return the limits found
+     */
+    static ContainerLimits read(Path root) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(root.resolve("proc/self/cgroup"), StandardCharsets.UTF_8);
+        } catch (IOException | RuntimeException e) {
+            return NONE;
+        }
+        Path cgroupRoot = root.resolve("sys/fs/cgroup");
+        String unifiedPath = null;
+        String memoryPath = null;
+        String cpuPath = null;
+        for (String line : lines) {
+            // hierarchy-id:controller-list:cgroup-path
+            String[] parts = line.split(":", 3);
+            if (parts.length != 3) {
+                continue;
+            }
+            if (parts[0].equals("0") && parts[1].isEmpty()) {
+                unifiedPath = parts[2];
+            }
+            for (String controller : parts[1].split(",")) {
+                if (controller.equals("memory")) {
+                    memoryPath = parts[2];
+                } else if (controller.equals("cpu")) {
+                    cpuPath = parts[2];
+                }
+            }
+        }
+        if (memoryPath != null || cpuPath != null) {
+            return new ContainerLimits(
+                    memoryPath != null ? v1Memory(cgroupRoot.resolve("memory"), memoryPath) : -1,
+                    cpuPath != null ? v1Cpus(cgroupRoot, cpuPath) : -1);
+        }
+        if (unifiedPath != null) {
+            return new ContainerLimits(v2Memory(cgroupRoot, unifiedPath), v2Cpus(cgroupRoot, unifiedPath));
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the memory limit.
+     *
+     * @return the limit in bytes, or -1 if unlimited
+     */
+    long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    /**
+     * Returns the CPU quota.
+     *
+     * @return the number of CPUs the quota allows, or -1 if unlimited
+     */
+    double getCpus() {
+        return cpus;
+    }
+
+    /**
+     * Works out heap and processor flags for a single application JVM, leaving room for the CLI itself.
+     *
+     * @param cliFootprintBytes the CLI's own resident memory
+     * @param jvmArgs           the JVM arguments the application is already launched with
+     * @return the budget (its flags may be empty)
+     */
+    Budget budgetFor(long cliFootprintBytes, List<String> jvmArgs) {
+        return budgetFor(cliFootprintBytes, jvmArgs, 1);
+    }
+
+    /**
+     * Works out heap and processor flags for one of several application JVMs that run at the same time,
+     * leaving room for the CLI itself.
+     *
+     * <p>The heap is {@code (limit - cliFootprint) / concurrentLaunches * fraction}, where the fraction is
+     * the last {@code -XX:MaxRAMPercentage} in {@code jvmArgs} or {@link #DEFAULT_HEAP_FRACTION}, so the
+     * applications together stay within the limit. No heap flag is
+     * derived when {@code jvmArgs} already set {@code -Xmx}, {@code -XX:MaxHeapSize} or
+     * {@code -XX:MaxRAM}, and no processor flag when they set {@code -XX:ActiveProcessorCount}.</p>
+     *
+     * @param cliFootprintBytes  the CLI's own resident memory
+     * @param jvmArgs            the JVM arguments the application is already launched with
+     * @param concurrentLaunches how many application JVMs share the limit, this one included
+     * @return the budget (its flags may be empty)
+     */
+    Budget budgetFor(long cliFootprintBytes, List<String> jvmArgs, int concurrentLaunches) {
+        int launches = Math.max(1, concurrentLaunches);
+        List<String> args = new ArrayList<>();
+        StringBuilder description = new StringBuilder("Container limits: memory=")
+                .append(memoryBytes > 0 ? memoryBytes / MIB + "MiB" : "unlimited")
+                .append(", cpus=").append(cpus > 0 ? String.format(Locale.ROOT, "%.2f", cpus) : "unlimited");
+
+        boolean userHeap = false;
+        boolean userProcessors = false;
+        double heapFraction = DEFAULT_HEAP_FRACTION;
+        if (jvmArgs != null) {
+            for (String arg : jvmArgs) {
+                String key = JvmProfile.optionKey(arg);
+                if (key.equals("-Xmx") || key.equals("-XX:MaxHeapSize") || key.equals("-XX:MaxRAM")) {
+                    userHeap = true;
+                } else if (key.equals("-XX:ActiveProcessorCount")) {
+                    userProcessors = true;
+                } else if (key.equals("-XX:MaxRAMPercentage")) {
+                    heapFraction = percentage(arg, heapFraction);
+                }
+            }
+        }
+
+        if (memoryBytes > 0) {
+            long available = (memoryBytes - Math.max(0, cliFootprintBytes)) / launches;
+            long heap = (long) (available * heapFraction);
+            description.append("; CLI footprint=").append(cliFootprintBytes / MIB).append("MiB");
+            if (launches > 1) {
+                description.append("; shared by ").append(launches).append(" concurrent applications");
+            }
+            if (userHeap) {
+                description.append("; heap set by -J");
+            } else if (heap < MIN_HEAP_BYTES) {
+                description.append("; too little left for a derived heap, using JVM defaults");
+            } else {
+                args.add("-Xmx" + heap / MIB + "m");
+                description.append("; application heap=").append(heap / MIB).append("MiB");
+            }
+        }
+        if (cpus > 0) {
+            if (userProcessors) {
+                description.append("; processors set by -J");
+            } else {
+                int processors = Math.max(1, (int) Math.ceil(cpus));
+                args.add("-XX:ActiveProcessorCount=" + processors);
+                description.append("; application processors=").append(processors);
+            }
+        }
+        return new Budget(Collections.unmodifiableList(args), description.toString());
+    }
+
+    /**
+     * Returns the resident memory of this process.
+     *
+     * @param root the filesystem root holding {@code /proc}
+     * @return {@code VmRSS} from {@code /proc/self/status}, or the JVM's committed heap when unavailable
+     */
+    static long cliFootprint(Path root) {
+        try {
+            for (String line : Files.readAllLines(root.resolve("proc/self/status"), StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmRSS:")) {
+                    String[] parts = line.substring(6).trim().split("\\s+");
+                    return Long.parseLong(parts[0]) * 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not Linux, or /proc is unavailable
+        }
+        return Runtime.getRuntime().totalMemory();
+    }
+
+    /**
+     * Flags derived for the application JVM and a human-readable account of how.
+     *
+     * @param jvmArgs     the flags to add
+     * @param description the limits, footprint and chosen sizes
+     */
+    record Budget(List<String> jvmArgs, String description) {
+    }
+
+    private static long v1Memory(Path controllerRoot, String cgroupPath) {
+        long limit = -1;
+        for (Path directory : hierarchy(controllerRoot, cgroupPath)) {
+            long value = readLong(directory.resolve("memory.limit_in_bytes"));
+            if (value > 0 && value < UNLIMITED_THRESHOLD && (limit < 0 || value < limit)) {
+                limit = value;
+            }
+        }
+        return limit;
+    }
+
+    private static double v1Cpus(Path cgroupRoot, String cgroupPath) {
+        // The cpu controller is mounted as "cpu" or co-mounted as "cpu,cpuacct"
+        Path controllerRoot = Files.isDirectory(cgroupRoot.resolve("cpu"))
+                ? cgroupRoot.resolve("cpu")
+                : cgroupRoot.resolve("cpu,cpuacct");
+        double cpus = -1;
+        for (Path directory : hierarchy(controllerRoot, cgroupPath)) {
+            long quota = readLong(directory.resolve("cpu.cfs_quota_us"));
+            long period = readLong(directory.resolve("cpu.cfs_period_us"));
+            if (quota > 0 && period > 0) {
+                cpus = minLimit(cpus, (double) quota / period);
+            }
+        }
+        return cpus;
+    }
+
+    private static long v2Memory(Path cgroupRoot, String cgroupPath) {
+        long limit = -1;
+        for (Path directory : hierarchy(cgroupRoot, cgroupPath)) {
+            long value = readLong(directory.resolve("memory.max"));
+            if (value > 0 && value < UNLIMITED_THRESHOLD && (limit < 0 || value < limit)) {
+                limit = value;
+            }
+        }
+        return limit;
+    }
+
+    private static double v2Cpus(Path cgroupRoot, String cgroupPath) {
+        double cpus = -1;
+        for (Path directory : hierarchy(cgroupRoot, cgroupPath)) {
+            // "<quota> <period>", or "max <period>" when unlimited
+            String[] parts = readFirstLine(directory.resolve("cpu.max")).split("\\s+");
+            if (parts.length == 2 && !parts[0].equals("max")) {
+                try {
+                    cpus = minLimit(cpus, Double.parseDouble(parts[0]) / Double.parseDouble(parts[1]));
+                } catch (NumberFormatException ignored) {
+                    // Malformed; keep what was found so far
+                }
+            }
+        }
+        return cpus;
+    }
+
+    /**
+     * Returns the directories from the process's cgroup up to the controller root. When the cgroup path
+     * does not exist under the mount (e.g. a container with its own cgroup namespace), only the root is
+     * returned.
+     */
+    private static List<Path> hierarchy(Path controllerRoot, String cgroupPath) {
+        List<Path> directories = new ArrayList<>();
+        Path directory = controllerRoot.resolve(cgroupPath.replaceFirst("^/+", "")).normalize();
+        if (!directory.startsWith(controllerRoot) || !Files.isDirectory(directory)) {
+            directory = controllerRoot;
+        }
+        while (directory != null && directory.startsWith(controllerRoot)) {
+            directories.add(directory);
+            directory = directory.getParent();
+        }
+        return directories;
+    }
+
+    private static double minLimit(double current, double value) {
+        return current < 0 || value < current ? value : current;
+    }
+
+    private static double percentage(String arg, double fallback) {
+        try {
+            double percentage = Double.parseDouble(arg.substring(arg.indexOf('=') + 1));
+            return percentage > 0 && percentage <= 100 ? percentage / 100 : fallback;
+        } catch (RuntimeException e) {
+            return fallback;
+        }
+    }
+
+    private static long readLong(Path file) {
+        try {
+            return Long.parseLong(readFirstLine(file));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String readFirstLine(Path file) {
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            return lines.isEmpty() ? "" : lines.get(0).trim();
+        } catch (IOException | RuntimeException e) {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import io.flamingock.cli.executor.util.filesystem.CacheDirectory;
+import io.flamingock.cli.executor.util.filesystem.FileSystemUtils;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+
+/**
+ * Keeps an extracted copy of each Spring Boot JAR so the application can start from a plain classpath
+ * instead of going through the nested-JAR launcher.
+ *
+ * <p>Each copy lives under {@code <cache>/exploded/<location>-<content-hash>/} and holds:</p>
+ * <ul>
+ *   <li>{@code application.jar}: the content of {@code BOOT-INF/classes}, repacked uncompressed so
+ *       class-data sharing can archive it (directories on the classpath cannot be archived)</li>
+ *   <li>{@code lib/}: the dependency JARs from {@code BOOT-INF/lib}</li>
+ *   <li>{@code classpath.txt}: the classpath, in {@code BOOT-INF/classpath.idx} order when the JAR has one</li>
+ * </ul>
+ *
+ * <p>The Spring Boot loader classes are left out, using the {@code spring-boot-loader} layer of
+ * {@code BOOT-INF/layers.idx} when present. Copies are extracted into a hidden temporary directory and
+ * renamed into place, so concurrent launches never see a partial copy; when two launches race, the
+ * first rename wins and the other discards its work. After each extraction, copies of previous builds of
+ * the same JAR are removed and the least recently used copies are evicted until the cache fits its size
+ * bound. Copies launched within the last hour are kept, as an application JVM may still be loading classes
+ * from them; they go in a later eviction.</p>
+ */
+public class ExplodedJarCache {
+
+    /**
+     * Default upper bound for the cache size.
+     */
+    public static final long DEFAULT_MAX_BYTES = 2L * 1024 * 1024 * 1024;
+
+    static final String APPLICATION_JAR = "application.jar";
+    static final String LIB_DIRECTORY = "lib";
+    static final String CLASSPATH_FILE = "classpath.txt";
+
+    private static final String BOOT_INF = "BOOT-INF/";
+    private static final String CLASSES_PREFIX = "BOOT-INF/classes/";
+    private static final String LIB_PREFIX = "BOOT-INF/lib/";
+    private static final String CLASSPATH_INDEX = "BOOT-INF/classpath.idx";
+    private static final String LAYERS_INDEX = "BOOT-INF/layers.idx";
+    private static final String LOADER_LAYER = "spring-boot-loader";
+    private static final String DEFAULT_LOADER_PREFIX = "org/springframework/boot/loader/";
+    private static final Duration STALE_TEMPORARY = Duration.ofHours(1);
+    private static final Duration RECENTLY_LAUNCHED = Duration.ofHours(1);
+    private static final AtomicLong TEMPORARY_SEQUENCE = new AtomicLong();
+
+    private final Path cacheDirectory;
+    private final ClassDataSharingCache.ContentHasher contentHasher;
+    private final long maxBytes;
+
+    /**
+     * Creates a cache in the default CLI cache directory.
+     */
+    public ExplodedJarCache() {
+        this(CacheDirectory.resolve("exploded"), FileSystemUtils::sha256, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a cache rooted at the given directory.
+     *
+     * @param cacheDirectory directory holding the extracted copies
+     * @param contentHasher  computes (or looks up) the content hash of a JAR
+     * @param maxBytes       size the cache is trimmed to after each extraction
+     */
+    public ExplodedJarCache(Path cacheDirectory, ClassDataSharingCache.ContentHasher contentHasher, long maxBytes) {
+        this.cacheDirectory = cacheDirectory;
+        this.contentHasher = contentHasher;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the extracted copy of the given Spring Boot JAR, extracting it on first use.
+     *
+     * @param jarPath the Spring Boot JAR
+     * @return the extracted layout
+     * @throws IOException if the JAR cannot be extracted
+     */
+    public Layout prepare(Path jarPath) throws IOException {
+        Path jar = jarPath.toAbsolutePath().normalize();
+        String locationKey = Integer.toHexString(jar.toString().hashCode() & 0x7fffffff);
+        Path directory = cacheDirectory.resolve(locationKey + "-" + contentHasher.hash(jar));
+        if (!Files.isDirectory(directory)) {
+            populate(jar, directory);
+            evict(directory, locationKey);
+        }
+        // The modification time orders copies for eviction
+        Files.setLastModifiedTime(directory, FileTime.from(Instant.now()));
+        return readLayout(directory);
+    }
+
+    private void populate(Path jar, Path directory) throws IOException {
+        Files.createDirectories(cacheDirectory);
+        Path temporary = cacheDirectory.resolve("." + directory.getFileName() + "."
+                + ProcessHandle.current().pid() + "-" + TEMPORARY_SEQUENCE.incrementAndGet() + ".tmp");
+        try {
+            extract(jar, temporary);
+            try {
+                Files.move(temporary, directory, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, directory);
+            }
+        } catch (IOException e) {
+            // Losing the race to another launch of the same build is fine: its copy is complete
+            if (!Files.isDirectory(directory)) {
+                throw e;
+            }
+        } finally {
+            delete(temporary);
+        }
+    }
+
+    private void extract(Path jar, Path target) throws IOException {
+        Path lib = Files.createDirectories(target.resolve(LIB_DIRECTORY));
+        List<String> libraries = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(jar.toFile(), false)) {
+            List<String> loaderPrefixes = loaderPrefixes(jarFile);
+            Set<String> written = new HashSet<>();
+            try (JarOutputStream application = new JarOutputStream(
+                    Files.newOutputStream(target.resolve(APPLICATION_JAR)), applicationManifest(jarFile))) {
+                application.setLevel(Deflater.NO_COMPRESSION);
+                Enumeration<JarEntry> entries = jarFile.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry entry = entries.nextElement();
+                    String name = entry.getName();
+                    if (name.startsWith(LIB_PREFIX)) {
+                        String fileName = name.substring(LIB_PREFIX.length());
+                        if (!entry.isDirectory() && !fileName.isEmpty() && fileName.indexOf('/') < 0) {
+                            try (InputStream in = jarFile.getInputStream(entry)) {
+                                Files.copy(in, lib.resolve(fileName));
+                            }
+                            libraries.add(fileName);
+                        }
+                        continue;
+                    }
+                    String applicationName = applicationEntryName(name, loaderPrefixes);
+                    if (applicationName == null || !written.add(applicationName)) {
+                        continue;
+                    }
+                    application.putNextEntry(new JarEntry(applicationName));
+                    if (!entry.isDirectory()) {
+                        try (InputStream in = jarFile.getInputStream(entry)) {
+                            in.transferTo(application);
+                        }
+                    }
+                    application.closeEntry();
+                }
+            }
+
+            List<String> classpath = new ArrayList<>();
+            classpath.add(APPLICATION_JAR);
+            for (String library : orderLibraries(jarFile, libraries)) {
+                classpath.add(LIB_DIRECTORY + "/" + library);
+            }
+            Files.write(target.resolve(CLASSPATH_FILE), classpath, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Maps a Boot JAR entry to its name in {@code application.jar}, or null if it does not belong there.
+     * Directory entries are kept, since classpath scanning of JARs relies on them.
+     */
+    private static String applicationEntryName(String name, List<String> loaderPrefixes) {
+        if (name.startsWith(CLASSES_PREFIX)) {
+            String relative = name.substring(CLASSES_PREFIX.length());
+            return relative.isEmpty() ? null : relative;
+        }
+        if (name.startsWith(BOOT_INF) || name.equalsIgnoreCase(JarFile.MANIFEST_NAME) || isSignature(name)) {
+            return null;
+        }
+        for (String prefix : loaderPrefixes) {
+            if (name.startsWith(prefix)) {
+                return null;
+            }
+        }
+        return name;
+    }
+
+    private static boolean isSignature(String name) {
+        String upper = name.toUpperCase();
+        return upper.startsWith("META-INF/") && (upper.endsWith(".SF") || upper.endsWith(".RSA")
+                || upper.endsWith(".DSA") || upper.endsWith(".EC"));
+    }
+
+    private static Manifest applicationManifest(JarFile jarFile) throws IOException {
+        Manifest original = jarFile.getManifest();
+        Manifest manifest = original != null ? new Manifest(original) : new Manifest();
+        Attributes attributes = manifest.getMainAttributes();
+        attributes.putIfAbsent(Attributes.Name.MANIFEST_VERSION, "1.0");
+        // Main-Class names the Boot launcher, which is not part of the extracted copy
+        attributes.remove(Attributes.Name.MAIN_CLASS);
+        return manifest;
+    }
+
+    /**
+     * Reads the entry prefixes of the {@code spring-boot-loader} layer from {@code layers.idx}.
+     */
+    static List<String> loaderPrefixes(JarFile jarFile) throws IOException {
+        List<String> prefixes = new ArrayList<>();
+        String layer = null;
+        for (String line : readIndex(jarFile, LAYERS_INDEX)) {
+            if (line.startsWith("- ")) {
+                layer = unquote(line.substring(2));
+            } else if (line.trim().startsWith("- ") && LOADER_LAYER.equals(layer)) {
+                prefixes.add(unquote(line.trim().substring(2)));
+            }
+        }
+        return prefixes.isEmpty() ? List.of(DEFAULT_LOADER_PREFIX) : prefixes;
+    }
+
+    /**
+     * Orders the extracted libraries as listed in {@code classpath.idx}, followed by any it does not list.
+     */
+    static List<String> orderLibraries(JarFile jarFile, List<String> libraries) throws IOException {
+        Set<String> remaining = new LinkedHashSet<>(libraries.stream().sorted().toList());
+        List<String> ordered = new ArrayList<>();
+        for (String line : readIndex(jarFile, CLASSPATH_INDEX)) {
+            if (line.startsWith("- ")) {
+                String entry = unquote(line.substring(2));
+                String fileName = entry.startsWith(LIB_PREFIX) ? entry.substring(LIB_PREFIX.length()) : entry;
+                if (remaining.remove(fileName)) {
+                    ordered.add(fileName);
+                }
+            }
+        }
+        ordered.addAll(remaining);
+        return ordered;
+    }
+
+    private static List<String> readIndex(JarFile jarFile, String name) throws IOException {
+        JarEntry entry = jarFile.getJarEntry(name);
+        if (entry == null) {
+            return Collections.emptyList();
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(jarFile.getInputStream(entry), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.trim();
+        if (trimmed.endsWith(":")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            trimmed = trimmed.substring(1, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+
+    private static Layout readLayout(Path directory) throws IOException {
+        List<Path> classpath = new ArrayList<>();
+        for (String line : Files.readAllLines(directory.resolve(CLASSPATH_FILE), StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                classpath.add(directory.resolve(line));
+            }
+        }
+        return new Layout(directory, List.copyOf(classpath));
+    }
+
+    /**
+     * Trims the cache after an extraction: drops earlier builds of the same JAR, stale temporary
+     * directories, and then the least recently used copies until the cache fits its size bound.
+     * The copy just extracted and copies launched recently (which count towards the bound) are always
+     * kept. Failures are ignored; the next extraction tries again.
+     */
+    private void evict(Path current, String locationKey) {
+        List<Path> candidates = new ArrayList<>();
+        long total = sizeOf(current);
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(cacheDirectory)) {
+            for (Path child : children) {
+                String name = child.getFileName().toString();
+                if (child.equals(current) || !Files.isDirectory(child)) {
+                    continue;
+                }
+                if (name.startsWith(".")) {
+                    if (isOlderThan(child, STALE_TEMPORARY)) {
+                        delete(child);
+                    }
+                } else if (!isOlderThan(child, RECENTLY_LAUNCHED)) {
+                    // prepare() touches a copy on every launch; its JVM may still be reading from it
+                    total += sizeOf(child);
+                } else if (name.startsWith(locationKey + "-")) {
+                    remove(child);
+                } else {
+                    candidates.add(child);
+                }
+            }
+        } catch (IOException e) {
+            return;
+        }
+
+        candidates.sort(Comparator.comparing(ExplodedJarCache::lastModified).reversed());
+        for (Path candidate : candidates) {
+            long size = sizeOf(candidate);
+            if (total + size > maxBytes) {
+                remove(candidate);
+            } else {
+                total += size;
+            }
+        }
+    }
+
+    /**
+     * Renames a copy out of the way before deleting it, so a half-deleted copy is never picked up.
+     */
+    private void remove(Path copy) {
+        Path doomed = cacheDirectory.resolve("." + copy.getFileName() + "."
+                + ProcessHandle.current().pid() + "-" + TEMPORARY_SEQUENCE.incrementAndGet() + ".tmp");
+        try {
+            Files.move(copy, doomed, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            return;
+        }
+        delete(doomed);
+    }
+
+    private static void delete(Path path) {
+        try {
+            FileSystemUtils.deleteRecursively(path);
+        } catch (RuntimeException e) {
+            // Best effort: files still in use on some platforms are cleaned up by a later eviction
+        }
+    }
+
+    private static boolean isOlderThan(Path path, Duration age) {
+        return lastModified(path).toInstant().isBefore(Instant.now().minus(age));
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static long sizeOf(Path directory) {
+        try (Stream<Path> tree = Files.walk(directory)) {
+            return tree.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * An extracted Spring Boot JAR.
+     *
+     * @param directory the extraction directory
+     * @param classpath the classpath entries, application classes first
+     */
+    public record Layout(Path directory, List<Path> classpath) {
+
+        /**
+         * Returns the classpath as a single {@code -cp} value.
+         *
+         * @return the entries joined with the platform path separator
+         */
+        public String classpathArgument() {
+            StringBuilder argument = new StringBuilder();
+            for (Path entry : classpath) {
+                if (argument.length() > 0) {
+                    argument.append(File.pathSeparatorChar);
+                }
+                argument.append(entry);
+            }
+            return argument.toString();
+        }
+    }
+}
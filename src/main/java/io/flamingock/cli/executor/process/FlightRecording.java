@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * A Flight Recorder recording of the application JVM, requested with {@code --profile}.
+ *
+ * <p>The recording starts with the JVM and is dumped when it exits, using the CLI's own settings
+ * ({@code flamingock-profile.jfc}) which enable only what {@link FlightRecordingSummary} reports on. The
+ * settings file is written next to the recording for the duration of the run.</p>
+ */
+final class FlightRecording {
+
+    static final String SETTINGS_RESOURCE = "flamingock-profile.jfc";
+
+    private final Path recording;
+    private final Path settings;
+
+    private FlightRecording(Path recording, Path settings) {
+        this.recording = recording;
+        this.settings = settings;
+    }
+
+    /**
+     * Prepares a recording of an application launch.
+     *
+     * @param directory where to keep the recording
+     * @param jarPath   the application JAR, used to name the recording
+     * @return the prepared recording
+     * @throws IOException if the directory or the settings file cannot be written
+     */
+    static FlightRecording prepare(Path directory, String jarPath) throws IOException {
+        Files.createDirectories(directory);
+        String jarName = Path.of(jarPath).getFileName().toString().replaceFirst("\\.jar$", "");
+        String prefix = "flamingock-" + jarName + "-" + System.currentTimeMillis();
+        Path settings = Files.createTempFile(directory, prefix + "-", ".jfc");
+        try (InputStream in = FlightRecording.class.getResourceAsStream(SETTINGS_RESOURCE)) {
+            if (in == null) {
+                throw new IOException("Missing resource " + SETTINGS_RESOURCE);
+            }
+            Files.copy(in, settings, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(settings);
+            throw e;
+        }
+        return new FlightRecording(directory.resolve(prefix + ".jfr").toAbsolutePath(), settings.toAbsolutePath());
+    }
+
+    /**
+     * Returns whether the user already starts a recording through {@code -J}, in which case theirs is
+     * left alone.
+     *
+     * @param userJvmArgs the user's JVM arguments
+     * @return true if a recording is already requested
+     */
+    static boolean isRequestedBy(List<String> userJvmArgs) {
+        return userJvmArgs != null && userJvmArgs.stream().anyMatch(arg -> arg.startsWith("-XX:StartFlightRecording"));
+    }
+
+    /**
+     * Returns the JVM flag that starts the recording.
+     *
+     * @return the flag
+     */
+    String jvmArg() {
+        return "-XX:StartFlightRecording=filename=" + recording + ",settings=" + settings
+                + ",dumponexit=true,name=flamingock";
+    }
+
+    /**
+     * Cleans up after the application exited.
+     *
+     * @return the recording, or null if the JVM did not write one
+     */
+    Path complete() {
+        try {
+            Files.deleteIfExists(settings);
+        } catch (IOException e) {
+            // Only a leftover settings file
+        }
+        return Files.isRegularFile(recording) ? recording : null;
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarizes a {@code --profile} recording over the operation window: the last {@code operationMillis}
+ * before the application shut down, so JVM startup and application context initialization do not drown
+ * out the migration itself.
+ *
+ * <p>Reports the hottest methods by CPU samples, the top allocation sites, GC pauses, time spent blocked
+ * in socket reads (JDBC and other store drivers) and lock contention. Socket and lock events below the
+ * 1 ms recording threshold are not counted.</p>
+ */
+public final class FlightRecordingSummary {
+
+    /**
+     * How many entries each top list keeps.
+     */
+    public static final int TOP = 5;
+
+    private static final String CONDITION_OBJECT_SUFFIX = "$ConditionObject";
+
+    private final Path recording;
+    private final Duration window;
+    private final List<Entry> cpuMethods;
+    private final List<Entry> allocationSites;
+    private final long gcPauses;
+    private final Duration gcPauseTotal;
+    private final Duration gcPauseLongest;
+    private final List<Entry> socketReads;
+    private final List<Entry> lockContention;
+
+    private FlightRecordingSummary(Path recording, Duration window, List<Entry> cpuMethods,
+                                   List<Entry> allocationSites, long gcPauses, Duration gcPauseTotal,
+                                   Duration gcPauseLongest, List<Entry> socketReads, List<Entry> lockContention) {
+        this.recording = recording;
+        this.window = window;
+        this.cpuMethods = cpuMethods;
+        this.allocationSites = allocationSites;
+        this.gcPauses = gcPauses;
+        this.gcPauseTotal = gcPauseTotal;
+        this.gcPauseLongest = gcPauseLongest;
+        this.socketReads = socketReads;
+        this.lockContention = lockContention;
+    }
+
+    /**
+     * Reads and summarizes a recording.
+     *
+     * @param recording       the {@code .jfr} file
+     * @param operationMillis the operation duration the application reported; 0 summarizes the whole recording
+     * @return the summary
+     * @throws IOException if the recording cannot be read
+     */
+    public static FlightRecordingSummary read(Path recording, long operationMillis) throws IOException {
+        // First pass: the recording ends at shutdown; the operation ran just before
+        Instant end = Instant.MIN;
+        Instant shutdown = null;
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (shutdown == null && "jdk.Shutdown".equals(event.getEventType().getName())) {
+                    shutdown = event.getStartTime();
+                }
+                if (event.getEndTime().isAfter(end)) {
+                    end = event.getEndTime();
+                }
+            }
+        }
+        Instant windowEnd = shutdown != null ? shutdown : end;
+        Instant windowStart = operationMillis > 0 ? windowEnd.minusMillis(operationMillis) : Instant.MIN;
+
+        Map<String, long[]> cpu = new HashMap<>();
+        Map<String, long[]> allocations = new HashMap<>();
+        Map<String, long[]> sockets = new HashMap<>();
+        Map<String, long[]> locks = new HashMap<>();
+        long gcCount = 0;
+        Duration gcTotal = Duration.ZERO;
+        Duration gcLongest = Duration.ZERO;
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (event.getStartTime().isBefore(windowStart) || event.getStartTime().isAfter(windowEnd)) {
+                    continue;
+                }
+                switch (event.getEventType().getName()) {
+                    case "jdk.ExecutionSample":
+                        add(cpu, topFrame(event), 1);
+                        break;
+                    case "jdk.ObjectAllocationSample":
+                        add(allocations, topFrame(event), event.getLong("weight"));
+                        break;
+                    case "jdk.GarbageCollection":
+                        gcCount++;
+                        gcTotal = gcTotal.plus(event.getDuration("sumOfPauses"));
+                        Duration longest = event.getDuration("longestPause");
+                        if (longest.compareTo(gcLongest) > 0) {
+                            gcLongest = longest;
+                        }
+                        break;
+                    case "jdk.SocketRead":
+                        add(sockets, event.getString("host") + ":" + event.getInt("port"),
+                                event.getDuration().toNanos());
+                        break;
+                    case "jdk.JavaMonitorEnter":
+                        add(locks, className(event.getClass("monitorClass")), event.getDuration().toNanos());
+                        break;
+                    case "jdk.ThreadPark":
+                        // Idle pool threads park on a condition; lock waits park on the lock itself
+                        String blocker = className(event.getClass("parkedClass"));
+                        if (blocker != null && !blocker.endsWith(CONDITION_OBJECT_SUFFIX)) {
+                            add(locks, blocker, event.getDuration().toNanos());
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        Duration window = operationMillis > 0 ? Duration.ofMillis(operationMillis) : null;
+        return new FlightRecordingSummary(recording, window, top(cpu), top(allocations), gcCount, gcTotal,
+                gcLongest, top(sockets), top(locks));
+    }
+
+    private static void add(Map<String, long[]> totals, String key, long value) {
+        if (key == null) {
+            return;
+        }
+        long[] total = totals.computeIfAbsent(key, k -> new long[2]);
+        total[0]++;
+        total[1] += value;
+    }
+
+    private static List<Entry> top(Map<String, long[]> totals) {
+        List<Entry> entries = new ArrayList<>(totals.size());
+        totals.forEach((name, total) -> entries.add(new Entry(name, total[0], total[1])));
+        entries.sort(Comparator.comparingLong(Entry::value).reversed().thenComparing(Entry::name));
+        return entries.size() > TOP ? new ArrayList<>(entries.subList(0, TOP)) : entries;
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return null;
+        }
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        RecordedMethod method = frame.getMethod();
+        if (method == null) {
+            return null;
+        }
+        String type = className(method.getType());
+        return (type != null ? type + "." : "") + method.getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+
+    private static String className(RecordedClass recordedClass) {
+        return recordedClass != null ? recordedClass.getName() : null;
+    }
+
+    /**
+     * Returns the recording this summary was read from.
+     *
+     * @return the {@code .jfr} file
+     */
+    public Path getRecording() {
+        return recording;
+    }
+
+    /**
+     * Returns the length of the summarized window.
+     *
+     * @return the operation duration, or null if the whole recording was summarized
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * Returns the methods most often on CPU; the value is the number of samples.
+     *
+     * @return up to {@link #TOP} entries, hottest first
+     */
+    public List<Entry> getCpuMethods() {
+        return cpuMethods;
+    }
+
+    /**
+     * Returns the code allocating the most; the value is the estimated number of bytes.
+     *
+     * @return up to {@link #TOP} entries, largest first
+     */
+    public List<Entry> getAllocationSites() {
+        return allocationSites;
+    }
+
+    /**
+     * Returns the number of garbage collections.
+     *
+     * @return the collection count
+     */
+    public long getGcPauses() {
+        return gcPauses;
+    }
+
+    /**
+     * Returns the total time application threads were paused for garbage collection.
+     *
+     * @return the total pause time
+     */
+    public Duration getGcPauseTotal() {
+        return gcPauseTotal;
+    }
+
+    /**
+     * Returns the longest single garbage collection pause.
+     *
+     * @return the longest pause
+     */
+    public Duration getGcPauseLongest() {
+        return gcPauseLongest;
+    }
+
+    /**
+     * Returns time blocked in socket reads per remote endpoint; the value is in nanoseconds.
+     *
+     * @return up to {@link #TOP} entries, longest first
+     */
+    public List<Entry> getSocketReads() {
+        return socketReads;
+    }
+
+    /**
+     * Returns time blocked on contended monitors and locks per lock class; the value is in nanoseconds.
+     *
+     * @return up to {@link #TOP} entries, longest first
+     */
+    public List<Entry> getLockContention() {
+        return lockContention;
+    }
+
+    /**
+     * One line of a top list.
+     *
+     * @param name  the method, allocation site, endpoint or lock class
+     * @param count how many events contributed
+     * @param value the aggregated value (samples, bytes or nanoseconds)
+     */
+    public record Entry(String name, long count, long value) {
+    }
+}
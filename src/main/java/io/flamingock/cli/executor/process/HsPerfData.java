@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Reads counters from a HotSpot JVM's performance data file ({@code hsperfdata_<user>/<pid>}), the same
+ * source {@code jstat} uses, so GC time can be sampled without attaching to the JVM or adding flags.
+ *
+ * <p>The file exists only while the JVM runs and not at all with {@code -XX:-UsePerfData}; every read is
+ * best effort.</p>
+ */
+final class HsPerfData {
+
+    private static final int MAGIC = 0xcafec0c0;
+    private static final byte LITTLE_ENDIAN = 1;
+    private static final int PROLOGUE_SIZE = 32;
+    private static final byte TYPE_LONG = 'J';
+    private static final String GC_PREFIX = "sun.gc.collector.";
+    private static final String GC_SUFFIX = ".time";
+    private static final String FREQUENCY = "sun.os.hrt.frequency";
+
+    private final Path file;
+
+    HsPerfData(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the performance data file of a JVM started by this user.
+     *
+     * @param pid the JVM's process id
+     * @return the file, which may not exist
+     */
+    static HsPerfData forProcess(long pid) {
+        // HotSpot uses /tmp on Linux whatever java.io.tmpdir says
+        String tmp = System.getProperty("os.name", "").toLowerCase().contains("linux")
+                ? "/tmp"
+                : System.getProperty("java.io.tmpdir");
+        return new HsPerfData(Path.of(tmp, "hsperfdata_" + System.getProperty("user.name"), Long.toString(pid)));
+    }
+
+    /**
+     * Returns the total time spent by all collectors so far.
+     *
+     * @return the GC time in milliseconds, or {@link ResourceUsage#UNKNOWN} if the file cannot be read
+     */
+    long gcMillis() {
+        Map<String, Long> counters = read(name -> name.equals(FREQUENCY)
+                || name.startsWith(GC_PREFIX) && name.endsWith(GC_SUFFIX));
+        Long frequency = counters.remove(FREQUENCY);
+        if (frequency == null || frequency <= 0 || counters.isEmpty()) {
+            return ResourceUsage.UNKNOWN;
+        }
+        long ticks = 0;
+        for (long value : counters.values()) {
+            ticks += value;
+        }
+        return ticks * 1000 / frequency;
+    }
+
+    private Map<String, Long> read(Predicate<String> names) {
+        try {
+            return parse(ByteBuffer.wrap(Files.readAllBytes(file)), names);
+        } catch (IOException | RuntimeException e) {
+            // Gone (the JVM exited), not yet initialized or not readable
+            return new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * Extracts the long counters whose names match.
+     *
+     * @param buffer the performance data
+     * @param names  which counters to keep
+     * @return the counters by name (empty if the data is not accessible yet)
+     * @throws IllegalArgumentException if the data is not in the performance data format
+     * @throws IndexOutOfBoundsException if the data is truncated
+     */
+    static Map<String, Long> parse(ByteBuffer buffer, Predicate<String> names) {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (buffer.limit() < PROLOGUE_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a performance data file");
+        }
+        buffer.order(buffer.get(4) == LITTLE_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        boolean accessible = buffer.get(7) != 0;
+        if (!accessible) {
+            return counters;
+        }
+        int entry = buffer.getInt(24);
+        int entries = buffer.getInt(28);
+        for (int i = 0; i < entries; i++) {
+            int length = buffer.getInt(entry);
+            int nameOffset = buffer.getInt(entry + 4);
+            int vectorLength = buffer.getInt(entry + 8);
+            byte type = buffer.get(entry + 12);
+            int dataOffset = buffer.getInt(entry + 16);
+            if (length <= 0) {
+                break;
+            }
+            if (type == TYPE_LONG && vectorLength == 0) {
+                String name = readName(buffer, entry + nameOffset);
+                if (names.test(name)) {
+                    counters.put(name, buffer.getLong(entry + dataOffset));
+                }
+            }
+            entry += length;
+        }
+        return counters;
+    }
+
+    private static String readName(ByteBuffer buffer, int start) {
+        int end = start;
+        while (buffer.get(end) != 0) {
+            end++;
+        }
+        byte[] name = new byte[end - start];
+        buffer.get(start, name);
+        return new String(name, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+/**
+ * What {@link JarTypeDetector} learned about a JAR.
+ *
+ * <p>Instances are immutable and cheap to persist, so they can be reused across CLI invocations
+ * through {@link JarAnalysisCache}.</p>
+ */
+public class JarAnalysis {
+
+    private final JarType jarType;
+    private final String mainClass;
+    private final String startClass;
+    private final int entryCount;
+    private final boolean layersIndex;
+    private final int classMajorVersion;
+    private final boolean springAot;
+
+    /**
+     * Creates an analysis result without layout facts.
+     *
+     * @param jarType    the detected JAR type
+     * @param mainClass  the manifest {@code Main-Class}, or null
+     * @param startClass the manifest {@code Start-Class} (Spring Boot), or null
+     */
+    public JarAnalysis(JarType jarType, String mainClass, String startClass) {
+        this(jarType, mainClass, startClass, 0, false, 0);
+    }
+
+    /**
+     * Creates an analysis result.
+     *
+     * @param jarType           the detected JAR type
+     * @param mainClass         the manifest {@code Main-Class}, or null
+     * @param startClass        the manifest {@code Start-Class} (Spring Boot), or null
+     * @param entryCount        the number of entries in the JAR, or 0 if unknown
+     * @param layersIndex       whether the JAR contains {@code BOOT-INF/layers.idx}
+     * @param classMajorVersion the highest class file major version seen, or 0 if unknown
+     */
+    public JarAnalysis(JarType jarType, String mainClass, String startClass,
+                       int entryCount, boolean layersIndex, int classMajorVersion) {
+        this(jarType, mainClass, startClass, entryCount, layersIndex, classMajorVersion, false);
+    }
+
+    /**
+     * Creates an analysis result, including whether the JAR was processed by Spring AOT.
+     *
+     * @param jarType           the detected JAR type
+     * @param mainClass         the manifest {@code Main-Class}, or null
+     * @param startClass        the manifest {@code Start-Class} (Spring Boot), or null
+     * @param entryCount        the number of entries in the JAR, or 0 if unknown
+     * @param layersIndex       whether the JAR contains {@code BOOT-INF/layers.idx}
+     * @param classMajorVersion the highest class file major version seen, or 0 if unknown
+     * @param springAot         whether the JAR contains Spring AOT generated initializers
+     */
+    public JarAnalysis(JarType jarType, String mainClass, String startClass,
+                       int entryCount, boolean layersIndex, int classMajorVersion, boolean springAot) {
+        this.jarType = jarType;
+        this.mainClass = mainClass;
+        this.startClass = startClass;
+        this.entryCount = entryCount;
+        this.layersIndex = layersIndex;
+        this.classMajorVersion = classMajorVersion;
+        this.springAot = springAot;
+    }
+
+    /**
+     * Returns the detected JAR type.
+     *
+     * @return the JAR type
+     */
+    public JarType getJarType() {
+        return jarType;
+    }
+
+    /**
+     * Returns the manifest {@code Main-Class}.
+     *
+     * @return the main class, or null if the manifest does not declare one
+     */
+    public String getMainClass() {
+        return mainClass;
+    }
+
+    /**
+     * Returns the manifest {@code Start-Class}, which Spring Boot uses for the application class.
+     *
+     * @return the start class, or null if the manifest does not declare one
+     */
+    public String getStartClass() {
+        return startClass;
+    }
+
+    /**
+     * Returns the number of entries in the JAR.
+     *
+     * @return the entry count, or 0 if unknown
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Returns whether the JAR is a layered Spring Boot JAR ({@code BOOT-INF/layers.idx} present).
+     *
+     * @return true if a layers index is present
+     */
+    public boolean hasLayersIndex() {
+        return layersIndex;
+    }
+
+    /**
+     * Returns the highest class file major version among the application's entry classes,
+     * e.g. 61 for Java 17.
+     *
+     * @return the major version, or 0 if unknown
+     */
+    public int getClassMajorVersion() {
+        return classMajorVersion;
+    }
+
+    /**
+     * Returns whether the JAR contains Spring AOT generated application context initializers,
+     * which Spring Boot only uses when {@code spring.aot.enabled} is set.
+     *
+     * @return true if AOT artifacts are present
+     */
+    public boolean hasSpringAot() {
+        return springAot;
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import io.flamingock.cli.executor.util.filesystem.CacheDirectory;
+import io.flamingock.cli.executor.util.filesystem.FileSystemUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * On-disk cache of {@link JarAnalysis} results, so repeated commands against the same artifact skip
+ * opening and scanning the JAR.
+ *
+ * <p>Entries are keyed by canonical path and are only valid while the file's size and modification
+ * time are unchanged. Each entry can also carry the SHA-256 of the JAR content once it has been
+ * computed, which other caches keyed by content reuse through {@link #contentHash(File)}, and what the
+ * JAR's Flamingock runtime was found to support ({@link #runtimeSupport(File)}).</p>
+ *
+ * <p>The index is a small tab-separated file kept in least-recently-used order and bounded to
+ * {@code maxEntries}. Every change re-reads it under a lock file and rewrites it atomically, so concurrent
+ * CLI processes and long-lived daemons keep each other's entries; a daemon also re-reads it when another
+ * process has rewritten it. A missing, unreadable or outdated index is treated as empty.</p>
+ */
+public class JarAnalysisCache {
+
+    static final String FORMAT_HEADER = "# flamingock jar-analysis v4";
+
+    private static final int DEFAULT_MAX_ENTRIES = 256;
+    private static final int FIELD_COUNT = 12;
+
+    private final Path indexFile;
+    private final LinkedHashMap<String, Entry> entries;
+    private boolean loaded;
+    private IndexStamp stamp;
+
+    /**
+     * Creates a cache stored in the default CLI cache directory.
+     */
+    public JarAnalysisCache() {
+        this(CacheDirectory.root().resolve("jar-analysis.idx"), DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Creates a cache stored in the given index file.
+     *
+     * @param indexFile  the index file
+     * @param maxEntries how many JARs to remember before evicting the least recently used
+     */
+    public JarAnalysisCache(Path indexFile, int maxEntries) {
+        this.indexFile = indexFile;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached analysis of the JAR, if it is still current.
+     *
+     * @param jar the JAR file
+     * @return the analysis, or null on a miss
+     */
+    public synchronized JarAnalysis get(File jar) {
+        FileKey key = FileKey.of(jar);
+        if (key == null) {
+            return null;
+        }
+        refresh();
+        boolean alreadyMostRecent = !entries.isEmpty() && entries.lastEntry().getKey().equals(key.path);
+        Entry entry = lookup(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!alreadyMostRecent) {
+            // Persist the new recency so eviction follows actual use across invocations
+            update(() -> entries.get(key.path));
+        }
+        return entry.analysis;
+    }
+
+    /**
+     * Records the analysis of the JAR in its current state.
+     *
+     * @param jar      the JAR file
+     * @param analysis the analysis result
+     */
+    public synchronized void put(File jar, JarAnalysis analysis) {
+        FileKey key = FileKey.of(jar);
+        if (key == null) {
+            return;
+        }
+        update(() -> {
+            Entry previous = lookup(key);
+            String contentHash = previous != null ? previous.contentHash : null;
+            RuntimeSupport runtimeSupport = previous != null ? previous.runtimeSupport : RuntimeSupport.UNKNOWN;
+            entries.put(key.path, new Entry(key, contentHash, runtimeSupport, analysis));
+        });
+    }
+
+    /**
+     * Returns what the JAR's Flamingock runtime was found to support, if the JAR is unchanged since.
+     *
+     * @param jar the JAR file
+     * @return the recorded support, or {@link RuntimeSupport#UNKNOWN} if none was recorded
+     */
+    public synchronized RuntimeSupport runtimeSupport(File jar) {
+        FileKey key = FileKey.of(jar);
+        if (key == null) {
+            return RuntimeSupport.UNKNOWN;
+        }
+        refresh();
+        Entry entry = lookup(key);
+        return entry != null ? entry.runtimeSupport : RuntimeSupport.UNKNOWN;
+    }
+
+    /**
+     * Records what the JAR's Flamingock runtime supports.
+     *
+     * <p>Like the content hash, this is only remembered alongside an analysis of the JAR in its current
+     * state.</p>
+     *
+     * @param jar            the JAR file
+     * @param runtimeSupport what the runtime supports
+     */
+    public synchronized void recordRuntimeSupport(File jar, RuntimeSupport runtimeSupport) {
+        FileKey key = FileKey.of(jar);
+        if (key == null) {
+            return;
+        }
+        update(() -> {
+            Entry entry = lookup(key);
+            if (entry != null) {
+                entries.put(key.path, new Entry(key, entry.contentHash, runtimeSupport, entry.analysis));
+            }
+        });
+    }
+
+    /**
+     * Returns the SHA-256 of the JAR content, computing and remembering it on first use.
+     *
+     * <p>The hash is only remembered alongside an analysis; for a JAR that was never analyzed it is
+     * computed every time.</p>
+     *
+     * @param jar the JAR file
+     * @return the content hash as lowercase hex
+     * @throws IOException if the JAR cannot be read
+     */
+    public String contentHash(File jar) throws IOException {
+        FileKey key = FileKey.of(jar);
+        synchronized (this) {
+            if (key != null) {
+                refresh();
+                Entry entry = lookup(key);
+                if (entry != null && entry.contentHash != null) {
+                    return entry.contentHash;
+                }
+            }
+        }
+        // Hash outside the lock so concurrent launches of different JARs do not queue behind each other
+        String hash = FileSystemUtils.sha256(jar.toPath());
+        if (key != null) {
+            synchronized (this) {
+                update(() -> {
+                    Entry entry = lookup(key);
+                    if (entry != null) {
+                        entries.put(key.path, new Entry(key, hash, entry.runtimeSupport, entry.analysis));
+                    }
+                });
+            }
+        }
+        return hash;
+    }
+
+    private Entry lookup(FileKey key) {
+        Entry entry = entries.get(key.path);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.size != key.size || entry.lastModified != key.lastModified) {
+            entries.remove(key.path);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Re-reads the index if another process (or another cache on the same file) rewrote it since it was last
+     * read or written here.
+     */
+    private void refresh() {
+        IndexStamp current = IndexStamp.of(indexFile);
+        if (loaded && Objects.equals(current, stamp)) {
+            return;
+        }
+        read();
+        stamp = current;
+    }
+
+    /**
+     * Applies a change to the index as it is on disk: under an exclusive lock, the index is re-read, changed
+     * and rewritten, so entries written meanwhile by other CLI processes or daemons are kept. Without a
+     * usable lock file (e.g. a read-only home directory) the change is only applied in memory.
+     */
+    private void update(Runnable change) {
+        Path lockFile = indexFile.resolveSibling(indexFile.getFileName() + ".lock");
+        // File locks are held per JVM, so caches on the same file in this process take turns here first
+        synchronized (JarAnalysisCache.class) {
+            try {
+                Files.createDirectories(indexFile.toAbsolutePath().getParent());
+                try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE);
+                     FileLock ignored = channel.lock()) {
+                    read();
+                    change.run();
+                    write();
+                    stamp = IndexStamp.of(indexFile);
+                    return;
+                }
+            } catch (IOException e) {
+                // The cache is an optimization; a read-only home directory must not break detection
+            }
+        }
+        refresh();
+        change.run();
+    }
+
+    private void read() {
+        loaded = true;
+        entries.clear();
+        if (!Files.isRegularFile(indexFile)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            if (!FORMAT_HEADER.equals(reader.readLine())) {
+                return;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Entry entry = Entry.parse(line);
+                if (entry != null) {
+                    entries.put(entry.path, entry);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            entries.clear();
+        }
+    }
+
+    private void write() throws IOException {
+        Path temp = Files.createTempFile(indexFile.toAbsolutePath().getParent(), "jar-analysis-", ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(FORMAT_HEADER);
+                writer.newLine();
+                for (Entry entry : entries.values()) {
+                    writer.write(entry.format());
+                    writer.newLine();
+                }
+            }
+            try {
+                Files.move(temp, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Identifies a version of the index file by size and modification time; null stands for no file.
+     */
+    private record IndexStamp(long size, long lastModified) {
+
+        static IndexStamp of(Path indexFile) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(indexFile, BasicFileAttributes.class);
+                return new IndexStamp(attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final class FileKey {
+        private final String path;
+        private final long size;
+        private final long lastModified;
+
+        private FileKey(String path, long size, long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        static FileKey of(File jar) {
+            try {
+                Path canonical = jar.toPath().toRealPath();
+                BasicFileAttributes attributes = Files.readAttributes(canonical, BasicFileAttributes.class);
+                String path = canonical.toString();
+                if (path.indexOf('\t') >= 0 || path.indexOf('\n') >= 0 || path.indexOf('\r') >= 0) {
+                    return null;
+                }
+                return new FileKey(path, attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String path;
+        private final long size;
+        private final long lastModified;
+        private final String contentHash;
+        private final RuntimeSupport runtimeSupport;
+        private final JarAnalysis analysis;
+
+        private Entry(String path, long size, long lastModified, String contentHash, RuntimeSupport runtimeSupport,
+                      JarAnalysis analysis) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+            this.runtimeSupport = runtimeSupport;
+            this.analysis = analysis;
+        }
+
+        private Entry(FileKey key, String contentHash, RuntimeSupport runtimeSupport, JarAnalysis analysis) {
+            this(key.path, key.size, key.lastModified, contentHash, runtimeSupport, analysis);
+        }
+
+        String format() {
+            return String.join("\t",
+                    path,
+                    Long.toString(size),
+                    Long.toString(lastModified),
+                    orEmpty(contentHash),
+                    analysis.getJarType().name(),
+                    orEmpty(analysis.getMainClass()),
+                    orEmpty(analysis.getStartClass()),
+                    Integer.toString(analysis.getEntryCount()),
+                    Boolean.toString(analysis.hasLayersIndex()),
+                    Integer.toString(analysis.getClassMajorVersion()),
+                    Boolean.toString(analysis.hasSpringAot()),
+                    runtimeSupport.name());
+        }
+
+        static Entry parse(String line) {
+            String[] fields = line.split("\t", -1);
+            if (fields.length != FIELD_COUNT) {
+                return null;
+            }
+            JarAnalysis analysis = new JarAnalysis(
+                    JarType.valueOf(fields[4]),
+                    emptyToNull(fields[5]),
+                    emptyToNull(fields[6]),
+                    Integer.parseInt(fields[7]),
+                    Boolean.parseBoolean(fields[8]),
+                    Integer.parseInt(fields[9]),
+                    Boolean.parseBoolean(fields[10]));
+            return new Entry(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                    emptyToNull(fields[3]), RuntimeSupport.valueOf(fields[11]), analysis);
+        }
+
+        private static String orEmpty(String value) {
+            return value != null ? value : "";
+        }
+
+        private static String emptyToNull(String value) {
+            return value.isEmpty() ? null : value;
+        }
+    }
+}
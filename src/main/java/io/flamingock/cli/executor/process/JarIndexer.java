@@ -0,0 +1,428 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Reads the facts {@link JarTypeDetector} needs straight from a JAR's central directory.
+ *
+ * <p>The central directory is read in one piece and walked in place: entry names are compared as raw
+ * bytes against the few names and prefixes of interest, so no per-entry objects are created and
+ * the cost is dominated by the size of the directory rather than the size of the JAR. Only the
+ * manifest and a couple of class headers are ever decompressed. The directory is read into the heap
+ * rather than memory-mapped, so nothing outlives the analysis: a daemon does not keep mappings of JARs
+ * that have since been rebuilt.</p>
+ *
+ * <p>ZIP64 archives are supported, as are archives with bytes in front of them, such as Spring Boot's
+ * fully executable JARs with their launch script: offsets stored in the archive are relative to where the
+ * archive starts, which is derived from where the central directory ends.</p>
+ *
+ * <p>Class file major versions are sampled from the Flamingock entry point and the application's
+ * {@code Start-Class}/{@code Main-Class} rather than from every class, which would mean inflating
+ * each entry.</p>
+ */
+final class JarIndexer {
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int EOCD_MIN_SIZE = 22;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int ZIP64_EOCD_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_EOCD_SIZE = 56;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+    private static final int MAX_MANIFEST_SIZE = 1 << 20;
+    private static final int CLASS_HEADER_SIZE = 8;
+
+    private static final byte[] BOOT_INF_PREFIX = utf8("BOOT-INF/");
+    private static final byte[] SPRING_BOOT_LOADER_PREFIX = utf8("org/springframework/boot/loader/");
+    private static final byte[] FLAMINGOCK_ENTRY_POINT = utf8("io/flamingock/core/cli/FlamingockCliMainEntryPoint.class");
+    private static final byte[] LAYERS_INDEX = utf8("BOOT-INF/layers.idx");
+    private static final byte[] MANIFEST = utf8("META-INF/MANIFEST.MF");
+    private static final byte[] MULTI_RELEASE_PREFIX = utf8("META-INF/versions/");
+    private static final byte[] CLASS_SUFFIX = utf8(".class");
+    private static final byte[] AOT_INITIALIZER_SUFFIX = utf8("__ApplicationContextInitializer.class");
+
+    private JarIndexer() {
+    }
+
+    /**
+     * Indexes the JAR at the given path.
+     *
+     * @param jar the JAR file
+     * @return the facts gathered from its central directory
+     * @throws IOException if the file cannot be read or is not a valid ZIP archive
+     */
+    static JarIndex index(Path jar) throws IOException {
+        try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+            return new Scan(channel).run();
+        }
+    }
+
+    /**
+     * Facts gathered from a JAR's central directory.
+     *
+     * @param entryCount               number of entries
+     * @param classEntryCount          number of {@code .class} entries
+     * @param springBootLayout         whether {@code BOOT-INF/} or Spring Boot loader entries are present
+     * @param hasFlamingockEntryPoint  whether the Flamingock CLI entry point class is present
+     * @param hasLayersIndex           whether {@code BOOT-INF/layers.idx} is present
+     * @param multiRelease             whether versioned entries under {@code META-INF/versions/} are present
+     * @param mainClass                the manifest {@code Main-Class}, or null
+     * @param startClass               the manifest {@code Start-Class}, or null
+     * @param maxClassMajorVersion     the highest class file major version among sampled classes, or 0 if unknown
+     * @param springAot                whether Spring AOT generated an application context initializer
+     */
+    record JarIndex(int entryCount, int classEntryCount, boolean springBootLayout, boolean hasFlamingockEntryPoint,
+                    boolean hasLayersIndex, boolean multiRelease, String mainClass, String startClass,
+                    int maxClassMajorVersion, boolean springAot) {
+    }
+
+    private static final class Scan {
+
+        private final FileChannel channel;
+        private final long fileSize;
+        private ByteBuffer directory;
+        private long archiveStart;
+
+        private int entryCount;
+        private int classEntryCount;
+        private boolean springBootLayout;
+        private boolean multiRelease;
+        private boolean hasLayersIndex;
+        private boolean springAot;
+        private int entryPointHeader = -1;
+        private int manifestHeader = -1;
+
+        Scan(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.fileSize = channel.size();
+        }
+
+        JarIndex run() throws IOException {
+            mapCentralDirectory();
+            walkCentralDirectory();
+
+            String mainClass = null;
+            String startClass = null;
+            if (manifestHeader >= 0) {
+                Attributes attributes = readManifest(manifestHeader).getMainAttributes();
+                mainClass = attributes.getValue(Attributes.Name.MAIN_CLASS);
+                startClass = attributes.getValue("Start-Class");
+            }
+
+            int majorVersion = classMajorVersion(entryPointHeader);
+            if (startClass != null) {
+                majorVersion = Math.max(majorVersion,
+                        classMajorVersion(findEntry(utf8("BOOT-INF/classes/" + startClass.replace('.', '/') + ".class"))));
+            } else if (mainClass != null) {
+                majorVersion = Math.max(majorVersion,
+                        classMajorVersion(findEntry(utf8(mainClass.replace('.', '/') + ".class"))));
+            }
+
+            return new JarIndex(entryCount, classEntryCount, springBootLayout, entryPointHeader >= 0,
+                    hasLayersIndex, multiRelease, mainClass, startClass, majorVersion, springAot);
+        }
+
+        private void mapCentralDirectory() throws IOException {
+            if (fileSize < EOCD_MIN_SIZE) {
+                throw new ZipException("File is too small to be a ZIP archive");
+            }
+            int tailLength = (int) Math.min(fileSize, EOCD_MIN_SIZE + MAX_COMMENT_LENGTH);
+            long tailStart = fileSize - tailLength;
+            ByteBuffer tail = read(tailStart, tailLength);
+
+            int eocd = -1;
+            for (int i = tailLength - EOCD_MIN_SIZE; i >= 0; i--) {
+                if (tail.getInt(i) == EOCD_SIGNATURE) {
+                    eocd = i;
+                    break;
+                }
+            }
+            if (eocd < 0) {
+                throw new ZipException("End of central directory record not found");
+            }
+
+            long totalEntries = Short.toUnsignedInt(tail.getShort(eocd + 10));
+            long directorySize = Integer.toUnsignedLong(tail.getInt(eocd + 12));
+            long directoryOffset = Integer.toUnsignedLong(tail.getInt(eocd + 16));
+
+            // The central directory ends where the (ZIP64) end of central directory record starts
+            long directoryEnd = tailStart + eocd;
+            if (totalEntries == 0xFFFF || directorySize == 0xFFFFFFFFL || directoryOffset == 0xFFFFFFFFL) {
+                long locator = directoryEnd - ZIP64_LOCATOR_SIZE;
+                ByteBuffer locatorRecord = locator >= 0 ? read(locator, ZIP64_LOCATOR_SIZE) : null;
+                if (locatorRecord != null && locatorRecord.getInt(0) == ZIP64_LOCATOR_SIGNATURE) {
+                    long zip64Record = zip64RecordPosition(locator, locatorRecord.getLong(8));
+                    ByteBuffer zip64 = read(zip64Record, ZIP64_EOCD_SIZE);
+                    directorySize = zip64.getLong(40);
+                    directoryOffset = zip64.getLong(48);
+                    directoryEnd = zip64Record;
+                }
+            }
+
+            archiveStart = directoryEnd - directorySize - directoryOffset;
+            if (directoryOffset < 0 || directorySize < 0 || archiveStart < 0) {
+                throw new ZipException("Central directory lies outside the file");
+            }
+            if (directorySize > Integer.MAX_VALUE) {
+                throw new ZipException("Central directory is too large: " + directorySize + " bytes");
+            }
+            directory = read(archiveStart + directoryOffset, (int) directorySize);
+        }
+
+        /**
+         * Locates the ZIP64 end of central directory record: normally right before its locator, whatever
+         * precedes the archive, otherwise at the offset the locator records.
+         */
+        private long zip64RecordPosition(long locator, long recordedOffset) throws IOException {
+            long adjacent = locator - ZIP64_EOCD_SIZE;
+            if (adjacent >= 0 && read(adjacent, Integer.BYTES).getInt(0) == ZIP64_EOCD_SIGNATURE) {
+                return adjacent;
+            }
+            if (recordedOffset >= 0 && recordedOffset + ZIP64_EOCD_SIZE <= fileSize
+                    && read(recordedOffset, Integer.BYTES).getInt(0) == ZIP64_EOCD_SIGNATURE) {
+                return recordedOffset;
+            }
+            throw new ZipException("Invalid ZIP64 end of central directory record");
+        }
+
+        private void walkCentralDirectory() throws IOException {
+            int limit = directory.limit();
+            int position = 0;
+            while (position + CENTRAL_HEADER_SIZE <= limit) {
+                if (directory.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                    break;
+                }
+                int nameLength = Short.toUnsignedInt(directory.getShort(position + 28));
+                int extraLength = Short.toUnsignedInt(directory.getShort(position + 30));
+                int commentLength = Short.toUnsignedInt(directory.getShort(position + 32));
+                int name = position + CENTRAL_HEADER_SIZE;
+                if (name + nameLength > limit) {
+                    throw new ZipException("Truncated central directory");
+                }
+
+                entryCount++;
+                if (endsWith(name, nameLength, CLASS_SUFFIX)) {
+                    classEntryCount++;
+                }
+                if (startsWith(name, nameLength, BOOT_INF_PREFIX)) {
+                    springBootLayout = true;
+                    if (equalsName(name, nameLength, LAYERS_INDEX)) {
+                        hasLayersIndex = true;
+                    } else if (endsWith(name, nameLength, AOT_INITIALIZER_SUFFIX)) {
+                        springAot = true;
+                    }
+                } else if (startsWith(name, nameLength, SPRING_BOOT_LOADER_PREFIX)) {
+                    springBootLayout = true;
+                } else if (equalsName(name, nameLength, FLAMINGOCK_ENTRY_POINT)) {
+                    entryPointHeader = position;
+                } else if (equalsName(name, nameLength, MANIFEST)) {
+                    manifestHeader = position;
+                } else if (startsWith(name, nameLength, MULTI_RELEASE_PREFIX)) {
+                    multiRelease = true;
+                }
+
+                position = name + nameLength + extraLength + commentLength;
+            }
+            if (entryCount == 0 && limit > 0) {
+                throw new ZipException("Invalid central directory header");
+            }
+        }
+
+        private int findEntry(byte[] target) {
+            int limit = directory.limit();
+            int position = 0;
+            while (position + CENTRAL_HEADER_SIZE <= limit && directory.getInt(position) == CENTRAL_HEADER_SIGNATURE) {
+                int nameLength = Short.toUnsignedInt(directory.getShort(position + 28));
+                int name = position + CENTRAL_HEADER_SIZE;
+                if (equalsName(name, nameLength, target)) {
+                    return position;
+                }
+                position = name + nameLength
+                        + Short.toUnsignedInt(directory.getShort(position + 30))
+                        + Short.toUnsignedInt(directory.getShort(position + 32));
+            }
+            return -1;
+        }
+
+        private Manifest readManifest(int header) throws IOException {
+            byte[] content = readEntry(header, MAX_MANIFEST_SIZE);
+            return new Manifest(new ByteArrayInputStream(content));
+        }
+
+        private int classMajorVersion(int header) throws IOException {
+            if (header < 0) {
+                return 0;
+            }
+            byte[] classHeader = readEntry(header, CLASS_HEADER_SIZE);
+            if (classHeader.length < CLASS_HEADER_SIZE || ByteBuffer.wrap(classHeader).getInt(0) != 0xCAFEBABE) {
+                return 0;
+            }
+            return ((classHeader[6] & 0xFF) << 8) | (classHeader[7] & 0xFF);
+        }
+
+        /**
+         * Reads up to {@code maxBytes} of an entry's uncompressed content.
+         */
+        private byte[] readEntry(int header, int maxBytes) throws IOException {
+            int method = Short.toUnsignedInt(directory.getShort(header + 10));
+            long compressedSize = Integer.toUnsignedLong(directory.getInt(header + 20));
+            long uncompressedSize = Integer.toUnsignedLong(directory.getInt(header + 24));
+            long localHeader = Integer.toUnsignedLong(directory.getInt(header + 42));
+            if (compressedSize == 0xFFFFFFFFL || uncompressedSize == 0xFFFFFFFFL || localHeader == 0xFFFFFFFFL) {
+                long[] zip64 = zip64Values(header, uncompressedSize, compressedSize, localHeader);
+                uncompressedSize = zip64[0];
+                compressedSize = zip64[1];
+                localHeader = zip64[2];
+            }
+
+            ByteBuffer local = read(archiveStart + localHeader, LOCAL_HEADER_SIZE);
+            if (local.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid local file header at offset " + localHeader);
+            }
+            long dataStart = archiveStart + localHeader + LOCAL_HEADER_SIZE
+                    + Short.toUnsignedInt(local.getShort(26))
+                    + Short.toUnsignedInt(local.getShort(28));
+            int wanted = (int) Math.min(uncompressedSize, maxBytes);
+
+            if (method == METHOD_STORED) {
+                return toArray(read(dataStart, wanted));
+            }
+            if (method != METHOD_DEFLATED) {
+                throw new ZipException("Unsupported compression method " + method);
+            }
+            return inflate(dataStart, compressedSize, wanted);
+        }
+
+        private byte[] inflate(long dataStart, long compressedSize, int wanted) throws IOException {
+            byte[] output = new byte[wanted];
+            Inflater inflater = new Inflater(true);
+            try {
+                int produced = 0;
+                long offset = 0;
+                while (produced < wanted && !inflater.finished()) {
+                    if (inflater.needsInput()) {
+                        if (offset >= compressedSize) {
+                            break;
+                        }
+                        int chunk = (int) Math.min(8192, compressedSize - offset);
+                        inflater.setInput(toArray(read(dataStart + offset, chunk)));
+                        offset += chunk;
+                    }
+                    produced += inflater.inflate(output, produced, wanted - produced);
+                }
+                return produced == wanted ? output : Arrays.copyOf(output, produced);
+            } catch (DataFormatException e) {
+                throw new ZipException("Invalid compressed data: " + e.getMessage());
+            } finally {
+                inflater.end();
+            }
+        }
+
+        private long[] zip64Values(int header, long uncompressedSize, long compressedSize, long localHeader) {
+            int nameLength = Short.toUnsignedInt(directory.getShort(header + 28));
+            int extraLength = Short.toUnsignedInt(directory.getShort(header + 30));
+            int extra = header + CENTRAL_HEADER_SIZE + nameLength;
+            int end = extra + extraLength;
+            while (extra + 4 <= end) {
+                int id = Short.toUnsignedInt(directory.getShort(extra));
+                int size = Short.toUnsignedInt(directory.getShort(extra + 2));
+                if (id == ZIP64_EXTRA_ID) {
+                    // Only the fields whose 32-bit value overflowed are present, in this order
+                    int field = extra + 4;
+                    if (uncompressedSize == 0xFFFFFFFFL) {
+                        uncompressedSize = directory.getLong(field);
+                        field += 8;
+                    }
+                    if (compressedSize == 0xFFFFFFFFL) {
+                        compressedSize = directory.getLong(field);
+                        field += 8;
+                    }
+                    if (localHeader == 0xFFFFFFFFL) {
+                        localHeader = directory.getLong(field);
+                    }
+                    break;
+                }
+                extra += 4 + size;
+            }
+            return new long[]{uncompressedSize, compressedSize, localHeader};
+        }
+
+        private ByteBuffer read(long position, int length) throws IOException {
+            if (position < 0 || position + length > fileSize) {
+                throw new ZipException("Entry data lies outside the file");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new ZipException("Unexpected end of file");
+                }
+            }
+            return buffer.flip();
+        }
+
+        private static byte[] toArray(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        private boolean startsWith(int name, int nameLength, byte[] prefix) {
+            if (nameLength < prefix.length) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length; i++) {
+                if (directory.get(name + i) != prefix[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean endsWith(int name, int nameLength, byte[] suffix) {
+            return nameLength >= suffix.length && startsWith(name + nameLength - suffix.length, suffix.length, suffix);
+        }
+
+        private boolean equalsName(int name, int nameLength, byte[] target) {
+            return nameLength == target.length && startsWith(name, nameLength, target);
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -15,13 +15,10 @@
  */
 package io.flamingock.cli.executor.process;
 
+import io.flamingock.cli.executor.util.filesystem.FileSystemUtils;
+
 import java.io.File;
 import java.io.IOException;
-import java.util.Enumeration;
-import java.util.jar.Attributes;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
-import java.util.jar.Manifest;
 
 /**
  * Detects the type of a JAR file to determine the appropriate execution strategy.
@@ -35,13 +32,34 @@ import java.util.jar.Manifest;
  *
  * <p>For non-Spring Boot JARs, checks for the Flamingock CLI entry point class.
  * If the entry point is missing, returns {@link JarType#MISSING_FLAMINGOCK_RUNTIME}.
+ *
+ * <p>The JAR is read through {@link JarIndexer}, which only touches the central directory and the
+ * manifest instead of enumerating entries through {@code JarFile}.</p>
+ *
+ * <p>When created with a {@link JarAnalysisCache}, results are reused for as long as the JAR's
+ * size and modification time are unchanged, so the JAR is only opened once per build.</p>
  */
 public class JarTypeDetector {
 
-    private static final String BOOT_INF_PREFIX = "BOOT-INF/";
-    private static final String SPRING_BOOT_LOADER_PREFIX = "org/springframework/boot/loader/";
     private static final String SPRING_BOOT_LOADER_MAIN_CLASS_PREFIX = "org.springframework.boot.loader.";
-    private static final String FLAMINGOCK_ENTRY_POINT = "io/flamingock/core/cli/FlamingockCliMainEntryPoint.class";
+
+    private final JarAnalysisCache cache;
+
+    /**
+     * Creates a detector that analyzes the JAR on every call.
+     */
+    public JarTypeDetector() {
+        this(null);
+    }
+
+    /**
+     * Creates a detector that reuses results from the given cache.
+     *
+     * @param cache the analysis cache, or null to always analyze the JAR
+     */
+    public JarTypeDetector(JarAnalysisCache cache) {
+        this.cache = cache;
+    }
 
     /**
      * Detects the type of the specified JAR file.
@@ -65,48 +83,90 @@ public class JarTypeDetector {
      * @throws JarDetectionException if the JAR cannot be analyzed
      */
     public JarType detect(File jarFile) throws JarDetectionException {
+        return analyze(jarFile).getJarType();
+    }
+
+    /**
+     * Analyzes the specified JAR file, using the cache when one is configured.
+     *
+     * @param jarFile the JAR file
+     * @return the analysis result
+     * @throws JarDetectionException if the JAR cannot be analyzed
+     */
+    public JarAnalysis analyze(File jarFile) throws JarDetectionException {
         validateJarFile(jarFile);
 
-        try (JarFile jar = new JarFile(jarFile)) {
-            // Check manifest Main-Class first (fastest check)
-            if (hasSpringBootMainClass(jar)) {
-                return JarType.SPRING_BOOT;
+        if (cache != null) {
+            JarAnalysis cached = cache.get(jarFile);
+            if (cached != null) {
+                return cached;
             }
+        }
 
-            // Check for Spring Boot structure and Flamingock entry point in single scan
-            boolean isSpringBoot = false;
-            boolean hasFlamingockEntryPoint = false;
-
-            Enumeration<JarEntry> entries = jar.entries();
-            while (entries.hasMoreElements()) {
-                JarEntry entry = entries.nextElement();
-                String name = entry.getName();
-
-                if (name.startsWith(BOOT_INF_PREFIX) || name.startsWith(SPRING_BOOT_LOADER_PREFIX)) {
-                    isSpringBoot = true;
-                }
-
-                if (name.equals(FLAMINGOCK_ENTRY_POINT)) {
-                    hasFlamingockEntryPoint = true;
-                }
+        JarAnalysis analysis = scan(jarFile);
+        if (cache != null) {
+            cache.put(jarFile, analysis);
+        }
+        return analysis;
+    }
 
-                // Early exit if we found Spring Boot (no need to check entry point)
-                if (isSpringBoot) {
-                    return JarType.SPRING_BOOT;
-                }
-            }
+    /**
+     * Returns the SHA-256 of the JAR content, reusing the cached value when available.
+     *
+     * @param jarFile the JAR file
+     * @return the content hash as lowercase hex
+     * @throws IOException if the JAR cannot be read
+     */
+    public String contentHash(File jarFile) throws IOException {
+        return cache != null ? cache.contentHash(jarFile) : FileSystemUtils.sha256(jarFile.toPath());
+    }
 
-            // For non-Spring Boot JARs, verify Flamingock entry point is present
-            if (!hasFlamingockEntryPoint) {
-                return JarType.MISSING_FLAMINGOCK_RUNTIME;
-            }
+    /**
+     * Returns what the JAR's Flamingock runtime was found to support, while the JAR is unchanged.
+     *
+     * @param jarFile the JAR file
+     * @return the recorded support, or {@link RuntimeSupport#UNKNOWN} without a cache or record
+     */
+    public RuntimeSupport runtimeSupport(File jarFile) {
+        return cache != null ? cache.runtimeSupport(jarFile) : RuntimeSupport.UNKNOWN;
+    }
 
-            return JarType.PLAIN_UBER;
+    /**
+     * Records what the JAR's Flamingock runtime supports, when a cache is configured.
+     *
+     * @param jarFile        the JAR file
+     * @param runtimeSupport what the runtime supports
+     */
+    public void recordRuntimeSupport(File jarFile, RuntimeSupport runtimeSupport) {
+        if (cache != null) {
+            cache.recordRuntimeSupport(jarFile, runtimeSupport);
+        }
+    }
 
+    private JarAnalysis scan(File jarFile) throws JarDetectionException {
+        JarIndexer.JarIndex index;
+        try {
+            index = JarIndexer.index(jarFile.toPath());
         } catch (IOException e) {
             throw new JarDetectionException(
                     "Cannot read JAR file: " + jarFile.getAbsolutePath() + " - " + e.getMessage(), e);
         }
+
+        JarType jarType;
+        String mainClass = index.mainClass();
+        if (mainClass != null && mainClass.startsWith(SPRING_BOOT_LOADER_MAIN_CLASS_PREFIX)) {
+            jarType = JarType.SPRING_BOOT;
+        } else if (index.springBootLayout()) {
+            jarType = JarType.SPRING_BOOT;
+        } else if (index.hasFlamingockEntryPoint()) {
+            jarType = JarType.PLAIN_UBER;
+        } else {
+            // For non-Spring Boot JARs, the Flamingock entry point must be present
+            jarType = JarType.MISSING_FLAMINGOCK_RUNTIME;
+        }
+
+        return new JarAnalysis(jarType, mainClass, index.startClass(),
+                index.entryCount(), index.hasLayersIndex(), index.maxClassMajorVersion(), index.springAot());
     }
 
     private void validateJarFile(File jarFile) throws JarDetectionException {
@@ -118,16 +178,4 @@ public class JarTypeDetector {
         }
     }
 
-    private boolean hasSpringBootMainClass(JarFile jar) throws IOException {
-        Manifest manifest = jar.getManifest();
-        if (manifest == null) {
-            return false;
-        }
-
-        Attributes mainAttributes = manifest.getMainAttributes();
-        String mainClass = mainAttributes.getValue(Attributes.Name.MAIN_CLASS);
-
-        return mainClass != null && mainClass.startsWith(SPRING_BOOT_LOADER_MAIN_CLASS_PREFIX);
-    }
-
 }
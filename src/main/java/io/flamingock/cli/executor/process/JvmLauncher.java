@@ -15,13 +15,19 @@
  */
 package io.flamingock.cli.executor.process;
 
+import io.flamingock.cli.executor.timing.Span;
+import io.flamingock.cli.executor.timing.Timings;
+import io.flamingock.cli.executor.util.CallerEnvironment;
+import io.flamingock.cli.executor.util.StandardStreams;
+import io.flamingock.cli.executor.util.filesystem.CacheDirectory;
 import io.flamingock.internal.common.core.operation.OperationType;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -33,9 +39,20 @@ import java.util.Map;
  * <p>This class handles:</p>
  * <ul>
  *   <li>Detecting JAR type (Spring Boot vs plain uber JAR)</li>
- *   <li>Building the java command with appropriate flags</li>
+ *   <li>Building the java command with appropriate flags, including the selected {@link JvmProfile}</li>
+ *   <li>Sizing the application's heap and processor count to fit next to the CLI, and next to any
+ *       applications launched alongside it, within a container's cgroup limits (see {@link ContainerLimits})</li>
+ *   <li>Reusing a cached class-data-sharing archive for the JAR (see {@link ClassDataSharingCache})</li>
+ *   <li>Starting Spring Boot JARs from a cached extracted copy for {@code --exploded}
+ *       (see {@link ExplodedJarCache})</li>
  *   <li>Starting the process via ProcessBuilder</li>
- *   <li>Streaming stdout/stderr in real-time (when enabled)</li>
+ *   <li>Enforcing {@code --timeout}/{@code --idle-timeout}, capturing thread dumps and stopping the process
+ *       tree when they expire (see {@link Watchdog})</li>
+ *   <li>Sampling the process's CPU, memory, thread and GC usage (see {@link ResourceSampler})</li>
+ *   <li>Recording the application with Flight Recorder for {@code --profile} (see {@link FlightRecording})</li>
+ *   <li>Recording JAR analysis, process start and the application's lifetime as timing spans
+ *       (see {@link Timings})</li>
+ *   <li>Streaming stdout/stderr in real-time (when enabled), inheriting the CLI's own streams when possible</li>
  *   <li>Returning structured launch results</li>
  * </ul>
  */
@@ -46,13 +63,26 @@ public class JvmLauncher {
      */
     static final String FLAMINGOCK_CLI_ENTRY_POINT = "io.flamingock.core.cli.FlamingockCliMainEntryPoint";
 
+    /**
+     * How long a timed out application gets to run its shutdown hooks before it is killed.
+     */
+    static final Duration KILL_GRACE_PERIOD = Duration.ofSeconds(5);
+
+    /**
+     * Name of the timing span covering the application process from start to exit.
+     */
+    public static final String APPLICATION_SPAN = "application";
+
     private final JarTypeDetector jarTypeDetector;
+    private final ClassDataSharingCache classDataSharingCache;
+    private final ExplodedJarCache explodedJarCache;
+    private volatile ContainerLimits containerLimits;
 
     /**
-     * Creates a new JvmLauncher with the default JarTypeDetector.
+     * Creates a new JvmLauncher with the default JarTypeDetector, backed by the on-disk analysis cache.
      */
     public JvmLauncher() {
-        this(new JarTypeDetector());
+        this(new JarTypeDetector(new JarAnalysisCache()));
     }
 
     /**
@@ -61,7 +91,33 @@ public class JvmLauncher {
      * @param jarTypeDetector the detector to use for JAR type detection
      */
     public JvmLauncher(JarTypeDetector jarTypeDetector) {
+        this(jarTypeDetector, new ClassDataSharingCache(CacheDirectory.resolve("cds"),
+                jar -> jarTypeDetector.contentHash(jar.toFile())));
+    }
+
+    /**
+     * Creates a new JvmLauncher with the specified JarTypeDetector and class-data-sharing cache.
+     *
+     * @param jarTypeDetector       the detector to use for JAR type detection
+     * @param classDataSharingCache the cache of class-data-sharing archives for launched JARs
+     */
+    public JvmLauncher(JarTypeDetector jarTypeDetector, ClassDataSharingCache classDataSharingCache) {
+        this(jarTypeDetector, classDataSharingCache, new ExplodedJarCache(CacheDirectory.resolve("exploded"),
+                jar -> jarTypeDetector.contentHash(jar.toFile()), ExplodedJarCache.DEFAULT_MAX_BYTES));
+    }
+
+    /**
+     * Creates a new JvmLauncher with the specified JarTypeDetector and caches.
+     *
+     * @param jarTypeDetector       the detector to use for JAR type detection
+     * @param classDataSharingCache the cache of class-data-sharing archives for launched JARs
+     * @param explodedJarCache      the cache of extracted Spring Boot JARs for {@code --exploded}
+     */
+    public JvmLauncher(JarTypeDetector jarTypeDetector, ClassDataSharingCache classDataSharingCache,
+                       ExplodedJarCache explodedJarCache) {
         this.jarTypeDetector = jarTypeDetector;
+        this.classDataSharingCache = classDataSharingCache;
+        this.explodedJarCache = explodedJarCache;
     }
 
     /**
@@ -109,82 +165,321 @@ public class JvmLauncher {
     public LaunchResult launch(String jarPath, OperationType operation, String outputFile, String logLevel,
                                boolean streamOutput, Map<String, String> operationArgs,
                                List<String> jvmArgs, List<String> appArgs) {
+        return launch(jarPath, operation, outputFile, logLevel, streamOutput, operationArgs,
+                jvmArgs, appArgs, LaunchOptions.defaults());
+    }
+
+    /**
+     * Launches the application with Flamingock CLI mode enabled, including passthrough arguments
+     * and launch tuning options.
+     *
+     * @param jarPath       absolute path to the application JAR
+     * @param operation     the Flamingock operation to execute, or null for default
+     * @param outputFile    path to the output file for result communication, or null if not needed
+     * @param logLevel      the application log level (debug, info, warn, error), or null for app default
+     * @param streamOutput  whether to stream stdout/stderr to console (false = consume silently)
+     * @param operationArgs additional operation-specific arguments to pass
+     * @param jvmArgs       JVM arguments to place before -jar/-cp (e.g., -Xmx512m)
+     * @param appArgs       application arguments to append at the end of the command
+     * @param launchOptions how to start the JVM (class-data sharing, etc.)
+     * @return the launch result
+     */
+    public LaunchResult launch(String jarPath, OperationType operation, String outputFile, String logLevel,
+                               boolean streamOutput, Map<String, String> operationArgs,
+                               List<String> jvmArgs, List<String> appArgs, LaunchOptions launchOptions) {
         String operationName = operation != null ? operation.name() : null;
         List<String> command;
-        JarType jarType;
+        JarAnalysis analysis;
 
-        try {
-            jarType = jarTypeDetector.detect(jarPath);
+        try (Span ignored = Timings.start("jar.detect")) {
+            analysis = jarTypeDetector.analyze(new File(jarPath));
         } catch (JarDetectionException e) {
             return LaunchResult.jarAnalysisFailed(e.getMessage());
         }
+        JarType jarType = analysis.getJarType();
 
         // Early detection: JAR is missing Flamingock runtime
         if (jarType == JarType.MISSING_FLAMINGOCK_RUNTIME) {
             return LaunchResult.missingFlamingockRuntime();
         }
 
-        command = buildCommand(jarPath, operationName, outputFile, logLevel, jarType, operationArgs, jvmArgs, appArgs);
+        // Profile flags go before the user's -J arguments, which therefore win on conflict
+        JvmProfile jvmProfile = launchOptions.jvmProfileFor(operation);
+        List<String> effectiveJvmArgs = withLeadingArgs(jvmProfile.argsFor(jvmArgs), jvmArgs);
+
+        // Inside a container, leave room for this CLI and any concurrent applications within the shared limit
+        OutputStream stdoutSink = launchOptions.getStdout() != null ? launchOptions.getStdout() : System.out;
+        OutputStream stderrSink = launchOptions.getStderr() != null ? launchOptions.getStderr() : System.err;
+        ContainerLimits limits = containerLimits();
+        if (limits != ContainerLimits.NONE) {
+            ContainerLimits.Budget budget = limits.budgetFor(ContainerLimits.cliFootprint(Path.of("/")),
+                    effectiveJvmArgs, launchOptions.getConcurrentLaunches());
+            if ("debug".equalsIgnoreCase(logLevel)) {
+                printDiagnostic(stderrSink, budget.description());
+            }
+            effectiveJvmArgs = withLeadingArgs(budget.jvmArgs(), effectiveJvmArgs);
+        }
+
+        FlightRecording recording = null;
+        if (launchOptions.isProfile() && !FlightRecording.isRequestedBy(jvmArgs)) {
+            try {
+                recording = FlightRecording.prepare(dumpDirectory(launchOptions), jarPath);
+                effectiveJvmArgs = withLeadingArgs(List.of(recording.jvmArg()), effectiveJvmArgs);
+            } catch (IOException e) {
+                printDiagnostic(stderrSink, "Profiling disabled: " + e.getMessage());
+            }
+        }
+
+        // Read-only operations need little of a Spring Boot application: lazy beans, no web or messaging
+        List<String> effectiveAppArgs = appArgs;
+        if (jarType == JarType.SPRING_BOOT && launchOptions.isFastBootFor(operation)) {
+            effectiveJvmArgs = withLeadingArgs(SpringBootFastBoot.jvmArgs(analysis, jvmArgs), effectiveJvmArgs);
+            effectiveAppArgs = withLeadingArgs(
+                    SpringBootFastBoot.appArgs(launchOptions.getFastBootExcludes(), jvmArgs, appArgs), appArgs);
+        }
+
+        // Spring Boot JARs can skip the nested-JAR launcher by starting from an extracted copy
+        ExplodedJarCache.Layout exploded = null;
+        String startClass = analysis.getStartClass();
+        if (jarType == JarType.SPRING_BOOT && launchOptions.isExploded()) {
+            if (startClass == null) {
+                printDiagnostic(stderrSink, "Exploded launch disabled: the JAR declares no Start-Class");
+            } else {
+                try (Span ignored = Timings.start("jar.explode")) {
+                    exploded = explodedJarCache.prepare(Path.of(jarPath));
+                } catch (IOException e) {
+                    printDiagnostic(stderrSink, "Exploded launch disabled: " + e.getMessage());
+                }
+            }
+        }
+
+        // An archive recorded for one classpath is of no use for another
+        String cdsVariant = jvmProfile == JvmProfile.DEFAULT ? null : jvmProfile.getId();
+        if (exploded != null) {
+            cdsVariant = cdsVariant != null ? cdsVariant + "-exploded" : "exploded";
+        }
+        ClassDataSharingCache.Session cds;
+        try (Span ignored = Timings.start("cds.prepare")) {
+            cds = launchOptions.isClassDataSharing()
+                    ? classDataSharingCache.prepare(Path.of(jarPath), getJavaExecutable(), jvmArgs, cdsVariant)
+                    : ClassDataSharingCache.Session.disabled();
+        }
+
+        List<String> launchJvmArgs = withLeadingArgs(cds.getJvmArgs(), effectiveJvmArgs);
+        command = exploded != null
+                ? buildExplodedSpringBootCommand(exploded, startClass, operationName, outputFile, logLevel,
+                        operationArgs, launchJvmArgs, effectiveAppArgs)
+                : buildCommand(jarPath, operationName, outputFile, logLevel, jarType, operationArgs,
+                        launchJvmArgs, effectiveAppArgs);
 
         ProcessBuilder processBuilder = new ProcessBuilder(command);
         processBuilder.directory(new File(jarPath).getParentFile());
+        CallerEnvironment.applyTo(processBuilder);
         processBuilder.redirectErrorStream(false);
 
+        // stderr is inspected to recognize a missing entry point in the non-Spring Boot path,
+        // kept for diagnostics when a spill directory was requested, and kept when it is not streamed
+        // (or the caller asks for it) so that a failure can still show how the application ended
+        Path spillDirectory = launchOptions.getStderrSpillDirectory();
+        boolean keepStderrTail = !streamOutput || launchOptions.isKeepStderrTail();
+        boolean captureStderr = jarType == JarType.PLAIN_UBER || spillDirectory != null || keepStderrTail;
+        // Let the child write straight to our stdout/stderr unless they have been redirected (daemon mode)
+        // or the caller routes this launch's output elsewhere (fan-out over several JARs).
+        // A watchdog needs to see the output to detect idleness and to keep a SIGQUIT thread dump.
+        Watchdog watchdog = Watchdog.of(launchOptions);
+        boolean inheritStreams = streamOutput && !StandardStreams.isRedirected() && watchdog == null
+                && launchOptions.getStdout() == null && launchOptions.getStderr() == null;
+        processBuilder.redirectOutput(outputRedirect(streamOutput, inheritStreams, watchdog != null));
+        processBuilder.redirectError(outputRedirect(streamOutput, inheritStreams, captureStderr || watchdog != null));
+
+        ResourceSampler sampler = null;
+        Process process = null;
         try {
-            Process process = processBuilder.start();
-
-            Thread stdoutThread;
-            Thread stderrThread;
-            StringBuilder stderrCapture = new StringBuilder();
-
-            if (streamOutput) {
-                // Stream stdout and stderr in parallel
-                stdoutThread = streamOutput(process.getInputStream(), System.out);
-                stderrThread = streamAndCaptureOutput(process.getErrorStream(), System.err, stderrCapture);
-            } else {
-                // Consume streams silently to prevent blocking, but still capture stderr
-                stdoutThread = consumeSilently(process.getInputStream());
-                stderrThread = captureOutput(process.getErrorStream(), stderrCapture);
+            try (Span ignored = Timings.start("process.start")) {
+                process = processBuilder.start();
+            }
+            // From fork to exit; callers split it into boot and operation once the response is read
+            long applicationStart = System.nanoTime();
+            sampler = launchOptions.getSampleInterval().isZero()
+                    ? null
+                    : ResourceSampler.start(process, launchOptions.getSampleInterval());
+
+            StderrCapture stderrCapture = captureStderr
+                    ? new StderrCapture(StderrCapture.DEFAULT_CAPACITY, spillFile(spillDirectory, process))
+                    : null;
+            Thread stdoutThread = null;
+            Thread stderrThread = null;
+
+            if (processBuilder.redirectOutput() == ProcessBuilder.Redirect.PIPE) {
+                OutputStream sink = streamOutput ? stdoutSink : null;
+                stdoutThread = StreamPump.start("flamingock-stdout", process.getInputStream(),
+                        watchdog != null ? watchdog.track(sink) : sink, null);
+            }
+            if (processBuilder.redirectError() == ProcessBuilder.Redirect.PIPE) {
+                OutputStream sink = streamOutput ? stderrSink : null;
+                stderrThread = StreamPump.start("flamingock-stderr", process.getErrorStream(),
+                        watchdog != null ? watchdog.track(sink) : sink, stderrCapture);
             }
 
-            // Wait for the process to complete
+            // Wait for the process to complete, or for the watchdog to give up on it
+            Watchdog.Expiry expiry = watchdog != null ? watchdog.await(process) : null;
+            if (expiry != null) {
+                Timings.record(APPLICATION_SPAN, applicationStart, System.nanoTime());
+                List<Path> diagnostics = ProcessDiagnostics.capture(process, getJavaExecutable(),
+                        dumpDirectory(launchOptions), launchOptions.isHeapHistogram(), watchdog);
+                ResourceUsage usage = sampler != null ? sampler.finish() : null;
+                ProcessDiagnostics.killTree(process.toHandle(), KILL_GRACE_PERIOD);
+                // Bounded: a process that escaped the tree could still hold the pipes open
+                if (stdoutThread != null) {
+                    stdoutThread.join(KILL_GRACE_PERIOD);
+                }
+                if (stderrThread != null) {
+                    stderrThread.join(KILL_GRACE_PERIOD);
+                }
+                cds.complete(false);
+                return LaunchResult.timedOut(expiry.reason(), diagnostics,
+                        stderrCapture != null ? stderrCapture.finishSpill() : null).withResourceUsage(usage)
+                        .withRecording(recording != null ? recording.complete() : null);
+            }
             int exitCode = process.waitFor();
+            Timings.record(APPLICATION_SPAN, applicationStart, System.nanoTime());
+            ResourceUsage usage = sampler != null ? sampler.finish() : null;
 
             // Wait for output streaming to complete
-            stdoutThread.join();
-            stderrThread.join();
+            joinPumps(stdoutThread, stderrThread);
+
+            cds.complete(exitCode == 0);
+            Path recorded = recording != null ? recording.complete() : null;
 
             // Check for entry point not found error in non-Spring Boot path
-            if (exitCode != 0 && jarType == JarType.PLAIN_UBER) {
-                String stderr = stderrCapture.toString();
-                if (isEntryPointNotFoundError(stderr)) {
-                    return LaunchResult.entryPointNotFound(exitCode);
-                }
+            if (exitCode != 0 && jarType == JarType.PLAIN_UBER && stderrCapture.isEntryPointNotFound()) {
+                stderrCapture.discardSpill();
+                return LaunchResult.entryPointNotFound(exitCode).withResourceUsage(usage).withRecording(recorded);
             }
 
             if (exitCode == 0) {
-                return LaunchResult.success();
+                if (stderrCapture != null) {
+                    stderrCapture.discardSpill();
+                }
+                return LaunchResult.success().withResourceUsage(usage).withRecording(recorded);
             } else {
-                return LaunchResult.processFailed(exitCode);
+                return LaunchResult.processFailed(exitCode,
+                                stderrCapture != null ? stderrCapture.finishSpill() : null,
+                                keepStderrTail ? stderrCapture.tail() : null)
+                        .withResourceUsage(usage)
+                        .withRecording(recorded);
             }
 
         } catch (IOException e) {
+            cds.complete(false);
+            if (recording != null) {
+                recording.complete();
+            }
             return LaunchResult.processStartFailed(e.getMessage());
         } catch (InterruptedException e) {
+            cds.complete(false);
+            if (recording != null) {
+                recording.complete();
+            }
+            if (sampler != null) {
+                sampler.finish();
+            }
+            if (process != null) {
+                // The caller gave up on the run (e.g. the daemon's client went away); leave nothing behind
+                ProcessDiagnostics.killTree(process.toHandle(), KILL_GRACE_PERIOD);
+            }
             Thread.currentThread().interrupt();
             return LaunchResult.processInterrupted();
         }
     }
 
     /**
-     * Checks if the stderr output indicates the entry point class was not found.
+     * Returns what the JAR's Flamingock runtime was found to support in earlier runs.
+     *
+     * @param jarPath path to the application JAR
+     * @return the recorded support, or {@link RuntimeSupport#UNKNOWN}
+     */
+    public RuntimeSupport runtimeSupport(String jarPath) {
+        return jarTypeDetector.runtimeSupport(new File(jarPath));
+    }
+
+    /**
+     * Remembers what the JAR's Flamingock runtime supports, for as long as the JAR is unchanged.
      *
-     * @param stderr the captured stderr output
-     * @return true if entry point was not found
+     * @param jarPath        path to the application JAR
+     * @param runtimeSupport what the runtime supports
      */
-    private boolean isEntryPointNotFoundError(String stderr) {
-        return stderr.contains("Could not find or load main class") &&
-                stderr.contains(FLAMINGOCK_CLI_ENTRY_POINT);
+    public void recordRuntimeSupport(String jarPath, RuntimeSupport runtimeSupport) {
+        jarTypeDetector.recordRuntimeSupport(new File(jarPath), runtimeSupport);
+    }
+
+    /**
+     * Chooses how a child output stream is connected.
+     *
+     * @param streamOutput   whether the output should reach the console
+     * @param inheritStreams whether the console is this process's own stdout/stderr
+     * @param capture        whether the CLI needs to see the bytes
+     * @return the redirect to use
+     */
+    private static ProcessBuilder.Redirect outputRedirect(boolean streamOutput, boolean inheritStreams, boolean capture) {
+        if (capture) {
+            return ProcessBuilder.Redirect.PIPE;
+        }
+        if (!streamOutput) {
+            return ProcessBuilder.Redirect.DISCARD;
+        }
+        return inheritStreams ? ProcessBuilder.Redirect.INHERIT : ProcessBuilder.Redirect.PIPE;
+    }
+
+    private static List<String> withLeadingArgs(List<String> leading, List<String> jvmArgs) {
+        if (leading.isEmpty()) {
+            return jvmArgs;
+        }
+        List<String> combined = new ArrayList<>(leading);
+        if (jvmArgs != null) {
+            combined.addAll(jvmArgs);
+        }
+        return combined;
+    }
+
+    private static void joinPumps(Thread stdoutThread, Thread stderrThread) throws InterruptedException {
+        if (stdoutThread != null) {
+            stdoutThread.join();
+        }
+        if (stderrThread != null) {
+            stderrThread.join();
+        }
+    }
+
+    private static Path dumpDirectory(LaunchOptions launchOptions) {
+        if (launchOptions.getDumpDirectory() != null) {
+            return launchOptions.getDumpDirectory();
+        }
+        return Path.of(System.getProperty("java.io.tmpdir"));
+    }
+
+    private ContainerLimits containerLimits() {
+        ContainerLimits limits = containerLimits;
+        if (limits == null) {
+            limits = ContainerLimits.detect();
+            containerLimits = limits;
+        }
+        return limits;
+    }
+
+    private static void printDiagnostic(OutputStream sink, String message) {
+        try {
+            sink.write(("[flamingock] " + message + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+            sink.flush();
+        } catch (IOException ignored) {
+            // Diagnostics only
+        }
+    }
+
+    private static Path spillFile(Path spillDirectory, Process process) {
+        return spillDirectory != null
+                ? spillDirectory.resolve("flamingock-stderr-" + process.pid() + "-" + System.currentTimeMillis() + ".log.gz")
+                : null;
     }
 
     /**
@@ -313,6 +608,48 @@ public class JvmLauncher {
         command.add("-jar");
         command.add(jarPath);
 
+        addSpringBootArgs(command, operation, outputFile, logLevel, operationArgs, appArgs);
+        return command;
+    }
+
+    /**
+     * Builds the command line for launching an extracted Spring Boot application straight from its
+     * {@code Start-Class}, bypassing the nested-JAR launcher.
+     *
+     * @param layout        the extracted JAR
+     * @param startClass    the application class from the manifest {@code Start-Class}
+     * @param operation     the Flamingock operation to execute, or null for default
+     * @param outputFile    path to the output file for result communication, or null if not needed
+     * @param logLevel      the application log level (debug, info, warn, error), or null for app default
+     * @param operationArgs additional operation-specific arguments
+     * @param jvmArgs       JVM arguments to place before -cp
+     * @param appArgs       application arguments to append at the end
+     * @return the command as a list of strings
+     */
+    List<String> buildExplodedSpringBootCommand(ExplodedJarCache.Layout layout, String startClass, String operation,
+                                                String outputFile, String logLevel, Map<String, String> operationArgs,
+                                                List<String> jvmArgs, List<String> appArgs) {
+        List<String> command = new ArrayList<>();
+
+        // Find the java executable
+        command.add(getJavaExecutable());
+
+        // Add JVM arguments before -cp
+        if (jvmArgs != null) {
+            command.addAll(jvmArgs);
+        }
+
+        // Application classes and dependencies from the extracted copy
+        command.add("-cp");
+        command.add(layout.classpathArgument());
+        command.add(startClass);
+
+        addSpringBootArgs(command, operation, outputFile, logLevel, operationArgs, appArgs);
+        return command;
+    }
+
+    private void addSpringBootArgs(List<String> command, String operation, String outputFile, String logLevel,
+                                   Map<String, String> operationArgs, List<String> appArgs) {
         // Spring Boot flags to disable web server
         command.add("--spring.main.web-application-type=none");
 
@@ -351,8 +688,6 @@ public class JvmLauncher {
         if (appArgs != null) {
             command.addAll(appArgs);
         }
-
-        return command;
     }
 
     /**
@@ -453,9 +788,9 @@ public class JvmLauncher {
      * @return the java executable path
      */
     String getJavaExecutable() {
-        // Prefer JAVA_HOME env var (always available, even in native images where
+        // Prefer the caller's JAVA_HOME (always available, even in native images where
         // the java.home system property may not be set)
-        String javaHome = System.getenv("JAVA_HOME");
+        String javaHome = CallerEnvironment.getenv("JAVA_HOME");
         if (javaHome == null || javaHome.isEmpty()) {
             javaHome = System.getProperty("java.home");
         }
@@ -477,102 +812,4 @@ public class JvmLauncher {
         // Fall back to relying on PATH
         return "java";
     }
-
-    /**
-     * Creates a thread that reads from the input stream and writes to the output stream.
-     *
-     * @param inputStream  the stream to read from
-     * @param outputStream the stream to write to
-     * @return the thread (already started)
-     */
-    private Thread streamOutput(InputStream inputStream, java.io.PrintStream outputStream) {
-        Thread thread = new Thread(() -> {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    outputStream.println(line);
-                }
-            } catch (IOException e) {
-                // Stream closed, ignore
-            }
-        });
-        thread.setDaemon(true);
-        thread.start();
-        return thread;
-    }
-
-    /**
-     * Creates a thread that reads from the input stream, writes to the output stream,
-     * and captures the content to a StringBuilder.
-     *
-     * @param inputStream  the stream to read from
-     * @param outputStream the stream to write to
-     * @param capture      the StringBuilder to capture output
-     * @return the thread (already started)
-     */
-    private Thread streamAndCaptureOutput(InputStream inputStream, java.io.PrintStream outputStream,
-                                           StringBuilder capture) {
-        Thread thread = new Thread(() -> {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    outputStream.println(line);
-                    synchronized (capture) {
-                        capture.append(line).append("\n");
-                    }
-                }
-            } catch (IOException e) {
-                // Stream closed, ignore
-            }
-        });
-        thread.setDaemon(true);
-        thread.start();
-        return thread;
-    }
-
-    /**
-     * Creates a thread that captures the input stream to a StringBuilder without printing.
-     *
-     * @param inputStream the stream to read from
-     * @param capture     the StringBuilder to capture output
-     * @return the thread (already started)
-     */
-    private Thread captureOutput(InputStream inputStream, StringBuilder capture) {
-        Thread thread = new Thread(() -> {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    synchronized (capture) {
-                        capture.append(line).append("\n");
-                    }
-                }
-            } catch (IOException e) {
-                // Stream closed, ignore
-            }
-        });
-        thread.setDaemon(true);
-        thread.start();
-        return thread;
-    }
-
-    /**
-     * Creates a thread that consumes the input stream silently to prevent blocking.
-     *
-     * @param inputStream the stream to consume
-     * @return the thread (already started)
-     */
-    private Thread consumeSilently(InputStream inputStream) {
-        Thread thread = new Thread(() -> {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-                while (reader.readLine() != null) {
-                    // Discard output
-                }
-            } catch (IOException e) {
-                // Stream closed, ignore
-            }
-        });
-        thread.setDaemon(true);
-        thread.start();
-        return thread;
-    }
 }
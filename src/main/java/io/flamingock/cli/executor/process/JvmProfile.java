@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import io.flamingock.internal.common.core.operation.OperationType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Named sets of JVM flags tuned for how the application JVM is used.
+ *
+ * <p>Most CLI operations live for seconds, while default JVM ergonomics are sized for a long-running
+ * server: G1, full tiered compilation and a large initial heap. A profile's flags are placed before the
+ * user's {@code -J} arguments, and any flag the user sets themselves (same option, or any garbage
+ * collector selection) is dropped from the profile so the two never conflict.</p>
+ *
+ * <p>Without {@code --jvm-profile}, read-only and bookkeeping operations use {@link #FAST_START} and
+ * executions keep the JVM defaults (see {@link #forOperation(OperationType)}).</p>
+ */
+public enum JvmProfile {
+
+    /**
+     * No extra flags: the JVM's own ergonomics.
+     */
+    DEFAULT("default"),
+
+    /**
+     * Quickest time to finish for short runs: C1 only, serial GC, small initial heap.
+     */
+    FAST_START("fast-start",
+            "-XX:TieredStopAtLevel=1",
+            "-XX:+UseSerialGC",
+            "-Xshare:auto",
+            "-Xms16m"),
+
+    /**
+     * Long executions that move a lot of data: full JIT and the parallel collector.
+     */
+    THROUGHPUT("throughput",
+            "-XX:+UseParallelGC",
+            "-Xshare:auto"),
+
+    /**
+     * Smallest footprint, e.g. next to other processes in a tight container.
+     */
+    LOW_MEMORY("low-memory",
+            "-XX:TieredStopAtLevel=1",
+            "-XX:+UseSerialGC",
+            "-Xshare:auto",
+            "-Xms8m",
+            "-XX:MaxRAMPercentage=25.0",
+            "-Xss512k",
+            "-XX:ReservedCodeCacheSize=32m");
+
+    private static final Set<OperationType> SHORT_LIVED_OPERATIONS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(OperationType.AUDIT_LIST, OperationType.AUDIT_FIX,
+                    OperationType.ISSUE_LIST, OperationType.ISSUE_GET)));
+
+    private static final String GC_SELECTION = "gc";
+
+    private final String id;
+    private final List<String> jvmArgs;
+
+    JvmProfile(String id, String... jvmArgs) {
+        this.id = id;
+        this.jvmArgs = Collections.unmodifiableList(Arrays.asList(jvmArgs));
+    }
+
+    /**
+     * Returns the name used on the command line, e.g. {@code fast-start}.
+     *
+     * @return the profile id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the profile's full flag set.
+     *
+     * @return the JVM arguments
+     */
+    public List<String> getJvmArgs() {
+        return jvmArgs;
+    }
+
+    /**
+     * Returns the profile's flags minus those the user already sets.
+     *
+     * @param userJvmArgs the user's {@code -J} arguments
+     * @return the flags to place before the user's arguments
+     */
+    public List<String> argsFor(List<String> userJvmArgs) {
+        if (userJvmArgs == null || userJvmArgs.isEmpty()) {
+            return jvmArgs;
+        }
+        Set<String> userOptions = new HashSet<>();
+        for (String arg : userJvmArgs) {
+            userOptions.add(optionKey(arg));
+        }
+        if (userOptions.contains("-Xmx")) {
+            // A profile's initial heap could exceed the user's maximum
+            userOptions.add("-Xms");
+        }
+        List<String> args = new ArrayList<>();
+        for (String arg : jvmArgs) {
+            if (!userOptions.contains(optionKey(arg))) {
+                args.add(arg);
+            }
+        }
+        return args;
+    }
+
+    /**
+     * Returns the profile used when none was requested.
+     *
+     * @param operation the operation being launched, or null for the application's default
+     * @return {@link #FAST_START} for short-lived operations, otherwise {@link #DEFAULT}
+     */
+    public static JvmProfile forOperation(OperationType operation) {
+        return operation != null && SHORT_LIVED_OPERATIONS.contains(operation) ? FAST_START : DEFAULT;
+    }
+
+    /**
+     * Looks up a profile by its command-line name.
+     *
+     * @param id the profile id, case-insensitive
+     * @return the profile
+     * @throws IllegalArgumentException if no profile has that name
+     */
+    public static JvmProfile fromId(String id) {
+        for (JvmProfile profile : values()) {
+            if (profile.id.equalsIgnoreCase(id.trim())) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("Unknown JVM profile: '" + id + "'\n\n"
+                + "  Valid profiles: " + Arrays.stream(values()).map(JvmProfile::getId).collect(Collectors.joining(", "))
+                + "\n\n  For help: flamingock <command> --help");
+    }
+
+    /**
+     * Reduces a JVM argument to the option it sets, so that {@code -Xms1g} and {@code -Xms16m}, or
+     * {@code -XX:+Foo} and {@code -XX:-Foo}, compare equal. Every collector selection maps to one key.
+     */
+    static String optionKey(String arg) {
+        if (arg.startsWith("-XX:")) {
+            String option = arg.substring(4);
+            if (option.startsWith("+") || option.startsWith("-")) {
+                option = option.substring(1);
+            }
+            int equals = option.indexOf('=');
+            option = equals >= 0 ? option.substring(0, equals) : option;
+            return option.startsWith("Use") && option.endsWith("GC") ? GC_SELECTION : "-XX:" + option;
+        }
+        for (String prefix : new String[]{"-Xms", "-Xmx", "-Xss", "-Xmn"}) {
+            if (arg.startsWith(prefix)) {
+                return prefix;
+            }
+        }
+        int colon = arg.indexOf(':');
+        if (arg.startsWith("-X") && colon > 0) {
+            return arg.substring(0, colon);
+        }
+        return arg.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,536 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import io.flamingock.internal.common.core.operation.OperationType;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Tuning knobs for how {@link JvmLauncher} starts the application JVM.
+ *
+ * <p>These do not change what the application does, only how it is started.</p>
+ */
+public class LaunchOptions {
+
+    /**
+     * How often the application's resource usage is sampled unless configured otherwise.
+     */
+    public static final Duration DEFAULT_SAMPLE_INTERVAL = Duration.ofMillis(200);
+
+    private static final LaunchOptions DEFAULTS = builder().build();
+
+    private final boolean classDataSharing;
+    private final Path stderrSpillDirectory;
+    private final boolean keepStderrTail;
+    private final boolean responsePipe;
+    private final OutputStream stdout;
+    private final OutputStream stderr;
+    private final JvmProfile jvmProfile;
+    private final Duration timeout;
+    private final Duration idleTimeout;
+    private final Path dumpDirectory;
+    private final boolean heapHistogram;
+    private final Duration sampleInterval;
+    private final boolean profile;
+    private final boolean exploded;
+    private final Boolean fastBoot;
+    private final List<String> fastBootExcludes;
+    private final int concurrentLaunches;
+
+    private LaunchOptions(Builder builder) {
+        this.classDataSharing = builder.classDataSharing;
+        this.stderrSpillDirectory = builder.stderrSpillDirectory;
+        this.keepStderrTail = builder.keepStderrTail;
+        this.responsePipe = builder.responsePipe;
+        this.stdout = builder.stdout;
+        this.stderr = builder.stderr;
+        this.jvmProfile = builder.jvmProfile;
+        this.timeout = builder.timeout;
+        this.idleTimeout = builder.idleTimeout;
+        this.dumpDirectory = builder.dumpDirectory;
+        this.heapHistogram = builder.heapHistogram;
+        this.sampleInterval = builder.sampleInterval;
+        this.profile = builder.profile;
+        this.exploded = builder.exploded;
+        this.fastBoot = builder.fastBoot;
+        this.fastBootExcludes = builder.fastBootExcludes;
+        this.concurrentLaunches = builder.concurrentLaunches;
+    }
+
+    /**
+     * Returns the default launch options.
+     *
+     * @return the defaults
+     */
+    public static LaunchOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns whether the launcher may create and use a class-data-sharing archive for the JAR.
+     *
+     * @return true if class-data sharing is enabled
+     */
+    public boolean isClassDataSharing() {
+        return classDataSharing;
+    }
+
+    /**
+     * Returns the directory where the application's complete stderr is kept when it outgrows the
+     * in-memory capture.
+     *
+     * @return the spill directory, or null to keep only the tail in memory
+     */
+    public Path getStderrSpillDirectory() {
+        return stderrSpillDirectory;
+    }
+
+    /**
+     * Returns whether the end of the application's stderr is kept in a failed launch's result even when it
+     * is streamed. Output that is not streamed always keeps it.
+     *
+     * @return true to keep the tail of streamed stderr
+     */
+    public boolean isKeepStderrTail() {
+        return keepStderrTail;
+    }
+
+    /**
+     * Returns whether the application's response may be received over a named pipe instead of a
+     * temporary file.
+     *
+     * @return true if a named pipe should be tried first
+     */
+    public boolean isResponsePipe() {
+        return responsePipe;
+    }
+
+    /**
+     * Returns where the application's streamed stdout goes instead of the CLI's own stdout.
+     *
+     * @return the stdout sink, or null for the CLI's stdout
+     */
+    public OutputStream getStdout() {
+        return stdout;
+    }
+
+    /**
+     * Returns where the application's streamed stderr goes instead of the CLI's own stderr.
+     *
+     * @return the stderr sink, or null for the CLI's stderr
+     */
+    public OutputStream getStderr() {
+        return stderr;
+    }
+
+    /**
+     * Returns the JVM profile requested for the application JVM.
+     *
+     * @return the profile, or null to pick one per operation (see {@link JvmProfile#forOperation})
+     */
+    public JvmProfile getJvmProfile() {
+        return jvmProfile;
+    }
+
+    /**
+     * Returns the JVM profile an operation will be launched with.
+     *
+     * @param operation the operation
+     * @return the requested profile, or the operation's default
+     */
+    public JvmProfile jvmProfileFor(OperationType operation) {
+        return jvmProfile != null ? jvmProfile : JvmProfile.forOperation(operation);
+    }
+
+    /**
+     * Returns how long the application may run before it is stopped.
+     *
+     * @return the timeout, or null for no limit
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Returns how long the application may go without writing any output before it is stopped.
+     *
+     * @return the idle timeout, or null for no limit
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Returns where diagnostics of a timed out application are written.
+     *
+     * @return the dump directory, or null for the system temporary directory
+     */
+    public Path getDumpDirectory() {
+        return dumpDirectory;
+    }
+
+    /**
+     * Returns whether a heap histogram is taken, in addition to a thread dump, when the application times
+     * out.
+     *
+     * @return true to take a heap histogram
+     */
+    public boolean isHeapHistogram() {
+        return heapHistogram;
+    }
+
+    /**
+     * Returns how often the application's resource usage (CPU, memory, threads, GC) is sampled.
+     *
+     * @return the interval, or {@link Duration#ZERO} if sampling is disabled
+     */
+    public Duration getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Returns whether the application is recorded with Flight Recorder. The recording is kept in the
+     * {@linkplain #getDumpDirectory() dump directory}.
+     *
+     * @return true if profiling is enabled
+     */
+    public boolean isProfile() {
+        return profile;
+    }
+
+    /**
+     * Returns whether Spring Boot JARs are started from an extracted copy (see {@link ExplodedJarCache})
+     * instead of through the nested-JAR launcher.
+     *
+     * @return true if exploded launches are enabled
+     */
+    public boolean isExploded() {
+        return exploded;
+    }
+
+    /**
+     * Returns whether a Spring Boot application is started in fast-boot mode for an operation
+     * (see {@link SpringBootFastBoot}).
+     *
+     * @param operation the operation
+     * @return the requested setting, or the operation's default
+     */
+    public boolean isFastBootFor(OperationType operation) {
+        return fastBoot != null ? fastBoot : SpringBootFastBoot.isDefaultFor(operation);
+    }
+
+    /**
+     * Returns the auto-configurations excluded in fast-boot mode.
+     *
+     * @return the class names, or null for {@link SpringBootFastBoot#DEFAULT_EXCLUDES}
+     */
+    public List<String> getFastBootExcludes() {
+        return fastBootExcludes;
+    }
+
+    /**
+     * Returns how many application JVMs may run at the same time as this one, itself included. Inside a
+     * container, the memory left for applications is divided among them.
+     *
+     * @return the number of concurrent launches, at least 1
+     */
+    public int getConcurrentLaunches() {
+        return concurrentLaunches;
+    }
+
+    /**
+     * Returns a copy of these options that routes the application's streamed output to the given sinks.
+     *
+     * @param stdout the stdout sink, or null for the CLI's stdout
+     * @param stderr the stderr sink, or null for the CLI's stderr
+     * @return the new options
+     */
+    public LaunchOptions withOutput(OutputStream stdout, OutputStream stderr) {
+        return toBuilder()
+                .output(stdout, stderr)
+                .build();
+    }
+
+    /**
+     * Returns a copy of these options that keeps the end of the application's stderr in a failed launch's
+     * result, so the caller can tell why it failed.
+     *
+     * @return the new options
+     */
+    public LaunchOptions withStderrTail() {
+        return toBuilder()
+                .keepStderrTail(true)
+                .build();
+    }
+
+    /**
+     * Returns a copy of these options for a launch that shares the machine with other application JVMs.
+     *
+     * @param concurrentLaunches how many application JVMs may run at once, this one included
+     * @return the new options
+     */
+    public LaunchOptions withConcurrentLaunches(int concurrentLaunches) {
+        return toBuilder()
+                .concurrentLaunches(concurrentLaunches)
+                .build();
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private Builder toBuilder() {
+        return builder()
+                .classDataSharing(classDataSharing)
+                .stderrSpillDirectory(stderrSpillDirectory)
+                .keepStderrTail(keepStderrTail)
+                .responsePipe(responsePipe)
+                .output(stdout, stderr)
+                .jvmProfile(jvmProfile)
+                .timeout(timeout)
+                .idleTimeout(idleTimeout)
+                .dumpDirectory(dumpDirectory)
+                .heapHistogram(heapHistogram)
+                .sampleInterval(sampleInterval)
+                .profile(profile)
+                .exploded(exploded)
+                .fastBoot(fastBoot)
+                .fastBootExcludes(fastBootExcludes)
+                .concurrentLaunches(concurrentLaunches);
+    }
+
+    /**
+     * Builder for LaunchOptions.
+     */
+    public static class Builder {
+        private boolean classDataSharing = true;
+        private Path stderrSpillDirectory;
+        private boolean keepStderrTail;
+        private boolean responsePipe = true;
+        private OutputStream stdout;
+        private OutputStream stderr;
+        private JvmProfile jvmProfile;
+        private Duration timeout;
+        private Duration idleTimeout;
+        private Path dumpDirectory;
+        private boolean heapHistogram;
+        private Duration sampleInterval = DEFAULT_SAMPLE_INTERVAL;
+        private boolean profile;
+        private boolean exploded;
+        private Boolean fastBoot;
+        private List<String> fastBootExcludes;
+        private int concurrentLaunches = 1;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets whether to use a cached class-data-sharing archive.
+         *
+         * @param classDataSharing false to start the JVM without an archive
+         * @return this builder
+         */
+        public Builder classDataSharing(boolean classDataSharing) {
+            this.classDataSharing = classDataSharing;
+            return this;
+        }
+
+        /**
+         * Sets the directory for gzip-compressed stderr spill files.
+         *
+         * @param stderrSpillDirectory the directory, or null to disable spilling
+         * @return this builder
+         */
+        public Builder stderrSpillDirectory(Path stderrSpillDirectory) {
+            this.stderrSpillDirectory = stderrSpillDirectory;
+            return this;
+        }
+
+        /**
+         * Sets whether to keep the end of streamed stderr in a failed launch's result.
+         *
+         * @param keepStderrTail true to keep it
+         * @return this builder
+         */
+        public Builder keepStderrTail(boolean keepStderrTail) {
+            this.keepStderrTail = keepStderrTail;
+            return this;
+        }
+
+        /**
+         * Sets whether to receive the response over a named pipe when the system supports it.
+         *
+         * @param responsePipe false to always use a temporary file
+         * @return this builder
+         */
+        public Builder responsePipe(boolean responsePipe) {
+            this.responsePipe = responsePipe;
+            return this;
+        }
+
+        /**
+         * Routes the application's streamed output to the given sinks, e.g. to prefix it per target.
+         *
+         * @param stdout the stdout sink, or null for the CLI's stdout
+         * @param stderr the stderr sink, or null for the CLI's stderr
+         * @return this builder
+         */
+        public Builder output(OutputStream stdout, OutputStream stderr) {
+            this.stdout = stdout;
+            this.stderr = stderr;
+            return this;
+        }
+
+        /**
+         * Sets the JVM profile for the application JVM.
+         *
+         * @param jvmProfile the profile, or null to pick one per operation
+         * @return this builder
+         */
+        public Builder jvmProfile(JvmProfile jvmProfile) {
+            this.jvmProfile = jvmProfile;
+            return this;
+        }
+
+        /**
+         * Sets how long the application may run before it is stopped.
+         *
+         * @param timeout the timeout, or null for no limit
+         * @return this builder
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Sets how long the application may go without output before it is stopped.
+         *
+         * @param idleTimeout the idle timeout, or null for no limit
+         * @return this builder
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Sets where diagnostics of a timed out application are written.
+         *
+         * @param dumpDirectory the directory, or null for the system temporary directory
+         * @return this builder
+         */
+        public Builder dumpDirectory(Path dumpDirectory) {
+            this.dumpDirectory = dumpDirectory;
+            return this;
+        }
+
+        /**
+         * Sets whether to also take a heap histogram when the application times out.
+         *
+         * @param heapHistogram true to take a heap histogram
+         * @return this builder
+         */
+        public Builder heapHistogram(boolean heapHistogram) {
+            this.heapHistogram = heapHistogram;
+            return this;
+        }
+
+        /**
+         * Sets how often the application's resource usage is sampled.
+         *
+         * @param sampleInterval the interval, or {@link Duration#ZERO} to disable sampling
+         * @return this builder
+         */
+        public Builder sampleInterval(Duration sampleInterval) {
+            this.sampleInterval = sampleInterval;
+            return this;
+        }
+
+        /**
+         * Sets whether to record the application with Flight Recorder.
+         *
+         * @param profile true to profile
+         * @return this builder
+         */
+        public Builder profile(boolean profile) {
+            this.profile = profile;
+            return this;
+        }
+
+        /**
+         * Sets whether Spring Boot JARs are started from an extracted copy.
+         *
+         * @param exploded true to launch from the extracted copy
+         * @return this builder
+         */
+        public Builder exploded(boolean exploded) {
+            this.exploded = exploded;
+            return this;
+        }
+
+        /**
+         * Sets whether Spring Boot applications start in fast-boot mode.
+         *
+         * @param fastBoot true or false to force the mode, or null for the operation's default
+         * @return this builder
+         */
+        public Builder fastBoot(Boolean fastBoot) {
+            this.fastBoot = fastBoot;
+            return this;
+        }
+
+        /**
+         * Sets the auto-configurations excluded in fast-boot mode.
+         *
+         * @param fastBootExcludes the class names, or null for the defaults
+         * @return this builder
+         */
+        public Builder fastBootExcludes(List<String> fastBootExcludes) {
+            this.fastBootExcludes = fastBootExcludes;
+            return this;
+        }
+
+        /**
+         * Sets how many application JVMs may run at the same time, this one included.
+         *
+         * @param concurrentLaunches the number of concurrent launches; values below 1 count as 1
+         * @return this builder
+         */
+        public Builder concurrentLaunches(int concurrentLaunches) {
+            this.concurrentLaunches = Math.max(1, concurrentLaunches);
+            return this;
+        }
+
+        /**
+         * Builds the LaunchOptions.
+         *
+         * @return the built options
+         */
+        public LaunchOptions build() {
+            return new LaunchOptions(this);
+        }
+    }
+}
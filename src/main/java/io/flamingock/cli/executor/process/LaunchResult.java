@@ -15,20 +15,40 @@
  */
 package io.flamingock.cli.executor.process;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Represents the result of launching a JVM process.
  * Provides structured information about the launch outcome.
  */
 public class LaunchResult {
 
+    /**
+     * Exit code reported for a process stopped by the watchdog, matching coreutils {@code timeout}.
+     */
+    public static final int TIMED_OUT_EXIT_CODE = 124;
+
     private final LaunchStatus status;
     private final int exitCode;
     private final String errorDetail;
+    private final Path stderrLog;
+    private final String stderrTail;
+    private final List<Path> diagnostics;
+    private final ResourceUsage resourceUsage;
+    private final Path recording;
 
-    private LaunchResult(LaunchStatus status, int exitCode, String errorDetail) {
-        this.status = status;
-        this.exitCode = exitCode;
-        this.errorDetail = errorDetail;
+    private LaunchResult(Builder builder) {
+        this.status = builder.status;
+        this.exitCode = builder.exitCode;
+        this.errorDetail = builder.errorDetail;
+        this.stderrLog = builder.stderrLog;
+        this.stderrTail = builder.stderrTail;
+        this.diagnostics = builder.diagnostics;
+        this.resourceUsage = builder.resourceUsage;
+        this.recording = builder.recording;
     }
 
     /**
@@ -37,7 +57,7 @@ public class LaunchResult {
      * @return a success result with exit code 0
      */
     public static LaunchResult success() {
-        return new LaunchResult(LaunchStatus.SUCCESS, 0, null);
+        return builder(LaunchStatus.SUCCESS, 0).build();
     }
 
     /**
@@ -47,7 +67,7 @@ public class LaunchResult {
      * @return an entry point not found result
      */
     public static LaunchResult entryPointNotFound(int exitCode) {
-        return new LaunchResult(LaunchStatus.ENTRY_POINT_NOT_FOUND, exitCode, null);
+        return builder(LaunchStatus.ENTRY_POINT_NOT_FOUND, exitCode).build();
     }
 
     /**
@@ -57,7 +77,9 @@ public class LaunchResult {
      * @return a process start failed result
      */
     public static LaunchResult processStartFailed(String errorMessage) {
-        return new LaunchResult(LaunchStatus.PROCESS_START_FAILED, 1, errorMessage);
+        return builder(LaunchStatus.PROCESS_START_FAILED, 1)
+                .errorDetail(errorMessage)
+                .build();
     }
 
     /**
@@ -66,7 +88,9 @@ public class LaunchResult {
      * @return a process interrupted result
      */
     public static LaunchResult processInterrupted() {
-        return new LaunchResult(LaunchStatus.PROCESS_INTERRUPTED, 1, "Process was interrupted");
+        return builder(LaunchStatus.PROCESS_INTERRUPTED, 1)
+                .errorDetail("Process was interrupted")
+                .build();
     }
 
     /**
@@ -76,7 +100,22 @@ public class LaunchResult {
      * @return a process failed result
      */
     public static LaunchResult processFailed(int exitCode) {
-        return new LaunchResult(LaunchStatus.PROCESS_FAILED, exitCode, null);
+        return processFailed(exitCode, null, null);
+    }
+
+    /**
+     * Creates a result indicating the process failed with a non-zero exit code, keeping what it wrote to stderr.
+     *
+     * @param exitCode   the process exit code
+     * @param stderrLog  the gzip-compressed stderr spill file, or null
+     * @param stderrTail the end of stderr, when it was kept, or null
+     * @return a process failed result
+     */
+    public static LaunchResult processFailed(int exitCode, Path stderrLog, String stderrTail) {
+        return builder(LaunchStatus.PROCESS_FAILED, exitCode)
+                .stderrLog(stderrLog)
+                .stderrTail(stderrTail)
+                .build();
     }
 
     /**
@@ -86,7 +125,9 @@ public class LaunchResult {
      * @return a JAR analysis failed result
      */
     public static LaunchResult jarAnalysisFailed(String errorMessage) {
-        return new LaunchResult(LaunchStatus.JAR_ANALYSIS_FAILED, 1, errorMessage);
+        return builder(LaunchStatus.JAR_ANALYSIS_FAILED, 1)
+                .errorDetail(errorMessage)
+                .build();
     }
 
     /**
@@ -95,7 +136,47 @@ public class LaunchResult {
      * @return a missing Flamingock runtime result
      */
     public static LaunchResult missingFlamingockRuntime() {
-        return new LaunchResult(LaunchStatus.MISSING_FLAMINGOCK_RUNTIME, 1, null);
+        return builder(LaunchStatus.MISSING_FLAMINGOCK_RUNTIME, 1).build();
+    }
+
+    /**
+     * Creates a result indicating the process was stopped by the watchdog.
+     *
+     * @param reason      why the watchdog fired
+     * @param diagnostics thread dump and heap histogram files captured before stopping it
+     * @param stderrLog   the gzip-compressed stderr spill file, or null
+     * @return a timed out result
+     */
+    public static LaunchResult timedOut(String reason, List<Path> diagnostics, Path stderrLog) {
+        return builder(LaunchStatus.TIMED_OUT, TIMED_OUT_EXIT_CODE)
+                .errorDetail(reason)
+                .stderrLog(stderrLog)
+                .diagnostics(Collections.unmodifiableList(new ArrayList<>(diagnostics)))
+                .build();
+    }
+
+    /**
+     * Returns a copy of this result carrying the resources the process consumed.
+     *
+     * @param resourceUsage the sampled usage, or null
+     * @return the result with usage
+     */
+    public LaunchResult withResourceUsage(ResourceUsage resourceUsage) {
+        return toBuilder()
+                .resourceUsage(resourceUsage)
+                .build();
+    }
+
+    /**
+     * Returns a copy of this result carrying the Flight Recorder recording of the process.
+     *
+     * @param recording the {@code .jfr} file, or null
+     * @return the result with the recording
+     */
+    public LaunchResult withRecording(Path recording) {
+        return toBuilder()
+                .recording(recording)
+                .build();
     }
 
     /**
@@ -125,6 +206,52 @@ public class LaunchResult {
         return errorDetail;
     }
 
+    /**
+     * Returns the gzip-compressed file holding the process's complete stderr, if one was kept.
+     *
+     * @return the stderr spill file, or null
+     */
+    public Path getStderrLog() {
+        return stderrLog;
+    }
+
+    /**
+     * Returns the end of the process's stderr, kept when the console did not show it or the launch asked for it
+     * ({@link LaunchOptions#isKeepStderrTail()}).
+     *
+     * @return the last bytes the process wrote to stderr, or null
+     */
+    public String getStderrTail() {
+        return stderrTail;
+    }
+
+    /**
+     * Returns the diagnostics captured from a process the watchdog stopped.
+     *
+     * @return the thread dump and heap histogram files (empty if none)
+     */
+    public List<Path> getDiagnostics() {
+        return diagnostics;
+    }
+
+    /**
+     * Returns the resources the process consumed.
+     *
+     * @return the sampled usage, or null if the process did not start or sampling was disabled
+     */
+    public ResourceUsage getResourceUsage() {
+        return resourceUsage;
+    }
+
+    /**
+     * Returns the Flight Recorder recording of the process ({@code --profile}).
+     *
+     * @return the {@code .jfr} file, or null if profiling was off or the JVM wrote no recording
+     */
+    public Path getRecording() {
+        return recording;
+    }
+
     /**
      * Checks if the launch was successful.
      *
@@ -151,4 +278,68 @@ public class LaunchResult {
     public boolean isFailure() {
         return status != LaunchStatus.SUCCESS;
     }
+
+    private static Builder builder(LaunchStatus status, int exitCode) {
+        return new Builder(status, exitCode);
+    }
+
+    private Builder toBuilder() {
+        return builder(status, exitCode)
+                .errorDetail(errorDetail)
+                .stderrLog(stderrLog)
+                .stderrTail(stderrTail)
+                .diagnostics(diagnostics)
+                .resourceUsage(resourceUsage)
+                .recording(recording);
+    }
+
+    private static final class Builder {
+        private final LaunchStatus status;
+        private final int exitCode;
+        private String errorDetail;
+        private Path stderrLog;
+        private String stderrTail;
+        private List<Path> diagnostics = Collections.emptyList();
+        private ResourceUsage resourceUsage;
+        private Path recording;
+
+        private Builder(LaunchStatus status, int exitCode) {
+            this.status = status;
+            this.exitCode = exitCode;
+        }
+
+        private Builder errorDetail(String errorDetail) {
+            this.errorDetail = errorDetail;
+            return this;
+        }
+
+        private Builder stderrLog(Path stderrLog) {
+            this.stderrLog = stderrLog;
+            return this;
+        }
+
+        private Builder stderrTail(String stderrTail) {
+            this.stderrTail = stderrTail;
+            return this;
+        }
+
+        private Builder diagnostics(List<Path> diagnostics) {
+            this.diagnostics = diagnostics;
+            return this;
+        }
+
+        private Builder resourceUsage(ResourceUsage resourceUsage) {
+            this.resourceUsage = resourceUsage;
+            return this;
+        }
+
+        private Builder recording(Path recording) {
+            this.recording = recording;
+            return this;
+        }
+
+        private LaunchResult build() {
+            return new LaunchResult(this);
+        }
+    }
 }
@@ -57,5 +57,11 @@ public enum LaunchStatus {
      * - User provided a thin JAR (dependencies not bundled)
      * - User built an uber JAR but flamingock-core was excluded/relocated
      */
-    MISSING_FLAMINGOCK_RUNTIME
+    MISSING_FLAMINGOCK_RUNTIME,
+
+    /**
+     * The process exceeded {@code --timeout} or {@code --idle-timeout} and was stopped, along with its
+     * descendants, after diagnostics were captured.
+     */
+    TIMED_OUT
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects diagnostics from a hung application JVM and then stops it together with every process it
+ * started.
+ *
+ * <p>Thread dumps are taken with {@code jcmd <pid> Thread.print} from the JDK that runs the application.
+ * Where {@code jcmd} is unavailable (e.g. a JRE) the JVM is sent {@code SIGQUIT}, which makes it print
+ * the dump to its own stdout; the {@link Watchdog} copies that output into the dump file.</p>
+ */
+final class ProcessDiagnostics {
+
+    private static final long TOOL_TIMEOUT_SECONDS = 15;
+    private static final long SIGQUIT_SETTLE_MILLIS = 200;
+    private static final long SIGQUIT_MAX_MILLIS = 2000;
+
+    private ProcessDiagnostics() {
+    }
+
+    /**
+     * Writes a thread dump and, optionally, a heap histogram of the process.
+     *
+     * @param process        the application process
+     * @param javaExecutable the java executable that runs it, to locate {@code jcmd}
+     * @param directory      where to write the files
+     * @param heapHistogram  whether to also take a class histogram (forces a full GC)
+     * @param watchdog       the watchdog tracking the process's output, for the {@code SIGQUIT} fallback
+     * @return the files written (possibly empty)
+     */
+    static List<Path> capture(Process process, String javaExecutable, Path directory, boolean heapHistogram,
+                              Watchdog watchdog) {
+        List<Path> files = new ArrayList<>();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            return files;
+        }
+        String prefix = "flamingock-" + process.pid() + "-" + System.currentTimeMillis();
+        String jcmd = siblingTool(javaExecutable, "jcmd");
+
+        Path threads = directory.resolve(prefix + "-threads.txt");
+        if (runTool(threads, jcmd, Long.toString(process.pid()), "Thread.print", "-l")
+                || signalQuit(process, threads, watchdog)) {
+            files.add(threads);
+        }
+        if (heapHistogram) {
+            Path histogram = directory.resolve(prefix + "-histogram.txt");
+            if (runTool(histogram, jcmd, Long.toString(process.pid()), "GC.class_histogram")) {
+                files.add(histogram);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Stops a process and all of its descendants: politely first, so shutdown hooks can run (e.g.
+     * releasing the Flamingock lock), then forcibly after the grace period.
+     *
+     * @param root  the process
+     * @param grace how long to wait before killing survivors
+     */
+    static void killTree(ProcessHandle root, Duration grace) {
+        // Snapshot first: once the root dies its children are re-parented and no longer its descendants
+        List<ProcessHandle> tree = new ArrayList<>();
+        tree.add(root);
+        root.descendants().forEach(tree::add);
+
+        tree.forEach(ProcessHandle::destroy);
+        long deadline = System.nanoTime() + grace.toNanos();
+        for (ProcessHandle process : tree) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0) {
+                try {
+                    process.onExit().get(remaining, TimeUnit.NANOSECONDS);
+                } catch (Exception ignored) {
+                    // Still alive, or we were interrupted; it is killed below
+                }
+            }
+        }
+        for (ProcessHandle process : tree) {
+            if (process.isAlive()) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static boolean runTool(Path output, String... command) {
+        try {
+            Process tool = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(output.toFile())
+                    .start();
+            if (tool.waitFor(TOOL_TIMEOUT_SECONDS, TimeUnit.SECONDS) && tool.exitValue() == 0
+                    && Files.size(output) > 0) {
+                return true;
+            }
+            tool.destroyForcibly();
+        } catch (IOException e) {
+            // Tool not available
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        deleteQuietly(output);
+        return false;
+    }
+
+    private static boolean signalQuit(Process process, Path output, Watchdog watchdog) {
+        if (watchdog == null || System.getProperty("os.name", "").toLowerCase().contains("win")) {
+            return false;
+        }
+        boolean captured = false;
+        try (OutputStream file = Files.newOutputStream(output)) {
+            watchdog.startRecording(file);
+            try {
+                Process kill = new ProcessBuilder("kill", "-QUIT", Long.toString(process.pid())).start();
+                if (kill.waitFor(TOOL_TIMEOUT_SECONDS, TimeUnit.SECONDS) && kill.exitValue() == 0) {
+                    // The dump arrives as a burst of output; stop once it has settled
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SIGQUIT_MAX_MILLIS);
+                    do {
+                        Thread.sleep(SIGQUIT_SETTLE_MILLIS / 2);
+                    } while (watchdog.idleMillis() < SIGQUIT_SETTLE_MILLIS && System.nanoTime() < deadline);
+                }
+            } finally {
+                watchdog.stopRecording();
+            }
+        } catch (IOException e) {
+            // No dump
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            captured = Files.size(output) > 0;
+        } catch (IOException ignored) {
+            // Treated as no dump
+        }
+        if (!captured) {
+            deleteQuietly(output);
+        }
+        return captured;
+    }
+
+    static String siblingTool(String javaExecutable, String tool) {
+        Path java = Path.of(javaExecutable);
+        if (java.getParent() == null) {
+            return tool;
+        }
+        String name = javaExecutable.endsWith(".exe") ? tool + ".exe" : tool;
+        return java.resolveSibling(name).toString();
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Best effort cleanup
+        }
+    }
+}
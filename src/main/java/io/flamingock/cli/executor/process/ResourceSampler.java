@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Samples the application process's resource usage on a virtual thread while it runs.
+ *
+ * <p>On Linux, CPU time and thread count come from {@code /proc/<pid>/stat} and {@code /proc/<pid>/status},
+ * and peak RSS from the kernel's {@code VmHWM} high-water mark. Elsewhere CPU time falls back to
+ * {@link ProcessHandle.Info#totalCpuDuration()}. GC time is read from the JVM's performance data file
+ * (see {@link HsPerfData}).</p>
+ */
+final class ResourceSampler {
+
+    /**
+     * Units of the CPU times in {@code /proc/<pid>/stat} ({@code USER_HZ}, fixed by the Linux ABI).
+     */
+    private static final long CLOCK_TICKS_PER_SECOND = 100;
+
+    private final ProcessHandle process;
+    private final Path procDirectory;
+    private final HsPerfData perfData;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+
+    private long cpuMillis = ResourceUsage.UNKNOWN;
+    private long peakRssBytes = ResourceUsage.UNKNOWN;
+    private long peakThreads = ResourceUsage.UNKNOWN;
+    private long gcMillis = ResourceUsage.UNKNOWN;
+
+    private volatile boolean stopped;
+    private Thread thread;
+
+    /**
+     * Creates a sampler; call {@link #sample()} to take samples.
+     *
+     * @param process   the process to sample
+     * @param procRoot  the proc filesystem root (normally {@code /proc})
+     * @param perfData  the process's performance data, or null to skip GC time
+     * @param nanoClock the clock measuring wall time
+     */
+    ResourceSampler(ProcessHandle process, Path procRoot, HsPerfData perfData, LongSupplier nanoClock) {
+        this.process = process;
+        this.procDirectory = procRoot.resolve(Long.toString(process.pid()));
+        this.perfData = perfData;
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Starts sampling a process that has just been started.
+     *
+     * @param process  the process
+     * @param interval how often to sample
+     * @return the running sampler
+     */
+    static ResourceSampler start(Process process, Duration interval) {
+        ResourceSampler sampler = new ResourceSampler(process.toHandle(), Path.of("/proc"),
+                HsPerfData.forProcess(process.pid()), System::nanoTime);
+        sampler.thread = Thread.ofVirtual().name("flamingock-usage").start(() -> sampler.run(interval));
+        return sampler;
+    }
+
+    /**
+     * Stops sampling and returns what was measured.
+     *
+     * @return the resource usage
+     */
+    ResourceUsage finish() {
+        long wallMillis = Duration.ofNanos(nanoClock.getAsLong() - startNanos).toMillis();
+        stopped = true;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (process.isAlive()) {
+            sample();
+        }
+        return new ResourceUsage(wallMillis, cpuMillis, peakRssBytes, peakThreads, gcMillis);
+    }
+
+    private void run(Duration interval) {
+        while (!stopped && process.isAlive()) {
+            sample();
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Takes one sample. Counters only ever grow, so a failed read keeps the previous values.
+     */
+    void sample() {
+        if (!sampleStat()) {
+            process.info().totalCpuDuration()
+                    .ifPresent(cpu -> cpuMillis = Math.max(cpuMillis, cpu.toMillis()));
+        }
+        sampleStatus();
+        if (perfData != null) {
+            gcMillis = Math.max(gcMillis, perfData.gcMillis());
+        }
+    }
+
+    private boolean sampleStat() {
+        String stat;
+        try {
+            stat = Files.readString(procDirectory.resolve("stat"));
+        } catch (IOException e) {
+            return false;
+        }
+        // The command name may contain spaces and parentheses; the fields after it are fixed
+        int commandEnd = stat.lastIndexOf(')');
+        if (commandEnd < 0) {
+            return false;
+        }
+        String[] fields = stat.substring(commandEnd + 1).trim().split(" ");
+        if (fields.length < 15) {
+            return false;
+        }
+        // utime, stime, cutime, cstime (fields 14-17 of proc(5), counted from the state field)
+        long ticks = 0;
+        try {
+            for (int i = 11; i <= 14; i++) {
+                ticks += Long.parseLong(fields[i]);
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        cpuMillis = Math.max(cpuMillis, ticks * 1000 / CLOCK_TICKS_PER_SECOND);
+        return true;
+    }
+
+    private void sampleStatus() {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(procDirectory.resolve("status"));
+        } catch (IOException e) {
+            return;
+        }
+        for (String line : lines) {
+            if (line.startsWith("VmHWM:") || line.startsWith("VmRSS:")) {
+                peakRssBytes = Math.max(peakRssBytes, statusValue(line) * 1024);
+            } else if (line.startsWith("Threads:")) {
+                peakThreads = Math.max(peakThreads, statusValue(line));
+            }
+        }
+    }
+
+    private static long statusValue(String line) {
+        String[] parts = line.substring(line.indexOf(':') + 1).trim().split("\\s+");
+        try {
+            return Long.parseLong(parts[0]);
+        } catch (NumberFormatException e) {
+            return ResourceUsage.UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+/**
+ * Resources the application process consumed, as sampled while it ran.
+ *
+ * <p>Values are sampled, so the last interval before the process exited may be missing from the CPU and GC
+ * totals; peak RSS is the kernel's own high-water mark and is exact up to the last sample. A value the
+ * platform could not provide is {@link #UNKNOWN}.</p>
+ */
+public final class ResourceUsage {
+
+    /**
+     * Marks a value that could not be measured.
+     */
+    public static final long UNKNOWN = -1;
+
+    private final long wallMillis;
+    private final long cpuMillis;
+    private final long peakRssBytes;
+    private final long peakThreads;
+    private final long gcMillis;
+
+    /**
+     * Creates a usage record.
+     *
+     * @param wallMillis   wall-clock time from process start to exit
+     * @param cpuMillis    user plus system CPU time, including reaped children, or {@link #UNKNOWN}
+     * @param peakRssBytes peak resident set size, or {@link #UNKNOWN}
+     * @param peakThreads  highest thread count seen, or {@link #UNKNOWN}
+     * @param gcMillis     time spent in garbage collection, or {@link #UNKNOWN}
+     */
+    public ResourceUsage(long wallMillis, long cpuMillis, long peakRssBytes, long peakThreads, long gcMillis) {
+        this.wallMillis = wallMillis;
+        this.cpuMillis = cpuMillis;
+        this.peakRssBytes = peakRssBytes;
+        this.peakThreads = peakThreads;
+        this.gcMillis = gcMillis;
+    }
+
+    /**
+     * Returns the wall-clock time from process start to exit.
+     *
+     * @return the wall time in milliseconds
+     */
+    public long getWallMillis() {
+        return wallMillis;
+    }
+
+    /**
+     * Returns the user plus system CPU time of the process.
+     *
+     * @return the CPU time in milliseconds, or {@link #UNKNOWN}
+     */
+    public long getCpuMillis() {
+        return cpuMillis;
+    }
+
+    /**
+     * Returns the peak resident set size of the process.
+     *
+     * @return the peak RSS in bytes, or {@link #UNKNOWN}
+     */
+    public long getPeakRssBytes() {
+        return peakRssBytes;
+    }
+
+    /**
+     * Returns the highest thread count seen.
+     *
+     * @return the thread count, or {@link #UNKNOWN}
+     */
+    public long getPeakThreads() {
+        return peakThreads;
+    }
+
+    /**
+     * Returns the time the application JVM spent in garbage collection.
+     *
+     * @return the GC time in milliseconds, or {@link #UNKNOWN}
+     */
+    public long getGcMillis() {
+        return gcMillis;
+    }
+
+    /**
+     * Returns the part of the wall time spent before the operation started: JVM startup, application
+     * context, audit store connection.
+     *
+     * @param operationMillis the operation duration the application reported
+     * @return the boot time in milliseconds, or {@link #UNKNOWN} if the operation duration does not fit
+     */
+    public long getBootMillis(long operationMillis) {
+        if (operationMillis <= 0 || operationMillis > wallMillis) {
+            return UNKNOWN;
+        }
+        return wallMillis - operationMillis;
+    }
+}
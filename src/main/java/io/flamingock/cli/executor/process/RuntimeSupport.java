@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+/**
+ * What a JAR's Flamingock runtime is known to support beyond a single operation per run.
+ *
+ * <p>A runtime cannot be asked for its version before it is launched, so this is learned from the first
+ * composite run against the JAR and remembered in {@link JarAnalysisCache} until the JAR changes.</p>
+ */
+public enum RuntimeSupport {
+
+    /**
+     * No composite run has completed against this build of the JAR yet.
+     */
+    UNKNOWN,
+
+    /**
+     * The runtime answers every operation of a composite run.
+     */
+    COMPOSITE,
+
+    /**
+     * The runtime answers one operation per run; it ignores or rejects {@code --flamingock.operations}.
+     */
+    SINGLE_OPERATION
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import io.flamingock.internal.common.core.operation.OperationType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Spring Boot settings that let a CLI operation start without initializing the whole application.
+ *
+ * <p>Fast boot makes every bean lazy, so only what the Flamingock runner actually needs is created, and
+ * excludes auto-configurations a CLI run never uses: web servers and MVC, actuator, scheduling, messaging
+ * listeners and devtools. When the JAR was processed by Spring AOT, the generated initializers are used
+ * instead of reflective configuration parsing; the bean definitions are then fixed at build time, so the
+ * exclusions have no effect there.</p>
+ *
+ * <p>Without {@code --fast-boot}/{@code --no-fast-boot}, read-only operations use fast boot and
+ * executions boot the application as usual (see {@link #isDefaultFor(OperationType)}). A setting the user
+ * passes themselves, as an application argument or as a {@code -J -D} system property, is left alone:
+ * a second command-line value would either override it or be joined with it into an invalid list.</p>
+ */
+public final class SpringBootFastBoot {
+
+    /**
+     * Auto-configurations excluded unless {@code --fast-boot-exclude} names others. Classes missing from
+     * the application's classpath are ignored by Spring Boot.
+     */
+    public static final List<String> DEFAULT_EXCLUDES = List.of(
+            "org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration",
+            "org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration",
+            "org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration",
+            "org.springframework.boot.autoconfigure.web.servlet.error.ErrorMvcAutoConfiguration",
+            "org.springframework.boot.autoconfigure.web.reactive.ReactiveWebServerFactoryAutoConfiguration",
+            "org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration",
+            "org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfiguration",
+            "org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointAutoConfiguration",
+            "org.springframework.boot.actuate.autoconfigure.health.HealthEndpointAutoConfiguration",
+            "org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+            "org.springframework.boot.actuate.autoconfigure.web.server.ManagementContextAutoConfiguration",
+            "org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration",
+            "org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration",
+            "org.springframework.boot.autoconfigure.jms.JmsAutoConfiguration",
+            "org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration",
+            "org.springframework.boot.devtools.autoconfigure.LocalDevToolsAutoConfiguration",
+            "org.springframework.boot.devtools.autoconfigure.DevToolsDataSourceAutoConfiguration");
+
+    static final String AOT_PROPERTY = "spring.aot.enabled";
+    static final String LAZY_INITIALIZATION_PROPERTY = "spring.main.lazy-initialization";
+    static final String EXCLUDE_PROPERTY = "spring.autoconfigure.exclude";
+
+    private static final Set<OperationType> READ_ONLY_OPERATIONS = Collections.unmodifiableSet(
+            EnumSet.of(OperationType.AUDIT_LIST, OperationType.ISSUE_LIST, OperationType.ISSUE_GET));
+
+    private SpringBootFastBoot() {
+    }
+
+    /**
+     * Returns whether an operation uses fast boot when the user does not choose.
+     *
+     * @param operation the operation being launched, or null for the application's default
+     * @return true for read-only operations
+     */
+    public static boolean isDefaultFor(OperationType operation) {
+        return operation != null && READ_ONLY_OPERATIONS.contains(operation);
+    }
+
+    /**
+     * Returns the JVM arguments for a fast boot of the given JAR.
+     *
+     * @param analysis    what the detector learned about the JAR
+     * @param userJvmArgs JVM arguments supplied by the user
+     * @return {@code -Dspring.aot.enabled=true} for AOT-processed JARs, otherwise nothing
+     */
+    static List<String> jvmArgs(JarAnalysis analysis, List<String> userJvmArgs) {
+        if (!analysis.hasSpringAot() || setsProperty(userJvmArgs, "-D" + AOT_PROPERTY)) {
+            return Collections.emptyList();
+        }
+        return List.of("-D" + AOT_PROPERTY + "=true");
+    }
+
+    /**
+     * Returns the application arguments for a fast boot.
+     *
+     * @param excludes    auto-configurations to exclude, or null for {@link #DEFAULT_EXCLUDES}
+     * @param userJvmArgs JVM arguments supplied by the user
+     * @param userAppArgs application arguments supplied by the user
+     * @return the arguments to place before the user's own
+     */
+    static List<String> appArgs(List<String> excludes, List<String> userJvmArgs, List<String> userAppArgs) {
+        List<String> args = new ArrayList<>();
+        if (!setByUser(LAZY_INITIALIZATION_PROPERTY, userJvmArgs, userAppArgs)) {
+            args.add("--" + LAZY_INITIALIZATION_PROPERTY + "=true");
+        }
+        List<String> effectiveExcludes = excludes != null ? excludes : DEFAULT_EXCLUDES;
+        if (!effectiveExcludes.isEmpty() && !setByUser(EXCLUDE_PROPERTY, userJvmArgs, userAppArgs)) {
+            args.add("--" + EXCLUDE_PROPERTY + "=" + String.join(",", effectiveExcludes));
+        }
+        return args;
+    }
+
+    private static boolean setByUser(String property, List<String> userJvmArgs, List<String> userAppArgs) {
+        return setsProperty(userJvmArgs, "-D" + property) || setsProperty(userAppArgs, "--" + property);
+    }
+
+    private static boolean setsProperty(List<String> args, String option) {
+        if (args == null) {
+            return false;
+        }
+        for (String arg : args) {
+            if (arg.equals(option) || arg.startsWith(option + "=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bounded capture of a child's stderr.
+ *
+ * <p>Keeps only the last {@code capacity} bytes in a ring buffer, so CLI memory stays flat however much
+ * the child logs. Known failure signatures are matched incrementally as bytes arrive, including matches
+ * that straddle writes or have already left the buffer. Optionally, once the output outgrows the buffer,
+ * everything is also written gzip-compressed to a spill file so the full log survives for diagnostics.</p>
+ *
+ * <p>Written to by a single pump thread; read after that thread has finished.</p>
+ */
+class StderrCapture extends OutputStream {
+
+    /**
+     * Default number of trailing stderr bytes kept in memory.
+     */
+    static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private static final byte[] MAIN_CLASS_NOT_FOUND = "Could not find or load main class".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ENTRY_POINT = JvmLauncher.FLAMINGOCK_CLI_ENTRY_POINT.getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] ring;
+    private final Path spillFile;
+    private final PatternMatcher mainClassNotFound = new PatternMatcher(MAIN_CLASS_NOT_FOUND);
+    private final PatternMatcher entryPoint = new PatternMatcher(ENTRY_POINT);
+
+    private long total;
+    private OutputStream spill;
+    private boolean spillFailed;
+
+    /**
+     * Creates a capture that keeps the last {@code capacity} bytes.
+     *
+     * @param capacity  the ring buffer size in bytes
+     * @param spillFile where to write the complete, gzip-compressed output once it overflows the buffer,
+     *                  or null to keep only the tail
+     */
+    StderrCapture(int capacity, Path spillFile) {
+        this.ring = new byte[capacity];
+        this.spillFile = spillFile;
+    }
+
+    @Override
+    public void write(int b) {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) {
+        mainClassNotFound.accept(buffer, offset, length);
+        entryPoint.accept(buffer, offset, length);
+        if (spillFile != null && spill == null && !spillFailed && total + length > ring.length) {
+            openSpill();
+        }
+        if (spill != null) {
+            try {
+                spill.write(buffer, offset, length);
+            } catch (IOException e) {
+                abandonSpill();
+            }
+        }
+        appendToRing(buffer, offset, length);
+    }
+
+    /**
+     * Returns whether the output showed the JVM failing to load the Flamingock CLI entry point.
+     *
+     * @return true if both the "main class not found" message and the entry point name were seen
+     */
+    boolean isEntryPointNotFound() {
+        return mainClassNotFound.matched() && entryPoint.matched();
+    }
+
+    /**
+     * Returns the retained tail of the output.
+     *
+     * @return the last bytes written, decoded as UTF-8
+     */
+    String tail() {
+        int size = (int) Math.min(total, ring.length);
+        byte[] tail = new byte[size];
+        int start = (int) ((total - size) % ring.length);
+        int firstPart = Math.min(size, ring.length - start);
+        System.arraycopy(ring, start, tail, 0, firstPart);
+        System.arraycopy(ring, 0, tail, firstPart, size - firstPart);
+        return new String(tail, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the total number of bytes written.
+     *
+     * @return the byte count
+     */
+    long size() {
+        return total;
+    }
+
+    /**
+     * Finishes the spill file, if one was started.
+     *
+     * @return the complete spill file, or null if the output fit in the buffer or spilling failed
+     */
+    Path finishSpill() {
+        if (spill == null) {
+            return null;
+        }
+        try {
+            spill.close();
+            return spillFile;
+        } catch (IOException e) {
+            abandonSpill();
+            return null;
+        } finally {
+            spill = null;
+        }
+    }
+
+    /**
+     * Removes the spill file, e.g. after a successful run where it is not needed.
+     */
+    void discardSpill() {
+        finishSpill();
+        if (spillFile != null) {
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException ignored) {
+                // Best effort cleanup
+            }
+        }
+    }
+
+    private void openSpill() {
+        try {
+            Files.createDirectories(spillFile.toAbsolutePath().getParent());
+            spill = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile)), 8192);
+            // Everything so far is still in the ring, since this is the first overflow
+            spill.write(ring, 0, (int) total);
+        } catch (IOException e) {
+            abandonSpill();
+        }
+    }
+
+    private void abandonSpill() {
+        spillFailed = true;
+        if (spill != null) {
+            try {
+                spill.close();
+            } catch (IOException ignored) {
+                // Already failing
+            }
+            spill = null;
+        }
+        try {
+            Files.deleteIfExists(spillFile);
+        } catch (IOException ignored) {
+            // Best effort cleanup
+        }
+    }
+
+    private void appendToRing(byte[] buffer, int offset, int length) {
+        if (length >= ring.length) {
+            System.arraycopy(buffer, offset + length - ring.length, ring, 0, ring.length);
+            // Re-align so the oldest retained byte sits where tail() expects it
+            total += length;
+            rotateToPosition();
+            return;
+        }
+        int position = (int) (total % ring.length);
+        int firstPart = Math.min(length, ring.length - position);
+        System.arraycopy(buffer, offset, ring, position, firstPart);
+        System.arraycopy(buffer, offset + firstPart, ring, 0, length - firstPart);
+        total += length;
+    }
+
+    private void rotateToPosition() {
+        int shift = (int) (total % ring.length);
+        if (shift == 0) {
+            return;
+        }
+        byte[] copy = ring.clone();
+        System.arraycopy(copy, 0, ring, shift, ring.length - shift);
+        System.arraycopy(copy, ring.length - shift, ring, 0, shift);
+    }
+
+    /**
+     * Streaming substring matcher (Knuth-Morris-Pratt) that latches once the pattern has been seen.
+     */
+    static final class PatternMatcher {
+
+        private final byte[] pattern;
+        private final int[] fallback;
+        private int matchedLength;
+        private boolean matched;
+
+        PatternMatcher(byte[] pattern) {
+            this.pattern = pattern;
+            this.fallback = new int[pattern.length];
+            for (int i = 1, k = 0; i < pattern.length; i++) {
+                while (k > 0 && pattern[i] != pattern[k]) {
+                    k = fallback[k - 1];
+                }
+                if (pattern[i] == pattern[k]) {
+                    k++;
+                }
+                fallback[i] = k;
+            }
+        }
+
+        void accept(byte[] buffer, int offset, int length) {
+            int end = offset + length;
+            byte first = pattern[0];
+            for (int i = offset; i < end && !matched; i++) {
+                if (matchedLength == 0) {
+                    // Fast path: skip ahead to the next possible start of the pattern
+                    while (i < end && buffer[i] != first) {
+                        i++;
+                    }
+                    if (i == end) {
+                        return;
+                    }
+                }
+                accept(buffer[i]);
+            }
+        }
+
+        private void accept(byte b) {
+            while (matchedLength > 0 && b != pattern[matchedLength]) {
+                matchedLength = fallback[matchedLength - 1];
+            }
+            if (b == pattern[matchedLength]) {
+                matchedLength++;
+            }
+            if (matchedLength == pattern.length) {
+                matched = true;
+            }
+        }
+
+        boolean matched() {
+            return matched;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Copies a child process stream in bulk on a virtual thread, optionally teeing the bytes to a capture.
+ *
+ * <p>Bytes are forwarded as read, without decoding to characters or splitting into lines, so partial
+ * lines keep their order and a chatty child costs one buffer copy per read.</p>
+ */
+final class StreamPump {
+
+    static final int BUFFER_SIZE = 16 * 1024;
+
+    private StreamPump() {
+    }
+
+    /**
+     * Starts copying {@code source} until end of stream.
+     *
+     * @param name    the thread name
+     * @param source  the child stream to drain
+     * @param sink    where to forward the bytes, or null to only capture
+     * @param capture where to tee the bytes, or null to only forward
+     * @return the pump thread (already started)
+     */
+    static Thread start(String name, InputStream source, OutputStream sink, OutputStream capture) {
+        return Thread.ofVirtual().name(name).start(() -> pump(source, sink, capture));
+    }
+
+    static void pump(InputStream source, OutputStream sink, OutputStream capture) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (source) {
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                if (sink != null) {
+                    sink.write(buffer, 0, read);
+                    sink.flush();
+                }
+                if (capture != null) {
+                    capture.write(buffer, 0, read);
+                }
+            }
+        } catch (IOException e) {
+            // Stream closed, ignore
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Enforces {@code --timeout} and {@code --idle-timeout} on the application process.
+ *
+ * <p>Activity is any byte of application output, seen through the streams returned by
+ * {@link #track(OutputStream)}. The watchdog can also temporarily tee that output to a file, to keep a
+ * thread dump the JVM prints to its own stdout on {@code SIGQUIT}.</p>
+ */
+final class Watchdog {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final long timeoutNanos;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile long lastActivity;
+    private volatile OutputStream recorder;
+
+    Watchdog(Duration timeout, Duration idleTimeout, LongSupplier nanoClock) {
+        this.timeoutNanos = timeout != null ? timeout.toNanos() : 0;
+        this.idleTimeoutNanos = idleTimeout != null ? idleTimeout.toNanos() : 0;
+        this.nanoClock = nanoClock;
+        this.lastActivity = nanoClock.getAsLong();
+    }
+
+    /**
+     * Creates the watchdog requested by the launch options.
+     *
+     * @param launchOptions the launch options
+     * @return the watchdog, or null if neither timeout is set
+     */
+    static Watchdog of(LaunchOptions launchOptions) {
+        if (launchOptions.getTimeout() == null && launchOptions.getIdleTimeout() == null) {
+            return null;
+        }
+        return new Watchdog(launchOptions.getTimeout(), launchOptions.getIdleTimeout(), System::nanoTime);
+    }
+
+    /**
+     * Wraps an output sink so that writes count as activity.
+     *
+     * @param sink where the output goes, or null to discard it
+     * @return the tracking stream
+     */
+    OutputStream track(OutputStream sink) {
+        return new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] buffer, int offset, int length) throws IOException {
+                lastActivity = nanoClock.getAsLong();
+                OutputStream copy = recorder;
+                if (copy != null) {
+                    try {
+                        synchronized (copy) {
+                            copy.write(buffer, offset, length);
+                        }
+                    } catch (IOException ignored) {
+                        // Recording ended concurrently; the output itself must still get through
+                    }
+                }
+                if (sink != null) {
+                    sink.write(buffer, offset, length);
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (sink != null) {
+                    sink.flush();
+                }
+            }
+        };
+    }
+
+    /**
+     * Waits for the process to exit or for a timeout to expire.
+     *
+     * @param process the application process
+     * @return null if the process exited, otherwise why the watchdog fired
+     * @throws InterruptedException if interrupted while waiting
+     */
+    Expiry await(Process process) throws InterruptedException {
+        long start = nanoClock.getAsLong();
+        while (!process.waitFor(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            long now = nanoClock.getAsLong();
+            if (timeoutNanos > 0 && now - start >= timeoutNanos) {
+                return new Expiry("Application did not finish within the --timeout of " + format(timeoutNanos));
+            }
+            if (idleTimeoutNanos > 0 && now - lastActivity >= idleTimeoutNanos) {
+                return new Expiry("Application produced no output for the --idle-timeout of " + format(idleTimeoutNanos));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Tees all tracked output to the given stream until {@link #stopRecording()}.
+     *
+     * @param target the stream to copy output to
+     */
+    void startRecording(OutputStream target) {
+        recorder = target;
+    }
+
+    /**
+     * Stops copying output started by {@link #startRecording(OutputStream)}.
+     */
+    void stopRecording() {
+        recorder = null;
+    }
+
+    /**
+     * Returns how long ago the application last wrote output.
+     *
+     * @return the idle time in milliseconds
+     */
+    long idleMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - lastActivity);
+    }
+
+    private static String format(long nanos) {
+        return TimeUnit.NANOSECONDS.toSeconds(nanos) + "s";
+    }
+
+    /**
+     * Why the watchdog stopped the application.
+     *
+     * @param reason a human-readable reason
+     */
+    record Expiry(String reason) {
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.progress;
+
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+import io.flamingock.internal.common.core.response.data.ChangeStatus;
+import io.flamingock.internal.common.core.response.data.ErrorInfo;
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
+import io.flamingock.internal.common.core.response.data.ExecutionStatus;
+import io.flamingock.internal.common.core.response.data.StageResult;
+import io.flamingock.internal.common.core.response.data.StageStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Execution state accumulated from progress events.
+ *
+ * <p>Drives the live progress display and, if the application dies before writing its response, is turned
+ * into a partial {@link ExecuteResponseData} by {@link #toPartialResponse()}.</p>
+ *
+ * <p>Not thread-safe: updated by the event reader thread, and read by others only after it has stopped.</p>
+ */
+public class ExecutionProgress {
+
+    static final String INTERRUPTED_ERROR_TYPE = "ProcessTerminated";
+
+    private final LongSupplier nanoClock;
+    private final Map<String, StageProgress> stages = new LinkedHashMap<>();
+
+    private int declaredTotalStages;
+    private int declaredTotalChanges;
+    private int eventCount;
+    private long firstEventNanos;
+    private long lastEventNanos;
+    private StageProgress currentStage;
+
+    /**
+     * Creates an empty progress tracker.
+     */
+    public ExecutionProgress() {
+        this(System::nanoTime);
+    }
+
+    ExecutionProgress(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Applies one event. Events that do not fit the current state, e.g. for an unknown change, are still
+     * recorded as far as possible.
+     *
+     * @param event the event
+     */
+    public void apply(ProgressEvent event) {
+        long now = nanoClock.getAsLong();
+        if (eventCount++ == 0) {
+            firstEventNanos = now;
+        }
+        lastEventNanos = now;
+
+        String type = event.type() != null ? event.type() : "";
+        switch (type) {
+            case ProgressEvent.PIPELINE_STARTED:
+                declaredTotalStages = valueOrZero(event.totalStages());
+                declaredTotalChanges = valueOrZero(event.totalChanges());
+                break;
+            case ProgressEvent.STAGE_STARTED:
+                currentStage = stage(event.stageId(), event.stageName());
+                currentStage.declaredChanges = valueOrZero(event.totalChanges());
+                break;
+            case ProgressEvent.STAGE_FINISHED:
+                StageProgress finishedStage = stage(event.stageId(), event.stageName());
+                finishedStage.status = parse(StageStatus.class, event.status(), StageStatus.COMPLETED);
+                finishedStage.durationMs = event.durationMs() != null
+                        ? event.durationMs()
+                        : elapsedMs(finishedStage.startedNanos, now);
+                break;
+            case ProgressEvent.CHANGE_STARTED:
+                change(event).startedNanos = now;
+                break;
+            case ProgressEvent.CHANGE_FINISHED:
+                ChangeProgress change = change(event);
+                change.status = parse(ChangeStatus.class, event.status(), ChangeStatus.APPLIED);
+                change.durationMs = event.durationMs() != null
+                        ? event.durationMs()
+                        : elapsedMs(change.startedNanos, now);
+                break;
+            default:
+                // Newer event type, nothing to track
+        }
+    }
+
+    /**
+     * Returns whether any event has been received.
+     *
+     * @return true once the application has reported progress
+     */
+    public boolean hasEvents() {
+        return eventCount > 0;
+    }
+
+    /**
+     * Returns the name of the stage most recently started.
+     *
+     * @return the stage name (or id if unnamed), or null before the first stage
+     */
+    public String getCurrentStageName() {
+        return currentStage != null ? currentStage.displayName() : null;
+    }
+
+    /**
+     * Returns the number of changes that have finished, in any status.
+     *
+     * @return the finished change count
+     */
+    public int getFinishedChanges() {
+        int finished = 0;
+        for (StageProgress stage : stages.values()) {
+            for (ChangeProgress change : stage.changes.values()) {
+                if (change.status != null) {
+                    finished++;
+                }
+            }
+        }
+        return finished;
+    }
+
+    /**
+     * Returns the total number of changes, as declared by the application or as seen so far.
+     *
+     * @return the total change count, or 0 if not known yet
+     */
+    public int getTotalChanges() {
+        int declaredInStages = 0;
+        int seen = 0;
+        for (StageProgress stage : stages.values()) {
+            declaredInStages += Math.max(stage.declaredChanges, stage.changes.size());
+            seen += stage.changes.size();
+        }
+        return Math.max(declaredTotalChanges, Math.max(declaredInStages, seen));
+    }
+
+    /**
+     * Builds the execution result from the events received so far, for when the application exited
+     * without writing its response.
+     *
+     * <p>A change that had started but not finished is reported as failed, since the application died
+     * while running it; changes that were announced but never started count as not reached.</p>
+     *
+     * @return the partial execution result
+     */
+    public ExecuteResponseData toPartialResponse() {
+        ExecuteResponseData data = new ExecuteResponseData();
+        List<StageResult> stageResults = new ArrayList<>();
+        int applied = 0;
+        int alreadyApplied = 0;
+        int failed = 0;
+        int notReached = 0;
+        int completedStages = 0;
+        int failedStages = 0;
+
+        for (StageProgress stage : stages.values()) {
+            StageResult stageResult = new StageResult();
+            stageResult.setStageId(stage.stageId);
+            stageResult.setStageName(stage.displayName());
+            List<ChangeResult> changeResults = new ArrayList<>();
+            List<String> interrupted = new ArrayList<>();
+            boolean stageFailed = stage.status == StageStatus.FAILED;
+
+            for (ChangeProgress change : stage.changes.values()) {
+                ChangeResult changeResult = new ChangeResult();
+                changeResult.setChangeId(change.changeId);
+                changeResult.setAuthor(change.author);
+                ChangeStatus status = change.status;
+                long durationMs = change.durationMs;
+                if (status == null) {
+                    status = ChangeStatus.FAILED;
+                    durationMs = elapsedMs(change.startedNanos, lastEventNanos);
+                    interrupted.add(change.changeId);
+                }
+                changeResult.setStatus(status);
+                changeResult.setDurationMs(durationMs);
+                changeResults.add(changeResult);
+
+                switch (status) {
+                    case APPLIED:
+                        applied++;
+                        break;
+                    case ALREADY_APPLIED:
+                        alreadyApplied++;
+                        break;
+                    case NOT_REACHED:
+                        notReached++;
+                        break;
+                    default:
+                        failed++;
+                        stageFailed = true;
+                }
+            }
+            notReached += Math.max(0, stage.declaredChanges - stage.changes.size());
+
+            if (stage.status == null && !stageFailed) {
+                // Stage never reported finishing: the application died inside it
+                stageFailed = true;
+            }
+            stageResult.setStatus(stageFailed ? StageStatus.FAILED : stage.status);
+            stageResult.setDurationMs(stage.status != null
+                    ? stage.durationMs
+                    : elapsedMs(stage.startedNanos, lastEventNanos));
+            stageResult.setChanges(changeResults);
+            if (stageFailed && stage.status != StageStatus.FAILED) {
+                stageResult.setErrorInfo(interruptedError(stage.stageId, interrupted));
+            }
+            stageResults.add(stageResult);
+
+            if (stageFailed) {
+                failedStages++;
+            } else if (stageResult.getStatus() == StageStatus.COMPLETED) {
+                completedStages++;
+            }
+        }
+
+        int total = getTotalChanges();
+        notReached += Math.max(0, total - applied - alreadyApplied - failed - notReached);
+
+        data.setStatus(ExecutionStatus.FAILED);
+        data.setTotalStages(Math.max(declaredTotalStages, stages.size()));
+        data.setCompletedStages(completedStages);
+        data.setFailedStages(failedStages);
+        data.setTotalChanges(total);
+        data.setAppliedChanges(applied);
+        data.setAlreadyAppliedChanges(alreadyApplied);
+        data.setFailedChanges(failed);
+        data.setNotReachedChanges(notReached);
+        data.setTotalDurationMs(hasEvents() ? elapsedMs(firstEventNanos, lastEventNanos) : 0);
+        data.setStages(stageResults);
+        return data;
+    }
+
+    private StageProgress stage(String stageId, String stageName) {
+        String key = stageId != null ? stageId : (stageName != null ? stageName : "");
+        StageProgress stage = stages.computeIfAbsent(key, id -> new StageProgress(stageId, nanoClock.getAsLong()));
+        if (stageName != null) {
+            stage.stageName = stageName;
+        }
+        return stage;
+    }
+
+    private ChangeProgress change(ProgressEvent event) {
+        StageProgress stage = event.stageId() != null || currentStage == null
+                ? stage(event.stageId(), null)
+                : currentStage;
+        String changeId = event.changeId() != null ? event.changeId() : "";
+        ChangeProgress change = stage.changes.computeIfAbsent(changeId,
+                id -> new ChangeProgress(changeId, nanoClock.getAsLong()));
+        if (event.author() != null) {
+            change.author = event.author();
+        }
+        return change;
+    }
+
+    private static ErrorInfo interruptedError(String stageId, List<String> changeIds) {
+        ErrorInfo error = new ErrorInfo();
+        error.setErrorType(INTERRUPTED_ERROR_TYPE);
+        error.setStageId(stageId);
+        error.setChangeIds(Collections.unmodifiableList(changeIds));
+        error.setMessage(changeIds.isEmpty()
+                ? "The application exited before the stage finished"
+                : "The application exited while the change was running");
+        return error;
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String name, E fallback) {
+        if (name == null) {
+            return fallback;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    private static int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static long elapsedMs(long fromNanos, long toNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(Math.max(0, toNanos - fromNanos));
+    }
+
+    private static final class StageProgress {
+        private final String stageId;
+        private final long startedNanos;
+        private final Map<String, ChangeProgress> changes = new LinkedHashMap<>();
+        private String stageName;
+        private int declaredChanges;
+        private StageStatus status;
+        private long durationMs;
+
+        private StageProgress(String stageId, long startedNanos) {
+            this.stageId = stageId;
+            this.startedNanos = startedNanos;
+        }
+
+        private String displayName() {
+            return stageName != null ? stageName : stageId;
+        }
+    }
+
+    private static final class ChangeProgress {
+        private final String changeId;
+        private long startedNanos;
+        private String author;
+        private ChangeStatus status;
+        private long durationMs;
+
+        private ChangeProgress(String changeId, long startedNanos) {
+            this.changeId = changeId;
+            this.startedNanos = startedNanos;
+        }
+    }
+}
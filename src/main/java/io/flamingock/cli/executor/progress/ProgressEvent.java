@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.progress;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * One line of the application's newline-delimited JSON progress stream.
+ *
+ * <p>Only {@code type} is always present; the other fields depend on it. Unknown types and fields are
+ * ignored, so the application can add events without breaking older CLIs.</p>
+ *
+ * @param type         the event type, one of the constants below
+ * @param stageId      the stage the event belongs to
+ * @param stageName    the stage's display name ({@code stage-started})
+ * @param changeId     the change the event belongs to ({@code change-*})
+ * @param author       the change author ({@code change-*})
+ * @param status       the outcome, a {@code StageStatus} or {@code ChangeStatus} name ({@code *-finished})
+ * @param durationMs   how long the stage or change took ({@code *-finished})
+ * @param totalStages  the number of stages in the pipeline ({@code pipeline-started})
+ * @param totalChanges the number of changes in the pipeline or stage ({@code *-started})
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ProgressEvent(String type,
+                            String stageId,
+                            String stageName,
+                            String changeId,
+                            String author,
+                            String status,
+                            Long durationMs,
+                            Integer totalStages,
+                            Integer totalChanges) {
+
+    public static final String PIPELINE_STARTED = "pipeline-started";
+    public static final String STAGE_STARTED = "stage-started";
+    public static final String STAGE_FINISHED = "stage-finished";
+    public static final String CHANGE_STARTED = "change-started";
+    public static final String CHANGE_FINISHED = "change-finished";
+}
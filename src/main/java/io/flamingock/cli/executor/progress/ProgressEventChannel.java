@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.progress;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.flamingock.cli.executor.util.filesystem.NamedPipe;
+import io.flamingock.internal.util.JsonObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Receives the application's newline-delimited JSON progress events, passed to it as
+ * {@code --flamingock.events-file}.
+ *
+ * <p>Preferably a {@link NamedPipe}, parsed line by line while the application runs so the listener can
+ * show live progress. Where named pipes are unavailable it falls back to a temporary file that is only
+ * replayed after exit, which still allows rebuilding a partial result but shows no live progress.</p>
+ */
+public final class ProgressEventChannel implements AutoCloseable {
+
+    /**
+     * The application argument that carries the event channel path.
+     */
+    public static final String EVENTS_FILE_ARG = "flamingock.events-file";
+
+    private static final ObjectReader EVENT_READER = JsonObjectMapper.DEFAULT_INSTANCE.readerFor(ProgressEvent.class);
+
+    private final ProgressListener listener;
+    private final ExecutionProgress progress = new ExecutionProgress();
+    private final NamedPipe pipe;
+    private final Path file;
+
+    private ProgressEventChannel(ProgressListener listener, NamedPipe pipe, Path file) {
+        this.listener = listener;
+        this.pipe = pipe;
+        this.file = file;
+    }
+
+    /**
+     * Opens an event channel.
+     *
+     * @param listener notified of each event while the application runs
+     * @return the open channel
+     * @throws IOException if not even a temporary file could be created
+     */
+    public static ProgressEventChannel open(ProgressListener listener) throws IOException {
+        NamedPipe pipe = NamedPipe.tryCreate("flamingock-events-", "events.ndjson");
+        if (pipe != null) {
+            ProgressEventChannel channel = new ProgressEventChannel(listener, pipe, pipe.getPath());
+            pipe.startReading("flamingock-events", channel::readEvents);
+            return channel;
+        }
+        return new ProgressEventChannel(listener, null, Files.createTempFile("flamingock-events-", ".ndjson"));
+    }
+
+    /**
+     * Returns the path to pass to the application as its events file.
+     *
+     * @return the events file path
+     */
+    public String getAddress() {
+        return file.toString();
+    }
+
+    /**
+     * Returns everything received, once the application has exited.
+     *
+     * @return the accumulated progress
+     */
+    public ExecutionProgress finish() {
+        if (pipe != null) {
+            pipe.stopReading();
+        }
+        if ((pipe == null || !pipe.isPipe()) && !progress.hasEvents() && Files.isRegularFile(file)) {
+            // Temporary file fallback, or the application replaced the pipe with a regular file
+            try (InputStream in = Files.newInputStream(file)) {
+                readEvents(in, false);
+            } catch (IOException ignored) {
+                // Nothing usable
+            }
+        }
+        return progress;
+    }
+
+    @Override
+    public void close() {
+        if (pipe != null) {
+            pipe.close();
+        } else {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // Best effort cleanup
+            }
+        }
+    }
+
+    private void readEvents(InputStream in) throws IOException {
+        readEvents(in, true);
+    }
+
+    private void readEvents(InputStream in, boolean live) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            ProgressEvent event = parse(line);
+            if (event == null) {
+                continue;
+            }
+            progress.apply(event);
+            if (live && listener != null) {
+                try {
+                    listener.onEvent(event, progress);
+                } catch (RuntimeException ignored) {
+                    // A display problem must not stop the channel from being drained
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses one NDJSON line.
+     *
+     * @param line the line
+     * @return the event, or null for a blank, malformed or truncated line
+     */
+    static ProgressEvent parse(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            ProgressEvent event = EVENT_READER.readValue(line);
+            return event != null && event.type() != null ? event : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
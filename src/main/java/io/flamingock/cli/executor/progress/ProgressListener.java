@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.progress;
+
+/**
+ * Receives progress events as the application reports them.
+ *
+ * <p>Called from the channel's reader thread, after {@code progress} has been updated with the event.</p>
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * Handles one event.
+     *
+     * @param event    the event just received
+     * @param progress the accumulated progress, including this event
+     */
+    void onEvent(ProgressEvent event, ExecutionProgress progress);
+}
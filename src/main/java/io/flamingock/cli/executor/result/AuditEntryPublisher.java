@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.result;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.flamingock.internal.common.core.response.data.AuditListResponseData.AuditEntryDto;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams the entries of an {@code audit_list} response straight from the response file.
+ *
+ * <p>A {@link JsonParser} walks to {@code data.entries} of the selected envelope and binds one
+ * {@link AuditEntryDto} at a time, so memory is bounded by the subscriber's outstanding demand rather
+ * than by the size of the audit history. Each subscription reads the file from the start.</p>
+ *
+ * <p>Entries are delivered on the thread that calls {@link Flow.Subscription#request(long)}: a subscriber
+ * that requests from {@code onSubscribe} has received everything, or has cancelled, by the time
+ * {@link #subscribe} returns. Requests made from {@code onNext} add to the demand instead of recursing.
+ * A missing or malformed file is signalled through {@code onError}.</p>
+ */
+public final class AuditEntryPublisher implements Flow.Publisher<AuditEntryDto> {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader entryReader;
+    private final Path file;
+    private final int envelopeIndex;
+    private final AtomicLong delivered = new AtomicLong();
+
+    /**
+     * Creates a publisher over one envelope of a response file.
+     *
+     * @param objectMapper  the mapper configured for response types
+     * @param file          the response file
+     * @param envelopeIndex which envelope of the file to stream, counting from 0
+     */
+    AuditEntryPublisher(ObjectMapper objectMapper, Path file, int envelopeIndex) {
+        this.objectMapper = objectMapper;
+        this.entryReader = objectMapper.readerFor(AuditEntryDto.class);
+        this.file = file;
+        this.envelopeIndex = envelopeIndex;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super AuditEntryDto> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        subscriber.onSubscribe(new EntrySubscription(subscriber));
+    }
+
+    /**
+     * Returns how many entries have been delivered across all subscriptions.
+     *
+     * @return the delivered entry count
+     */
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    private JsonParser openAtEntries() throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(file.toFile());
+        try {
+            for (int index = 0; ; index++) {
+                JsonToken token = parser.nextToken();
+                if (token == null) {
+                    throw new IOException("Response file " + file + " has no envelope " + envelopeIndex);
+                }
+                if (index < envelopeIndex) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (token == JsonToken.START_OBJECT
+                        && seekField(parser, "data", JsonToken.START_OBJECT)
+                        && seekField(parser, "entries", JsonToken.START_ARRAY)) {
+                    return parser;
+                }
+                // No entries to stream
+                parser.close();
+                return null;
+            }
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Advances through the fields of the current object to the named one, skipping the others.
+     *
+     * @return true if the field was found and its value starts with the expected token
+     */
+    private static boolean seekField(JsonParser parser, String name, JsonToken expected) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (name.equals(field)) {
+                return value == expected;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private final class EntrySubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super AuditEntryDto> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile String invalidRequest;
+
+        // Only touched inside drain(), which runs on one thread at a time
+        private JsonParser parser;
+        private JsonToken next;
+        private boolean opened;
+        private boolean done;
+
+        private EntrySubscription(Flow.Subscriber<? super AuditEntryDto> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = "Subscription.request must be positive, got " + n;
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (pending.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                emit();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                finish();
+                return;
+            }
+            if (invalidRequest != null) {
+                finish();
+                subscriber.onError(new IllegalArgumentException(invalidRequest));
+                return;
+            }
+            try {
+                if (!opened) {
+                    opened = true;
+                    parser = openAtEntries();
+                    next = parser != null ? parser.nextToken() : null;
+                }
+                while (!cancelled) {
+                    // Looking one token ahead lets completion follow the last entry without further demand
+                    if (next != JsonToken.START_OBJECT) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (demand.get() == 0) {
+                        return;
+                    }
+                    AuditEntryDto entry = entryReader.readValue(parser);
+                    next = parser.nextToken();
+                    demand.decrementAndGet();
+                    delivered.incrementAndGet();
+                    subscriber.onNext(entry);
+                }
+                finish();
+            } catch (IOException | RuntimeException e) {
+                finish();
+                subscriber.onError(e);
+            }
+        }
+
+        private void finish() {
+            done = true;
+            if (parser != null) {
+                try {
+                    parser.close();
+                } catch (IOException e) {
+                    // Nothing left to read from it
+                }
+                parser = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.result;
+
+import io.flamingock.cli.executor.result.ResponseResultReader.ResponseResult;
+import io.flamingock.internal.common.core.response.ResponseEnvelope;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Response channel backed by a temporary file that is read after the application exits.
+ */
+final class FileResponseChannel implements ResponseChannel {
+
+    private final ResponseResultReader reader;
+    private final Path file;
+
+    private FileResponseChannel(ResponseResultReader reader, Path file) {
+        this.reader = reader;
+        this.file = file;
+    }
+
+    static FileResponseChannel open(ResponseResultReader reader) throws IOException {
+        return new FileResponseChannel(reader, Files.createTempFile("flamingock-response-", ".json"));
+    }
+
+    @Override
+    public String getAddress() {
+        return file.toString();
+    }
+
+    @Override
+    public <T> ResponseResult<T> receive(Class<T> dataType) {
+        return reader.readTyped(file, dataType);
+    }
+
+    @Override
+    public List<ResponseEnvelope> receiveAll() {
+        return reader.readAll(file);
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Best effort cleanup
+        }
+    }
+}
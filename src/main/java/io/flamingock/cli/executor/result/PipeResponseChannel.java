@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.result;
+
+import io.flamingock.cli.executor.result.ResponseResultReader.ResponseResult;
+import io.flamingock.cli.executor.util.filesystem.NamedPipe;
+import io.flamingock.internal.common.core.response.ResponseEnvelope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Response channel backed by a {@link NamedPipe}.
+ *
+ * <p>Each response is parsed as it arrives, while the application is still running. Responses from every
+ * time the application opens the output file are kept in order, so the last one wins for a single
+ * operation and a composite run may write one per operation.</p>
+ *
+ * <p>When the data type is known up front, responses are parsed straight into typed results instead of
+ * generic envelopes.</p>
+ */
+final class PipeResponseChannel implements ResponseChannel {
+
+    private final ResponseResultReader reader;
+    private final NamedPipe pipe;
+    private final Class<?> dataType;
+
+    private final List<ResponseEnvelope> envelopes = new CopyOnWriteArrayList<>();
+    private final List<ResponseResult<?>> results = new CopyOnWriteArrayList<>();
+
+    private PipeResponseChannel(ResponseResultReader reader, NamedPipe pipe, Class<?> dataType) {
+        this.reader = reader;
+        this.pipe = pipe;
+        this.dataType = dataType;
+        pipe.startReading("flamingock-response", dataType != null
+                ? in -> results.addAll(reader.readAllTyped(in, dataType))
+                : in -> envelopes.addAll(reader.readAll(in)));
+    }
+
+    /**
+     * Creates the pipe and starts reading from it.
+     *
+     * @param reader   the reader used to parse the response
+     * @param dataType the data type to bind responses to, or null to parse generic envelopes
+     * @return the channel, or null if a named pipe cannot be created on this system
+     */
+    static PipeResponseChannel tryOpen(ResponseResultReader reader, Class<?> dataType) {
+        NamedPipe pipe = NamedPipe.tryCreate("flamingock-response-", "response.json");
+        return pipe != null ? new PipeResponseChannel(reader, pipe, dataType) : null;
+    }
+
+    @Override
+    public String getAddress() {
+        return pipe.getPath().toString();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ResponseResult<T> receive(Class<T> dataType) {
+        if (this.dataType == null) {
+            return reader.toTyped(receive(), dataType, getAddress());
+        }
+        if (this.dataType != dataType) {
+            throw new IllegalStateException("Channel opened for " + this.dataType.getSimpleName()
+                    + " responses, not " + dataType.getSimpleName());
+        }
+        pipe.stopReading();
+        if (results.isEmpty() && !pipe.isPipe()) {
+            // The application replaced the pipe with a regular file (e.g. write-and-rename)
+            return reader.readTyped(pipe.getPath(), dataType);
+        }
+        return ResponseResultReader.lastOf(new ArrayList<>((List<ResponseResult<T>>) (List<?>) results),
+                getAddress());
+    }
+
+    @Override
+    public List<ResponseEnvelope> receiveAll() {
+        if (dataType != null) {
+            throw new IllegalStateException("Channel opened for " + dataType.getSimpleName()
+                    + " responses must be read with receive(Class)");
+        }
+        pipe.stopReading();
+        if (envelopes.isEmpty() && !pipe.isPipe()) {
+            // The application replaced the pipe with a regular file (e.g. write-and-rename)
+            return reader.readAll(pipe.getPath());
+        }
+        return new ArrayList<>(envelopes);
+    }
+
+    @Override
+    public void close() {
+        pipe.close();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.result;
+
+import io.flamingock.cli.executor.result.ResponseResultReader.ResponseResult;
+import io.flamingock.internal.common.core.response.ResponseEnvelope;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Transport for the response the application writes to {@code --flamingock.output-file}.
+ *
+ * <p>The preferred transport is a named pipe read while the application runs, so the response is parsed
+ * as soon as it is written, without touching the disk. Where named pipes are unavailable (e.g. Windows),
+ * or when disabled, it falls back to a temporary file read after the application exits.</p>
+ */
+public interface ResponseChannel extends AutoCloseable {
+
+    /**
+     * Opens a response channel.
+     *
+     * @param reader     the reader used to parse the response
+     * @param preferPipe whether to try a named pipe before falling back to a temporary file
+     * @return the open channel
+     * @throws IOException if not even a temporary file could be created
+     */
+    static ResponseChannel open(ResponseResultReader reader, boolean preferPipe) throws IOException {
+        return open(reader, preferPipe, null);
+    }
+
+    /**
+     * Opens a response channel for a single operation whose data type is known up front, so a pipe can bind
+     * the response data straight to it while the application runs.
+     *
+     * <p>Such a channel must be read with {@link #receive(Class)} for that type.</p>
+     *
+     * @param reader     the reader used to parse the response
+     * @param preferPipe whether to try a named pipe before falling back to a temporary file
+     * @param dataType   the data type of the response, or null to parse generic envelopes
+     * @return the open channel
+     * @throws IOException if not even a temporary file could be created
+     */
+    static ResponseChannel open(ResponseResultReader reader, boolean preferPipe, Class<?> dataType)
+            throws IOException {
+        if (preferPipe) {
+            ResponseChannel pipe = PipeResponseChannel.tryOpen(reader, dataType);
+            if (pipe != null) {
+                return pipe;
+            }
+        }
+        return FileResponseChannel.open(reader);
+    }
+
+    /**
+     * Returns the path to pass to the application as its output file.
+     *
+     * @return the output file path
+     */
+    String getAddress();
+
+    /**
+     * Returns the response, once the application has exited.
+     *
+     * <p>If the application wrote several responses, the last one is returned.</p>
+     *
+     * @return the parsed envelope, or empty if the application wrote none or it could not be parsed
+     */
+    default Optional<ResponseEnvelope> receive() {
+        List<ResponseEnvelope> envelopes = receiveAll();
+        return envelopes.isEmpty() ? Optional.empty() : Optional.of(envelopes.get(envelopes.size() - 1));
+    }
+
+    /**
+     * Returns the last response with its data bound straight to the given type, once the application has
+     * exited.
+     *
+     * @param dataType the expected type of the data field
+     * @param <T>      the data type
+     * @return the typed result, or a read error if the application wrote no response or it could not be parsed
+     */
+    <T> ResponseResult<T> receive(Class<T> dataType);
+
+    /**
+     * Returns every response the application wrote, in order, once it has exited. A composite run writes
+     * one per operation.
+     *
+     * @return the parsed envelopes (possibly empty)
+     */
+    List<ResponseEnvelope> receiveAll();
+
+    /**
+     * Releases the channel and removes anything it created on disk.
+     */
+    @Override
+    void close();
+}
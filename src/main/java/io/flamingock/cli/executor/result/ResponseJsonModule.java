@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.result;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+import io.flamingock.internal.common.core.response.data.ChangeStatus;
+import io.flamingock.internal.common.core.response.data.ErrorInfo;
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
+import io.flamingock.internal.common.core.response.data.ExecutionStatus;
+import io.flamingock.internal.common.core.response.data.StageResult;
+import io.flamingock.internal.common.core.response.data.StageStatus;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming deserializers for the {@code execute} response, the largest response the CLI binds.
+ *
+ * <p>They read {@link ExecuteResponseData}, {@link StageResult} and {@link ChangeResult} field by field
+ * from the {@link JsonParser} and fill them through their setters, so neither Jackson's bean introspection
+ * nor reflection metadata in the native image is needed for them. Unknown fields are skipped, as the
+ * reflective path does; a status that is not a known constant fails the bind like it does there.
+ * {@link ErrorInfo}, which is small and rare, is left to the default deserializer.</p>
+ */
+public final class ResponseJsonModule extends SimpleModule {
+
+    private static final JsonDeserializer<ChangeResult> CHANGE_RESULT = new ChangeResultDeserializer();
+    private static final JsonDeserializer<StageResult> STAGE_RESULT = new StageResultDeserializer();
+
+    public ResponseJsonModule() {
+        super("flamingock-cli-response");
+        addDeserializer(ExecuteResponseData.class, new ExecuteResponseDataDeserializer());
+        addDeserializer(StageResult.class, STAGE_RESULT);
+        addDeserializer(ChangeResult.class, CHANGE_RESULT);
+    }
+
+    private static final class ExecuteResponseDataDeserializer extends StdDeserializer<ExecuteResponseData> {
+
+        private ExecuteResponseDataDeserializer() {
+            super(ExecuteResponseData.class);
+        }
+
+        @Override
+        public ExecuteResponseData deserialize(JsonParser parser, DeserializationContext context)
+                throws IOException {
+            ExecuteResponseData data = new ExecuteResponseData();
+            for (String field = firstField(parser); field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case "status" -> data.setStatus(enumValue(parser, context, ExecutionStatus.class));
+                    case "totalStages" -> data.setTotalStages(parser.getValueAsInt());
+                    case "completedStages" -> data.setCompletedStages(parser.getValueAsInt());
+                    case "failedStages" -> data.setFailedStages(parser.getValueAsInt());
+                    case "totalChanges" -> data.setTotalChanges(parser.getValueAsInt());
+                    case "appliedChanges" -> data.setAppliedChanges(parser.getValueAsInt());
+                    case "alreadyAppliedChanges" -> data.setAlreadyAppliedChanges(parser.getValueAsInt());
+                    case "failedChanges" -> data.setFailedChanges(parser.getValueAsInt());
+                    case "notReachedChanges" -> data.setNotReachedChanges(parser.getValueAsInt());
+                    case "totalDurationMs" -> data.setTotalDurationMs(parser.getValueAsLong());
+                    case "stages" -> data.setStages(listValue(parser, context, STAGE_RESULT));
+                    default -> parser.skipChildren();
+                }
+            }
+            return data;
+        }
+    }
+
+    private static final class StageResultDeserializer extends StdDeserializer<StageResult> {
+
+        private StageResultDeserializer() {
+            super(StageResult.class);
+        }
+
+        @Override
+        public StageResult deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            StageResult stage = new StageResult();
+            for (String field = firstField(parser); field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case "stageId" -> stage.setStageId(parser.getValueAsString());
+                    case "stageName" -> stage.setStageName(parser.getValueAsString());
+                    case "status" -> stage.setStatus(enumValue(parser, context, StageStatus.class));
+                    case "durationMs" -> stage.setDurationMs(parser.getValueAsLong());
+                    case "changes" -> stage.setChanges(listValue(parser, context, CHANGE_RESULT));
+                    case "errorInfo" -> stage.setErrorInfo(parser.currentToken() == JsonToken.VALUE_NULL
+                            ? null
+                            : context.readValue(parser, ErrorInfo.class));
+                    default -> parser.skipChildren();
+                }
+            }
+            return stage;
+        }
+    }
+
+    private static final class ChangeResultDeserializer extends StdDeserializer<ChangeResult> {
+
+        private ChangeResultDeserializer() {
+            super(ChangeResult.class);
+        }
+
+        @Override
+        public ChangeResult deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            ChangeResult change = new ChangeResult();
+            for (String field = firstField(parser); field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case "changeId" -> change.setChangeId(parser.getValueAsString());
+                    case "author" -> change.setAuthor(parser.getValueAsString());
+                    case "status" -> change.setStatus(enumValue(parser, context, ChangeStatus.class));
+                    case "durationMs" -> change.setDurationMs(parser.getValueAsLong());
+                    default -> parser.skipChildren();
+                }
+            }
+            return change;
+        }
+    }
+
+    /**
+     * Returns the name of the object's first field, whether the parser is at its start or, after a type id
+     * was consumed, already at a field.
+     */
+    private static String firstField(JsonParser parser) throws IOException {
+        if (parser.isExpectedStartObjectToken()) {
+            return parser.nextFieldName();
+        }
+        return parser.currentToken() == JsonToken.FIELD_NAME ? parser.currentName() : null;
+    }
+
+    private static <E extends Enum<E>> E enumValue(JsonParser parser, DeserializationContext context,
+                                                   Class<E> type) throws IOException {
+        String name = parser.getValueAsString();
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            return type.cast(context.handleWeirdStringValue(type, name,
+                    "not one of the values accepted for Enum class %s", type.getSimpleName()));
+        }
+    }
+
+    private static <T> List<T> listValue(JsonParser parser, DeserializationContext context,
+                                         JsonDeserializer<T> element) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!parser.isExpectedStartArrayToken()) {
+            context.handleUnexpectedToken(List.class, parser);
+            return null;
+        }
+        List<T> list = new ArrayList<>();
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == null) {
+                throw MismatchedInputException.from(parser, List.class, "Unexpected end of input in array");
+            }
+            list.add(parser.currentToken() == JsonToken.VALUE_NULL ? null : element.deserialize(parser, context));
+        }
+        return list;
+    }
+}
@@ -15,8 +15,15 @@
  */
 package io.flamingock.cli.executor.result;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.flamingock.internal.common.core.response.ResponseEnvelope;
 import io.flamingock.internal.common.core.response.data.AuditFixResponseData;
@@ -28,9 +35,15 @@ import io.flamingock.internal.util.JsonObjectMapper;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Reads and parses response files from spawned application processes.
@@ -38,10 +51,12 @@ import java.util.Optional;
 public class ResponseResultReader {
 
     private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> dataReaders = new ConcurrentHashMap<>();
 
     public ResponseResultReader() {
         this.objectMapper = JsonObjectMapper.DEFAULT_INSTANCE.copy();
         this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.registerModule(new ResponseJsonModule());
         registerSubtypes();
     }
 
@@ -75,7 +90,192 @@ public class ResponseResultReader {
     }
 
     /**
-     * Reads a response envelope from a file and returns it as a typed result.
+     * Reads every response envelope in a file, e.g. one per operation of a composite run.
+     *
+     * @param filePath the path to the response file
+     * @return the envelopes in the order written; empty if the file doesn't exist or nothing could be parsed
+     */
+    public List<ResponseEnvelope> readAll(Path filePath) {
+        if (!Files.exists(filePath)) {
+            return Collections.emptyList();
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return readAll(in);
+        } catch (IOException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Reads a response envelope from a stream, e.g. a pipe the application is still writing to.
+     *
+     * <p>If the application wrote more than one response into the stream, the last one is returned.
+     * The stream is not closed.</p>
+     *
+     * @param in the stream positioned at the start of the response JSON
+     * @return the parsed response envelope, or empty if the stream is empty or parsing fails
+     */
+    public Optional<ResponseEnvelope> read(InputStream in) {
+        List<ResponseEnvelope> envelopes = readAll(in);
+        return envelopes.isEmpty() ? Optional.empty() : Optional.of(envelopes.get(envelopes.size() - 1));
+    }
+
+    /**
+     * Reads every response envelope in a stream, in the order written. The stream is not closed.
+     *
+     * <p>Parsing stops at the first malformed envelope; those read before it are kept.</p>
+     *
+     * @param in the stream positioned at the start of the response JSON
+     * @return the parsed envelopes (possibly empty)
+     */
+    public List<ResponseEnvelope> readAll(InputStream in) {
+        List<ResponseEnvelope> result = new ArrayList<>();
+        try (MappingIterator<ResponseEnvelope> envelopes = objectMapper.readerFor(ResponseEnvelope.class)
+                .without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                .readValues(in)) {
+            while (envelopes.hasNextValue()) {
+                result.add(envelopes.nextValue());
+            }
+        } catch (IOException e) {
+            // Keep what was parsed before the malformed part
+        }
+        return result;
+    }
+
+    /**
+     * Reads the audit entries of an {@code audit_list} response without holding them in memory.
+     *
+     * <p>A first pass reads the envelopes with their {@code data} skipped, to learn whether the operation
+     * succeeded; on success the returned publisher streams the entries of the last envelope from the file,
+     * which must stay in place until the publisher has been consumed.</p>
+     *
+     * @param filePath the path to the response file
+     * @return a successful result holding the entry publisher, or the failure the application reported
+     */
+    public ResponseResult<AuditEntryPublisher> streamAuditEntries(Path filePath) {
+        List<ResponseEnvelope> headers = readHeaders(filePath);
+        if (headers.isEmpty()) {
+            return ResponseResult.readError("Response file not found or could not be read: " + filePath);
+        }
+        ResponseEnvelope envelope = headers.get(headers.size() - 1);
+        if (!envelope.isSuccess()) {
+            return ResponseResult.fromFailure(envelope);
+        }
+        return ResponseResult.success(envelope, new AuditEntryPublisher(objectMapper, filePath, headers.size() - 1));
+    }
+
+    /**
+     * Reads every envelope in a file with its {@code data} skipped, so the cost does not grow with the
+     * size of the response. Parsing stops at the first malformed envelope; those read before it are kept.
+     */
+    List<ResponseEnvelope> readHeaders(Path filePath) {
+        if (!Files.exists(filePath)) {
+            return Collections.emptyList();
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(filePath.toFile())) {
+            return parseEnvelopes(parser, null).stream().map(ParsedEnvelope::envelope).toList();
+        } catch (IOException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Reads every response in a file with its {@code data} bound straight to the given type, in one pass.
+     *
+     * @param filePath the path to the response file
+     * @param dataType the expected type of the data field
+     * @param <T> the data type
+     * @return the typed results in the order written; empty if the file doesn't exist or nothing could be parsed
+     */
+    public <T> List<ResponseResult<T>> readAllTyped(Path filePath, Class<T> dataType) {
+        if (!Files.exists(filePath)) {
+            return Collections.emptyList();
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(filePath.toFile())) {
+            return toResults(parseEnvelopes(parser, dataReader(dataType)), dataType);
+        } catch (IOException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Reads every response in a stream with its {@code data} bound straight to the given type, in one pass.
+     * The stream is not closed.
+     *
+     * @param in       the stream positioned at the start of the response JSON
+     * @param dataType the expected type of the data field
+     * @param <T> the data type
+     * @return the typed results in the order written (possibly empty)
+     */
+    public <T> List<ResponseResult<T>> readAllTyped(InputStream in, Class<T> dataType) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return toResults(parseEnvelopes(parser, dataReader(dataType)), dataType);
+        } catch (IOException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Parses the envelopes in order, binding each {@code data} with the given reader, or skipping it when the
+     * reader is null. Only the small envelope fields go through a tree; {@code data} is never buffered.
+     *
+     * <p>Parsing stops at the first malformed envelope; those read before it are kept. Data that does not
+     * fit the reader's type ends the list with an envelope marked unreadable, as the parser cannot resume.</p>
+     */
+    private List<ParsedEnvelope> parseEnvelopes(JsonParser parser, ObjectReader dataReader) {
+        List<ParsedEnvelope> result = new ArrayList<>();
+        try {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                ObjectNode header = objectMapper.createObjectNode();
+                Object data = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (!"data".equals(field)) {
+                        header.set(field, objectMapper.readTree(parser));
+                    } else if (dataReader == null || value == JsonToken.VALUE_NULL) {
+                        parser.skipChildren();
+                    } else {
+                        try {
+                            data = dataReader.readValue(parser);
+                        } catch (DatabindException e) {
+                            result.add(ParsedEnvelope.UNREADABLE);
+                            return result;
+                        }
+                    }
+                }
+                result.add(new ParsedEnvelope(objectMapper.treeToValue(header, ResponseEnvelope.class), data));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // Keep what was parsed before the malformed part
+        }
+        return result;
+    }
+
+    private static <T> List<ResponseResult<T>> toResults(List<ParsedEnvelope> parsed, Class<T> dataType) {
+        List<ResponseResult<T>> results = new ArrayList<>(parsed.size());
+        for (ParsedEnvelope envelope : parsed) {
+            if (envelope == ParsedEnvelope.UNREADABLE) {
+                results.add(ResponseResult.readError("Failed to convert response data to " + dataType.getSimpleName()));
+            } else if (!envelope.envelope().isSuccess()) {
+                results.add(ResponseResult.fromFailure(envelope.envelope()));
+            } else {
+                results.add(ResponseResult.success(envelope.envelope(), dataType.cast(envelope.data())));
+            }
+        }
+        return results;
+    }
+
+    private ObjectReader dataReader(Class<?> dataType) {
+        // The "@type" id sits inside data; binding straight to the concrete type must not fail on it
+        return dataReaders.computeIfAbsent(dataType, type -> objectMapper.readerFor(type)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+
+    /**
+     * Reads a response file and returns its last response as a typed result, with {@code data} bound
+     * straight to the given type.
      *
      * @param filePath the path to the response file
      * @param dataType the expected type of the data field
@@ -83,10 +283,35 @@ public class ResponseResultReader {
      * @return the typed response result
      */
     public <T> ResponseResult<T> readTyped(Path filePath, Class<T> dataType) {
-        Optional<ResponseEnvelope> envelope = read(filePath);
+        return lastOf(readAllTyped(filePath, dataType), filePath.toString());
+    }
+
+    /**
+     * Returns the last of the typed results, or a read error if there are none.
+     *
+     * @param results the typed results, in the order written
+     * @param source  where the response was expected, for the error message
+     * @param <T> the data type
+     * @return the last result
+     */
+    public static <T> ResponseResult<T> lastOf(List<ResponseResult<T>> results, String source) {
+        return results.isEmpty()
+                ? ResponseResult.readError("Response file not found or could not be read: " + source)
+                : results.get(results.size() - 1);
+    }
 
+    /**
+     * Converts an already received response envelope into a typed result.
+     *
+     * @param envelope the envelope, or empty if none could be read
+     * @param dataType the expected type of the data field
+     * @param source   where the response was expected, for the error message
+     * @param <T> the data type
+     * @return the typed response result
+     */
+    public <T> ResponseResult<T> toTyped(Optional<ResponseEnvelope> envelope, Class<T> dataType, String source) {
         if (!envelope.isPresent()) {
-            return ResponseResult.readError("Response file not found or could not be read: " + filePath);
+            return ResponseResult.readError("Response file not found or could not be read: " + source);
         }
 
         ResponseEnvelope env = envelope.get();
@@ -112,6 +337,14 @@ public class ResponseResultReader {
         }
     }
 
+    /**
+     * An envelope with its {@code data} bound separately, which the library envelope type cannot hold.
+     */
+    private record ParsedEnvelope(ResponseEnvelope envelope, Object data) {
+
+        static final ParsedEnvelope UNREADABLE = new ParsedEnvelope(null, null);
+    }
+
     /**
      * Represents a typed response result.
      *
@@ -149,6 +382,18 @@ public class ResponseResultReader {
             return new ResponseResult<>(false, null, "READ_ERROR", message, false, 0);
         }
 
+        /**
+         * Re-types a failed result, which carries no data.
+         *
+         * @param failure the failed result
+         * @param <T>     the new data type
+         * @return the same failure with the new data type
+         */
+        public static <T> ResponseResult<T> failureOf(ResponseResult<?> failure) {
+            return new ResponseResult<>(false, null, failure.errorCode, failure.errorMessage, failure.recoverable,
+                    failure.durationMs);
+        }
+
         public boolean isSuccess() {
             return success;
         }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.timing;
+
+import io.flamingock.cli.executor.output.JsonFormatter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes recorded spans as an OpenTelemetry trace in the OTLP/JSON encoding, the format of the
+ * collector's file exporter, which trace viewers such as Jaeger can load.
+ */
+public final class OtlpTraceWriter {
+
+    private static final int SPAN_KIND_INTERNAL = 1;
+
+    private OtlpTraceWriter() {
+    }
+
+    /**
+     * Writes the spans to a file, replacing it.
+     *
+     * @param spans   the spans, root first
+     * @param version the CLI version, reported as {@code service.version}
+     * @param file    where to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(List<RecordedSpan> spans, String version, Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(file, JsonFormatter.toJson(toOtlp(spans, version, Instant.now(), System.nanoTime())),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Builds the OTLP/JSON document.
+     *
+     * @param spans    the spans, root first
+     * @param version  the CLI version
+     * @param now      the wall-clock time corresponding to {@code nowNanos}
+     * @param nowNanos the current {@link System#nanoTime()}, to anchor span times to the wall clock
+     * @return the document, ready for JSON serialization
+     */
+    static Map<String, Object> toOtlp(List<RecordedSpan> spans, String version, Instant now, long nowNanos) {
+        long epochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+        String traceId = randomHex(2);
+
+        List<Map<String, Object>> otlpSpans = new ArrayList<>(spans.size());
+        for (RecordedSpan span : spans) {
+            Map<String, Object> otlpSpan = new LinkedHashMap<>();
+            otlpSpan.put("traceId", traceId);
+            otlpSpan.put("spanId", spanId(span.id()));
+            if (span.parentId() != 0) {
+                otlpSpan.put("parentSpanId", spanId(span.parentId()));
+            }
+            otlpSpan.put("name", span.name());
+            otlpSpan.put("kind", SPAN_KIND_INTERNAL);
+            // 64-bit integers are strings in the protobuf JSON mapping
+            otlpSpan.put("startTimeUnixNano", Long.toString(epochNanos - (nowNanos - span.startNanos())));
+            otlpSpan.put("endTimeUnixNano", Long.toString(epochNanos - (nowNanos - span.endNanos())));
+            otlpSpan.put("attributes", List.of(attribute("thread.name", span.thread())));
+            otlpSpans.add(otlpSpan);
+        }
+
+        Map<String, Object> scope = new LinkedHashMap<>();
+        scope.put("scope", Map.of("name", "io.flamingock.cli"));
+        scope.put("spans", otlpSpans);
+
+        Map<String, Object> resource = new LinkedHashMap<>();
+        resource.put("resource", Map.of("attributes", List.of(
+                attribute("service.name", "flamingock-cli"),
+                attribute("service.version", version))));
+        resource.put("scopeSpans", List.of(scope));
+
+        return Map.of("resourceSpans", List.of(resource));
+    }
+
+    private static Map<String, Object> attribute(String key, String value) {
+        Map<String, Object> attribute = new LinkedHashMap<>();
+        attribute.put("key", key);
+        attribute.put("value", Map.of("stringValue", value != null ? value : ""));
+        return attribute;
+    }
+
+    private static String spanId(long id) {
+        return String.format("%016x", id);
+    }
+
+    private static String randomHex(int longs) {
+        StringBuilder hex = new StringBuilder(longs * 16);
+        for (int i = 0; i < longs; i++) {
+            hex.append(String.format("%016x", ThreadLocalRandom.current().nextLong()));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.timing;
+
+/**
+ * A finished phase.
+ *
+ * @param id         identifier, unique within the recording
+ * @param parentId   identifier of the enclosing phase, or 0 for the root
+ * @param name       what was timed, e.g. {@code jar.detect}
+ * @param thread     name of the thread that ran the phase
+ * @param startNanos start, on the {@link System#nanoTime()} scale
+ * @param endNanos   end, on the {@link System#nanoTime()} scale
+ */
+public record RecordedSpan(long id, long parentId, String name, String thread, long startNanos, long endNanos) {
+
+    /**
+     * Returns how long the phase took.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long durationNanos() {
+        return endNanos - startNanos;
+    }
+}
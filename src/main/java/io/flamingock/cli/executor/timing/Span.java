@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.timing;
+
+/**
+ * A phase being timed; closing it records the phase.
+ *
+ * <p>Obtained from {@link Timings#start(String)}, normally in a try-with-resources block. While timings
+ * are disabled every call returns {@link #NOOP}, so instrumented code allocates nothing.</p>
+ */
+@FunctionalInterface
+public interface Span extends AutoCloseable {
+
+    /**
+     * The span handed out while timings are disabled.
+     */
+    Span NOOP = () -> {
+    };
+
+    /**
+     * Ends the phase.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.timing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Records the phases of one CLI invocation as a tree of spans below a root span.
+ *
+ * <p>Spans nest per thread: a span started while another is open on the same thread becomes its child.
+ * A span started on a thread with nothing open (e.g. a fan-out worker) hangs off the root. Recording is
+ * thread-safe; spans are kept only once closed.</p>
+ */
+public final class SpanRecorder {
+
+    /**
+     * Identifier of the root span.
+     */
+    static final long ROOT_ID = 1;
+
+    private final String rootName;
+    private final long rootStartNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong nextId = new AtomicLong(ROOT_ID + 1);
+    private final ConcurrentLinkedQueue<RecordedSpan> spans = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<OpenSpan> current = new ThreadLocal<>();
+
+    /**
+     * Creates a recorder whose root span starts at the given time.
+     *
+     * @param rootName       name of the root span, e.g. {@code flamingock execute apply}
+     * @param rootStartNanos start of the root span, on the clock's scale
+     * @param nanoClock      the clock, normally {@link System#nanoTime()}
+     */
+    public SpanRecorder(String rootName, long rootStartNanos, LongSupplier nanoClock) {
+        this.rootName = rootName;
+        this.rootStartNanos = rootStartNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Starts a span nested in the one open on this thread.
+     *
+     * @param name what is being timed
+     * @return the span, to be closed when the phase ends
+     */
+    public Span start(String name) {
+        OpenSpan parent = current.get();
+        OpenSpan span = new OpenSpan(nextId.getAndIncrement(), parent, name, nanoClock.getAsLong());
+        current.set(span);
+        return span;
+    }
+
+    /**
+     * Records a phase whose bounds were measured elsewhere, nested in the span open on this thread.
+     *
+     * @param name       what was timed
+     * @param startNanos start, on the clock's scale
+     * @param endNanos   end, on the clock's scale
+     */
+    public void record(String name, long startNanos, long endNanos) {
+        OpenSpan parent = current.get();
+        add(nextId.getAndIncrement(), parent != null ? parent.id : ROOT_ID, name, startNanos, endNanos);
+    }
+
+    /**
+     * Splits the latest span of the given name recorded on this thread in two children: a head and a
+     * tail of the given length. Used to separate application boot from the operation the application
+     * reported the duration of.
+     *
+     * @param name       the span to split
+     * @param tailMillis length of the tail; nothing is recorded if it does not fit in the span
+     * @param headName   name of the leading child
+     * @param tailName   name of the trailing child
+     */
+    public void split(String name, long tailMillis, String headName, String tailName) {
+        String thread = Thread.currentThread().getName();
+        RecordedSpan latest = null;
+        for (RecordedSpan span : spans) {
+            if (span.name().equals(name) && span.thread().equals(thread)
+                    && (latest == null || span.id() > latest.id())) {
+                latest = span;
+            }
+        }
+        long tailNanos = tailMillis * 1_000_000;
+        if (latest == null || tailMillis <= 0 || tailNanos > latest.durationNanos()) {
+            return;
+        }
+        long boundary = latest.endNanos() - tailNanos;
+        add(nextId.getAndIncrement(), latest.id(), headName, latest.startNanos(), boundary);
+        add(nextId.getAndIncrement(), latest.id(), tailName, boundary, latest.endNanos());
+    }
+
+    /**
+     * Closes the root span and returns every recorded span, ordered by start time.
+     *
+     * @return the spans, root first
+     */
+    public List<RecordedSpan> finish() {
+        List<RecordedSpan> result = new ArrayList<>(spans.size() + 1);
+        result.add(new RecordedSpan(ROOT_ID, 0, rootName, Thread.currentThread().getName(),
+                rootStartNanos, nanoClock.getAsLong()));
+        List<RecordedSpan> children = new ArrayList<>(spans);
+        children.sort(Comparator.comparingLong(RecordedSpan::startNanos).thenComparingLong(RecordedSpan::id));
+        result.addAll(children);
+        return result;
+    }
+
+    private void add(long id, long parentId, String name, long startNanos, long endNanos) {
+        spans.add(new RecordedSpan(id, parentId, name, Thread.currentThread().getName(), startNanos, endNanos));
+    }
+
+    private final class OpenSpan implements Span {
+
+        private final long id;
+        private final OpenSpan parent;
+        private final String name;
+        private final long startNanos;
+        private boolean closed;
+
+        private OpenSpan(long id, OpenSpan parent, String name, long startNanos) {
+            this.id = id;
+            this.parent = parent;
+            this.name = name;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            add(id, parent != null ? parent.id : ROOT_ID, name, startNanos, nanoClock.getAsLong());
+            if (current.get() == this) {
+                current.set(parent);
+            }
+        }
+    }
+}
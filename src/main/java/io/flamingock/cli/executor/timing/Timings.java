@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.timing;
+
+import java.util.List;
+
+/**
+ * Process-wide entry point for phase timings ({@code --timings}, {@code --trace-file}).
+ *
+ * <p>Disabled unless a recording is in progress, in which case {@link #start(String)} hands out
+ * {@link Span#NOOP} and the other methods return immediately. Like the standard streams, a recording
+ * belongs to the one invocation the process (or daemon) is serving.</p>
+ */
+public final class Timings {
+
+    private static volatile SpanRecorder recorder;
+
+    private Timings() {
+    }
+
+    /**
+     * Starts recording an invocation.
+     *
+     * @param rootName   name of the root span, e.g. {@code flamingock execute apply}
+     * @param startNanos when the invocation started, on the {@link System#nanoTime()} scale
+     */
+    public static void begin(String rootName, long startNanos) {
+        recorder = new SpanRecorder(rootName, startNanos, System::nanoTime);
+    }
+
+    /**
+     * Returns whether a recording is in progress.
+     *
+     * @return true while recording
+     */
+    public static boolean isEnabled() {
+        return recorder != null;
+    }
+
+    /**
+     * Starts timing a phase.
+     *
+     * @param name what is being timed, e.g. {@code jar.detect}
+     * @return the span to close when the phase ends; {@link Span#NOOP} while disabled
+     */
+    public static Span start(String name) {
+        SpanRecorder active = recorder;
+        return active != null ? active.start(name) : Span.NOOP;
+    }
+
+    /**
+     * Records a phase whose bounds were measured elsewhere.
+     *
+     * @param name       what was timed
+     * @param startNanos start, on the {@link System#nanoTime()} scale
+     * @param endNanos   end, on the {@link System#nanoTime()} scale
+     */
+    public static void record(String name, long startNanos, long endNanos) {
+        SpanRecorder active = recorder;
+        if (active != null) {
+            active.record(name, startNanos, endNanos);
+        }
+    }
+
+    /**
+     * Splits the latest span of the given name recorded on this thread into a head and a tail.
+     *
+     * @param name       the span to split
+     * @param tailMillis length of the tail
+     * @param headName   name of the leading part
+     * @param tailName   name of the trailing part
+     * @see SpanRecorder#split(String, long, String, String)
+     */
+    public static void split(String name, long tailMillis, String headName, String tailName) {
+        SpanRecorder active = recorder;
+        if (active != null) {
+            active.split(name, tailMillis, headName, tailName);
+        }
+    }
+
+    /**
+     * Ends the recording.
+     *
+     * @return the recorded spans, root first, or an empty list if nothing was being recorded
+     */
+    public static List<RecordedSpan> finish() {
+        SpanRecorder active = recorder;
+        recorder = null;
+        return active != null ? active.finish() : List.of();
+    }
+}
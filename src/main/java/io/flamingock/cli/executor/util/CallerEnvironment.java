@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.util;
+
+import java.util.Map;
+
+/**
+ * The environment variables of the process the CLI is serving.
+ *
+ * <p>That is this process's own environment, except while the CLI serves a request on behalf of another
+ * process (daemon mode): the client's environment is then installed through {@link #use(Map)}, so the
+ * application sees the variables of the shell it was started from, not those the daemon was started
+ * with.</p>
+ */
+public final class CallerEnvironment {
+
+    private static volatile Map<String, String> forwarded;
+
+    private CallerEnvironment() {
+    }
+
+    /**
+     * Returns the caller's environment variables.
+     *
+     * @return the variables (unmodifiable)
+     */
+    public static Map<String, String> get() {
+        Map<String, String> environment = forwarded;
+        return environment != null ? environment : System.getenv();
+    }
+
+    /**
+     * Returns one of the caller's environment variables.
+     *
+     * @param name the variable name
+     * @return the value, or null if the variable is not set
+     */
+    public static String getenv(String name) {
+        return get().get(name);
+    }
+
+    /**
+     * Gives a child process the caller's environment instead of this process's own.
+     *
+     * @param processBuilder the builder of the child process
+     */
+    public static void applyTo(ProcessBuilder processBuilder) {
+        Map<String, String> environment = forwarded;
+        if (environment != null) {
+            processBuilder.environment().clear();
+            processBuilder.environment().putAll(environment);
+        }
+    }
+
+    /**
+     * Installs another process's environment until the returned handle is closed.
+     *
+     * @param environment the caller's environment variables
+     * @return a handle that restores the previous environment
+     */
+    public static Scope use(Map<String, String> environment) {
+        Map<String, String> previous = forwarded;
+        forwarded = Map.copyOf(environment);
+        return () -> forwarded = previous;
+    }
+
+    /**
+     * Restores the environment replaced by {@link #use(Map)}.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
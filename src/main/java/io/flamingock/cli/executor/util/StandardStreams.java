@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.util;
+
+import java.io.PrintStream;
+
+/**
+ * Tracks whether {@code System.out}/{@code System.err} still write to this process's own stdout/stderr.
+ *
+ * <p>While they do, a child process can inherit the file descriptors directly. When the CLI serves a
+ * request on behalf of another process (daemon mode), the streams are swapped through
+ * {@link #redirect(PrintStream, PrintStream)} and child output must be copied through the JVM instead.</p>
+ */
+public final class StandardStreams {
+
+    private static volatile boolean redirected;
+
+    private StandardStreams() {
+    }
+
+    /**
+     * Returns whether the standard streams are currently redirected away from this process's own
+     * stdout/stderr.
+     *
+     * @return true while a redirection is active
+     */
+    public static boolean isRedirected() {
+        return redirected;
+    }
+
+    /**
+     * Replaces {@code System.out} and {@code System.err} until the returned handle is closed.
+     *
+     * @param out the new stdout
+     * @param err the new stderr
+     * @return a handle that restores the previous streams
+     */
+    public static Redirection redirect(PrintStream out, PrintStream err) {
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        boolean wasRedirected = redirected;
+        System.setOut(out);
+        System.setErr(err);
+        redirected = true;
+        return () -> {
+            out.flush();
+            err.flush();
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+            redirected = wasRedirected;
+        };
+    }
+
+    /**
+     * Restores the standard streams replaced by {@link #redirect(PrintStream, PrintStream)}.
+     */
+    @FunctionalInterface
+    public interface Redirection extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
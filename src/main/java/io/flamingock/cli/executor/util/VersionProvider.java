@@ -25,6 +25,9 @@ import java.util.jar.Manifest;
 
 /**
  * Provides version information from the JAR manifest or build properties.
+ *
+ * <p>The version is resolved once per process. The build-properties fallback is a separate constant so the
+ * native image, which has no manifest of its own, can bake it in at build time.</p>
  */
 public class VersionProvider implements IVersionProvider {
 
@@ -32,11 +35,7 @@ public class VersionProvider implements IVersionProvider {
 
     @Override
     public String[] getVersion() {
-        String version = getVersionFromManifest();
-        if (UNKNOWN_VERSION.equals(version)) {
-            version = getVersionFromProperties();
-        }
-        return new String[]{"Flamingock CLI v" + version};
+        return new String[]{"Flamingock CLI v" + getVersionString()};
     }
 
     /**
@@ -45,17 +44,12 @@ public class VersionProvider implements IVersionProvider {
      * @return the version string
      */
     public static String getVersionString() {
-        VersionProvider provider = new VersionProvider();
-        String version = provider.getVersionFromManifest();
-        if (UNKNOWN_VERSION.equals(version)) {
-            version = provider.getVersionFromProperties();
-        }
-        return version;
+        return ResolvedVersion.VALUE;
     }
 
-    private String getVersionFromManifest() {
+    private static String getVersionFromManifest() {
         try {
-            InputStream manifestStream = getClass().getClassLoader()
+            InputStream manifestStream = VersionProvider.class.getClassLoader()
                     .getResourceAsStream("META-INF/MANIFEST.MF");
             if (manifestStream != null) {
                 Manifest manifest = new Manifest(manifestStream);
@@ -71,10 +65,10 @@ public class VersionProvider implements IVersionProvider {
         return UNKNOWN_VERSION;
     }
 
-    private String getVersionFromProperties() {
+    private static String getVersionFromProperties() {
         try {
             Properties props = new Properties();
-            InputStream is = getClass().getClassLoader()
+            InputStream is = VersionProvider.class.getClassLoader()
                     .getResourceAsStream("flamingock-cli-executor.properties");
             if (is != null) {
                 props.load(is);
@@ -88,4 +82,24 @@ public class VersionProvider implements IVersionProvider {
         }
         return UNKNOWN_VERSION;
     }
+
+    /**
+     * The version from the JAR manifest, falling back to the build properties; resolved on first use.
+     */
+    private static final class ResolvedVersion {
+        static final String VALUE = resolve();
+
+        private static String resolve() {
+            String version = getVersionFromManifest();
+            return UNKNOWN_VERSION.equals(version) ? BuildVersion.VALUE : version;
+        }
+    }
+
+    /**
+     * The version from the generated build properties, which are on the classpath of both the JAR and the
+     * native image build.
+     */
+    private static final class BuildVersion {
+        static final String VALUE = getVersionFromProperties();
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.util.filesystem;
+
+import io.flamingock.cli.executor.util.CallerEnvironment;
+
+import java.nio.file.Path;
+
+/**
+ * Locates the per-user directory where the CLI keeps reusable artifacts between runs.
+ *
+ * <p>Defaults to {@code ~/.flamingock/cache}; set {@value #CACHE_DIR_ENV_VAR} to relocate it,
+ * e.g. to a directory that CI restores between pipeline runs. The directory is not created here.</p>
+ */
+public final class CacheDirectory {
+
+    /**
+     * Environment variable that overrides the cache location.
+     */
+    public static final String CACHE_DIR_ENV_VAR = "FLAMINGOCK_CACHE_DIR";
+
+    private CacheDirectory() {
+    }
+
+    /**
+     * Resolves a sub-directory of the cache root.
+     *
+     * @param name the sub-directory name, e.g. {@code cds}
+     * @return the sub-directory path
+     */
+    public static Path resolve(String name) {
+        return root().resolve(name);
+    }
+
+    /**
+     * Resolves the cache root.
+     *
+     * @return the cache root path
+     */
+    public static Path root() {
+        String fromEnv = CallerEnvironment.getenv(CACHE_DIR_ENV_VAR);
+        if (fromEnv != null && !fromEnv.isBlank()) {
+            return Path.of(fromEnv);
+        }
+        return Path.of(System.getProperty("user.home"), ".flamingock", "cache");
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.util.filesystem;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A named pipe (FIFO) in a private temporary directory, read by a virtual thread while a child process
+ * writes to it as if it were a regular file.
+ *
+ * <p>The reader reopens the pipe after each writer closes it, so a child that opens the path several times
+ * is served every time. Once the child has exited, {@link #stopReading()} releases a reader still blocked in
+ * {@code open} by briefly opening the pipe for writing itself, and otherwise waits for the reader to reach
+ * end of stream, however long its handler takes.</p>
+ */
+public final class NamedPipe implements AutoCloseable {
+
+    private static final Duration MKFIFO_TIMEOUT = Duration.ofSeconds(5);
+    static final Duration READER_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration WAKE_INTERVAL = Duration.ofMillis(50);
+
+    private final Path directory;
+    private final Path path;
+
+    private Thread readerThread;
+    private volatile boolean stopping;
+    private volatile boolean reading;
+
+    private NamedPipe(Path directory, Path path) {
+        this.directory = directory;
+        this.path = path;
+    }
+
+    /**
+     * Creates a named pipe.
+     *
+     * @param prefix   the temporary directory name prefix
+     * @param fileName the pipe's file name, e.g. with the extension the child expects
+     * @return the pipe, or null if named pipes cannot be created on this system
+     */
+    public static NamedPipe tryCreate(String prefix, String fileName) {
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory(prefix);
+            Path path = directory.resolve(fileName);
+            if (mkfifo(path)) {
+                return new NamedPipe(directory, path);
+            }
+        } catch (IOException e) {
+            // Fall through to cleanup
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (directory != null) {
+            deleteQuietly(directory);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the pipe's path, to hand to the child.
+     *
+     * @return the path
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns whether the path still holds the pipe, rather than a regular file the child replaced it with.
+     *
+     * @return true while the pipe is in place
+     */
+    public boolean isPipe() {
+        return Files.exists(path) && !Files.isRegularFile(path);
+    }
+
+    /**
+     * Starts a virtual thread that calls {@code handler} once per writer, until {@link #stopReading()}.
+     *
+     * @param threadName the reader thread name
+     * @param handler    consumes everything one writer wrote; it should read to end of stream
+     */
+    public void startReading(String threadName, Handler handler) {
+        readerThread = Thread.ofVirtual().name(threadName).start(() -> {
+            while (!stopping) {
+                // Blocks until a writer opens the pipe: the child, or stopReading()
+                try (InputStream in = Files.newInputStream(path)) {
+                    reading = true;
+                    handler.read(in);
+                    // Drain so the writer never sees a broken pipe
+                    in.transferTo(OutputStream.nullOutputStream());
+                } catch (IOException e) {
+                    return;
+                } finally {
+                    reading = false;
+                }
+            }
+        });
+    }
+
+    /**
+     * Stops the reader thread and waits for it, so everything it read is visible to the caller.
+     *
+     * <p>Call once the child has exited. A reader that has the pipe open then gets end of stream, so it is
+     * waited for without a deadline; only a reader still waiting for a writer is given up on after
+     * {@link #READER_TIMEOUT}.</p>
+     */
+    public void stopReading() {
+        if (stopping) {
+            return;
+        }
+        stopping = true;
+        if (readerThread == null) {
+            return;
+        }
+        long deadline = System.nanoTime() + READER_TIMEOUT.toNanos();
+        try {
+            while (readerThread.isAlive()) {
+                if (reading) {
+                    // Every writer has closed its end; the handler finishes on its own
+                    readerThread.join(WAKE_INTERVAL);
+                    continue;
+                }
+                if (System.nanoTime() >= deadline) {
+                    break;
+                }
+                // Repeat in case the reader was between two opens when first woken
+                wakeReader();
+                readerThread.join(WAKE_INTERVAL);
+            }
+        } catch (InterruptedException e) {
+            // Do not leave the reader blocked in open on a pipe that is about to be deleted
+            wakeReader();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops reading and removes the pipe and its directory.
+     */
+    @Override
+    public void close() {
+        stopReading();
+        deleteQuietly(path);
+        deleteQuietly(directory);
+    }
+
+    private void wakeReader() {
+        if (!isPipe()) {
+            return;
+        }
+        // Opening read-write never blocks, and counts as the writer a reader blocked in open is waiting for
+        try (FileChannel ignored = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Closing it right away gives the reader end of stream
+        } catch (IOException ignored) {
+            // Retried until the deadline
+        }
+    }
+
+    private static boolean mkfifo(Path path) throws InterruptedException {
+        Process process;
+        try {
+            process = new ProcessBuilder("mkfifo", "-m", "600", path.toString())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException e) {
+            // No mkfifo on this system
+            return false;
+        }
+        if (!process.waitFor(MKFIFO_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly();
+            return false;
+        }
+        return process.exitValue() == 0 && Files.exists(path);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // Best effort cleanup
+        }
+    }
+
+    /**
+     * Consumes what one writer wrote to the pipe.
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * Reads from the pipe.
+         *
+         * @param in the read end, open until this method returns
+         * @throws IOException if reading fails
+         */
+        void read(InputStream in) throws IOException;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.daemon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for DaemonClient argument handling.
+ */
+class DaemonClientTest {
+
+    @Test
+    void isLocalOnly_detectsLocalCommands() {
+        assertTrue(DaemonClient.isLocalOnly(new String[]{"daemon", "start"}));
+        assertTrue(DaemonClient.isLocalOnly(new String[]{"-q", "install-skills"}));
+        assertTrue(DaemonClient.isLocalOnly(new String[]{"self", "warmup"}));
+        assertFalse(DaemonClient.isLocalOnly(new String[]{"audit", "list", "--jar", "app.jar"}));
+        assertFalse(DaemonClient.isLocalOnly(new String[]{"execute", "apply", "--", "daemon"}));
+    }
+
+    @Test
+    void isLocalOnly_looksOnlyAtTheSubcommand() {
+        assertTrue(DaemonClient.isLocalOnly(new String[]{"--log-level", "debug", "self", "warmup"}));
+        assertTrue(DaemonClient.isLocalOnly(new String[]{"--metrics-file", "audit", "daemon", "status"}));
+        assertFalse(DaemonClient.isLocalOnly(new String[]{"audit", "list", "--jar", "self"}));
+        assertFalse(DaemonClient.isLocalOnly(new String[]{"execute", "apply", "--target", "daemon"}));
+        assertFalse(DaemonClient.isLocalOnly(new String[]{"-l", "daemon", "issue", "list"}));
+    }
+
+    @Test
+    void canForward_refusesEnvironmentBeyondProtocolLimits() {
+        String[] args = {"status", "--jar", "app.jar"};
+
+        assertTrue(DaemonProtocol.canForward(Map.of("PATH", "/usr/bin"), args));
+        assertFalse(DaemonProtocol.canForward(Map.of("HUGE", "x".repeat(2 * 1024 * 1024)), args));
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.daemon;
+
+import io.flamingock.cli.executor.FlamingockExecutorCli;
+import io.flamingock.cli.executor.util.CallerEnvironment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+import picocli.CommandLine.Model.OptionSpec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the daemon server and client round trip.
+ */
+class DaemonServerTest {
+
+    private static final Path WORK = Path.of("/work");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void run_forwardsOutputAndExitCode() throws Exception {
+        Path socket = tempDir.resolve("d.sock");
+        List<String[]> received = new ArrayList<>();
+        DaemonServer server = new DaemonServer(socket, Duration.ofSeconds(30), (args, out, err) -> {
+            received.add(args);
+            out.println("to stdout");
+            System.err.println("to stderr");
+            return 3;
+        });
+        Thread serverThread = startInBackground(server, socket);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exitCode = new DaemonClient(socket).run(new String[]{"audit", "list", "--jar", "/app.jar"}, out, err);
+
+        assertEquals(3, exitCode);
+        assertEquals("to stdout" + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+        assertEquals("to stderr" + System.lineSeparator(), err.toString(StandardCharsets.UTF_8));
+        assertArrayEquals(new String[]{"audit", "list", "--jar", "/app.jar"}, received.get(0));
+
+        new DaemonClient(socket).stop();
+        serverThread.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(serverThread.isAlive());
+        assertFalse(Files.exists(socket));
+    }
+
+    @Test
+    void run_usesClientWorkingDirectoryAndEnvironment() throws Exception {
+        Path socket = tempDir.resolve("d.sock");
+        List<String[]> received = new ArrayList<>();
+        List<String> cacheDirs = new ArrayList<>();
+        DaemonServer server = new DaemonServer(socket, Duration.ofSeconds(30), (args, out, err) -> {
+            received.add(args);
+            cacheDirs.add(CallerEnvironment.getenv("FLAMINGOCK_CACHE_DIR"));
+            return 0;
+        });
+        Thread serverThread = startInBackground(server, socket);
+
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        new DaemonClient(socket).run(Path.of("/work/orders"), Map.of("FLAMINGOCK_CACHE_DIR", "/ci/cache"),
+                new String[]{"audit", "list", "--jar", "build/app.jar"}, sink, sink);
+
+        assertArrayEquals(new String[]{"audit", "list", "--jar", "/work/orders/build/app.jar"}, received.get(0));
+        assertEquals(List.of("/ci/cache"), cacheDirs);
+        assertEquals(System.getenv("FLAMINGOCK_CACHE_DIR"), CallerEnvironment.getenv("FLAMINGOCK_CACHE_DIR"));
+
+        new DaemonClient(socket).stop();
+        serverThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Test
+    void absolutizePaths_resolvesSeparateJarValue() {
+        String[] result = DaemonServer.absolutizePaths(new String[]{"audit", "list", "--jar", "app.jar"}, WORK);
+
+        assertEquals("/work/app.jar", result[3]);
+    }
+
+    @Test
+    void absolutizePaths_resolvesShortOptionAndEqualsForm() {
+        String[] result = DaemonServer.absolutizePaths(new String[]{"-j", "a.jar", "--jar=../b.jar"}, WORK);
+
+        assertEquals("/work/a.jar", result[1]);
+        assertEquals("--jar=/b.jar", result[2]);
+    }
+
+    @Test
+    void absolutizePaths_resolvesOutputFiles() {
+        String[] result = DaemonServer.absolutizePaths(
+                new String[]{"--metrics-file", "run.prom", "--trace-file=trace.json", "status"}, WORK);
+
+        assertEquals("/work/run.prom", result[1]);
+        assertEquals("--trace-file=/work/trace.json", result[2]);
+    }
+
+    @Test
+    void absolutizePaths_resolvesTargetsFileAndDiagnosticDirectories() {
+        String[] result = DaemonServer.absolutizePaths(new String[]{"execute", "apply", "--targets", "tenants.txt",
+                "--stderr-spill-dir=logs", "--dump-dir", "./dumps"}, WORK);
+
+        assertArrayEquals(new String[]{"execute", "apply", "--targets", "/work/tenants.txt",
+                "--stderr-spill-dir=/work/logs", "--dump-dir", "/work/dumps"}, result);
+    }
+
+    @Test
+    void pathOptions_coverEveryPathValuedOptionOfDelegatedCommands() {
+        List<String> missing = new ArrayList<>();
+        collectPathOptions(new CommandLine(new FlamingockExecutorCli()), missing);
+
+        assertEquals(List.of(), missing);
+    }
+
+    @Test
+    void absolutizePaths_leavesAbsolutePathsAndAppArgsUntouched() {
+        String[] args = {"execute", "apply", "--jar", "/abs/app.jar", "--", "--jar", "relative.jar"};
+
+        String[] result = DaemonServer.absolutizePaths(args, WORK);
+
+        assertArrayEquals(new String[]{"execute", "apply", "--jar", "/abs/app.jar", "--", "--jar", "relative.jar"},
+                result);
+    }
+
+    @Test
+    void run_servesSequentialRequests() throws Exception {
+        Path socket = tempDir.resolve("d.sock");
+        DaemonServer server = new DaemonServer(socket, Duration.ofSeconds(30), (args, out, err) -> args.length);
+        Thread serverThread = startInBackground(server, socket);
+
+        DaemonClient client = new DaemonClient(socket);
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        assertEquals(1, client.run(new String[]{"a"}, sink, sink));
+        assertEquals(2, client.run(new String[]{"a", "b"}, sink, sink));
+
+        client.stop();
+        serverThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Test
+    void run_interruptsCommandWhenClientGoesAway() throws Exception {
+        Path socket = tempDir.resolve("d.sock");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        DaemonServer server = new DaemonServer(socket, Duration.ofSeconds(30), (args, out, err) -> {
+            if (args[0].equals("next")) {
+                return Thread.currentThread().isInterrupted() ? 130 : 7;
+            }
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                return 0;
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                return 130;
+            }
+        });
+        Thread serverThread = startInBackground(server, socket);
+
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            DaemonProtocol.writeRequest(new DataOutputStream(Channels.newOutputStream(channel)),
+                    new DaemonProtocol.Request(DaemonProtocol.REQUEST_RUN, "/work", Map.of(), new String[]{"a"}));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        }
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        assertEquals(7, new DaemonClient(socket).run(new String[]{"next"}, sink, sink));
+
+        new DaemonClient(socket).stop();
+        serverThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Test
+    void run_runnerFailureReportsExitCodeOne() throws Exception {
+        Path socket = tempDir.resolve("d.sock");
+        DaemonServer server = new DaemonServer(socket, Duration.ofSeconds(30), (args, out, err) -> {
+            throw new IllegalStateException("boom");
+        });
+        Thread serverThread = startInBackground(server, socket);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exitCode = new DaemonClient(socket).run(new String[0], out, err);
+
+        assertEquals(1, exitCode);
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("boom"));
+
+        new DaemonClient(socket).stop();
+        serverThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Test
+    void serve_shutsDownWhenIdle() throws Exception {
+        Path socket = tempDir.resolve("d.sock");
+        DaemonServer server = new DaemonServer(socket, Duration.ofMillis(200), (args, out, err) -> 0);
+        Thread serverThread = startInBackground(server, socket);
+
+        serverThread.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertFalse(serverThread.isAlive());
+        assertFalse(Files.exists(socket));
+        assertFalse(new DaemonClient(socket).ping());
+    }
+
+    @Test
+    void serve_refusesSocketOwnedByRunningDaemon() throws Exception {
+        Path socket = tempDir.resolve("d.sock");
+        DaemonServer first = new DaemonServer(socket, Duration.ofSeconds(30), (args, out, err) -> 0);
+        Thread serverThread = startInBackground(first, socket);
+
+        DaemonServer second = new DaemonServer(socket, Duration.ofSeconds(30), (args, out, err) -> 0);
+        IllegalStateException exception = assertThrows(IllegalStateException.class, second::serve);
+        assertTrue(exception.getMessage().contains("already listening"));
+
+        new DaemonClient(socket).stop();
+        serverThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Test
+    void serve_replacesStaleSocketFile() throws Exception {
+        Path socket = tempDir.resolve("d.sock");
+        Files.createFile(socket);
+        DaemonServer server = new DaemonServer(socket, Duration.ofSeconds(30), (args, out, err) -> 0);
+        Thread serverThread = startInBackground(server, socket);
+
+        assertTrue(new DaemonClient(socket).ping());
+
+        new DaemonClient(socket).stop();
+        serverThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private static void collectPathOptions(CommandLine command, List<String> missing) {
+        for (OptionSpec option : command.getCommandSpec().options()) {
+            boolean pathValued = Stream.concat(Stream.of(option.type()), Stream.of(option.auxiliaryTypes()))
+                    .anyMatch(type -> type == File.class || type == Path.class);
+            for (String name : option.names()) {
+                if (pathValued && !DaemonServer.PATH_OPTIONS.contains(name)) {
+                    missing.add(command.getCommandSpec().qualifiedName() + " " + name);
+                }
+            }
+        }
+        for (CommandLine subcommand : command.getSubcommands().values()) {
+            if (!DaemonClient.LOCAL_ONLY_COMMANDS.contains(subcommand.getCommandName())) {
+                collectPathOptions(subcommand, missing);
+            }
+        }
+    }
+
+    private Thread startInBackground(DaemonServer server, Path socket) throws InterruptedException {
+        Thread thread = new Thread(() -> {
+            try {
+                server.serve();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!server.isRunning() || !Files.exists(socket)) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Daemon did not start");
+            }
+            Thread.sleep(10);
+        }
+        return thread;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenMetricsWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void format_executeApply_writesDurationsCountsAndExitCode() {
+        LaunchMetrics launch = new LaunchMetrics("orders", "orders.jar", "EXECUTE_APPLY", true, 3_100, 9_250,
+                4, 2, 0, LaunchMetrics.UNKNOWN, LaunchMetrics.UNKNOWN);
+        RunMetrics.Run run = new RunMetrics.Run("execute apply", 0, 12_500, 1_700_000_000_000L, List.of(launch));
+
+        String text = OpenMetricsWriter.format(run);
+
+        assertTrue(text.contains("# TYPE flamingock_cli_command_duration_seconds gauge\n"), text);
+        assertTrue(text.contains("flamingock_cli_command_duration_seconds{command=\"execute apply\"} 12.500\n"), text);
+        assertTrue(text.contains("flamingock_cli_exit_code{command=\"execute apply\"} 0\n"), text);
+        String labels = "target=\"orders\",jar=\"orders.jar\",operation=\"EXECUTE_APPLY\"";
+        assertTrue(text.contains("flamingock_cli_application_boot_seconds{" + labels + "} 3.100\n"), text);
+        assertTrue(text.contains("flamingock_cli_operation_duration_seconds{" + labels + "} 9.250\n"), text);
+        assertTrue(text.contains("flamingock_cli_changes{" + labels + ",result=\"applied\"} 4\n"), text);
+        assertTrue(text.contains("flamingock_cli_changes{" + labels + ",result=\"skipped\"} 2\n"), text);
+        assertFalse(text.contains("flamingock_cli_audit_entries"), text);
+        assertTrue(text.endsWith("# EOF\n"), text);
+    }
+
+    @Test
+    void format_repeatedLaunches_neverRepeatASeries() {
+        LaunchMetrics tenantA = new LaunchMetrics("tenant-a", "app.jar", "EXECUTE_APPLY", true, 1_000, 2_000,
+                3, 0, 0, LaunchMetrics.UNKNOWN, LaunchMetrics.UNKNOWN);
+        LaunchMetrics tenantB = new LaunchMetrics("tenant-b", "app.jar", "EXECUTE_APPLY", false, 1_000, 500,
+                0, 2, 1, LaunchMetrics.UNKNOWN, LaunchMetrics.UNKNOWN);
+        LaunchMetrics firstGet = new LaunchMetrics("app", "app.jar", "ISSUE_GET", true, 900, 100,
+                LaunchMetrics.UNKNOWN, LaunchMetrics.UNKNOWN, LaunchMetrics.UNKNOWN, LaunchMetrics.UNKNOWN,
+                LaunchMetrics.UNKNOWN);
+        LaunchMetrics secondGet = new LaunchMetrics("app", "app.jar", "ISSUE_GET", false, 800,
+                LaunchMetrics.UNKNOWN, LaunchMetrics.UNKNOWN, LaunchMetrics.UNKNOWN, LaunchMetrics.UNKNOWN,
+                LaunchMetrics.UNKNOWN, LaunchMetrics.UNKNOWN);
+        RunMetrics.Run run = new RunMetrics.Run("execute apply", 1, 5_000, 0,
+                List.of(tenantA, tenantB, firstGet, secondGet));
+
+        String text = OpenMetricsWriter.format(run);
+
+        List<String> samples = text.lines().filter(line -> !line.startsWith("#")).toList();
+        assertEquals(samples.size(), samples.stream().map(line -> line.substring(0, line.lastIndexOf(' ')))
+                .distinct().count(), text);
+        String a = "target=\"tenant-a\",jar=\"app.jar\",operation=\"EXECUTE_APPLY\"";
+        String b = "target=\"tenant-b\",jar=\"app.jar\",operation=\"EXECUTE_APPLY\"";
+        assertTrue(text.contains("flamingock_cli_changes{" + a + ",result=\"applied\"} 3\n"), text);
+        assertTrue(text.contains("flamingock_cli_changes{" + b + ",result=\"failed\"} 1\n"), text);
+        String get = "target=\"app\",jar=\"app.jar\",operation=\"ISSUE_GET\"";
+        assertTrue(text.contains("flamingock_cli_operation_success{" + get + "} 0\n"), text);
+        assertTrue(text.contains("flamingock_cli_application_boot_seconds{" + get + "} 1.700\n"), text);
+        assertTrue(text.contains("flamingock_cli_operation_duration_seconds{" + get + "} 0.100\n"), text);
+    }
+
+    @Test
+    void format_escapesLabelValues() {
+        assertEquals("my \\\"app\\\"\\\\v2\\n.jar", OpenMetricsWriter.escape("my \"app\"\\v2\n.jar"));
+    }
+
+    @Test
+    void write_replacesFileWithoutLeavingTemporaries() throws IOException {
+        Path file = tempDir.resolve("flamingock.prom");
+        Files.writeString(file, "stale");
+
+        OpenMetricsWriter.write(new RunMetrics.Run("audit list", 1, 800, 0, List.of()), file);
+
+        assertTrue(Files.readString(file).contains("flamingock_cli_exit_code{command=\"audit list\"} 1\n"));
+        try (var files = Files.list(tempDir)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.orchestration;
+
+import io.flamingock.cli.executor.process.LaunchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandResultTest {
+
+    @Test
+    void fromLaunchFailure_processFailed_showsLastLinesOfCapturedStderr() {
+        String stderr = IntStream.rangeClosed(1, 30)
+                .mapToObj(i -> "line " + i)
+                .collect(Collectors.joining("\n", "", "\n"));
+
+        CommandResult<Void> result = CommandResult.fromLaunchFailure(LaunchResult.processFailed(3, null, stderr));
+
+        assertEquals("PROCESS_FAILED", result.getErrorCode());
+        assertEquals(3, result.getExitCode());
+        assertTrue(result.getErrorMessage()
+                .startsWith("Process exited with code 3. Last lines of application stderr:"));
+        assertTrue(result.getErrorMessage().contains("\n  line 11\n"));
+        assertTrue(result.getErrorMessage().endsWith("\n  line 30"));
+        assertFalse(result.getErrorMessage().contains("line 10"));
+    }
+
+    @Test
+    void fromLaunchFailure_processFailed_withoutCapturedStderrKeepsPlainMessage() {
+        CommandResult<Void> result = CommandResult.fromLaunchFailure(LaunchResult.processFailed(1));
+
+        assertEquals("Process exited with code 1", result.getErrorMessage());
+    }
+}
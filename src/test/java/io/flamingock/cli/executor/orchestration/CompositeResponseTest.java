@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.orchestration;
+
+import io.flamingock.cli.executor.result.ResponseResultReader;
+import io.flamingock.cli.executor.result.ResponseResultReader.ResponseResult;
+import io.flamingock.internal.common.core.operation.OperationType;
+import io.flamingock.internal.common.core.response.ResponseEnvelope;
+import io.flamingock.internal.common.core.response.data.IssueGetResponseData;
+import io.flamingock.internal.common.core.response.data.IssueListResponseData;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompositeResponseTest {
+
+    private final ResponseResultReader reader = new ResponseResultReader();
+
+    @Test
+    void get_matchesEnvelopesByOperation() {
+        CompositeResponse response = response(
+                "{\"success\": true, \"operation\": \"AUDIT_LIST\", \"durationMs\": 5, "
+                        + "\"data\": {\"@type\": \"audit_list\", \"entries\": []}}",
+                "{\"success\": true, \"operation\": \"ISSUE_LIST\", \"durationMs\": 2, "
+                        + "\"data\": {\"@type\": \"issue_list\", \"issues\": [{\"changeId\": \"c1\"}, {\"changeId\": \"c2\"}]}}",
+                issueGet("c1"),
+                issueGet("c2"));
+
+        assertTrue(response.contains(OperationType.AUDIT_LIST));
+        assertFalse(response.contains(OperationType.AUDIT_FIX));
+        ResponseResult<IssueListResponseData> issues = response.get(OperationType.ISSUE_LIST, IssueListResponseData.class);
+        assertEquals(2, issues.getData().getIssues().size());
+        List<ResponseResult<IssueGetResponseData>> details =
+                response.getAll(OperationType.ISSUE_GET, IssueGetResponseData.class);
+        assertEquals(List.of("c1", "c2"), details.stream().map(detail -> detail.getData().getChangeId()).toList());
+    }
+
+    @Test
+    void get_missingOperation_isReadError() {
+        CompositeResponse response = response("{\"success\": true, \"operation\": \"AUDIT_LIST\"}");
+
+        ResponseResult<IssueListResponseData> issues = response.get(OperationType.ISSUE_LIST, IssueListResponseData.class);
+
+        assertFalse(issues.isSuccess());
+        assertEquals("READ_ERROR", issues.getErrorCode());
+        assertTrue(response.getAll(OperationType.ISSUE_GET, IssueGetResponseData.class).isEmpty());
+    }
+
+    private CompositeResponse response(String... envelopes) {
+        List<ResponseEnvelope> parsed = reader.readAll(new ByteArrayInputStream(
+                String.join("\n", envelopes).getBytes(StandardCharsets.UTF_8)));
+        assertEquals(envelopes.length, parsed.size());
+        return new CompositeResponse(parsed, reader, "test");
+    }
+
+    private static String issueGet(String changeId) {
+        return "{\"success\": true, \"operation\": \"ISSUE_GET\", "
+                + "\"data\": {\"@type\": \"issue_get\", \"found\": true, \"changeId\": \"" + changeId + "\"}}";
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.orchestration;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FanOutRunnerTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final PrintStream printOut = new PrintStream(out, true, StandardCharsets.UTF_8);
+
+    @Test
+    void run_boundsConcurrencyAndKeepsTargetOrder() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        FanOutRunner runner = new FanOutRunner(2, FanOutRunner.OutputMode.PREFIXED, printOut, printOut);
+
+        List<FanOutRunner.TargetOutcome<String>> outcomes = runner.run(targets(6), (target, targetOut, targetErr) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return CommandResult.success(target.name(), 0);
+        });
+
+        assertEquals(2, maxRunning.get());
+        List<String> names = new ArrayList<>();
+        outcomes.forEach(outcome -> names.add(outcome.result().getData()));
+        assertEquals(List.of("t0", "t1", "t2", "t3", "t4", "t5"), names);
+    }
+
+    @Test
+    void run_prefixedOutput_tagsEveryLine() {
+        FanOutRunner runner = new FanOutRunner(4, FanOutRunner.OutputMode.PREFIXED, printOut, printOut);
+
+        runner.run(targets(2), (target, targetOut, targetErr) -> {
+            write(targetOut, "one\ntwo\n");
+            write(targetErr, "partial");
+            return CommandResult.success(null, 0);
+        });
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(6, lines.size());
+        assertTrue(lines.containsAll(List.of("[t0] one", "[t0] two", "[t0] partial", "[t1] one", "[t1] two", "[t1] partial")));
+    }
+
+    @Test
+    void run_groupedOutput_printsOneBlockPerTarget() {
+        FanOutRunner runner = new FanOutRunner(1, FanOutRunner.OutputMode.GROUPED, printOut, printOut);
+
+        runner.run(targets(2), (target, targetOut, targetErr) -> {
+            write(targetOut, "out-" + target.name() + "\n");
+            write(targetErr, "err-" + target.name() + "\n");
+            return CommandResult.success(null, 0);
+        });
+
+        assertEquals(List.of("==> t0 <==", "out-t0", "err-t0", "==> t1 <==", "out-t1", "err-t1"),
+                out.toString(StandardCharsets.UTF_8).lines().toList());
+    }
+
+    @Test
+    void run_taskThrows_reportsFailureForThatTargetOnly() {
+        FanOutRunner runner = new FanOutRunner(2, FanOutRunner.OutputMode.GROUPED, printOut, printOut);
+
+        List<FanOutRunner.TargetOutcome<String>> outcomes = runner.run(targets(2), (target, targetOut, targetErr) -> {
+            if (target.name().equals("t1")) {
+                throw new IllegalStateException("boom");
+            }
+            return CommandResult.success("ok", 0);
+        });
+
+        assertTrue(outcomes.get(0).result().isSuccess());
+        assertEquals("PROCESS_START_FAILED", outcomes.get(1).result().getErrorCode());
+    }
+
+    @Test
+    void combinedExitCode_agreesOnSharedFailureCode() {
+        FanOutRunner.TargetOutcome<String> ok = outcome(CommandResult.success("ok", 0));
+        FanOutRunner.TargetOutcome<String> missing = outcome(CommandResult.jarNotFound("a.jar", 126));
+        FanOutRunner.TargetOutcome<String> unreadable = outcome(CommandResult.responseReadError("bad", 2));
+
+        assertEquals(0, FanOutRunner.combinedExitCode(List.of(ok, ok)));
+        assertEquals(126, FanOutRunner.combinedExitCode(List.of(ok, missing, missing)));
+        assertEquals(1, FanOutRunner.combinedExitCode(List.of(missing, unreadable)));
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new FanOutRunner(0, FanOutRunner.OutputMode.PREFIXED));
+    }
+
+    private static List<Target> targets(int count) {
+        List<Target> targets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            targets.add(new Target("t" + i, new File("t" + i + ".jar"), List.of()));
+        }
+        return targets;
+    }
+
+    private static FanOutRunner.TargetOutcome<String> outcome(CommandResult<String> result) {
+        return new FanOutRunner.TargetOutcome<>(new Target("t", new File("t.jar"), List.of()), result, 0);
+    }
+
+    private static void write(OutputStream stream, String text) {
+        try {
+            stream.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.orchestration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TargetsFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void read_skipsCommentsAndResolvesRelativeJars() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("targets.txt"), String.join("\n",
+                "# fleet",
+                "",
+                "billing.jar",
+                "tenant-a: services/orders.jar --spring.profiles.active=tenant-a"));
+
+        List<Target> targets = TargetsFile.read(file);
+
+        assertEquals(2, targets.size());
+        assertEquals("billing", targets.get(0).name());
+        assertEquals(tempDir.resolve("billing.jar").toFile().getAbsoluteFile(), targets.get(0).jar());
+        assertEquals(List.of(), targets.get(0).appArgs());
+        assertEquals("tenant-a", targets.get(1).name());
+        assertEquals(tempDir.resolve("services/orders.jar").toFile(), targets.get(1).jar());
+        assertEquals(List.of("--spring.profiles.active=tenant-a"), targets.get(1).appArgs());
+    }
+
+    @Test
+    void parseLine_quotedArgumentKeepsWhitespace() {
+        Target target = TargetsFile.parseLine("app.jar \"--greeting=hello world\" '--x=\"y\"'", tempDir, "test:1");
+
+        assertEquals(List.of("--greeting=hello world", "--x=\"y\""), target.appArgs());
+    }
+
+    @Test
+    void parseLine_absoluteJarIsKept() {
+        File jar = tempDir.resolve("abs.jar").toFile().getAbsoluteFile();
+
+        Target target = TargetsFile.parseLine(jar.getPath(), Path.of("/elsewhere"), "test:1");
+
+        assertEquals(jar, target.jar());
+    }
+
+    @Test
+    void parseLine_malformed_throwsWithLocation() {
+        IllegalArgumentException missingJar = assertThrows(IllegalArgumentException.class,
+                () -> TargetsFile.parseLine("name:", tempDir, "targets.txt:3"));
+        IllegalArgumentException unterminated = assertThrows(IllegalArgumentException.class,
+                () -> TargetsFile.parseLine("app.jar \"--open", tempDir, "targets.txt:4"));
+
+        assertEquals("Invalid target at targets.txt:3: expected '[name:] jar [args...]'", missingJar.getMessage());
+        assertEquals("Unterminated quote at targets.txt:4", unterminated.getMessage());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.output;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RenderBufferTest {
+
+    private static final String NEWLINE = System.lineSeparator();
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    @Test
+    void holdsTextUntilFlushed() {
+        RenderBuffer out = new RenderBuffer(stream(StandardCharsets.UTF_8));
+
+        out.append("│ change-001 ").append('│').newLine();
+        assertEquals(0, bytes.size());
+
+        out.flush();
+        assertEquals("│ change-001 │" + NEWLINE, bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writesChunkOnceLineEndsPastThreshold() {
+        RenderBuffer out = new RenderBuffer(stream(StandardCharsets.UTF_8));
+        String line = "x".repeat(1000);
+
+        int lines = 0;
+        while (bytes.size() == 0) {
+            out.line(line);
+            lines++;
+        }
+
+        assertEquals(RenderBuffer.FLUSH_THRESHOLD / (line.length() + NEWLINE.length()) + 1, lines);
+        assertEquals((line + NEWLINE).repeat(lines), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void encodesWithStreamCharset() {
+        try (RenderBuffer out = new RenderBuffer(stream(StandardCharsets.ISO_8859_1))) {
+            out.append("café ┌");
+        }
+
+        // Characters the charset cannot represent are replaced, as PrintStream itself does
+        assertEquals("café ?", bytes.toString(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void encodesTextLargerThanByteBuffer() {
+        String text = "┼".repeat(RenderBuffer.FLUSH_THRESHOLD * 2);
+
+        try (RenderBuffer out = new RenderBuffer(stream(StandardCharsets.UTF_8))) {
+            out.append(text);
+        }
+
+        assertEquals(text, bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void spacesAndRepeat() {
+        try (RenderBuffer out = new RenderBuffer(stream(StandardCharsets.UTF_8))) {
+            out.spaces(150).spaces(-1).repeat("─", 3);
+        }
+
+        assertEquals(" ".repeat(150) + "───", bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void tableColumnAppendToMatchesFormat() {
+        TableColumn[] columns = {
+                new TableColumn("Left", 10),
+                new TableColumn("Center", 11, TableColumn.Alignment.CENTER),
+                new TableColumn("Right", 10, TableColumn.Alignment.RIGHT)
+        };
+        String[] values = {null, "", "abc", "exactly-10", "longer-than-ten", "🚀 launch", "✅"};
+
+        for (TableColumn column : columns) {
+            for (String value : values) {
+                bytes.reset();
+                try (RenderBuffer out = new RenderBuffer(stream(StandardCharsets.UTF_8))) {
+                    column.appendTo(out, value);
+                }
+                assertEquals(column.format(value), bytes.toString(StandardCharsets.UTF_8),
+                        column.getTitle() + " / " + value);
+            }
+        }
+    }
+
+    private PrintStream stream(Charset charset) {
+        return new PrintStream(bytes, true, charset);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassDataSharingCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path cacheDir;
+    private Path jar;
+    private ClassDataSharingCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cacheDir = tempDir.resolve("cds");
+        jar = Files.writeString(tempDir.resolve("app.jar"), "jar-content-v1");
+        cache = new ClassDataSharingCache(cacheDir);
+    }
+
+    @Test
+    void prepare_jdk21_usesAutoCreateSharedArchive() throws IOException {
+        ClassDataSharingCache.Session session = cache.prepare(jar, fakeJdk("21.0.1+12"), Collections.emptyList());
+
+        List<String> args = session.getJvmArgs();
+        assertTrue(args.contains("-XX:+AutoCreateSharedArchive"));
+        assertTrue(args.stream().anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile=" + cacheDir)));
+        assertTrue(session.isCreating());
+    }
+
+    @Test
+    void prepare_jdk17_archivesAtExitThenReuses() throws IOException {
+        String java = fakeJdk("17.0.9+9");
+
+        ClassDataSharingCache.Session first = cache.prepare(jar, java, Collections.emptyList());
+        Path pending = Path.of(valueOf(first.getJvmArgs(), "-XX:ArchiveClassesAtExit="));
+        Files.writeString(pending, "archive");
+        first.complete(true);
+
+        ClassDataSharingCache.Session second = cache.prepare(jar, java, Collections.emptyList());
+        Path archive = Path.of(valueOf(second.getJvmArgs(), "-XX:SharedArchiveFile="));
+        assertFalse(second.isCreating());
+        assertTrue(Files.isRegularFile(archive));
+        assertFalse(Files.exists(pending));
+    }
+
+    @Test
+    void prepare_jdk25_usesAotCache() throws IOException {
+        String java = fakeJdk("25+36");
+
+        ClassDataSharingCache.Session first = cache.prepare(jar, java, Collections.emptyList());
+        Path pending = Path.of(valueOf(first.getJvmArgs(), "-XX:AOTCacheOutput="));
+        Files.writeString(pending, "aot");
+        first.complete(true);
+
+        ClassDataSharingCache.Session second = cache.prepare(jar, java, Collections.emptyList());
+        assertTrue(Files.isRegularFile(Path.of(valueOf(second.getJvmArgs(), "-XX:AOTCache="))));
+    }
+
+    @Test
+    void complete_failedRunDiscardsPendingArchive() throws IOException {
+        ClassDataSharingCache.Session session = cache.prepare(jar, fakeJdk("17.0.9"), Collections.emptyList());
+        Path pending = Path.of(valueOf(session.getJvmArgs(), "-XX:ArchiveClassesAtExit="));
+        Files.writeString(pending, "partial");
+
+        session.complete(false);
+
+        assertEquals(0, archiveCount());
+    }
+
+    @Test
+    void prepare_changedJarSelectsNewArchiveAndDropsOldOne() throws IOException {
+        String java = fakeJdk("17.0.9");
+        ClassDataSharingCache.Session first = cache.prepare(jar, java, Collections.emptyList());
+        Files.writeString(Path.of(valueOf(first.getJvmArgs(), "-XX:ArchiveClassesAtExit=")), "archive-v1");
+        first.complete(true);
+
+        Files.writeString(jar, "jar-content-v2");
+        ClassDataSharingCache.Session second = cache.prepare(jar, java, Collections.emptyList());
+        assertTrue(second.isCreating());
+        Files.writeString(Path.of(valueOf(second.getJvmArgs(), "-XX:ArchiveClassesAtExit=")), "archive-v2");
+        second.complete(true);
+
+        assertEquals(1, archiveCount());
+    }
+
+    @Test
+    void prepare_differentJdkUsesSeparateDirectory() throws IOException {
+        ClassDataSharingCache.Session jdk17 = cache.prepare(jar, fakeJdk("17.0.9"), Collections.emptyList());
+        ClassDataSharingCache.Session jdk21 = cache.prepare(jar, fakeJdk("21.0.1"), Collections.emptyList());
+
+        assertFalse(valueOf(jdk17.getJvmArgs(), "-XX:ArchiveClassesAtExit=").contains("21.0.1"));
+        assertTrue(valueOf(jdk21.getJvmArgs(), "-XX:SharedArchiveFile=").contains("21.0.1"));
+    }
+
+    @Test
+    void prepare_userCdsOptionDisablesCache() throws IOException {
+        ClassDataSharingCache.Session session = cache.prepare(jar, fakeJdk("21.0.1"), List.of("-Xshare:off"));
+
+        assertTrue(session.getJvmArgs().isEmpty());
+        assertFalse(session.isCreating());
+    }
+
+    @Test
+    void prepare_oldOrUnknownJdkDisablesCache() throws IOException {
+        assertTrue(cache.prepare(jar, fakeJdk("11.0.21"), Collections.emptyList()).getJvmArgs().isEmpty());
+        assertTrue(cache.prepare(jar, "java", Collections.emptyList()).getJvmArgs().isEmpty());
+    }
+
+    @Test
+    void featureVersion_parsesLegacyAndModernFormats() {
+        assertEquals(8, ClassDataSharingCache.featureVersion("1.8.0_392"));
+        assertEquals(21, ClassDataSharingCache.featureVersion("21.0.1+12-LTS"));
+        assertEquals(25, ClassDataSharingCache.featureVersion("25"));
+        assertEquals(-1, ClassDataSharingCache.featureVersion(null));
+    }
+
+    @Test
+    void prepare_variantsKeepSeparateArchives() throws IOException {
+        String java = fakeJdk("17.0.9+9");
+
+        ClassDataSharingCache.Session defaults = cache.prepare(jar, java, Collections.emptyList());
+        Files.writeString(Path.of(valueOf(defaults.getJvmArgs(), "-XX:ArchiveClassesAtExit=")), "archive");
+        defaults.complete(true);
+        ClassDataSharingCache.Session fastStart = cache.prepare(jar, java, Collections.emptyList(), "fast-start");
+        Files.writeString(Path.of(valueOf(fastStart.getJvmArgs(), "-XX:ArchiveClassesAtExit=")), "archive");
+        fastStart.complete(true);
+
+        assertEquals(2, archiveCount());
+        assertFalse(cache.prepare(jar, java, Collections.emptyList(), "fast-start").isCreating());
+    }
+
+    private String fakeJdk(String version) throws IOException {
+        Path home = tempDir.resolve("jdk-" + version.replace('+', '_'));
+        Path bin = Files.createDirectories(home.resolve("bin"));
+        Files.writeString(home.resolve("release"), "JAVA_VERSION=\"" + version + "\"\n");
+        return Files.writeString(bin.resolve("java"), "").toString();
+    }
+
+    private static String valueOf(List<String> args, String prefix) {
+        return args.stream()
+                .filter(arg -> arg.startsWith(prefix))
+                .map(arg -> arg.substring(prefix.length()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + prefix + " in " + args));
+    }
+
+    private long archiveCount() throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
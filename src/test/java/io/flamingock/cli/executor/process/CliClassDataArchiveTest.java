@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CliClassDataArchiveTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void archivePath_isVersionedAndNextToJar() {
+        Path jar = tempDir.resolve("lib").resolve("flamingock-cli-1.2.0.jar");
+
+        Path archive = CliClassDataArchive.archivePath(jar, "1.2.0");
+
+        assertEquals(jar.getParent().resolve("flamingock-cli-1.2.0.jsa"), archive);
+    }
+
+    @Test
+    void archivePath_sanitizesVersion() {
+        Path archive = CliClassDataArchive.archivePath(tempDir.resolve("cli.jar"), "1.2.0 (dev)/x");
+
+        assertEquals("flamingock-cli-1.2.0__dev__x.jsa", archive.getFileName().toString());
+    }
+
+    @Test
+    void trainingCommand_recordsArchiveWhileRunningTrainWorkload() {
+        Path jar = tempDir.resolve("flamingock-cli.jar");
+        Path pending = tempDir.resolve("flamingock-cli-1.2.0.jsa.tmp");
+
+        List<String> command = new CliClassDataArchive(jar, "/opt/jdk/bin/java").trainingCommand(pending);
+
+        assertEquals("/opt/jdk/bin/java", command.get(0));
+        assertTrue(command.contains("-XX:ArchiveClassesAtExit=" + pending));
+        assertEquals(List.of("-jar", jar.toString(), "self", "train"), command.subList(command.size() - 4,
+                command.size()));
+    }
+}
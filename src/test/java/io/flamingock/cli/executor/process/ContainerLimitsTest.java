@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContainerLimitsTest {
+
+    private static final long MIB = 1024 * 1024;
+
+    @TempDir
+    Path root;
+
+    @Test
+    void read_cgroupV2_keepsTightestLimitUpTheHierarchy() throws IOException {
+        write("proc/self/cgroup", "0::/kubepods/pod1/container\n");
+        write("sys/fs/cgroup/kubepods/memory.max", "1073741824\n");
+        write("sys/fs/cgroup/kubepods/cpu.max", "max 100000\n");
+        write("sys/fs/cgroup/kubepods/pod1/container/memory.max", "max\n");
+        write("sys/fs/cgroup/kubepods/pod1/container/cpu.max", "150000 100000\n");
+
+        ContainerLimits limits = ContainerLimits.read(root);
+
+        assertEquals(1024 * MIB, limits.getMemoryBytes());
+        assertEquals(1.5, limits.getCpus(), 0.001);
+    }
+
+    @Test
+    void read_cgroupV1_ignoresUnlimitedSentinel() throws IOException {
+        write("proc/self/cgroup", "4:memory:/job\n2:cpu,cpuacct:/job\n0::/\n");
+        write("sys/fs/cgroup/memory/memory.limit_in_bytes", "9223372036854771712\n");
+        write("sys/fs/cgroup/memory/job/memory.limit_in_bytes", "536870912\n");
+        write("sys/fs/cgroup/cpu,cpuacct/job/cpu.cfs_quota_us", "200000\n");
+        write("sys/fs/cgroup/cpu,cpuacct/job/cpu.cfs_period_us", "100000\n");
+
+        ContainerLimits limits = ContainerLimits.read(root);
+
+        assertEquals(512 * MIB, limits.getMemoryBytes());
+        assertEquals(2.0, limits.getCpus(), 0.001);
+    }
+
+    @Test
+    void read_ownCgroupNamespace_fallsBackToMountRoot() throws IOException {
+        write("proc/self/cgroup", "0::/not/visible/here\n");
+        write("sys/fs/cgroup/memory.max", "268435456\n");
+
+        assertEquals(256 * MIB, ContainerLimits.read(root).getMemoryBytes());
+    }
+
+    @Test
+    void read_noCgroupInfo_isUnlimited() {
+        assertSame(ContainerLimits.NONE, ContainerLimits.read(root));
+    }
+
+    @Test
+    void budgetFor_leavesRoomForCli() {
+        ContainerLimits limits = new ContainerLimits(1024 * MIB, 1.5);
+
+        ContainerLimits.Budget budget = limits.budgetFor(224 * MIB, Collections.emptyList());
+
+        assertEquals(Arrays.asList("-Xmx600m", "-XX:ActiveProcessorCount=2"), budget.jvmArgs());
+        assertTrue(budget.description().contains("CLI footprint=224MiB"));
+    }
+
+    @Test
+    void budgetFor_splitsMemoryAmongConcurrentLaunches() {
+        ContainerLimits limits = new ContainerLimits(1024 * MIB, 1.5);
+
+        ContainerLimits.Budget budget = limits.budgetFor(224 * MIB, Collections.emptyList(), 4);
+
+        assertEquals(Arrays.asList("-Xmx150m", "-XX:ActiveProcessorCount=2"), budget.jvmArgs());
+        assertTrue(budget.description().contains("shared by 4 concurrent applications"));
+    }
+
+    @Test
+    void budgetFor_respectsUserFlagsAndMaxRamPercentage() {
+        ContainerLimits limits = new ContainerLimits(1024 * MIB, 4);
+
+        assertEquals(Collections.emptyList(), limits.budgetFor(0,
+                Arrays.asList("-Xmx2g", "-XX:ActiveProcessorCount=1")).jvmArgs());
+        assertEquals(Arrays.asList("-Xmx256m", "-XX:ActiveProcessorCount=4"), limits.budgetFor(0,
+                Collections.singletonList("-XX:MaxRAMPercentage=25.0")).jvmArgs());
+    }
+
+    @Test
+    void budgetFor_tooTightLeavesJvmDefaults() {
+        ContainerLimits limits = new ContainerLimits(64 * MIB, -1);
+
+        assertTrue(limits.budgetFor(40 * MIB, Collections.emptyList()).jvmArgs().isEmpty());
+    }
+
+    @Test
+    void cliFootprint_readsResidentSetSize() throws IOException {
+        write("proc/self/status", "Name:\tjava\nVmRSS:\t  204800 kB\nThreads:\t12\n");
+
+        assertEquals(200 * MIB, ContainerLimits.cliFootprint(root));
+    }
+
+    private void write(String relative, String content) throws IOException {
+        Path file = root.resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
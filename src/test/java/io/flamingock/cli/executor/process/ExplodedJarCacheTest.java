@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import io.flamingock.cli.executor.util.filesystem.FileSystemUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExplodedJarCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path cacheDir;
+    private ExplodedJarCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cacheDir = tempDir.resolve("exploded");
+        cache = new ExplodedJarCache(cacheDir, FileSystemUtils::sha256, ExplodedJarCache.DEFAULT_MAX_BYTES);
+    }
+
+    @Test
+    void prepare_extractsClassesAndLibrariesInIndexOrder() throws IOException {
+        Path jar = bootJar("app.jar", "v1");
+
+        ExplodedJarCache.Layout layout = cache.prepare(jar);
+
+        assertEquals(List.of(
+                layout.directory().resolve(ExplodedJarCache.APPLICATION_JAR),
+                layout.directory().resolve("lib/zeta.jar"),
+                layout.directory().resolve("lib/alpha.jar")), layout.classpath());
+        assertTrue(layout.classpathArgument().contains(ExplodedJarCache.APPLICATION_JAR));
+        try (JarFile application = new JarFile(layout.classpath().get(0).toFile())) {
+            assertNotNull(application.getJarEntry("com/example/App.class"));
+            assertNotNull(application.getJarEntry("com/example/"));
+            assertNotNull(application.getJarEntry("application.properties"));
+            assertNull(application.getJarEntry("org/springframework/boot/loader/JarLauncher.class"));
+            assertNull(application.getJarEntry("BOOT-INF/classpath.idx"));
+            assertNull(application.getManifest().getMainAttributes().get(Attributes.Name.MAIN_CLASS));
+        }
+    }
+
+    @Test
+    void prepare_reusesExistingCopy() throws IOException {
+        Path jar = bootJar("app.jar", "v1");
+        ExplodedJarCache.Layout first = cache.prepare(jar);
+        Path marker = Files.writeString(first.directory().resolve("marker"), "kept");
+
+        ExplodedJarCache.Layout second = cache.prepare(jar);
+
+        assertEquals(first.directory(), second.directory());
+        assertTrue(Files.exists(marker));
+    }
+
+    @Test
+    void prepare_rebuiltJar_replacesPreviousCopy() throws IOException {
+        Path jar = bootJar("app.jar", "v1");
+        Path previous = cache.prepare(jar).directory();
+        lastLaunched(previous, Duration.ofHours(2));
+
+        bootJar("app.jar", "v2");
+        Path current = cache.prepare(jar).directory();
+
+        assertFalse(previous.equals(current));
+        assertFalse(Files.exists(previous));
+        assertTrue(Files.isDirectory(current));
+    }
+
+    @Test
+    void prepare_overSizeBound_evictsLeastRecentlyUsed() throws IOException {
+        ExplodedJarCache small = new ExplodedJarCache(cacheDir, FileSystemUtils::sha256, 1);
+        Path older = small.prepare(bootJar("orders.jar", "v1")).directory();
+        lastLaunched(older, Duration.ofHours(2));
+
+        Path newer = small.prepare(bootJar("billing.jar", "v1")).directory();
+
+        assertFalse(Files.exists(older));
+        assertTrue(Files.isDirectory(newer));
+        try (var children = Files.list(cacheDir)) {
+            assertEquals(1, children.count());
+        }
+    }
+
+    @Test
+    void prepare_keepsCopiesLaunchedRecently() throws IOException {
+        ExplodedJarCache small = new ExplodedJarCache(cacheDir, FileSystemUtils::sha256, 1);
+        Path jar = bootJar("app.jar", "v1");
+        Path running = small.prepare(jar).directory();
+        Path other = small.prepare(bootJar("orders.jar", "v1")).directory();
+
+        bootJar("app.jar", "v2");
+        Path current = small.prepare(jar).directory();
+
+        assertTrue(Files.isDirectory(running));
+        assertTrue(Files.isDirectory(other));
+        assertTrue(Files.isDirectory(current));
+    }
+
+    @Test
+    void prepare_withoutIndexes_ordersLibrariesByName() throws IOException {
+        Path jar = tempDir.resolve("plain-boot.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar), manifest())) {
+            write(out, "BOOT-INF/classes/com/example/App.class", "class");
+            write(out, "BOOT-INF/lib/zeta.jar", "zeta");
+            write(out, "BOOT-INF/lib/alpha.jar", "alpha");
+        }
+
+        ExplodedJarCache.Layout layout = cache.prepare(jar);
+
+        assertEquals(layout.directory().resolve("lib/alpha.jar"), layout.classpath().get(1));
+        assertEquals(layout.directory().resolve("lib/zeta.jar"), layout.classpath().get(2));
+    }
+
+    private static void lastLaunched(Path copy, Duration ago) throws IOException {
+        Files.setLastModifiedTime(copy, FileTime.from(Instant.now().minus(ago)));
+    }
+
+    private Path bootJar(String name, String version) throws IOException {
+        Path jar = tempDir.resolve(name);
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar), manifest())) {
+            write(out, "org/springframework/boot/loader/JarLauncher.class", "loader");
+            write(out, "BOOT-INF/classes/com/example/", null);
+            write(out, "BOOT-INF/classes/com/example/App.class", "class-" + version);
+            write(out, "BOOT-INF/classes/application.properties", "spring.application.name=app");
+            write(out, "BOOT-INF/lib/alpha.jar", "alpha");
+            write(out, "BOOT-INF/lib/zeta.jar", "zeta");
+            write(out, "BOOT-INF/classpath.idx", "- \"BOOT-INF/lib/zeta.jar\"\n- \"BOOT-INF/lib/alpha.jar\"\n");
+            write(out, "BOOT-INF/layers.idx", "- \"dependencies\":\n  - \"BOOT-INF/lib/\"\n"
+                    + "- \"spring-boot-loader\":\n  - \"org/\"\n"
+                    + "- \"application\":\n  - \"BOOT-INF/classes/\"\n  - \"META-INF/\"\n");
+        }
+        return jar;
+    }
+
+    private static Manifest manifest() {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, "org.springframework.boot.loader.JarLauncher");
+        manifest.getMainAttributes().putValue("Start-Class", "com.example.App");
+        return manifest;
+    }
+
+    private static void write(JarOutputStream out, String name, String content) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        if (content != null) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        out.closeEntry();
+    }
+}
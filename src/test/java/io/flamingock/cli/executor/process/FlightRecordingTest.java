@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlightRecordingTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void prepare_writesSettingsAndBuildsFlag() throws Exception {
+        FlightRecording recording = FlightRecording.prepare(tempDir, "/apps/orders-service.jar");
+
+        String flag = recording.jvmArg();
+
+        assertTrue(flag.startsWith("-XX:StartFlightRecording=filename=" + tempDir.toAbsolutePath()), flag);
+        assertTrue(flag.contains("orders-service-"), flag);
+        assertTrue(flag.contains(",dumponexit=true"), flag);
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.filter(file -> file.toString().endsWith(".jfc")).count());
+        }
+        // No JVM wrote the recording; the settings file is still removed
+        assertNull(recording.complete());
+        try (var files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void isRequestedBy_userRecordingWins() {
+        assertTrue(FlightRecording.isRequestedBy(List.of("-Xmx1g", "-XX:StartFlightRecording=duration=30s")));
+        assertFalse(FlightRecording.isRequestedBy(List.of("-Xmx1g")));
+        assertFalse(FlightRecording.isRequestedBy(null));
+    }
+
+    @Test
+    void summary_readsRecordingMadeWithBundledSettings() throws Exception {
+        Configuration configuration;
+        try (Reader settings = new InputStreamReader(
+                FlightRecording.class.getResourceAsStream(FlightRecording.SETTINGS_RESOURCE), StandardCharsets.UTF_8)) {
+            configuration = Configuration.create(settings);
+        }
+        Path file = tempDir.resolve("run.jfr");
+        try (Recording recording = new Recording(configuration)) {
+            recording.start();
+            List<long[]> garbage = new ArrayList<>();
+            long deadline = System.nanoTime() + 300_000_000L;
+            while (System.nanoTime() < deadline) {
+                garbage.add(new long[1024]);
+                if (garbage.size() > 1000) {
+                    garbage.clear();
+                }
+            }
+            System.gc();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        FlightRecordingSummary summary = FlightRecordingSummary.read(file, 0);
+
+        assertEquals(file, summary.getRecording());
+        assertNull(summary.getWindow());
+        assertTrue(summary.getGcPauses() > 0);
+        assertTrue(summary.getCpuMethods().size() <= FlightRecordingSummary.TOP);
+        assertTrue(summary.getAllocationSites().size() <= FlightRecordingSummary.TOP);
+    }
+}
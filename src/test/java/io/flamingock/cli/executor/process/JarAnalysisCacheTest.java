@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import io.flamingock.cli.executor.util.filesystem.FileSystemUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JarAnalysisCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void get_returnsStoredAnalysisAcrossInstances() throws IOException {
+        Path index = tempDir.resolve("index");
+        File jar = jar("app.jar", "content");
+        new JarAnalysisCache(index, 10).put(jar, new JarAnalysis(JarType.SPRING_BOOT,
+                "org.springframework.boot.loader.launch.JarLauncher", "com.example.App"));
+
+        JarAnalysis cached = new JarAnalysisCache(index, 10).get(jar);
+
+        assertNotNull(cached);
+        assertEquals(JarType.SPRING_BOOT, cached.getJarType());
+        assertEquals("org.springframework.boot.loader.launch.JarLauncher", cached.getMainClass());
+        assertEquals("com.example.App", cached.getStartClass());
+    }
+
+    @Test
+    void get_keepsLayoutFacts() throws IOException {
+        Path index = tempDir.resolve("index");
+        File jar = jar("app.jar", "content");
+        new JarAnalysisCache(index, 10).put(jar, new JarAnalysis(JarType.SPRING_BOOT,
+                "org.springframework.boot.loader.launch.JarLauncher", "com.example.App", 1200, true, 65, true));
+
+        JarAnalysis cached = new JarAnalysisCache(index, 10).get(jar);
+
+        assertNotNull(cached);
+        assertEquals(1200, cached.getEntryCount());
+        assertTrue(cached.hasLayersIndex());
+        assertEquals(65, cached.getClassMajorVersion());
+        assertTrue(cached.hasSpringAot());
+    }
+
+    @Test
+    void get_missesWhenJarChanges() throws IOException {
+        JarAnalysisCache cache = new JarAnalysisCache(tempDir.resolve("index"), 10);
+        File jar = jar("app.jar", "content");
+        cache.put(jar, new JarAnalysis(JarType.PLAIN_UBER, null, null));
+
+        Files.writeString(jar.toPath(), "rebuilt content");
+
+        assertNull(cache.get(jar));
+    }
+
+    @Test
+    void get_missesWhenOnlyModificationTimeChanges() throws IOException {
+        JarAnalysisCache cache = new JarAnalysisCache(tempDir.resolve("index"), 10);
+        File jar = jar("app.jar", "content");
+        cache.put(jar, new JarAnalysis(JarType.PLAIN_UBER, null, null));
+
+        Files.setLastModifiedTime(jar.toPath(), FileTime.fromMillis(jar.lastModified() + 10_000));
+
+        assertNull(cache.get(jar));
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsed() throws IOException {
+        Path index = tempDir.resolve("index");
+        JarAnalysisCache cache = new JarAnalysisCache(index, 2);
+        File first = jar("first.jar", "1");
+        File second = jar("second.jar", "2");
+        File third = jar("third.jar", "3");
+        cache.put(first, new JarAnalysis(JarType.PLAIN_UBER, null, null));
+        cache.put(second, new JarAnalysis(JarType.PLAIN_UBER, null, null));
+        assertNotNull(cache.get(first));
+
+        cache.put(third, new JarAnalysis(JarType.PLAIN_UBER, null, null));
+
+        JarAnalysisCache reloaded = new JarAnalysisCache(index, 2);
+        assertNotNull(reloaded.get(first));
+        assertNull(reloaded.get(second));
+        assertNotNull(reloaded.get(third));
+    }
+
+    @Test
+    void put_keepsEntriesWrittenMeanwhileByAnotherProcess() throws IOException {
+        Path index = tempDir.resolve("index");
+        File first = jar("first.jar", "1");
+        File second = jar("second.jar", "2");
+        JarAnalysisCache daemon = new JarAnalysisCache(index, 10);
+        assertNull(daemon.get(first));
+
+        new JarAnalysisCache(index, 10).put(second, new JarAnalysis(JarType.SPRING_BOOT, null, null));
+        daemon.put(first, new JarAnalysis(JarType.PLAIN_UBER, null, null));
+
+        JarAnalysisCache reloaded = new JarAnalysisCache(index, 10);
+        assertNotNull(reloaded.get(first));
+        assertNotNull(reloaded.get(second));
+        assertEquals(JarType.SPRING_BOOT, daemon.get(second).getJarType());
+    }
+
+    @Test
+    void contentHash_isRememberedWithAnalysis() throws IOException {
+        Path index = tempDir.resolve("index");
+        File jar = jar("app.jar", "content");
+        JarAnalysisCache cache = new JarAnalysisCache(index, 10);
+        cache.put(jar, new JarAnalysis(JarType.PLAIN_UBER, null, null));
+
+        String hash = cache.contentHash(jar);
+
+        assertEquals(FileSystemUtils.sha256(jar.toPath()), hash);
+        assertTrue(Files.readString(index).contains(hash));
+        assertEquals(hash, new JarAnalysisCache(index, 10).contentHash(jar));
+    }
+
+    @Test
+    void runtimeSupport_isRememberedUntilJarChanges() throws IOException {
+        Path index = tempDir.resolve("index");
+        File jar = jar("app.jar", "content");
+        JarAnalysisCache cache = new JarAnalysisCache(index, 10);
+        cache.put(jar, new JarAnalysis(JarType.PLAIN_UBER, null, null));
+        assertEquals(RuntimeSupport.UNKNOWN, cache.runtimeSupport(jar));
+
+        cache.recordRuntimeSupport(jar, RuntimeSupport.SINGLE_OPERATION);
+        cache.put(jar, new JarAnalysis(JarType.PLAIN_UBER, null, null));
+
+        assertEquals(RuntimeSupport.SINGLE_OPERATION, new JarAnalysisCache(index, 10).runtimeSupport(jar));
+        Files.writeString(jar.toPath(), "rebuilt content");
+        assertEquals(RuntimeSupport.UNKNOWN, new JarAnalysisCache(index, 10).runtimeSupport(jar));
+    }
+
+    @Test
+    void get_ignoresIndexWithUnknownFormat() throws IOException {
+        Path index = tempDir.resolve("index");
+        File jar = jar("app.jar", "content");
+        Files.write(index, List.of("# some other format", jar.getCanonicalPath() + "\tgarbage"));
+
+        assertNull(new JarAnalysisCache(index, 10).get(jar));
+    }
+
+    @Test
+    void detector_skipsScanOnCacheHit() throws Exception {
+        JarAnalysisCache cache = new JarAnalysisCache(tempDir.resolve("index"), 10);
+        File jar = jar("app.jar", "not really a jar");
+        cache.put(jar, new JarAnalysis(JarType.PLAIN_UBER, null, null));
+
+        // The file is not a valid JAR, so a scan would fail
+        assertEquals(JarType.PLAIN_UBER, new JarTypeDetector(cache).detect(jar));
+    }
+
+    private File jar(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content).toFile();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JarIndexerTest {
+
+    private static final String ENTRY_POINT = "io/flamingock/core/cli/FlamingockCliMainEntryPoint.class";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void index_plainUberJar_recordsEntryPointManifestAndClassVersion() throws IOException {
+        Path jar = tempDir.resolve("app.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar), manifest("com.example.App", null))) {
+            writeClass(out, "com/example/App.class", 61);
+            writeClass(out, ENTRY_POINT, 52);
+            writeFile(out, "application.properties");
+        }
+
+        JarIndexer.JarIndex index = JarIndexer.index(jar);
+
+        assertTrue(index.hasFlamingockEntryPoint());
+        assertFalse(index.springBootLayout());
+        assertEquals("com.example.App", index.mainClass());
+        assertNull(index.startClass());
+        assertEquals(61, index.maxClassMajorVersion());
+        assertEquals(2, index.classEntryCount());
+        assertEquals(entryCount(jar), index.entryCount());
+    }
+
+    @Test
+    void index_layeredSpringBootJar_recordsLayoutFacts() throws IOException {
+        Path jar = tempDir.resolve("boot.jar");
+        Manifest manifest = manifest("org.springframework.boot.loader.launch.JarLauncher", "com.example.BootApp");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+            writeFile(out, "org/springframework/boot/loader/launch/JarLauncher.class");
+            writeClass(out, "BOOT-INF/classes/com/example/BootApp.class", 65);
+            writeFile(out, "BOOT-INF/layers.idx");
+            writeFile(out, "META-INF/versions/17/module-info.class");
+        }
+
+        JarIndexer.JarIndex index = JarIndexer.index(jar);
+
+        assertTrue(index.springBootLayout());
+        assertTrue(index.hasLayersIndex());
+        assertTrue(index.multiRelease());
+        assertEquals("com.example.BootApp", index.startClass());
+        assertEquals(65, index.maxClassMajorVersion());
+        assertFalse(index.springAot());
+    }
+
+    @Test
+    void index_aotProcessedSpringBootJar_recordsAot() throws IOException {
+        Path jar = tempDir.resolve("aot.jar");
+        Manifest manifest = manifest("org.springframework.boot.loader.launch.JarLauncher", "com.example.BootApp");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+            writeClass(out, "BOOT-INF/classes/com/example/BootApp.class", 65);
+            writeClass(out, "BOOT-INF/classes/com/example/BootApp__ApplicationContextInitializer.class", 65);
+        }
+
+        assertTrue(JarIndexer.index(jar).springAot());
+    }
+
+    @Test
+    void index_storedEntries_readsManifestWithoutInflating() throws IOException {
+        Path jar = tempDir.resolve("stored.jar");
+        byte[] manifestBytes = "Manifest-Version: 1.0\r\nMain-Class: com.example.Stored\r\n\r\n".getBytes();
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            JarEntry entry = new JarEntry(JarFile.MANIFEST_NAME);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(manifestBytes.length);
+            CRC32 crc = new CRC32();
+            crc.update(manifestBytes);
+            entry.setCrc(crc.getValue());
+            out.putNextEntry(entry);
+            out.write(manifestBytes);
+            out.closeEntry();
+        }
+
+        assertEquals("com.example.Stored", JarIndexer.index(jar).mainClass());
+    }
+
+    @Test
+    void index_zip64Archive_readsAllEntries() throws IOException {
+        Path jar = tempDir.resolve("zip64.jar");
+        int entries = 70_000;
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar), manifest(null, null))) {
+            for (int i = 0; i < entries; i++) {
+                out.putNextEntry(new JarEntry("data/" + i));
+                out.closeEntry();
+            }
+            writeClass(out, ENTRY_POINT, 61);
+        }
+
+        JarIndexer.JarIndex index = JarIndexer.index(jar);
+
+        assertEquals(entryCount(jar), index.entryCount());
+        assertTrue(index.hasFlamingockEntryPoint());
+    }
+
+    @Test
+    void index_jarWithLaunchScriptPrefix_readsEntriesRelativeToArchiveStart() throws IOException {
+        Path jar = tempDir.resolve("executable.jar");
+        try (OutputStream file = Files.newOutputStream(jar)) {
+            // Like a Spring Boot fully executable JAR: a shell script, then the archive with its own offsets
+            file.write("#!/bin/bash\nexec java -jar \"$0\" \"$@\"\n".getBytes(StandardCharsets.UTF_8));
+            try (JarOutputStream out = new JarOutputStream(file, manifest("com.example.App", null))) {
+                writeClass(out, "com/example/App.class", 65);
+                writeClass(out, ENTRY_POINT, 52);
+            }
+        }
+
+        JarIndexer.JarIndex index = JarIndexer.index(jar);
+
+        assertTrue(index.hasFlamingockEntryPoint());
+        assertEquals("com.example.App", index.mainClass());
+        assertEquals(65, index.maxClassMajorVersion());
+        assertEquals(entryCount(jar), index.entryCount());
+    }
+
+    @Test
+    void index_notAZipFile_throws() throws IOException {
+        Path notAJar = Files.writeString(tempDir.resolve("text.jar"), "this is not a zip archive at all");
+
+        assertThrows(IOException.class, () -> JarIndexer.index(notAJar));
+    }
+
+    private static Manifest manifest(String mainClass, String startClass) {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (mainClass != null) {
+            manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, mainClass);
+        }
+        if (startClass != null) {
+            manifest.getMainAttributes().putValue("Start-Class", startClass);
+        }
+        return manifest;
+    }
+
+    private static void writeClass(JarOutputStream out, String name, int majorVersion) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        out.write(new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0, 0,
+                (byte) (majorVersion >> 8), (byte) majorVersion});
+        // Padding so the header is not the whole deflate stream
+        out.write(new byte[512]);
+        out.closeEntry();
+    }
+
+    private static void writeFile(JarOutputStream out, String name) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        out.write(name.getBytes());
+        out.closeEntry();
+    }
+
+    private static int entryCount(Path jar) throws IOException {
+        try (JarFile file = new JarFile(jar.toFile())) {
+            return file.size();
+        }
+    }
+}
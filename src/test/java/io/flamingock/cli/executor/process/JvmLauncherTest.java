@@ -17,6 +17,7 @@ package io.flamingock.cli.executor.process;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -158,6 +159,25 @@ class JvmLauncherTest {
         assertTrue(command.contains("--flamingock.output-file=/tmp/output.json"));
     }
 
+    @Test
+    void buildExplodedSpringBootCommand_startsFromClasspathAndStartClass() {
+        JvmLauncher launcher = new JvmLauncher();
+        ExplodedJarCache.Layout layout = new ExplodedJarCache.Layout(Path.of("/cache/app"),
+                List.of(Path.of("/cache/app/application.jar"), Path.of("/cache/app/lib/dep.jar")));
+
+        List<String> command = launcher.buildExplodedSpringBootCommand(layout, "com.example.App", "EXECUTE",
+                null, null, Collections.emptyMap(), List.of("-Xmx256m"), List.of("--custom=1"));
+
+        assertFalse(command.contains("-jar"));
+        int classpath = command.indexOf("-cp");
+        assertEquals(layout.classpathArgument(), command.get(classpath + 1));
+        assertEquals("com.example.App", command.get(classpath + 2));
+        assertTrue(command.indexOf("-Xmx256m") < classpath);
+        assertTrue(command.contains("--spring.main.web-application-type=none"));
+        assertTrue(command.contains("--flamingock.operation=EXECUTE"));
+        assertEquals("--custom=1", command.get(command.size() - 1));
+    }
+
     // ================== Plain Uber JAR Command Tests ==================
 
     @Test
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import io.flamingock.internal.common.core.operation.OperationType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JvmProfileTest {
+
+    @Test
+    void argsFor_noUserArgs_returnsFullProfile() {
+        assertEquals(JvmProfile.FAST_START.getJvmArgs(), JvmProfile.FAST_START.argsFor(Collections.emptyList()));
+        assertTrue(JvmProfile.DEFAULT.argsFor(null).isEmpty());
+    }
+
+    @Test
+    void argsFor_dropsFlagsTheUserSets() {
+        List<String> args = JvmProfile.FAST_START.argsFor(Arrays.asList("-XX:+UseG1GC", "-Xms64m", "-XX:-TieredStopAtLevel"));
+
+        assertEquals(Collections.singletonList("-Xshare:auto"), args);
+    }
+
+    @Test
+    void argsFor_userMaxHeapDropsProfileInitialHeap() {
+        List<String> args = JvmProfile.LOW_MEMORY.argsFor(Collections.singletonList("-Xmx4m"));
+
+        assertTrue(args.stream().noneMatch(arg -> arg.startsWith("-Xms")));
+        assertTrue(args.contains("-XX:+UseSerialGC"));
+    }
+
+    @Test
+    void forOperation_shortLivedOperationsStartFast() {
+        assertSame(JvmProfile.FAST_START, JvmProfile.forOperation(OperationType.AUDIT_LIST));
+        assertSame(JvmProfile.FAST_START, JvmProfile.forOperation(OperationType.ISSUE_GET));
+        assertSame(JvmProfile.DEFAULT, JvmProfile.forOperation(OperationType.EXECUTE_APPLY));
+        assertSame(JvmProfile.DEFAULT, JvmProfile.forOperation(null));
+    }
+
+    @Test
+    void fromId_acceptsCommandLineNames() {
+        assertSame(JvmProfile.LOW_MEMORY, JvmProfile.fromId("low-memory"));
+        assertSame(JvmProfile.THROUGHPUT, JvmProfile.fromId("Throughput"));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> JvmProfile.fromId("turbo"));
+        assertTrue(e.getMessage().contains("default, fast-start, throughput, low-memory"));
+    }
+
+    @Test
+    void optionKey_groupsEquivalentFlags() {
+        assertEquals(JvmProfile.optionKey("-XX:+UseSerialGC"), JvmProfile.optionKey("-XX:+UseZGC"));
+        assertEquals(JvmProfile.optionKey("-XX:MaxRAMPercentage=25"), JvmProfile.optionKey("-XX:MaxRAMPercentage=75.0"));
+        assertEquals("-Xshare", JvmProfile.optionKey("-Xshare:off"));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ProcessDiagnosticsTest {
+
+    @Test
+    void killTree_stopsDescendantsToo() throws Exception {
+        Process process = new ProcessBuilder("sh", "-c", "sleep 30 & sleep 30 & wait").start();
+        List<ProcessHandle> children = awaitChildren(process.toHandle(), 2);
+
+        ProcessDiagnostics.killTree(process.toHandle(), Duration.ofSeconds(5));
+
+        assertFalse(process.isAlive());
+        for (ProcessHandle child : children) {
+            child.onExit().get(5, TimeUnit.SECONDS);
+            assertFalse(child.isAlive());
+        }
+    }
+
+    @Test
+    void siblingTool_resolvesNextToJava() {
+        assertEquals("/opt/jdk/bin/jcmd", ProcessDiagnostics.siblingTool("/opt/jdk/bin/java", "jcmd"));
+        assertEquals("jcmd", ProcessDiagnostics.siblingTool("java", "jcmd"));
+    }
+
+    private static List<ProcessHandle> awaitChildren(ProcessHandle parent, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        List<ProcessHandle> children;
+        do {
+            Thread.sleep(20);
+            children = parent.children().collect(Collectors.toList());
+        } while (children.size() < expected && System.nanoTime() < deadline);
+        assertEquals(expected, children.size());
+        return children;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceSamplerTest {
+
+    @TempDir
+    Path procRoot;
+
+    @Test
+    void sample_readsCpuMemoryAndThreadsFromProc() throws IOException {
+        ProcessHandle self = ProcessHandle.current();
+        writeProc(self.pid(), "1234 (java (main)) S 1 2 3 4 5 6 7 8 9 10 150 50 30 20 0 0 17",
+                "Name:\tjava\nVmHWM:\t  204800 kB\nVmRSS:\t  102400 kB\nThreads:\t41\n");
+        AtomicLong clock = new AtomicLong();
+        ResourceSampler sampler = new ResourceSampler(self, procRoot, null, clock::get);
+
+        sampler.sample();
+        clock.addAndGet(Duration.ofMillis(1500).toNanos());
+        ResourceUsage usage = sampler.finish();
+
+        assertEquals(1500, usage.getWallMillis());
+        assertEquals(2500, usage.getCpuMillis());
+        assertEquals(204800L * 1024, usage.getPeakRssBytes());
+        assertEquals(41, usage.getPeakThreads());
+        assertEquals(ResourceUsage.UNKNOWN, usage.getGcMillis());
+    }
+
+    @Test
+    void sample_keepsHighWaterMarksAcrossSamples() throws IOException {
+        ProcessHandle self = ProcessHandle.current();
+        writeProc(self.pid(), "1 (java) S 1 2 3 4 5 6 7 8 9 10 100 0 0 0", "VmHWM:\t1024 kB\nThreads:\t60\n");
+        ResourceSampler sampler = new ResourceSampler(self, procRoot, null, () -> 0L);
+        sampler.sample();
+
+        writeProc(self.pid(), "1 (java) S 1 2 3 4 5 6 7 8 9 10 200 0 0 0", "VmHWM:\t512 kB\nThreads:\t20\n");
+        ResourceUsage usage = sampler.finish();
+
+        assertEquals(2000, usage.getCpuMillis());
+        assertEquals(1024L * 1024, usage.getPeakRssBytes());
+        assertEquals(60, usage.getPeakThreads());
+    }
+
+    @Test
+    void finish_realChild_measuresWallTime() throws Exception {
+        Process process = new ProcessBuilder("sleep", "0.3").start();
+        ResourceSampler sampler = ResourceSampler.start(process, Duration.ofMillis(50));
+
+        process.waitFor();
+        ResourceUsage usage = sampler.finish();
+
+        assertTrue(usage.getWallMillis() >= 250, "wall " + usage.getWallMillis());
+    }
+
+    @Test
+    void bootMillis_splitsWallTimeByOperationDuration() {
+        ResourceUsage usage = new ResourceUsage(10_000, 0, 0, 0, 0);
+
+        assertEquals(3_000, usage.getBootMillis(7_000));
+        assertEquals(ResourceUsage.UNKNOWN, usage.getBootMillis(0));
+        assertEquals(ResourceUsage.UNKNOWN, usage.getBootMillis(12_000));
+    }
+
+    @Test
+    void hsPerfData_notPerfData_rejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> HsPerfData.parse(ByteBuffer.allocate(64), name -> true));
+    }
+
+    @Test
+    void hsPerfData_missingFile_unknownGcTime() {
+        assertEquals(ResourceUsage.UNKNOWN, new HsPerfData(procRoot.resolve("missing")).gcMillis());
+    }
+
+    private void writeProc(long pid, String stat, String status) throws IOException {
+        Path dir = Files.createDirectories(procRoot.resolve(Long.toString(pid)));
+        Files.writeString(dir.resolve("stat"), stat);
+        Files.writeString(dir.resolve("status"), status);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import io.flamingock.internal.common.core.operation.OperationType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpringBootFastBootTest {
+
+    private static final JarAnalysis AOT_JAR = new JarAnalysis(JarType.SPRING_BOOT,
+            "org.springframework.boot.loader.launch.JarLauncher", "com.example.App", 100, true, 65, true);
+    private static final JarAnalysis PLAIN_BOOT_JAR = new JarAnalysis(JarType.SPRING_BOOT,
+            "org.springframework.boot.loader.launch.JarLauncher", "com.example.App", 100, true, 65, false);
+
+    @Test
+    void isDefaultFor_readOnlyOperationsOnly() {
+        assertTrue(SpringBootFastBoot.isDefaultFor(OperationType.AUDIT_LIST));
+        assertTrue(SpringBootFastBoot.isDefaultFor(OperationType.ISSUE_LIST));
+        assertTrue(SpringBootFastBoot.isDefaultFor(OperationType.ISSUE_GET));
+        assertFalse(SpringBootFastBoot.isDefaultFor(OperationType.EXECUTE_APPLY));
+        assertFalse(SpringBootFastBoot.isDefaultFor(OperationType.AUDIT_FIX));
+        assertFalse(SpringBootFastBoot.isDefaultFor(null));
+    }
+
+    @Test
+    void jvmArgs_enablesAotOnlyWhenPresent() {
+        assertEquals(List.of("-Dspring.aot.enabled=true"), SpringBootFastBoot.jvmArgs(AOT_JAR, null));
+        assertTrue(SpringBootFastBoot.jvmArgs(PLAIN_BOOT_JAR, null).isEmpty());
+        assertTrue(SpringBootFastBoot.jvmArgs(AOT_JAR, List.of("-Dspring.aot.enabled=false")).isEmpty());
+    }
+
+    @Test
+    void appArgs_defaultsToLazyInitAndBuiltInExcludes() {
+        List<String> args = SpringBootFastBoot.appArgs(null, null, Collections.emptyList());
+
+        assertEquals("--spring.main.lazy-initialization=true", args.get(0));
+        assertTrue(args.get(1).startsWith("--spring.autoconfigure.exclude="));
+        for (String exclude : SpringBootFastBoot.DEFAULT_EXCLUDES) {
+            assertTrue(args.get(1).contains(exclude), exclude);
+        }
+    }
+
+    @Test
+    void appArgs_customExcludesReplaceDefaults() {
+        List<String> args = SpringBootFastBoot.appArgs(List.of("com.example.FooAutoConfiguration"), null, null);
+
+        assertEquals("--spring.autoconfigure.exclude=com.example.FooAutoConfiguration", args.get(1));
+        assertEquals(1, SpringBootFastBoot.appArgs(Collections.emptyList(), null, null).size());
+    }
+
+    @Test
+    void appArgs_userSettingsAreLeftAlone() {
+        List<String> args = SpringBootFastBoot.appArgs(null, List.of("-Dspring.main.lazy-initialization=false"),
+                List.of("--spring.autoconfigure.exclude=com.example.Mine"));
+
+        assertTrue(args.isEmpty());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StderrCaptureTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void tail_keepsOnlyLastBytesAcrossSmallWrites() {
+        StderrCapture capture = new StderrCapture(8, null);
+
+        write(capture, "abc");
+        write(capture, "defgh");
+        write(capture, "ijk");
+
+        assertEquals("defghijk", capture.tail());
+        assertEquals(11, capture.size());
+    }
+
+    @Test
+    void tail_writeLargerThanBufferKeepsItsEnd() {
+        StderrCapture capture = new StderrCapture(8, null);
+
+        write(capture, "xyz");
+        write(capture, "0123456789abcdef");
+        write(capture, "!");
+
+        assertEquals("9abcdef!", capture.tail());
+    }
+
+    @Test
+    void isEntryPointNotFound_matchesAcrossWritesAndAfterEviction() {
+        StderrCapture capture = new StderrCapture(16, null);
+        String message = "Error: Could not find or load main class " + JvmLauncher.FLAMINGOCK_CLI_ENTRY_POINT;
+
+        for (int i = 0; i < message.length(); i += 5) {
+            write(capture, message.substring(i, Math.min(message.length(), i + 5)));
+        }
+        write(capture, "x".repeat(100));
+
+        assertTrue(capture.isEntryPointNotFound());
+        assertFalse(capture.tail().contains("main class"));
+    }
+
+    @Test
+    void isEntryPointNotFound_otherMainClassDoesNotMatch() {
+        StderrCapture capture = new StderrCapture(StderrCapture.DEFAULT_CAPACITY, null);
+
+        write(capture, "Error: Could not find or load main class com.example.Other\n");
+
+        assertFalse(capture.isEntryPointNotFound());
+    }
+
+    @Test
+    void finishSpill_overflowingOutputIsKeptCompressed() throws IOException {
+        Path spillFile = tempDir.resolve("spill").resolve("stderr.log.gz");
+        StderrCapture capture = new StderrCapture(8, spillFile);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            String line = "line " + i + "\n";
+            expected.append(line);
+            write(capture, line);
+        }
+
+        assertEquals(spillFile, capture.finishSpill());
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(spillFile))) {
+            assertEquals(expected.toString(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void finishSpill_outputThatFitsDoesNotCreateFile() {
+        Path spillFile = tempDir.resolve("stderr.log.gz");
+        StderrCapture capture = new StderrCapture(64, spillFile);
+
+        write(capture, "short");
+
+        assertNull(capture.finishSpill());
+        assertFalse(Files.exists(spillFile));
+    }
+
+    @Test
+    void discardSpill_removesFile() {
+        Path spillFile = tempDir.resolve("stderr.log.gz");
+        StderrCapture capture = new StderrCapture(4, spillFile);
+        write(capture, "more than four bytes");
+        assertTrue(Files.exists(spillFile));
+
+        capture.discardSpill();
+
+        assertFalse(Files.exists(spillFile));
+    }
+
+    private static void write(StderrCapture capture, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        capture.write(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamPumpTest {
+
+    @Test
+    void start_forwardsAndCapturesSameBytes() throws InterruptedException {
+        byte[] data = new byte[StreamPump.BUFFER_SIZE * 3 + 17];
+        new Random(42).nextBytes(data);
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        ByteArrayOutputStream capture = new ByteArrayOutputStream();
+
+        Thread pump = StreamPump.start("test-pump", new ByteArrayInputStream(data), sink, capture);
+        pump.join();
+
+        assertTrue(pump.isVirtual());
+        assertArrayEquals(data, sink.toByteArray());
+        assertArrayEquals(data, capture.toByteArray());
+    }
+
+    @Test
+    void pump_keepsPartialLinesIntact() {
+        String output = "progress: 10%\rprogress: 100%\nno trailing newline";
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+
+        StreamPump.pump(new ByteArrayInputStream(output.getBytes(StandardCharsets.UTF_8)), sink, null);
+
+        assertEquals(output, sink.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void pump_captureOnlyDrainsStream() {
+        ByteArrayInputStream source = new ByteArrayInputStream("stderr".getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream capture = new ByteArrayOutputStream();
+
+        StreamPump.pump(source, null, capture);
+
+        assertEquals("stderr", capture.toString(StandardCharsets.UTF_8));
+        assertEquals(0, source.available());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.process;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WatchdogTest {
+
+    @Test
+    void of_noTimeouts_returnsNull() {
+        assertNull(Watchdog.of(LaunchOptions.builder().build()));
+        assertNotNull(Watchdog.of(LaunchOptions.builder().timeout(Duration.ofSeconds(5)).build()));
+    }
+
+    @Test
+    void await_processOutlivesTimeout_expires() throws Exception {
+        Process process = new ProcessBuilder("sleep", "30").start();
+        try {
+            Watchdog watchdog = new Watchdog(Duration.ofMillis(300), null, System::nanoTime);
+
+            Watchdog.Expiry expiry = watchdog.await(process);
+
+            assertNotNull(expiry);
+            assertTrue(expiry.reason().contains("--timeout"), expiry.reason());
+            assertTrue(process.isAlive());
+        } finally {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    @Test
+    void await_silentProcess_expiresOnIdleTimeout() throws Exception {
+        Process process = new ProcessBuilder("sleep", "30").start();
+        try {
+            Watchdog watchdog = new Watchdog(Duration.ofSeconds(30), Duration.ofMillis(300), System::nanoTime);
+
+            Watchdog.Expiry expiry = watchdog.await(process);
+
+            assertNotNull(expiry);
+            assertTrue(expiry.reason().contains("--idle-timeout"), expiry.reason());
+        } finally {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    @Test
+    void await_processExitsInTime_returnsNull() throws Exception {
+        Process process = new ProcessBuilder("true").start();
+
+        assertNull(new Watchdog(Duration.ofSeconds(30), Duration.ofSeconds(30), System::nanoTime).await(process));
+    }
+
+    @Test
+    void track_writesResetIdleTime() throws IOException {
+        AtomicLong clock = new AtomicLong();
+        Watchdog watchdog = new Watchdog(null, Duration.ofSeconds(1), clock::get);
+        OutputStream tracked = watchdog.track(null);
+
+        clock.set(Duration.ofSeconds(5).toNanos());
+        assertEquals(5000, watchdog.idleMillis());
+
+        tracked.write('x');
+        assertEquals(0, watchdog.idleMillis());
+    }
+
+    @Test
+    void track_recordingTeesOutputWithoutDivertingIt() throws IOException {
+        Watchdog watchdog = new Watchdog(Duration.ofSeconds(1), null, System::nanoTime);
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        ByteArrayOutputStream recording = new ByteArrayOutputStream();
+        OutputStream tracked = watchdog.track(sink);
+
+        tracked.write("before ".getBytes(StandardCharsets.UTF_8));
+        watchdog.startRecording(recording);
+        tracked.write("dump ".getBytes(StandardCharsets.UTF_8));
+        watchdog.stopRecording();
+        tracked.write("after".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("before dump after", sink.toString(StandardCharsets.UTF_8));
+        assertEquals("dump ", recording.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.progress;
+
+import io.flamingock.internal.common.core.response.data.ChangeResult;
+import io.flamingock.internal.common.core.response.data.ChangeStatus;
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
+import io.flamingock.internal.common.core.response.data.ExecutionStatus;
+import io.flamingock.internal.common.core.response.data.StageResult;
+import io.flamingock.internal.common.core.response.data.StageStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutionProgressTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ExecutionProgress progress = new ExecutionProgress(clock::get);
+
+    @Test
+    void apply_tracksCurrentStageAndCounts() {
+        assertFalse(progress.hasEvents());
+        assertNull(progress.getCurrentStageName());
+
+        progress.apply(pipelineStarted(2, 3));
+        progress.apply(stageStarted("s1", "Initial data", 2));
+        progress.apply(changeStarted("s1", "c1"));
+        progress.apply(changeFinished("s1", "c1", "APPLIED", 120L));
+
+        assertTrue(progress.hasEvents());
+        assertEquals("Initial data", progress.getCurrentStageName());
+        assertEquals(1, progress.getFinishedChanges());
+        assertEquals(3, progress.getTotalChanges());
+    }
+
+    @Test
+    void toPartialResponse_changeRunningAtCrashIsFailedAndRestNotReached() {
+        progress.apply(pipelineStarted(2, 4));
+        progress.apply(stageStarted("s1", "Stage one", 2));
+        progress.apply(changeStarted("s1", "c1"));
+        progress.apply(changeFinished("s1", "c1", "APPLIED", 100L));
+        progress.apply(changeStarted("s1", "c2"));
+        progress.apply(changeFinished("s1", "c2", "ALREADY_APPLIED", 0L));
+        progress.apply(new ProgressEvent(ProgressEvent.STAGE_FINISHED, "s1", null, null, null, "COMPLETED", 150L, null, null));
+        progress.apply(stageStarted("s2", "Stage two", 2));
+        advance(50);
+        progress.apply(changeStarted("s2", "c3"));
+        advance(2_000);
+        progress.apply(new ProgressEvent("heartbeat", null, null, null, null, null, null, null, null));
+
+        ExecuteResponseData data = progress.toPartialResponse();
+
+        assertEquals(ExecutionStatus.FAILED, data.getStatus());
+        assertEquals(2, data.getTotalStages());
+        assertEquals(1, data.getCompletedStages());
+        assertEquals(1, data.getFailedStages());
+        assertEquals(4, data.getTotalChanges());
+        assertEquals(1, data.getAppliedChanges());
+        assertEquals(1, data.getAlreadyAppliedChanges());
+        assertEquals(1, data.getFailedChanges());
+        assertEquals(1, data.getNotReachedChanges());
+        assertEquals(2_050, data.getTotalDurationMs());
+
+        List<StageResult> stages = data.getStages();
+        assertEquals(StageStatus.COMPLETED, stages.get(0).getStatus());
+        StageResult interrupted = stages.get(1);
+        assertEquals(StageStatus.FAILED, interrupted.getStatus());
+        ChangeResult running = interrupted.getChanges().get(0);
+        assertEquals(ChangeStatus.FAILED, running.getStatus());
+        assertEquals(2_000, running.getDurationMs());
+        assertEquals(List.of("c3"), interrupted.getErrorInfo().getChangeIds());
+    }
+
+    @Test
+    void apply_missingDurationIsMeasuredLocally() {
+        progress.apply(stageStarted("s1", null, 1));
+        progress.apply(changeStarted("s1", "c1"));
+        advance(300);
+        progress.apply(changeFinished("s1", "c1", null, null));
+
+        ChangeResult change = progress.toPartialResponse().getStages().get(0).getChanges().get(0);
+        assertEquals(ChangeStatus.APPLIED, change.getStatus());
+        assertEquals(300, change.getDurationMs());
+        assertEquals("s1", progress.getCurrentStageName());
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    static ProgressEvent pipelineStarted(int stages, int changes) {
+        return new ProgressEvent(ProgressEvent.PIPELINE_STARTED, null, null, null, null, null, null, stages, changes);
+    }
+
+    static ProgressEvent stageStarted(String stageId, String stageName, int changes) {
+        return new ProgressEvent(ProgressEvent.STAGE_STARTED, stageId, stageName, null, null, null, null, null, changes);
+    }
+
+    static ProgressEvent changeStarted(String stageId, String changeId) {
+        return new ProgressEvent(ProgressEvent.CHANGE_STARTED, stageId, null, changeId, "dev", null, null, null, null);
+    }
+
+    static ProgressEvent changeFinished(String stageId, String changeId, String status, Long durationMs) {
+        return new ProgressEvent(ProgressEvent.CHANGE_FINISHED, stageId, null, changeId, "dev", status, durationMs, null, null);
+    }
+}
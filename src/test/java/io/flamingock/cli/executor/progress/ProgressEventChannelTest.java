@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.progress;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProgressEventChannelTest {
+
+    @Test
+    void events_areDeliveredWhileTheWriterIsStillOpen() throws Exception {
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch firstEvent = new CountDownLatch(1);
+
+        try (ProgressEventChannel channel = ProgressEventChannel.open((event, progress) -> {
+            received.add(event.type());
+            firstEvent.countDown();
+        })) {
+            Path address = Path.of(channel.getAddress());
+            try (OutputStream application = Files.newOutputStream(address)) {
+                application.write(line("{\"type\":\"stage-started\",\"stageId\":\"s1\",\"stageName\":\"Stage\"}"));
+                application.flush();
+                if (!Files.isRegularFile(address)) {
+                    // Live only over a named pipe; the file fallback replays after exit
+                    assertTrue(firstEvent.await(5, TimeUnit.SECONDS));
+                }
+                application.write(line("{\"type\":\"change-started\",\"stageId\":\"s1\",\"changeId\":\"c1\"}"));
+            }
+
+            ExecutionProgress progress = channel.finish();
+
+            assertEquals("Stage", progress.getCurrentStageName());
+            assertEquals(1, progress.getTotalChanges());
+        }
+    }
+
+    @Test
+    void finish_truncatedLastLineFromCrashIsIgnored() throws Exception {
+        try (ProgressEventChannel channel = ProgressEventChannel.open(null)) {
+            try (OutputStream application = Files.newOutputStream(Path.of(channel.getAddress()))) {
+                application.write(line("{\"type\":\"change-finished\",\"stageId\":\"s1\",\"changeId\":\"c1\",\"status\":\"APPLIED\"}"));
+                application.write("{\"type\":\"change-fin".getBytes(StandardCharsets.UTF_8));
+            }
+
+            ExecutionProgress progress = channel.finish();
+
+            assertEquals(1, progress.getFinishedChanges());
+            assertEquals(1, progress.toPartialResponse().getAppliedChanges());
+        }
+    }
+
+    @Test
+    void finish_applicationThatNeverWritesYieldsNoEvents() throws IOException {
+        try (ProgressEventChannel channel = ProgressEventChannel.open(null)) {
+            assertFalse(channel.finish().hasEvents());
+        }
+    }
+
+    @Test
+    void parse_ignoresBlankMalformedAndUntypedLines() {
+        assertNull(ProgressEventChannel.parse("   "));
+        assertNull(ProgressEventChannel.parse("not json"));
+        assertNull(ProgressEventChannel.parse("{\"stageId\":\"s1\"}"));
+        assertEquals("future-event", ProgressEventChannel.parse("{\"type\":\"future-event\",\"extra\":1}").type());
+    }
+
+    private static byte[] line(String json) {
+        return (json + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+}
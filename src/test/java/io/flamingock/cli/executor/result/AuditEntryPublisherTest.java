@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.result;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.flamingock.internal.common.core.response.data.AuditListResponseData.AuditEntryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for AuditEntryPublisher - streams audit entries from a response file.
+ */
+class AuditEntryPublisherTest {
+
+    private ResponseResultReader reader;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        reader = new ResponseResultReader();
+    }
+
+    @Test
+    @DisplayName("Should deliver entries only as they are requested")
+    void shouldDeliverEntriesOnDemand() throws IOException {
+        Path file = write(auditList("change-001", "change-002", "change-003"));
+        AuditEntryPublisher publisher = streamOf(file);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+
+        publisher.subscribe(subscriber);
+        assertTrue(subscriber.changeIds.isEmpty());
+
+        subscriber.subscription.request(2);
+        assertEquals(List.of("change-001", "change-002"), subscriber.changeIds);
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(1);
+        assertEquals(List.of("change-001", "change-002", "change-003"), subscriber.changeIds);
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+        assertEquals(3, publisher.getDeliveredCount());
+    }
+
+    @Test
+    @DisplayName("Should complete without entries when the list is empty")
+    void shouldCompleteWhenEmpty() throws IOException {
+        Path file = write(auditList());
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+
+        streamOf(file).subscribe(subscriber);
+
+        assertTrue(subscriber.changeIds.isEmpty());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("Should stream the last envelope of a multi-operation file")
+    void shouldStreamLastEnvelope() throws IOException {
+        Path file = write(auditList("old-change") + "\n" + auditList("new-change-1", "new-change-2"));
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+
+        streamOf(file).subscribe(subscriber);
+
+        assertEquals(List.of("new-change-1", "new-change-2"), subscriber.changeIds);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("Should stop delivering after cancel")
+    void shouldStopAfterCancel() throws IOException {
+        Path file = write(auditList("change-001", "change-002", "change-003"));
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+
+        streamOf(file).subscribe(subscriber);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(5);
+
+        assertEquals(List.of("change-001"), subscriber.changeIds);
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    @DisplayName("Should signal a non-positive request as an error")
+    void shouldRejectNonPositiveRequest() throws IOException {
+        Path file = write(auditList("change-001"));
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+
+        streamOf(file).subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertTrue(subscriber.changeIds.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should signal a truncated entry list as an error")
+    void shouldSignalTruncatedFile() throws IOException {
+        String json = auditList("change-001", "change-002");
+        Path file = write(json.substring(0, json.indexOf("change-002")));
+        // The header pass rejects the file, so the publisher is created over it directly
+        AuditEntryPublisher publisher = new AuditEntryPublisher(new ObjectMapper(), file, 0);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+
+        publisher.subscribe(subscriber);
+
+        assertEquals(List.of("change-001"), subscriber.changeIds);
+        assertNotNull(subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("Should return the failure of an unsuccessful response instead of a publisher")
+    void shouldReturnFailureEnvelope() throws IOException {
+        String json = "{\n" +
+                "  \"success\": false,\n" +
+                "  \"operation\": \"AUDIT_LIST\",\n" +
+                "  \"timestamp\": \"2026-02-09T10:00:00Z\",\n" +
+                "  \"durationMs\": 20,\n" +
+                "  \"data\": null,\n" +
+                "  \"error\": {\n" +
+                "    \"code\": \"AUDIT_STORE_ERROR\",\n" +
+                "    \"message\": \"connection refused\",\n" +
+                "    \"recoverable\": false\n" +
+                "  }\n" +
+                "}";
+        Path file = write(json);
+
+        ResponseResultReader.ResponseResult<AuditEntryPublisher> result = reader.streamAuditEntries(file);
+
+        assertFalse(result.isSuccess());
+        assertNull(result.getData());
+        assertEquals("AUDIT_STORE_ERROR", result.getErrorCode());
+        assertEquals("connection refused", result.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("Should return a read error when the response file is missing")
+    void shouldReturnReadErrorForMissingFile() {
+        ResponseResultReader.ResponseResult<AuditEntryPublisher> result =
+                reader.streamAuditEntries(tempDir.resolve("missing.json"));
+
+        assertFalse(result.isSuccess());
+    }
+
+    private AuditEntryPublisher streamOf(Path file) {
+        ResponseResultReader.ResponseResult<AuditEntryPublisher> result = reader.streamAuditEntries(file);
+        assertTrue(result.isSuccess(), result.getErrorMessage());
+        return result.getData();
+    }
+
+    private Path write(String json) throws IOException {
+        Path file = tempDir.resolve("response.json");
+        Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String auditList(String... changeIds) {
+        StringBuilder entries = new StringBuilder();
+        for (String changeId : changeIds) {
+            if (entries.length() > 0) {
+                entries.append(",\n");
+            }
+            entries.append("      {\"changeId\": \"").append(changeId)
+                    .append("\", \"author\": \"developer\", \"state\": \"APPLIED\", \"stageId\": \"stage-1\"}");
+        }
+        return "{\n" +
+                "  \"success\": true,\n" +
+                "  \"operation\": \"AUDIT_LIST\",\n" +
+                "  \"timestamp\": \"2026-02-09T10:00:00Z\",\n" +
+                "  \"durationMs\": 250,\n" +
+                "  \"data\": {\n" +
+                "    \"@type\": \"audit_list\",\n" +
+                "    \"entries\": [\n" + entries + "\n    ]\n" +
+                "  }\n" +
+                "}";
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<AuditEntryDto> {
+
+        private final long initialRequest;
+        private final List<String> changeIds = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        private RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(AuditEntryDto item) {
+            changeIds.add(item.getChangeId());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.result;
+
+import io.flamingock.cli.executor.result.ResponseResultReader.ResponseResult;
+import io.flamingock.internal.common.core.response.ResponseEnvelope;
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
+import io.flamingock.internal.common.core.response.data.ExecutionStatus;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseChannelTest {
+
+    private ResponseResultReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new ResponseResultReader();
+    }
+
+    @Test
+    void pipe_receivesResponseWrittenWhileRunning() throws Exception {
+        try (ResponseChannel channel = openPipe()) {
+            Path address = Path.of(channel.getAddress());
+            assertFalse(Files.isRegularFile(address));
+
+            Thread application = Thread.ofVirtual().start(() -> write(address, envelope(1500)));
+            application.join();
+
+            Optional<ResponseEnvelope> envelope = channel.receive();
+            assertTrue(envelope.isPresent());
+            assertEquals(1500, envelope.get().getDurationMs());
+        }
+    }
+
+    @Test
+    void pipe_lastResponseWins() throws Exception {
+        try (ResponseChannel channel = openPipe()) {
+            Path address = Path.of(channel.getAddress());
+
+            Thread application = Thread.ofVirtual().start(() -> {
+                write(address, envelope(1));
+                write(address, envelope(2) + "\n");
+            });
+            application.join();
+
+            assertEquals(2, channel.receive().get().getDurationMs());
+        }
+    }
+
+    @Test
+    void pipe_receiveAll_keepsEveryResponseInOrder() throws Exception {
+        try (ResponseChannel channel = openPipe()) {
+            Path address = Path.of(channel.getAddress());
+
+            Thread application = Thread.ofVirtual().start(() -> {
+                write(address, envelope(1) + "\n" + envelope(2));
+                write(address, envelope(3));
+            });
+            application.join();
+
+            List<ResponseEnvelope> envelopes = channel.receiveAll();
+            assertEquals(List.of(1L, 2L, 3L), envelopes.stream().map(ResponseEnvelope::getDurationMs).toList());
+        }
+    }
+
+    @Test
+    void pipe_typed_bindsDataWhileRunning() throws Exception {
+        ResponseChannel channel = ResponseChannel.open(reader, true, ExecuteResponseData.class);
+        try (channel) {
+            Assumptions.assumeTrue(channel instanceof PipeResponseChannel, "named pipes not supported here");
+            Path address = Path.of(channel.getAddress());
+
+            Thread application = Thread.ofVirtual().start(() -> {
+                write(address, typedEnvelope(1, "FAILED"));
+                write(address, typedEnvelope(2, "SUCCESS"));
+            });
+            application.join();
+
+            ResponseResult<ExecuteResponseData> result = channel.receive(ExecuteResponseData.class);
+            assertTrue(result.isSuccess());
+            assertEquals(2, result.getDurationMs());
+            assertEquals(ExecutionStatus.SUCCESS, result.getData().getStatus());
+        }
+    }
+
+    @Test
+    void pipe_typed_applicationThatNeverWritesYieldsReadError() throws IOException {
+        ResponseChannel channel = ResponseChannel.open(reader, true, ExecuteResponseData.class);
+        try (channel) {
+            Assumptions.assumeTrue(channel instanceof PipeResponseChannel, "named pipes not supported here");
+
+            assertEquals("READ_ERROR", channel.receive(ExecuteResponseData.class).getErrorCode());
+        }
+    }
+
+    @Test
+    void pipe_applicationThatNeverWritesYieldsEmpty() throws IOException {
+        try (ResponseChannel channel = openPipe()) {
+            assertFalse(channel.receive().isPresent());
+        }
+    }
+
+    @Test
+    void pipe_replacedByRegularFileIsStillRead() throws IOException {
+        try (ResponseChannel channel = openPipe()) {
+            Path address = Path.of(channel.getAddress());
+            Path staged = Files.writeString(address.resolveSibling("staged.json"), envelope(7));
+            Files.move(staged, address, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            assertEquals(7, channel.receive().get().getDurationMs());
+        }
+    }
+
+    @Test
+    void pipe_closeRemovesPipeAndDirectory() throws IOException {
+        Path address;
+        try (ResponseChannel channel = openPipe()) {
+            address = Path.of(channel.getAddress());
+        }
+
+        assertFalse(Files.exists(address));
+        assertFalse(Files.exists(address.getParent()));
+    }
+
+    @Test
+    void file_usedWhenPipeNotPreferred() throws IOException {
+        Path address;
+        try (ResponseChannel channel = ResponseChannel.open(reader, false)) {
+            assertInstanceOf(FileResponseChannel.class, channel);
+            address = Path.of(channel.getAddress());
+            write(address, envelope(3));
+
+            assertEquals(3, channel.receive().get().getDurationMs());
+        }
+
+        assertFalse(Files.exists(address));
+    }
+
+    @Test
+    void file_receiveAll_readsConcatenatedResponses() throws IOException {
+        try (ResponseChannel channel = ResponseChannel.open(reader, false)) {
+            write(Path.of(channel.getAddress()), envelope(4) + envelope(5) + "\n{\"truncated");
+
+            assertEquals(List.of(4L, 5L),
+                    channel.receiveAll().stream().map(ResponseEnvelope::getDurationMs).toList());
+        }
+    }
+
+    @Test
+    void file_typed_bindsData() throws IOException {
+        try (ResponseChannel channel = ResponseChannel.open(reader, false, ExecuteResponseData.class)) {
+            write(Path.of(channel.getAddress()), typedEnvelope(6, "SUCCESS"));
+
+            ResponseResult<ExecuteResponseData> result = channel.receive(ExecuteResponseData.class);
+            assertEquals(6, result.getDurationMs());
+            assertEquals(ExecutionStatus.SUCCESS, result.getData().getStatus());
+        }
+    }
+
+    private ResponseChannel openPipe() throws IOException {
+        ResponseChannel channel = ResponseChannel.open(reader, true);
+        Assumptions.assumeTrue(channel instanceof PipeResponseChannel, "named pipes not supported here");
+        return channel;
+    }
+
+    private static String envelope(long durationMs) {
+        return "{\"success\": true, \"operation\": \"EXECUTE\", \"timestamp\": \"2026-02-09T10:00:00Z\", "
+                + "\"durationMs\": " + durationMs + "}";
+    }
+
+    private static String typedEnvelope(long durationMs, String status) {
+        return "{\"success\": true, \"operation\": \"EXECUTE_APPLY\", \"timestamp\": \"2026-02-09T10:00:00Z\", "
+                + "\"durationMs\": " + durationMs + ", "
+                + "\"data\": {\"@type\": \"execute\", \"status\": \"" + status + "\"}}";
+    }
+
+    private static void write(Path path, String content) {
+        try {
+            Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.result;
+
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.flamingock.internal.common.core.response.data.ChangeStatus;
+import io.flamingock.internal.common.core.response.data.ExecuteResponseData;
+import io.flamingock.internal.common.core.response.data.ExecutionStatus;
+import io.flamingock.internal.common.core.response.data.StageStatus;
+import io.flamingock.internal.util.JsonObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResponseJsonModuleTest {
+
+    private static final String EXECUTE_JSON = "{"
+            + "\"status\": \"FAILED\", \"totalStages\": 2, \"completedStages\": 1, \"failedStages\": 1, "
+            + "\"totalChanges\": 4, \"appliedChanges\": 1, \"alreadyAppliedChanges\": 1, \"failedChanges\": 1, "
+            + "\"notReachedChanges\": 1, \"totalDurationMs\": 1200, \"stages\": ["
+            + "{\"stageId\": \"stage-1\", \"stageName\": \"Stage 1\", \"status\": \"COMPLETED\", "
+            + "\"durationMs\": 400, "
+            + "\"changes\": ["
+            + "{\"changeId\": \"change-001\", \"author\": \"developer\", \"status\": \"APPLIED\", \"durationMs\": 300},"
+            + "{\"changeId\": \"change-002\", \"author\": null, \"status\": \"ALREADY_APPLIED\", \"durationMs\": 0}"
+            + "]},"
+            + "{\"stageId\": \"stage-2\", \"stageName\": \"Stage 2\", \"status\": \"FAILED\", \"durationMs\": 800, "
+            + "\"errorInfo\": {\"errorType\": \"MongoException\", \"message\": \"duplicate key\", "
+            + "\"stageId\": \"stage-2\", \"changeIds\": [\"change-003\"]}, "
+            + "\"changes\": ["
+            + "{\"changeId\": \"change-003\", \"author\": \"developer\", \"status\": \"FAILED\", "
+            + "\"durationMs\": 800},"
+            + "{\"changeId\": \"change-004\", \"author\": \"developer\", \"status\": \"NOT_REACHED\", "
+            + "\"durationMs\": 0}"
+            + "]}"
+            + "]}";
+
+    private final ObjectMapper reflective = JsonObjectMapper.DEFAULT_INSTANCE.copy();
+    private final ObjectMapper streaming = JsonObjectMapper.DEFAULT_INSTANCE.copy()
+            .registerModule(new ResponseJsonModule());
+
+    @Test
+    void execute_matchesReflectivePath() throws Exception {
+        ExecuteResponseData expected = reflective.readValue(EXECUTE_JSON, ExecuteResponseData.class);
+        ExecuteResponseData actual = streaming.readValue(EXECUTE_JSON, ExecuteResponseData.class);
+
+        // Serializing both with the reflective mapper compares every property, including ones not listed here
+        assertEquals(reflective.writeValueAsString(expected), reflective.writeValueAsString(actual));
+        assertEquals(ExecutionStatus.FAILED, actual.getStatus());
+        assertEquals(StageStatus.FAILED, actual.getStages().get(1).getStatus());
+        assertEquals(ChangeStatus.NOT_REACHED, actual.getStages().get(1).getChanges().get(1).getStatus());
+        assertEquals("duplicate key", actual.getStages().get(1).getErrorInfo().getMessage());
+    }
+
+    @Test
+    void execute_skipsTypeIdAndUnknownFields() throws Exception {
+        ExecuteResponseData data = streaming.readValue("{\"@type\": \"execute\", \"status\": \"SUCCESS\", "
+                + "\"future\": {\"nested\": [1, 2]}, \"totalStages\": 3}", ExecuteResponseData.class);
+
+        assertEquals(ExecutionStatus.SUCCESS, data.getStatus());
+        assertEquals(3, data.getTotalStages());
+    }
+
+    @Test
+    void execute_nullStagesStayNull() throws Exception {
+        ExecuteResponseData data = streaming.readValue("{\"status\": null, \"stages\": null}",
+                ExecuteResponseData.class);
+
+        assertNull(data.getStatus());
+        assertNull(data.getStages());
+    }
+
+    @Test
+    void execute_unknownStatusFailsLikeReflectivePath() {
+        String json = "{\"status\": \"NOT_A_STATUS\"}";
+
+        assertThrows(DatabindException.class, () -> reflective.readValue(json, ExecuteResponseData.class));
+        assertThrows(DatabindException.class, () -> streaming.readValue(json, ExecuteResponseData.class));
+    }
+
+    @Test
+    void reader_usesStreamingDeserializers() {
+        ResponseResultReader reader = new ResponseResultReader();
+        String envelope = "{\"success\": true, \"operation\": \"EXECUTE_APPLY\", \"durationMs\": 5, "
+                + "\"data\": {\"@type\": \"execute\", " + EXECUTE_JSON.substring(1) + "}";
+
+        ExecuteResponseData data = reader.readAllTyped(
+                new ByteArrayInputStream(envelope.getBytes(StandardCharsets.UTF_8)),
+                ExecuteResponseData.class).get(0).getData();
+
+        assertEquals(2, data.getStages().size());
+        assertEquals("change-004", data.getStages().get(1).getChanges().get(1).getChangeId());
+    }
+}
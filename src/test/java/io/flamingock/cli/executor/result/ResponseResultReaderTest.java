@@ -24,11 +24,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -223,4 +227,87 @@ class ResponseResultReaderTest {
         // Then
         assertFalse(result.isPresent());
     }
+
+    @Test
+    @DisplayName("Should bind typed data from the last response in one pass")
+    void shouldReadTypedFromLastResponse() throws IOException {
+        Path responseFile = tempDir.resolve("response.json");
+        Files.write(responseFile, (executeResponse(100, "FAILED") + "\n" + executeResponse(200, "SUCCESS"))
+                .getBytes(StandardCharsets.UTF_8));
+
+        ResponseResultReader.ResponseResult<ExecuteResponseData> result =
+                reader.readTyped(responseFile, ExecuteResponseData.class);
+
+        assertTrue(result.isSuccess());
+        assertEquals(200, result.getDurationMs());
+        assertEquals(ExecutionStatus.SUCCESS, result.getData().getStatus());
+        assertEquals(5, result.getData().getTotalChanges());
+    }
+
+    @Test
+    @DisplayName("Should read every typed response from a stream without closing it")
+    void shouldReadAllTypedFromStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream in = new ByteArrayInputStream((executeResponse(1, "SUCCESS") + executeResponse(2, "FAILED"))
+                .getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        List<ResponseResultReader.ResponseResult<ExecuteResponseData>> results =
+                reader.readAllTyped(in, ExecuteResponseData.class);
+
+        assertEquals(List.of(1L, 2L),
+                results.stream().map(ResponseResultReader.ResponseResult::getDurationMs).toList());
+        assertEquals(ExecutionStatus.FAILED, results.get(1).getData().getStatus());
+        assertFalse(closed.get());
+    }
+
+    @Test
+    @DisplayName("Should return the failure of a typed read")
+    void shouldReturnTypedFailure() throws IOException {
+        String json = "{\"success\": false, \"operation\": \"EXECUTE_APPLY\", \"durationMs\": 50, \"data\": null, "
+                + "\"error\": {\"code\": \"LOCK_ERROR\", \"message\": \"lock not acquired\", \"recoverable\": true}}";
+        Path responseFile = tempDir.resolve("response.json");
+        Files.write(responseFile, json.getBytes(StandardCharsets.UTF_8));
+
+        ResponseResultReader.ResponseResult<ExecuteResponseData> result =
+                reader.readTyped(responseFile, ExecuteResponseData.class);
+
+        assertFalse(result.isSuccess());
+        assertEquals("LOCK_ERROR", result.getErrorCode());
+        assertTrue(result.isRecoverable());
+    }
+
+    @Test
+    @DisplayName("Should report data that does not fit the requested type")
+    void shouldReportUnconvertibleTypedData() throws IOException {
+        Path responseFile = tempDir.resolve("response.json");
+        Files.write(responseFile, executeResponse(10, "NOT_A_STATUS").getBytes(StandardCharsets.UTF_8));
+
+        ResponseResultReader.ResponseResult<ExecuteResponseData> result =
+                reader.readTyped(responseFile, ExecuteResponseData.class);
+
+        assertFalse(result.isSuccess());
+        assertEquals("READ_ERROR", result.getErrorCode());
+        assertEquals("Failed to convert response data to ExecuteResponseData", result.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("Should return a read error for a typed read of a missing file")
+    void shouldReturnReadErrorForMissingTypedFile() {
+        ResponseResultReader.ResponseResult<ExecuteResponseData> result =
+                reader.readTyped(tempDir.resolve("does-not-exist.json"), ExecuteResponseData.class);
+
+        assertFalse(result.isSuccess());
+        assertEquals("READ_ERROR", result.getErrorCode());
+    }
+
+    private static String executeResponse(long durationMs, String status) {
+        return "{\"success\": true, \"operation\": \"EXECUTE_APPLY\", \"timestamp\": \"2026-02-09T10:00:00Z\", "
+                + "\"durationMs\": " + durationMs + ", "
+                + "\"data\": {\"@type\": \"execute\", \"status\": \"" + status + "\", \"totalChanges\": 5}}";
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.timing;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class OtlpTraceWriterTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void toOtlp_mapsSpansToWallClockTimesAndParentIds() {
+        List<RecordedSpan> spans = List.of(
+                new RecordedSpan(1, 0, "flamingock execute apply", "main", 1_000, 9_000),
+                new RecordedSpan(2, 1, "jar.detect", "main", 2_000, 3_000));
+
+        Map<String, Object> otlp = OtlpTraceWriter.toOtlp(spans, "1.0.0", Instant.ofEpochSecond(100), 10_000);
+
+        Map<String, Object> resource = ((List<Map<String, Object>>) otlp.get("resourceSpans")).get(0);
+        Map<String, Object> scope = ((List<Map<String, Object>>) resource.get("scopeSpans")).get(0);
+        List<Map<String, Object>> otlpSpans = (List<Map<String, Object>>) scope.get("spans");
+        Map<String, Object> root = otlpSpans.get(0);
+        Map<String, Object> child = otlpSpans.get(1);
+
+        assertFalse(root.containsKey("parentSpanId"));
+        assertEquals("0000000000000001", root.get("spanId"));
+        assertEquals("0000000000000001", child.get("parentSpanId"));
+        assertEquals(root.get("traceId"), child.get("traceId"));
+        assertEquals(32, ((String) root.get("traceId")).length());
+        assertEquals("99999991000", root.get("startTimeUnixNano"));
+        assertEquals("99999993000", child.get("endTimeUnixNano"));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.timing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpanRecorderTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void start_nestsSpansOpenOnTheSameThread() {
+        SpanRecorder recorder = new SpanRecorder("flamingock execute apply", 0, clock::get);
+
+        try (Span launch = recorder.start("launch")) {
+            clock.set(10);
+            try (Span detect = recorder.start("jar.detect")) {
+                clock.set(25);
+            }
+            clock.set(40);
+        }
+        recorder.record("render", 40, 50);
+        clock.set(60);
+        List<RecordedSpan> spans = recorder.finish();
+
+        assertEquals(List.of("flamingock execute apply", "launch", "jar.detect", "render"),
+                spans.stream().map(RecordedSpan::name).toList());
+        RecordedSpan root = spans.get(0);
+        RecordedSpan launch = spans.get(1);
+        assertEquals(60, root.durationNanos());
+        assertEquals(root.id(), launch.parentId());
+        assertEquals(launch.id(), spans.get(2).parentId());
+        assertEquals(15, spans.get(2).durationNanos());
+        assertEquals(root.id(), spans.get(3).parentId());
+    }
+
+    @Test
+    void split_dividesLatestSpanIntoHeadAndTail() {
+        SpanRecorder recorder = new SpanRecorder("root", 0, clock::get);
+        recorder.record("application", 0, 5_000_000_000L);
+
+        recorder.split("application", 3_000, "application.boot", "application.operation");
+        List<RecordedSpan> spans = recorder.finish();
+
+        RecordedSpan application = spans.get(1);
+        RecordedSpan boot = spans.get(2);
+        RecordedSpan operation = spans.get(3);
+        assertEquals("application.boot", boot.name());
+        assertEquals(application.id(), boot.parentId());
+        assertEquals(2_000_000_000L, boot.durationNanos());
+        assertEquals("application.operation", operation.name());
+        assertEquals(3_000_000_000L, operation.durationNanos());
+        assertEquals(application.endNanos(), operation.endNanos());
+    }
+
+    @Test
+    void split_tailLongerThanSpan_recordsNothing() {
+        SpanRecorder recorder = new SpanRecorder("root", 0, clock::get);
+        recorder.record("application", 0, 1_000_000L);
+
+        recorder.split("application", 5, "boot", "operation");
+
+        assertEquals(2, recorder.finish().size());
+    }
+
+    @Test
+    void timings_disabled_handsOutSharedNoopSpan() {
+        Timings.finish();
+
+        assertSame(Span.NOOP, Timings.start("jar.detect"));
+        assertTrue(Timings.finish().isEmpty());
+    }
+
+    @Test
+    void timings_enabled_recordsUnderRoot() {
+        Timings.begin("flamingock audit list", System.nanoTime());
+        try (Span ignored = Timings.start("launch")) {
+            assertTrue(Timings.isEnabled());
+        }
+
+        List<RecordedSpan> spans = Timings.finish();
+
+        assertEquals(2, spans.size());
+        assertEquals("launch", spans.get(1).name());
+        assertSame(Span.NOOP, Timings.start("launch"));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Flamingock (https://www.flamingock.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.flamingock.cli.executor.util.filesystem;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NamedPipeTest {
+
+    @Test
+    void stopReading_waitsForSlowHandlerPastReaderTimeout() throws Exception {
+        NamedPipe pipe = NamedPipe.tryCreate("flamingock-pipe-test", "response.json");
+        Assumptions.assumeTrue(pipe != null, "named pipes not supported here");
+        AtomicReference<String> received = new AtomicReference<>();
+        try (pipe) {
+            pipe.startReading("pipe-reader", in -> {
+                String content = readAll(in);
+                try {
+                    Thread.sleep(NamedPipe.READER_TIMEOUT.plusMillis(500).toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                received.set(content);
+            });
+            try (OutputStream out = Files.newOutputStream(pipe.getPath())) {
+                out.write("{\"success\":true}".getBytes(StandardCharsets.UTF_8));
+            }
+
+            pipe.stopReading();
+
+            assertEquals("{\"success\":true}", received.get());
+        }
+    }
+
+    @Test
+    void stopReading_releasesReaderThatNeverSawAWriter() {
+        NamedPipe pipe = NamedPipe.tryCreate("flamingock-pipe-test", "response.json");
+        Assumptions.assumeTrue(pipe != null, "named pipes not supported here");
+        AtomicReference<String> received = new AtomicReference<>();
+        try (pipe) {
+            pipe.startReading("pipe-reader", in -> received.set(readAll(in)));
+
+            pipe.stopReading();
+
+            // Woken by the pipe's own empty write
+            assertEquals("", received.get());
+        }
+    }
+
+    private static String readAll(InputStream in) throws IOException {
+        // Reads sequentially: InputStream.readAllBytes may query the position, which a pipe does not have
+        StringWriter content = new StringWriter();
+        new InputStreamReader(in, StandardCharsets.UTF_8).transferTo(content);
+        return content.toString();
+    }
+}